@@ -1,5 +1,7 @@
 package com.algobench.pro.algorithm.graph;
 
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -55,7 +57,6 @@ public class DijkstraAlgorithm<T> {
             throw new IllegalArgumentException("Source vertex not in graph");
         }
 
-        logger.info("Finding shortest paths from source: {}", source);
         Map<T, Double> distances = new HashMap<>();
         Map<T, T> previousVertices = new HashMap<>();
         PriorityQueue<VertexDistance<T>> priorityQueue = new PriorityQueue<>();
@@ -69,6 +70,9 @@ public class DijkstraAlgorithm<T> {
 
         while (!priorityQueue.isEmpty()) {
             T currentVertex = priorityQueue.poll().getVertex();
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.VERTEX_SETTLED, priorityQueue.size(), 0);
+            }
 
             for (Edge<T> edge : graph.getEdges(currentVertex)) {
                 T neighbor = edge.getDestination();
@@ -79,12 +83,12 @@ public class DijkstraAlgorithm<T> {
                     distances.put(neighbor, distanceThroughCurrent);
                     previousVertices.put(neighbor, currentVertex);
                     priorityQueue.add(new VertexDistance<>(neighbor, distanceThroughCurrent));
-                    logger.debug("Updated shortest distance to vertex: {}", neighbor);
+                    if (Instrumentation.TRACE_ENABLED) {
+                        Instrumentation.record(TraceEvent.EDGE_RELAXED, priorityQueue.size(), 0);
+                    }
                 }
             }
         }
-
-        logger.info("Shortest paths calculation completed from source: {}", source);
         return distances;
     }
 
@@ -0,0 +1,326 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+
+import java.util.Arrays;
+
+/**
+ * Shared batch lookup strategies for the binary searches.
+ * <p>
+ * Targets in ascending order are answered by a merge walk: each lookup gallops forward from the previous
+ * result, doubling its step until it passes the target, and then binary searches the last step, so a batch
+ * of m targets over n elements costs O(m log(n / m)) comparisons and degrades gracefully to a linear merge
+ * when m approaches n. Unsorted targets are answered by {@value #INTERLEAVE} binary searches advanced in
+ * lockstep: every search over the same array length takes the same number of steps, so each step issues
+ * independent probes for all lanes and their cache misses overlap instead of being paid one after another.
+ * <p>
+ * Both strategies find the lower bound of each target, so for duplicate elements the reported index is the
+ * first occurrence.
+ */
+final class BatchSearchSupport {
+    /** Number of binary searches advanced together for unsorted targets by the plain binary searches. */
+    static final int INTERLEAVE = 16;
+
+    /** Largest number of searches a group binary search may advance together. */
+    static final int MAX_GROUP_SIZE = 1024;
+
+    private BatchSearchSupport() {
+    }
+
+    /**
+     * Returns the configured group size of the group binary searches ({@code search.group.size}).
+     */
+    static int defaultGroupSize() {
+        return ConfigurationManager.getInstance().getIntProperty("search.group.size", INTERLEAVE);
+    }
+
+    static void checkGroupSize(int groupSize) {
+        if (groupSize < 1 || groupSize > MAX_GROUP_SIZE) {
+            throw new IllegalArgumentException("Group size must be between 1 and " + MAX_GROUP_SIZE);
+        }
+    }
+
+    static <T extends Comparable<T>> void searchAll(T[] array, T[] targets, int[] out) {
+        if (isSorted(targets)) {
+            gallopingSearchAll(array, targets, out);
+        } else {
+            interleavedSearchAll(array, targets, out, INTERLEAVE);
+        }
+    }
+
+    static void searchAll(int[] array, int[] targets, int[] out) {
+        if (isSorted(targets)) {
+            gallopingSearchAll(array, targets, out);
+        } else {
+            interleavedSearchAll(array, targets, out, INTERLEAVE);
+        }
+    }
+
+    private static <T extends Comparable<T>> boolean isSorted(T[] targets) {
+        for (int i = 1; i < targets.length; i++) {
+            if (targets[i - 1].compareTo(targets[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSorted(int[] targets) {
+        for (int i = 1; i < targets.length; i++) {
+            if (targets[i - 1] > targets[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T extends Comparable<T>> void gallopingSearchAll(T[] array, T[] targets, int[] out) {
+        int from = 0;
+        for (int i = 0; i < targets.length; i++) {
+            T target = targets[i];
+            from = gallopLowerBound(array, target, from);
+            out[i] = from < array.length && array[from].compareTo(target) == 0 ? from : -1;
+        }
+    }
+
+    private static void gallopingSearchAll(int[] array, int[] targets, int[] out) {
+        int from = 0;
+        for (int i = 0; i < targets.length; i++) {
+            int target = targets[i];
+            from = gallopLowerBound(array, target, from);
+            out[i] = from < array.length && array[from] == target ? from : -1;
+        }
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose element is not less than the target, given
+     * that every element before {@code from} is.
+     */
+    static <T extends Comparable<T>> int gallopLowerBound(T[] array, T target, int from) {
+        int n = array.length;
+        if (from >= n || array[from].compareTo(target) >= 0) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (step < n - low && array[low + step].compareTo(target) < 0) {
+            low += step;
+            step <<= 1;
+        }
+        int high = step < n - low ? low + step : n;
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose element is not less than the target, given
+     * that every element before {@code from} is.
+     */
+    static int gallopLowerBound(int[] array, int target, int from) {
+        int n = array.length;
+        if (from >= n || array[from] >= target) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (step < n - low && array[low + step] < target) {
+            low += step;
+            step <<= 1;
+        }
+        int high = step < n - low ? low + step : n;
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose element is not less than the target, given
+     * that every element before {@code from} is.
+     */
+    static int gallopLowerBound(long[] array, long target, int from) {
+        int n = array.length;
+        if (from >= n || array[from] >= target) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (step < n - low && array[low + step] < target) {
+            low += step;
+            step <<= 1;
+        }
+        int high = step < n - low ? low + step : n;
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose element is greater than the target, given
+     * that no element before {@code from} is; if some are, {@code from} itself is returned.
+     */
+    static <T extends Comparable<T>> int gallopUpperBound(T[] array, T target, int from) {
+        int n = array.length;
+        if (from >= n || array[from].compareTo(target) > 0) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (step < n - low && array[low + step].compareTo(target) <= 0) {
+            low += step;
+            step <<= 1;
+        }
+        int high = step < n - low ? low + step : n;
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid].compareTo(target) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose element is greater than the target, given
+     * that no element before {@code from} is; if some are, {@code from} itself is returned.
+     */
+    static int gallopUpperBound(int[] array, int target, int from) {
+        int n = array.length;
+        if (from >= n || array[from] > target) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (step < n - low && array[low + step] <= target) {
+            low += step;
+            step <<= 1;
+        }
+        int high = step < n - low ? low + step : n;
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose element is greater than the target, given
+     * that no element before {@code from} is; if some are, {@code from} itself is returned.
+     */
+    static int gallopUpperBound(long[] array, long target, int from) {
+        int n = array.length;
+        if (from >= n || array[from] > target) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (step < n - low && array[low + step] <= target) {
+            low += step;
+            step <<= 1;
+        }
+        int high = step < n - low ? low + step : n;
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Answers the targets in groups of {@code group} binary searches advanced in lockstep.
+     */
+    static <T extends Comparable<T>> void interleavedSearchAll(T[] array, T[] targets, int[] out, int group) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, -1);
+            return;
+        }
+        int[] base = new int[group];
+        for (int start = 0; start < targets.length; start += group) {
+            int lanes = Math.min(group, targets.length - start);
+            Arrays.fill(base, 0);
+            for (int length = n; length > 1; length -= length >>> 1) {
+                int half = length >>> 1;
+                for (int lane = 0; lane < lanes; lane++) {
+                    int probe = base[lane] + half;
+                    base[lane] = array[probe].compareTo(targets[start + lane]) < 0 ? probe : base[lane];
+                }
+            }
+            for (int lane = 0; lane < lanes; lane++) {
+                T target = targets[start + lane];
+                int position = base[lane];
+                int comparison = array[position].compareTo(target);
+                if (comparison < 0 && position + 1 < n) {
+                    position++;
+                    comparison = array[position].compareTo(target);
+                }
+                out[start + lane] = comparison == 0 ? position : -1;
+            }
+        }
+    }
+
+    /**
+     * Answers the targets in groups of {@code group} binary searches advanced in lockstep.
+     */
+    static void interleavedSearchAll(int[] array, int[] targets, int[] out, int group) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, -1);
+            return;
+        }
+        int[] base = new int[group];
+        for (int start = 0; start < targets.length; start += group) {
+            int lanes = Math.min(group, targets.length - start);
+            Arrays.fill(base, 0);
+            for (int length = n; length > 1; length -= length >>> 1) {
+                int half = length >>> 1;
+                for (int lane = 0; lane < lanes; lane++) {
+                    int probe = base[lane] + half;
+                    base[lane] = array[probe] < targets[start + lane] ? probe : base[lane];
+                }
+            }
+            for (int lane = 0; lane < lanes; lane++) {
+                int target = targets[start + lane];
+                int position = base[lane];
+                if (array[position] < target && position + 1 < n) {
+                    position++;
+                }
+                out[start + lane] = array[position] == target ? position : -1;
+            }
+        }
+    }
+}
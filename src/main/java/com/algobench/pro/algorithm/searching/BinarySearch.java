@@ -1,5 +1,7 @@
 package com.algobench.pro.algorithm.searching;
 
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,6 +14,9 @@ import org.apache.logging.log4j.Logger;
  * based on the comparison.
  * <p>
  * <b>Note:</b> This algorithm requires the input array to be sorted in ascending order for correct operation.
+ * <p>
+ * Probes are recorded as {@link TraceEvent}s when {@link Instrumentation} runs in trace mode; only invalid
+ * input is logged.
  *
  * @param <T> the type of elements in the array and the target value, must implement Comparable
  * @version 1.0
@@ -28,18 +33,33 @@ public class BinarySearch<T extends Comparable<T>> implements SearchAlgorithm<T>
             throw new IllegalArgumentException("Search target cannot be null");
         }
 
-        logger.info("Starting binary search for target: {} in array of length: {}", target, array.length);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
         int result = binarySearch(array, target, 0, array.length - 1);
-        
-        if (result != -1) {
-            logger.info("Target found at index: {}", result);
-        } else {
-            logger.info("Target not found in array");
-        }
-        
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
         return result;
     }
 
+    /**
+     * Searches for every target, validating the array only once for the whole batch. Sorted targets are
+     * answered by a galloping merge walk over the array and unsorted ones by interleaved binary searches;
+     * for duplicate elements the reported index is the first occurrence.
+     */
+    @Override
+    public void searchAll(T[] array, T[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) {
+                logger.error("Search target at index {} is null", i);
+                throw new IllegalArgumentException("Search targets cannot contain null");
+            }
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        BatchSearchSupport.searchAll(array, targets, out);
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
     @Override
     public String getName() {
         return "Binary Search";
@@ -48,25 +68,22 @@ public class BinarySearch<T extends Comparable<T>> implements SearchAlgorithm<T>
     private int binarySearch(T[] array, T target, int left, int right) {
         while (left <= right) {
             int mid = left + (right - left) / 2;
-            logger.debug("Searching in range [{}, {}], mid index: {}", left, right, mid);
-
             int comparison = target.compareTo(array[mid]);
-            
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, comparison);
+            }
+
             if (comparison == 0) {
-                logger.debug("Target found at index: {}", mid);
                 return mid;
             }
 
             if (comparison < 0) {
-                logger.debug("Target is smaller than element at index {}, searching left half", mid);
                 right = mid - 1;
             } else {
-                logger.debug("Target is larger than element at index {}, searching right half", mid);
                 left = mid + 1;
             }
         }
 
-        logger.debug("Target not found in array");
         return -1;
     }
 
@@ -87,7 +104,6 @@ public class BinarySearch<T extends Comparable<T>> implements SearchAlgorithm<T>
                     throw new IllegalArgumentException("Binary search requires a sorted array");
                 }
             }
-            logger.debug("Array validated as sorted");
         }
     }
 }
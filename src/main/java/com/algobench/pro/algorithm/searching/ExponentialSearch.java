@@ -0,0 +1,141 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.IntFunction;
+
+/**
+ * Implements Exponential (galloping) Search for sorted arrays of objects and for sorted sequences of
+ * unknown length.
+ * <p>
+ * This is the object form of {@link IntExponentialSearch}: positions 1, 2, 4, 8, ... are probed until one
+ * passes the target, and the last doubling step is then binary searched, so a target at position {@code i}
+ * costs O(log i) comparisons. {@link #searchUnbounded(IntFunction, Comparable)} searches a sequence that
+ * signals its end by returning null.
+ * <p>
+ * Lookups find the lower bound of the target, so for duplicate elements the reported index is the first
+ * occurrence.
+ *
+ * @param <T> the type of elements in the array and the target value, must implement Comparable
+ * @version 1.0
+ * @see SearchAlgorithm
+ * @see IntExponentialSearch
+ */
+public class ExponentialSearch<T extends Comparable<T>> implements SearchAlgorithm<T> {
+    private static final Logger logger = LogManager.getLogger(ExponentialSearch.class);
+
+    @Override
+    public int search(T[] array, T target) {
+        validateArray(array);
+        validateTarget(target);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = indexOf(index -> index < array.length ? array[index] : null, target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches a sorted sequence whose length is not known up front. The accessor returns the element at an
+     * index, or null for every index past the end; it is only called for index zero, indexes reached by
+     * doubling from one, and indexes inside the final doubling step.
+     *
+     * @param elementAt returns the element at an index, or null past the end
+     * @param target the element being searched for
+     * @return The index of the first element equal to the target, or -1 if there is none
+     * @throws IllegalArgumentException if the accessor or the target is null
+     */
+    public int searchUnbounded(IntFunction<? extends T> elementAt, T target) {
+        if (elementAt == null) {
+            logger.error("Element accessor is null");
+            throw new IllegalArgumentException("Element accessor cannot be null");
+        }
+        validateTarget(target);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, -1, 0);
+        int result = indexOf(elementAt, target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    @Override
+    public String getName() {
+        return "Exponential Search";
+    }
+
+    private int indexOf(IntFunction<? extends T> elementAt, T target) {
+        int index = lowerBound(elementAt, target);
+        T element = elementAt.apply(index);
+        return element != null && element.compareTo(target) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first element not less than the target, treating the end of the sequence
+     * (a null element) as greater than every target.
+     */
+    private int lowerBound(IntFunction<? extends T> elementAt, T target) {
+        if (compareAt(elementAt, 0, target) >= 0) {
+            return 0;
+        }
+        // Invariant: the element at bound / 2 is less than the target
+        int bound = 1;
+        while (bound < Integer.MAX_VALUE && compareAt(elementAt, bound, target) < 0) {
+            bound = bound < (1 << 30) ? bound << 1 : Integer.MAX_VALUE;
+        }
+        int low = (bound >>> 1) + 1;
+        int high = bound;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareAt(elementAt, mid, target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares the element at the index with the target, where the end of the sequence compares greater.
+     */
+    private int compareAt(IntFunction<? extends T> elementAt, int index, T target) {
+        T element = elementAt.apply(index);
+        int comparison = element == null ? 1 : element.compareTo(target);
+        if (Instrumentation.TRACE_ENABLED) {
+            Instrumentation.record(TraceEvent.SEARCH_PROBE, index, -comparison);
+        }
+        return comparison;
+    }
+
+    private void validateTarget(T target) {
+        if (target == null) {
+            logger.error("Search target is null");
+            throw new IllegalArgumentException("Search target cannot be null");
+        }
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted and free of null elements, since a null element
+     * would read as the end of the sequence.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array contains null or is not sorted
+     */
+    @Override
+    public void validateArray(T[] array) {
+        SearchAlgorithm.super.validateArray(array);
+
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Exponential search requires non-null elements");
+            }
+            if (i > 0 && array[i - 1].compareTo(array[i]) > 0) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Exponential search requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Group Binary Search for sorted arrays of objects: batch lookups advance a configurable number of
+ * independent binary searches in lockstep.
+ * <p>
+ * This is the object counterpart of {@link IntGroupBinarySearch}. Every probe reads an array slot and then
+ * the element it references, so a single search pays two dependent cache misses per step on a large
+ * array; the G searches of a group overlap those misses with each other. Every batch is answered by the
+ * groups, and lookups find the lower bound of the target, so for duplicate elements the reported index is
+ * the first occurrence.
+ *
+ * @param <T> the type of elements in the array and the target value, must implement Comparable
+ * @version 1.0
+ * @see IntGroupBinarySearch
+ * @see BinarySearch
+ */
+public class GroupBinarySearch<T extends Comparable<T>> implements SearchAlgorithm<T> {
+    private static final Logger logger = LogManager.getLogger(GroupBinarySearch.class);
+
+    private final int groupSize;
+
+    /**
+     * Creates a search with the configured group size ({@code search.group.size}).
+     *
+     * @throws IllegalArgumentException if the configured group size is out of range
+     */
+    public GroupBinarySearch() {
+        this(BatchSearchSupport.defaultGroupSize());
+    }
+
+    /**
+     * Creates a search advancing the given number of lookups together.
+     *
+     * @param groupSize the number of searches per group, from 1 to 1024
+     * @throws IllegalArgumentException if the group size is out of range
+     */
+    public GroupBinarySearch(int groupSize) {
+        BatchSearchSupport.checkGroupSize(groupSize);
+        this.groupSize = groupSize;
+    }
+
+    @Override
+    public int search(T[] array, T target) {
+        validateArray(array);
+        if (target == null) {
+            logger.error("Search target is null");
+            throw new IllegalArgumentException("Search target cannot be null");
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int index = RangeSearch.lowerBoundOf(array, target);
+        int result = index < array.length && array[index].compareTo(target) == 0 ? index : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target in groups of {@link #getGroupSize()} lockstep searches, validating the array
+     * only once for the whole batch.
+     */
+    @Override
+    public void searchAll(T[] array, T[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) {
+                logger.error("Search target at index {} is null", i);
+                throw new IllegalArgumentException("Search targets cannot contain null");
+            }
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        BatchSearchSupport.interleavedSearchAll(array, targets, out, groupSize);
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Group Binary Search";
+    }
+
+    public int getGroupSize() {
+        return groupSize;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted and free of null elements.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array contains null or is not sorted
+     */
+    @Override
+    public void validateArray(T[] array) {
+        SearchAlgorithm.super.validateArray(array);
+
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Input array cannot contain null");
+            }
+            if (i > 0 && array[i - 1].compareTo(array[i]) > 0) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Binary search requires a sorted array");
+            }
+        }
+    }
+}
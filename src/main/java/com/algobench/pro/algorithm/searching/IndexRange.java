@@ -0,0 +1,33 @@
+package com.algobench.pro.algorithm.searching;
+
+/**
+ * A half-open run of positions {@code [from, to)} in a sorted array, as returned by the equal-range queries
+ * of {@link RangeSearch}, {@link SortedView} and {@link SortedIntArray}. An empty range still carries the
+ * position at which the missing elements would be inserted.
+ *
+ * @param from the first position in the range
+ * @param to the position just past the range
+ * @version 1.0
+ * @see RangeSearch
+ */
+public record IndexRange(int from, int to) {
+    /**
+     * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+     */
+    public IndexRange {
+        if (from < 0 || from > to) {
+            throw new IllegalArgumentException("Range must satisfy 0 <= from <= to");
+        }
+    }
+
+    /**
+     * Returns the number of positions in the range.
+     */
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+}
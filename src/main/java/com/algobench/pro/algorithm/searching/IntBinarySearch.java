@@ -0,0 +1,92 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Implements the Binary Search algorithm for sorted primitive {@code int} arrays.
+ * <p>
+ * This is the primitive specialization of {@link BinarySearch}: it validates that the array is sorted in
+ * ascending order and compares {@code int} values directly. Batch lookups through
+ * {@link #searchAll(int[], int[], int[])} validate the array once and share work between targets.
+ *
+ * @version 1.0
+ * @see IntSearchAlgorithm
+ * @see BinarySearch
+ */
+public class IntBinarySearch implements IntSearchAlgorithm {
+    private static final Logger logger = LogManager.getLogger(IntBinarySearch.class);
+
+    @Override
+    public int search(int[] array, int target) {
+        validateArray(array);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = binarySearch(array, target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target, validating the array only once for the whole batch. Sorted targets are
+     * answered by a galloping merge walk over the array and unsorted ones by interleaved binary searches;
+     * for duplicate elements the reported index is the first occurrence.
+     */
+    @Override
+    public void searchAll(int[] array, int[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        BatchSearchSupport.searchAll(array, targets, out);
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Binary Search (int[])";
+    }
+
+    private int binarySearch(int[] array, int target) {
+        int left = 0;
+        int right = array.length - 1;
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            int value = array[mid];
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Integer.compare(target, value));
+            }
+
+            if (value == target) {
+                return mid;
+            }
+
+            if (target < value) {
+                right = mid - 1;
+            } else {
+                left = mid + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    @Override
+    public void validateArray(int[] array) {
+        IntSearchAlgorithm.super.validateArray(array);
+
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Binary search requires a sorted array");
+            }
+        }
+    }
+}
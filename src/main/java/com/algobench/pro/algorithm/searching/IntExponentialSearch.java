@@ -0,0 +1,173 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Implements Exponential (galloping) Search for sorted primitive {@code int} arrays and for sorted sequences
+ * of unknown length.
+ * <p>
+ * The search probes positions 1, 2, 4, 8, ... until it passes the target and then binary searches the last
+ * doubling step. A target at position {@code i} costs O(log i) probes regardless of the total length, so the
+ * search suits keys near the front of a large array and sequences whose length is not known up front: see
+ * {@link #searchUnbounded(IntToLongFunction, int)}.
+ * <p>
+ * Lookups find the lower bound of the target, so for duplicate elements the reported index is the first
+ * occurrence.
+ *
+ * @version 1.0
+ * @see IntSearchAlgorithm
+ * @see ExponentialSearch
+ */
+public class IntExponentialSearch implements IntSearchAlgorithm {
+    private static final Logger logger = LogManager.getLogger(IntExponentialSearch.class);
+
+    /**
+     * Returned by the element accessor of {@link #searchUnbounded(IntToLongFunction, int)} for positions
+     * past the end of the sequence; greater than every {@code int}.
+     */
+    public static final long END_OF_SEQUENCE = Long.MAX_VALUE;
+
+    @Override
+    public int search(int[] array, int target) {
+        validateArray(array);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int index = lowerBound(array, target);
+        int result = index < array.length && array[index] == target ? index : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target, validating the array only once for the whole batch.
+     */
+    @Override
+    public void searchAll(int[] array, int[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        for (int i = 0; i < targets.length; i++) {
+            int index = lowerBound(array, targets[i]);
+            out[i] = index < array.length && array[index] == targets[i] ? index : -1;
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    /**
+     * Searches a sorted sequence whose length is not known up front, such as a stream being materialized or
+     * a file read on demand. The accessor returns the element at an index widened to {@code long}, or
+     * {@link #END_OF_SEQUENCE} for every index past the end; it is only called for indexes that are zero or
+     * reached by doubling from one, and for indexes inside the final doubling step.
+     *
+     * @param elementAt returns the element at an index, or {@link #END_OF_SEQUENCE} past the end
+     * @param target the value being searched for
+     * @return The index of the first element equal to the target, or -1 if there is none
+     * @throws IllegalArgumentException if the accessor is null
+     */
+    public int searchUnbounded(IntToLongFunction elementAt, int target) {
+        if (elementAt == null) {
+            logger.error("Element accessor is null");
+            throw new IllegalArgumentException("Element accessor cannot be null");
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, -1, 0);
+        int index = unboundedLowerBound(elementAt, target);
+        int result = elementAt.applyAsLong(index) == target ? index : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    @Override
+    public String getName() {
+        return "Exponential Search (int[])";
+    }
+
+    /**
+     * Returns the index of the first element not less than the target, or the array length if every
+     * element is less.
+     */
+    static int lowerBound(int[] array, int target) {
+        if (array.length == 0 || array[0] >= target) {
+            return 0;
+        }
+        // Invariant: array[bound / 2] < target
+        int bound = 1;
+        while (bound < array.length && array[bound] < target) {
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, bound, 1);
+            }
+            bound = bound < (1 << 30) ? bound << 1 : array.length;
+        }
+        int low = (bound >>> 1) + 1;
+        int high = Math.min(bound, array.length);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Integer.compare(target, array[mid]));
+            }
+            if (array[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element of the sequence not less than the target; positions past the
+     * end read as {@link #END_OF_SEQUENCE}, so the result is at most the length of the sequence.
+     */
+    private static int unboundedLowerBound(IntToLongFunction elementAt, int target) {
+        if (probe(elementAt, 0, target) >= target) {
+            return 0;
+        }
+        // Invariant: the element at bound / 2 is less than the target
+        int bound = 1;
+        while (bound < Integer.MAX_VALUE && probe(elementAt, bound, target) < target) {
+            bound = bound < (1 << 30) ? bound << 1 : Integer.MAX_VALUE;
+        }
+        int low = (bound >>> 1) + 1;
+        int high = bound;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (probe(elementAt, mid, target) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long probe(IntToLongFunction elementAt, int index, int target) {
+        long value = elementAt.applyAsLong(index);
+        if (Instrumentation.TRACE_ENABLED) {
+            Instrumentation.record(TraceEvent.SEARCH_PROBE, index, Long.compare(target, value));
+        }
+        return value;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    @Override
+    public void validateArray(int[] array) {
+        IntSearchAlgorithm.super.validateArray(array);
+
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Exponential search requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Group Binary Search for sorted primitive {@code int} arrays: batch lookups advance a configurable number
+ * of independent binary searches in lockstep.
+ * <p>
+ * On an array far larger than the caches every probe of a binary search is a DRAM access, and a single
+ * search cannot issue its next probe before the current one returns. A group of G searches takes one step
+ * of each search per round; every search over the same array takes the same number of steps, and the G
+ * probes of a round do not depend on each other, so the CPU keeps G cache misses in flight and a batch
+ * costs about {@code 1/G} of the latency-bound time until the memory system saturates. The comparison
+ * selects the next position without a branch, so no lane stalls the others on a misprediction. Larger
+ * groups hide more latency but spill lane state out of registers and run into the limit on outstanding
+ * misses, so the best size depends on the machine and is worth measuring before raising
+ * {@code search.group.size}.
+ * <p>
+ * Unlike {@link IntBinarySearch#searchAll}, which gallops through sorted batches, every batch is answered
+ * by the groups. Lookups find the lower bound of the target, so for duplicate elements the reported index
+ * is the first occurrence.
+ *
+ * @version 1.0
+ * @see GroupBinarySearch
+ * @see IntBinarySearch
+ */
+public class IntGroupBinarySearch implements IntSearchAlgorithm {
+    private static final Logger logger = LogManager.getLogger(IntGroupBinarySearch.class);
+
+    private final int groupSize;
+
+    /**
+     * Creates a search with the configured group size ({@code search.group.size}).
+     *
+     * @throws IllegalArgumentException if the configured group size is out of range
+     */
+    public IntGroupBinarySearch() {
+        this(BatchSearchSupport.defaultGroupSize());
+    }
+
+    /**
+     * Creates a search advancing the given number of lookups together.
+     *
+     * @param groupSize the number of searches per group, from 1 to 1024
+     * @throws IllegalArgumentException if the group size is out of range
+     */
+    public IntGroupBinarySearch(int groupSize) {
+        BatchSearchSupport.checkGroupSize(groupSize);
+        this.groupSize = groupSize;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        validateArray(array);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int index = RangeSearch.lowerBoundOf(array, target);
+        int result = index < array.length && array[index] == target ? index : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target in groups of {@link #getGroupSize()} lockstep searches, validating the array
+     * only once for the whole batch.
+     */
+    @Override
+    public void searchAll(int[] array, int[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        BatchSearchSupport.interleavedSearchAll(array, targets, out, groupSize);
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Group Binary Search (int[])";
+    }
+
+    public int getGroupSize() {
+        return groupSize;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    @Override
+    public void validateArray(int[] array) {
+        IntSearchAlgorithm.super.validateArray(array);
+
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Binary search requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Implements Interpolation Search for sorted primitive {@code int} arrays.
+ * <p>
+ * Instead of probing the middle of the remaining range, each step probes where the target would sit if the
+ * values in the range were spread evenly between its first and last element. On uniformly distributed keys
+ * this needs O(log log n) steps on average. Each step also probes a guard one square root of the range
+ * beyond the estimate, on the side of the target, so a good estimate shrinks the range to that square root
+ * from both ends at once. On skewed keys the estimates can be poor and the search would degrade towards a
+ * linear scan, so after {@value #MAX_SLOW_STEPS} steps that fail to halve the range a lookup finishes with a
+ * binary search, which bounds the worst case at O(log n). Ranges of a few elements are finished with a
+ * linear scan.
+ * <p>
+ * Lookups find the lower bound of the target, so for duplicate elements the reported index is the first
+ * occurrence.
+ *
+ * @version 1.0
+ * @see IntSearchAlgorithm
+ * @see InterpolationSearch
+ */
+public class IntInterpolationSearch implements IntSearchAlgorithm {
+    private static final Logger logger = LogManager.getLogger(IntInterpolationSearch.class);
+
+    /** Ranges of at most this many elements are finished with a linear scan. */
+    static final int LINEAR_THRESHOLD = 8;
+
+    /** Number of steps that fail to halve the range before a lookup falls back to binary search. */
+    static final int MAX_SLOW_STEPS = 2;
+
+    @Override
+    public int search(int[] array, int target) {
+        validateArray(array);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = indexOf(array, target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target, validating the array only once for the whole batch.
+     */
+    @Override
+    public void searchAll(int[] array, int[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = indexOf(array, targets[i]);
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Interpolation Search (int[])";
+    }
+
+    private static int indexOf(int[] array, int target) {
+        int index = lowerBound(array, target);
+        return index < array.length && array[index] == target ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first element not less than the target, or the array length if every
+     * element is less.
+     */
+    static int lowerBound(int[] array, int target) {
+        // Invariant: the lower bound lies in [low, high]
+        int low = 0;
+        int high = array.length;
+        int slowSteps = 0;
+        while (high - low > LINEAR_THRESHOLD) {
+            int first = array[low];
+            int last = array[high - 1];
+            if (target <= first) {
+                return low;
+            }
+            if (target > last) {
+                return high;
+            }
+            int range = high - low;
+            // first < target <= last, so the fraction lies in (0, 1] and the probe in [low, high - 1]
+            double fraction = ((double) target - first) / ((double) last - first);
+            int probe = low + (int) (fraction * (range - 1));
+            int guardDistance = (int) Math.sqrt(range);
+            // A second probe one guard distance beyond the first on the target's side bounds the range there
+            if (array[probe] < target) {
+                int guard = probe + guardDistance;
+                low = probe + 1;
+                if (guard < high) {
+                    if (array[guard] < target) {
+                        low = guard + 1;
+                    } else {
+                        high = guard;
+                    }
+                }
+            } else {
+                int guard = probe - guardDistance;
+                high = probe;
+                if (guard >= low) {
+                    if (array[guard] < target) {
+                        low = guard + 1;
+                    } else {
+                        high = guard;
+                    }
+                }
+            }
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, probe, Integer.compare(target, array[probe]));
+            }
+            if (high - low > range / 2 && ++slowSteps == MAX_SLOW_STEPS) {
+                return binaryLowerBound(array, low, high, target);
+            }
+        }
+        while (low < high && array[low] < target) {
+            low++;
+        }
+        return low;
+    }
+
+    private static int binaryLowerBound(int[] array, int low, int high, int target) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Integer.compare(target, array[mid]));
+            }
+            if (array[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    @Override
+    public void validateArray(int[] array) {
+        IntSearchAlgorithm.super.validateArray(array);
+
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Interpolation search requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.algobench.pro.algorithm.searching;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * {@code IntSearchAlgorithm} is the primitive counterpart of {@link SearchAlgorithm} for {@code int[]} inputs.
+ * Implementations operate directly on the primitive array, avoiding the pointer indirection and virtual
+ * {@code compareTo} calls that a boxed {@code Integer[]} incurs on every probe.
+ *
+ * @version 1.0
+ * @see SearchAlgorithm
+ */
+public interface IntSearchAlgorithm {
+    Logger logger = LogManager.getLogger(IntSearchAlgorithm.class);
+
+    /**
+     * Searches for the target value within the provided array.
+     *
+     * @param array  The array to be searched.
+     * @param target The value being searched for.
+     * @return The index of the target value if it is found within the array, otherwise -1.
+     * @throws IllegalArgumentException if the input array is null.
+     */
+    int search(int[] array, int target);
+
+    /**
+     * Searches for every target within the provided array, storing the result for {@code targets[i]} in
+     * {@code out[i]}: the index of an element equal to the target, or -1 if there is none.
+     * <p>
+     * The default implementation calls {@link #search(int[], int)} once per target.
+     *
+     * @param array   The array to be searched.
+     * @param targets The values being searched for.
+     * @param out     Receives one result per target; must be at least as long as {@code targets}.
+     * @throws IllegalArgumentException if any argument is null or {@code out} is too short.
+     */
+    default void searchAll(int[] array, int[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = search(array, targets[i]);
+        }
+    }
+
+    /**
+     * Returns the name of the search algorithm.
+     * This name is intended to be human-readable and used in the application's UI or reporting features.
+     *
+     * @return A string representing the name of the search algorithm implementation.
+     */
+    String getName();
+
+    /**
+     * Validates the input array to ensure it is not null before proceeding with the search operation.
+     *
+     * @param array The array to be validated.
+     * @throws IllegalArgumentException If the array is {@code null}.
+     */
+    default void validateArray(int[] array) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+    }
+
+    /**
+     * Validates the targets and output array of a batch search.
+     *
+     * @param targets The values being searched for.
+     * @param out     The array receiving one result per target.
+     * @throws IllegalArgumentException If either array is {@code null} or {@code out} is shorter than {@code targets}.
+     */
+    default void validateBatch(int[] targets, int[] out) {
+        if (targets == null || out == null) {
+            logger.error("Batch search targets or output array is null");
+            throw new IllegalArgumentException("Targets and output array cannot be null");
+        }
+        if (out.length < targets.length) {
+            logger.error("Output array of length {} cannot hold {} results", out.length, targets.length);
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.algorithm.simd.IntKernels;
+import com.algobench.pro.algorithm.simd.SimdSupport;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Binary Search for sorted primitive {@code int} arrays that finishes with a linear scan of the last window.
+ * <p>
+ * Halving stops once at most {@value #SCAN_WINDOW} candidates remain; those occupy a few adjacent cache lines
+ * and are scanned by {@link IntKernels#lowerBoundScan}, which with the vectorized kernels compares a whole
+ * register of values per step instead of paying the last mispredicted branches of the binary search one by
+ * one. The kernels default to {@link SimdSupport#preferred()}, so the scan is scalar when the Vector API is
+ * not available.
+ * <p>
+ * Lookups find the lower bound of the target, so for duplicate elements the reported index is the first
+ * occurrence.
+ *
+ * @version 1.0
+ * @see IntBinarySearch
+ * @see IntKernels
+ */
+public class IntSimdBinarySearch implements IntSearchAlgorithm {
+    private static final Logger logger = LogManager.getLogger(IntSimdBinarySearch.class);
+
+    /** Largest number of candidates left to the linear scan. */
+    public static final int SCAN_WINDOW = 64;
+
+    private final IntKernels kernels;
+
+    /**
+     * Creates a search using the preferred kernels.
+     */
+    public IntSimdBinarySearch() {
+        this(SimdSupport.preferred());
+    }
+
+    /**
+     * Creates a search using the given kernels.
+     *
+     * @throws IllegalArgumentException if the kernels are null
+     */
+    public IntSimdBinarySearch(IntKernels kernels) {
+        if (kernels == null) {
+            throw new IllegalArgumentException("Kernels cannot be null");
+        }
+        this.kernels = kernels;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        validateArray(array);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = find(array, target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target, validating the array only once for the whole batch.
+     */
+    @Override
+    public void searchAll(int[] array, int[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = find(array, targets[i]);
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "SIMD Binary Search (int[], " + kernels.getName() + ")";
+    }
+
+    public IntKernels getKernels() {
+        return kernels;
+    }
+
+    private int find(int[] array, int target) {
+        int left = 0;
+        int right = array.length;
+        while (right - left > SCAN_WINDOW) {
+            int mid = (left + right) >>> 1;
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Integer.compare(target, array[mid]));
+            }
+            if (array[mid] < target) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        int index = kernels.lowerBoundScan(array, left, right, target);
+        return index < array.length && array[index] == target ? index : -1;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    @Override
+    public void validateArray(int[] array) {
+        IntSearchAlgorithm.super.validateArray(array);
+
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Binary search requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Implements Interpolation Search for sorted arrays of objects with a numeric key.
+ * <p>
+ * Each step probes where the target would sit if the keys of the remaining range were spread evenly between
+ * its first and last element, which takes O(log log n) probes on uniformly distributed keys. The numeric key
+ * only steers the probes: elements are compared with {@code compareTo}, so a key that does not follow the
+ * natural order costs speed but never correctness. As in {@link IntInterpolationSearch}, every estimate is
+ * paired with a guard probe, and a lookup that keeps failing to halve its range on skewed keys finishes with
+ * a binary search.
+ * <p>
+ * Lookups find the lower bound of the target, so for duplicate elements the reported index is the first
+ * occurrence.
+ *
+ * @param <T> the type of elements in the array and the target value, must implement Comparable
+ * @version 1.0
+ * @see SearchAlgorithm
+ * @see IntInterpolationSearch
+ */
+public class InterpolationSearch<T extends Comparable<T>> implements SearchAlgorithm<T> {
+    private static final Logger logger = LogManager.getLogger(InterpolationSearch.class);
+
+    private final ToDoubleFunction<? super T> keyExtractor;
+
+    /**
+     * Creates an interpolation search.
+     *
+     * @param keyExtractor maps each element to a number that grows with the element's order
+     * @throws IllegalArgumentException if the key extractor is null
+     */
+    public InterpolationSearch(ToDoubleFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public int search(T[] array, T target) {
+        validateArray(array);
+        if (target == null) {
+            logger.error("Search target is null");
+            throw new IllegalArgumentException("Search target cannot be null");
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = indexOf(array, target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target, validating the array only once for the whole batch.
+     */
+    @Override
+    public void searchAll(T[] array, T[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) {
+                logger.error("Search target at index {} is null", i);
+                throw new IllegalArgumentException("Search targets cannot contain null");
+            }
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = indexOf(array, targets[i]);
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Interpolation Search";
+    }
+
+    private int indexOf(T[] array, T target) {
+        int index = lowerBound(array, target);
+        return index < array.length && array[index].compareTo(target) == 0 ? index : -1;
+    }
+
+    private int lowerBound(T[] array, T target) {
+        double targetKey = keyExtractor.applyAsDouble(target);
+        // Invariant: the lower bound lies in [low, high]
+        int low = 0;
+        int high = array.length;
+        int slowSteps = 0;
+        while (high - low > IntInterpolationSearch.LINEAR_THRESHOLD) {
+            if (target.compareTo(array[low]) <= 0) {
+                return low;
+            }
+            if (target.compareTo(array[high - 1]) > 0) {
+                return high;
+            }
+            int range = high - low;
+            double first = keyExtractor.applyAsDouble(array[low]);
+            double last = keyExtractor.applyAsDouble(array[high - 1]);
+            // Keys that disagree with compareTo can put the estimate anywhere, including NaN (cast to 0)
+            double fraction = (targetKey - first) / (last - first);
+            int probe = low + (int) Math.max(0, Math.min(range - 1, fraction * (range - 1)));
+            int guardDistance = (int) Math.sqrt(range);
+            if (compareAt(array, probe, target) < 0) {
+                int guard = probe + guardDistance;
+                low = probe + 1;
+                if (guard < high) {
+                    if (compareAt(array, guard, target) < 0) {
+                        low = guard + 1;
+                    } else {
+                        high = guard;
+                    }
+                }
+            } else {
+                int guard = probe - guardDistance;
+                high = probe;
+                if (guard >= low) {
+                    if (compareAt(array, guard, target) < 0) {
+                        low = guard + 1;
+                    } else {
+                        high = guard;
+                    }
+                }
+            }
+            if (high - low > range / 2 && ++slowSteps == IntInterpolationSearch.MAX_SLOW_STEPS) {
+                return binaryLowerBound(array, low, high, target);
+            }
+        }
+        while (low < high && array[low].compareTo(target) < 0) {
+            low++;
+        }
+        return low;
+    }
+
+    private static <T extends Comparable<T>> int compareAt(T[] array, int index, T target) {
+        int comparison = array[index].compareTo(target);
+        if (Instrumentation.TRACE_ENABLED) {
+            Instrumentation.record(TraceEvent.SEARCH_PROBE, index, -comparison);
+        }
+        return comparison;
+    }
+
+    private static <T extends Comparable<T>> int binaryLowerBound(T[] array, int low, int high, T target) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = array[mid].compareTo(target);
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, -comparison);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Additional validation to ensure the array is sorted and free of null elements.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array contains null or is not sorted
+     */
+    @Override
+    public void validateArray(T[] array) {
+        SearchAlgorithm.super.validateArray(array);
+
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Interpolation search requires non-null elements");
+            }
+            if (i > 0 && array[i - 1].compareTo(array[i]) > 0) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Interpolation search requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Bound and range queries on sorted arrays of objects, {@code int}s and {@code long}s.
+ * <p>
+ * Where {@link BinarySearch#search} reports some index of a match, these queries locate the run of equal
+ * elements and the positions that delimit a value range, which is what duplicate-heavy data and range scans
+ * such as time windows need: {@link #lowerBound lowerBound} is the first position whose element is not less
+ * than the key, {@link #upperBound upperBound} the first whose element is greater, and the elements in the
+ * closed range {@code [low, high]} occupy {@code [lowerBound(low), upperBound(high))}. Each query costs
+ * O(log n) comparisons; {@link #equalRange equalRange} finds the end of the run by galloping from its start,
+ * so it adds only O(log k) for a run of k equal elements.
+ * <p>
+ * The batched {@code rangesAll} answers many ranges in one sweep: when the lower ends arrive in ascending
+ * order, each range start gallops forward from the previous one, and every range end gallops forward from
+ * its own start, so a batch of narrow, ordered windows costs little more than a merge walk over the array.
+ * <p>
+ * Like {@link java.util.Arrays#binarySearch(int[], int)}, the queries do not re-check that the array is
+ * sorted, which would make each of them O(n); results for an unsorted array are undefined. Wrap the array
+ * in a {@link SortedView} or {@link SortedIntArray} to verify the order once and query it afterwards.
+ *
+ * @version 1.0
+ * @see IndexRange
+ * @see SortedView
+ * @see SortedIntArray
+ */
+public final class RangeSearch {
+    private static final Logger logger = LogManager.getLogger(RangeSearch.class);
+
+    private RangeSearch() {
+    }
+
+    /**
+     * Returns the first position whose element is not less than the key, or the array length if there is
+     * none.
+     *
+     * @throws IllegalArgumentException if the array or the key is null
+     */
+    public static <T extends Comparable<T>> int lowerBound(T[] array, T key) {
+        validate(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = lowerBoundOf(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Returns the first position whose element is greater than the key, or the array length if there is
+     * none.
+     *
+     * @throws IllegalArgumentException if the array or the key is null
+     */
+    public static <T extends Comparable<T>> int upperBound(T[] array, T key) {
+        validate(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = upperBoundOf(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Returns the positions of the elements equal to the key; if there are none, the range is empty and
+     * starts where the key would be inserted.
+     *
+     * @throws IllegalArgumentException if the array or the key is null
+     */
+    public static <T extends Comparable<T>> IndexRange equalRange(T[] array, T key) {
+        validate(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = lowerBoundOf(array, key);
+        int to = BatchSearchSupport.gallopUpperBound(array, key, from);
+        Instrumentation.record(TraceEvent.SEARCH_END, from, to - from);
+        return new IndexRange(from, to);
+    }
+
+    /**
+     * Counts the elements in the closed range {@code [low, high]}; the count is zero when {@code low} is
+     * greater than {@code high}.
+     *
+     * @throws IllegalArgumentException if the array or either bound is null
+     */
+    public static <T extends Comparable<T>> int countInRange(T[] array, T low, T high) {
+        validate(array, low);
+        validate(array, high);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = lowerBoundOf(array, low);
+        int count = BatchSearchSupport.gallopUpperBound(array, high, from) - from;
+        Instrumentation.record(TraceEvent.SEARCH_END, from, count);
+        return count;
+    }
+
+    /**
+     * Locates every closed range {@code [lows[i], highs[i]]}, storing its first position in
+     * {@code starts[i]} and the position just past it in {@code ends[i]}; the range holds
+     * {@code ends[i] - starts[i]} elements, none if {@code lows[i]} is greater than {@code highs[i]}.
+     *
+     * @throws IllegalArgumentException if any array or bound is null, or the bound and output arrays differ
+     *         in length
+     */
+    public static <T extends Comparable<T>> void rangesAll(T[] array, T[] lows, T[] highs, int[] starts,
+                                                           int[] ends) {
+        validate(array);
+        validateBatch(lows, highs, starts, ends);
+        for (int i = 0; i < lows.length; i++) {
+            if (lows[i] == null || highs[i] == null) {
+                logger.error("Range bound at index {} is null", i);
+                throw new IllegalArgumentException("Range bounds cannot contain null");
+            }
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = 0;
+        for (int i = 0; i < lows.length; i++) {
+            if (i > 0 && lows[i].compareTo(lows[i - 1]) < 0) {
+                from = 0;
+            }
+            from = BatchSearchSupport.gallopLowerBound(array, lows[i], from);
+            starts[i] = from;
+            ends[i] = BatchSearchSupport.gallopUpperBound(array, highs[i], from);
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, lows.length, 0);
+    }
+
+    /**
+     * Returns the first position whose value is not less than the key, or the array length if there is
+     * none.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static int lowerBound(int[] array, int key) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = lowerBoundOf(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Returns the first position whose value is greater than the key, or the array length if there is none.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static int upperBound(int[] array, int key) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = upperBoundOf(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Returns the positions of the values equal to the key; if there are none, the range is empty and
+     * starts where the key would be inserted.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static IndexRange equalRange(int[] array, int key) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = lowerBoundOf(array, key);
+        int to = BatchSearchSupport.gallopUpperBound(array, key, from);
+        Instrumentation.record(TraceEvent.SEARCH_END, from, to - from);
+        return new IndexRange(from, to);
+    }
+
+    /**
+     * Counts the values in the closed range {@code [low, high]}; the count is zero when {@code low} is
+     * greater than {@code high}.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static int countInRange(int[] array, int low, int high) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = lowerBoundOf(array, low);
+        int count = BatchSearchSupport.gallopUpperBound(array, high, from) - from;
+        Instrumentation.record(TraceEvent.SEARCH_END, from, count);
+        return count;
+    }
+
+    /**
+     * Locates every closed range {@code [lows[i], highs[i]]}, storing its first position in
+     * {@code starts[i]} and the position just past it in {@code ends[i]}; the range holds
+     * {@code ends[i] - starts[i]} values, none if {@code lows[i]} is greater than {@code highs[i]}.
+     *
+     * @throws IllegalArgumentException if any array is null, or the bound and output arrays differ in length
+     */
+    public static void rangesAll(int[] array, int[] lows, int[] highs, int[] starts, int[] ends) {
+        validate(array);
+        validateBatch(lows, highs, starts, ends);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = 0;
+        for (int i = 0; i < lows.length; i++) {
+            if (i > 0 && lows[i] < lows[i - 1]) {
+                from = 0;
+            }
+            from = BatchSearchSupport.gallopLowerBound(array, lows[i], from);
+            starts[i] = from;
+            ends[i] = BatchSearchSupport.gallopUpperBound(array, highs[i], from);
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, lows.length, 0);
+    }
+
+    /**
+     * Returns the first position whose value is not less than the key, or the array length if there is
+     * none.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static int lowerBound(long[] array, long key) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = lowerBoundOf(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Returns the first position whose value is greater than the key, or the array length if there is none.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static int upperBound(long[] array, long key) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = upperBoundOf(array, key);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Returns the positions of the values equal to the key; if there are none, the range is empty and
+     * starts where the key would be inserted.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static IndexRange equalRange(long[] array, long key) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = lowerBoundOf(array, key);
+        int to = BatchSearchSupport.gallopUpperBound(array, key, from);
+        Instrumentation.record(TraceEvent.SEARCH_END, from, to - from);
+        return new IndexRange(from, to);
+    }
+
+    /**
+     * Counts the values in the closed range {@code [low, high]}; the count is zero when {@code low} is
+     * greater than {@code high}.
+     *
+     * @throws IllegalArgumentException if the array is null
+     */
+    public static int countInRange(long[] array, long low, long high) {
+        validate(array);
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = lowerBoundOf(array, low);
+        int count = BatchSearchSupport.gallopUpperBound(array, high, from) - from;
+        Instrumentation.record(TraceEvent.SEARCH_END, from, count);
+        return count;
+    }
+
+    /**
+     * Locates every closed range {@code [lows[i], highs[i]]}, storing its first position in
+     * {@code starts[i]} and the position just past it in {@code ends[i]}; the range holds
+     * {@code ends[i] - starts[i]} values, none if {@code lows[i]} is greater than {@code highs[i]}.
+     *
+     * @throws IllegalArgumentException if any array is null, or the bound and output arrays differ in length
+     */
+    public static void rangesAll(long[] array, long[] lows, long[] highs, int[] starts, int[] ends) {
+        validate(array);
+        validateBatch(lows, highs, starts, ends);
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int from = 0;
+        for (int i = 0; i < lows.length; i++) {
+            if (i > 0 && lows[i] < lows[i - 1]) {
+                from = 0;
+            }
+            from = BatchSearchSupport.gallopLowerBound(array, lows[i], from);
+            starts[i] = from;
+            ends[i] = BatchSearchSupport.gallopUpperBound(array, highs[i], from);
+        }
+        Instrumentation.record(TraceEvent.SEARCH_END, lows.length, 0);
+    }
+
+    static <T extends Comparable<T>> int lowerBoundOf(T[] array, T key) {
+        int left = 0;
+        int right = array.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            int comparison = array[mid].compareTo(key);
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, comparison);
+            }
+            if (comparison < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static <T extends Comparable<T>> int upperBoundOf(T[] array, T key) {
+        int left = 0;
+        int right = array.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            int comparison = array[mid].compareTo(key);
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, comparison);
+            }
+            if (comparison <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int lowerBoundOf(int[] array, int key) {
+        int left = 0;
+        int right = array.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            int value = array[mid];
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Integer.compare(value, key));
+            }
+            if (value < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBoundOf(int[] array, int key) {
+        int left = 0;
+        int right = array.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            int value = array[mid];
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Integer.compare(value, key));
+            }
+            if (value <= key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    private static int lowerBoundOf(long[] array, long key) {
+        int left = 0;
+        int right = array.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            long value = array[mid];
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Long.compare(value, key));
+            }
+            if (value < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    private static int upperBoundOf(long[] array, long key) {
+        int left = 0;
+        int right = array.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            long value = array[mid];
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Long.compare(value, key));
+            }
+            if (value <= key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    private static void validate(Object array) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+    }
+
+    private static void validate(Object[] array, Object key) {
+        validate(array);
+        if (key == null) {
+            logger.error("Search key is null");
+            throw new IllegalArgumentException("Search key cannot be null");
+        }
+    }
+
+    private static void validateBatch(Object[] lows, Object[] highs, int[] starts, int[] ends) {
+        checkNotNull(lows, highs, starts, ends);
+        checkLengths(lows.length, highs.length, starts, ends);
+    }
+
+    private static void validateBatch(int[] lows, int[] highs, int[] starts, int[] ends) {
+        checkNotNull(lows, highs, starts, ends);
+        checkLengths(lows.length, highs.length, starts, ends);
+    }
+
+    private static void validateBatch(long[] lows, long[] highs, int[] starts, int[] ends) {
+        checkNotNull(lows, highs, starts, ends);
+        checkLengths(lows.length, highs.length, starts, ends);
+    }
+
+    private static void checkNotNull(Object lows, Object highs, int[] starts, int[] ends) {
+        if (lows == null || highs == null || starts == null || ends == null) {
+            logger.error("Range batch bounds or output arrays are null");
+            throw new IllegalArgumentException("Range bounds and output arrays cannot be null");
+        }
+    }
+
+    private static void checkLengths(int lows, int highs, int[] starts, int[] ends) {
+        if (highs != lows || starts.length < lows || ends.length < lows) {
+            logger.error("Range batch of {} lower bounds has mismatched upper bounds or outputs", lows);
+            throw new IllegalArgumentException("Every range needs an upper bound and room for its result");
+        }
+    }
+}
@@ -29,6 +29,27 @@ public interface SearchAlgorithm<T> {
      */
     int search(T[] array, T target);
 
+    /**
+     * Searches for every target within the provided array, storing the result for {@code targets[i]} in
+     * {@code out[i]}: the index of an element equal to the target, or -1 if there is none.
+     * <p>
+     * The default implementation calls {@link #search(Object[], Object)} once per target. Implementations
+     * that can share work between the lookups of one batch, such as validating the array once or walking it
+     * in step with sorted targets, override it.
+     *
+     * @param array   The array to be searched.
+     * @param targets The elements being searched for.
+     * @param out     Receives one result per target; must be at least as long as {@code targets}.
+     * @throws IllegalArgumentException if any argument is null or {@code out} is too short.
+     */
+    default void searchAll(T[] array, T[] targets, int[] out) {
+        validateArray(array);
+        validateBatch(targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = search(array, targets[i]);
+        }
+    }
+
     /**
      * Returns the name of the search algorithm.
      * This name is intended to be human-readable and used in the application's UI or reporting features.
@@ -48,6 +69,23 @@ public interface SearchAlgorithm<T> {
             logger.error("Input array is null");
             throw new IllegalArgumentException("Input array cannot be null");
         }
-        logger.debug("Input validation successful for array of length: {}", array.length);
+    }
+
+    /**
+     * Validates the targets and output array of a batch search.
+     *
+     * @param targets The elements being searched for.
+     * @param out     The array receiving one result per target.
+     * @throws IllegalArgumentException If either array is {@code null} or {@code out} is shorter than {@code targets}.
+     */
+    default void validateBatch(T[] targets, int[] out) {
+        if (targets == null || out == null) {
+            logger.error("Batch search targets or output array is null");
+            throw new IllegalArgumentException("Targets and output array cannot be null");
+        }
+        if (out.length < targets.length) {
+            logger.error("Output array of length {} cannot hold {} results", out.length, targets.length);
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
     }
 }
@@ -0,0 +1,194 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A sorted {@code int[]} whose order has been verified once, serving any number of O(log n) lookups.
+ * <p>
+ * This is the primitive counterpart of {@link SortedView}: the sortedness scan that
+ * {@link IntBinarySearch#search} repeats on every call is paid once, in parallel for large arrays, when the
+ * handle is created. The array is wrapped, not copied, so it must not be modified while the handle is in
+ * use; checked mode re-validates it on every lookup for debugging.
+ * <p>
+ * Lookups find the lower bound of the target, so for duplicate elements the reported index is the first
+ * occurrence.
+ *
+ * @version 1.0
+ * @see SortedView
+ * @see IntBinarySearch
+ */
+public final class SortedIntArray {
+    private static final Logger logger = LogManager.getLogger(SortedIntArray.class);
+
+    private final int[] array;
+    private final boolean checked;
+    private final int sequentialThreshold;
+    private final int parallelism;
+
+    /**
+     * Validates the array with the configured parallel settings; checked mode follows
+     * {@code search.checked}.
+     *
+     * @param array the values in ascending order
+     * @throws IllegalArgumentException if the array is null or not sorted
+     */
+    public SortedIntArray(int[] array) {
+        this(array, SortedValidation.defaultChecked(), ParallelSettings.defaultSequentialThreshold(),
+            ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Validates the array.
+     *
+     * @param array the values in ascending order
+     * @param checked whether every lookup re-validates the array
+     * @param sequentialThreshold ranges of at most this many values are validated by a single task
+     * @param parallelism the number of worker threads used to validate large arrays
+     * @throws IllegalArgumentException if the array is null or not sorted, or a setting is not positive
+     */
+    public SortedIntArray(int[] array, boolean checked, int sequentialThreshold, int parallelism) {
+        ParallelSettings.checkSettings(sequentialThreshold, parallelism);
+        this.array = array;
+        this.checked = checked;
+        this.sequentialThreshold = sequentialThreshold;
+        this.parallelism = parallelism;
+        validate();
+    }
+
+    /**
+     * Searches for the target.
+     *
+     * @return The index of the first value equal to the target, or -1 if there is none
+     * @throws IllegalArgumentException in checked mode if the array is no longer sorted
+     */
+    public int search(int target) {
+        if (checked) {
+            validate();
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        int result = RangeSearch.lowerBoundOf(array, target);
+        result = result < array.length && array[result] == target ? result : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Searches for every target, storing the result of {@link #search(int)} for {@code targets[i]} in
+     * {@code out[i]}. Sorted targets are answered by a galloping merge walk over the array and unsorted ones
+     * by interleaved binary searches.
+     *
+     * @throws IllegalArgumentException if either array is null or {@code out} is shorter than
+     *         {@code targets}, or in checked mode if the array is no longer sorted
+     */
+    public void searchAll(int[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        if (checked) {
+            validate();
+        }
+
+        Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+        BatchSearchSupport.searchAll(array, targets, out);
+        Instrumentation.record(TraceEvent.SEARCH_END, targets.length, 0);
+    }
+
+    /**
+     * Returns the first position whose value is not less than the key, or {@link #size()} if there is none.
+     *
+     * @throws IllegalArgumentException in checked mode if the array is no longer sorted
+     * @see RangeSearch
+     */
+    public int lowerBound(int key) {
+        if (checked) {
+            validate();
+        }
+        return RangeSearch.lowerBound(array, key);
+    }
+
+    /**
+     * Returns the first position whose value is greater than the key, or {@link #size()} if there is none.
+     *
+     * @throws IllegalArgumentException in checked mode if the array is no longer sorted
+     */
+    public int upperBound(int key) {
+        if (checked) {
+            validate();
+        }
+        return RangeSearch.upperBound(array, key);
+    }
+
+    /**
+     * Returns the positions of the values equal to the key; if there are none, the range is empty and starts
+     * where the key would be inserted.
+     *
+     * @throws IllegalArgumentException in checked mode if the array is no longer sorted
+     */
+    public IndexRange equalRange(int key) {
+        if (checked) {
+            validate();
+        }
+        return RangeSearch.equalRange(array, key);
+    }
+
+    /**
+     * Counts the values in the closed range {@code [low, high]}; the count is zero when {@code low} is
+     * greater than {@code high}.
+     *
+     * @throws IllegalArgumentException in checked mode if the array is no longer sorted
+     */
+    public int countInRange(int low, int high) {
+        if (checked) {
+            validate();
+        }
+        return RangeSearch.countInRange(array, low, high);
+    }
+
+    /**
+     * Locates every closed range {@code [lows[i], highs[i]]} in one sweep, storing its first position in
+     * {@code starts[i]} and the position just past it in {@code ends[i]}.
+     *
+     * @throws IllegalArgumentException if any array or bound is null, the bound and output arrays differ in
+     *         length, or in checked mode if the array is no longer sorted
+     * @see RangeSearch#rangesAll(int[], int[], int[], int[], int[])
+     */
+    public void rangesAll(int[] lows, int[] highs, int[] starts, int[] ends) {
+        if (checked) {
+            validate();
+        }
+        RangeSearch.rangesAll(array, lows, highs, starts, ends);
+    }
+
+    /**
+     * Returns the value at the given index of the sorted array.
+     */
+    public int get(int index) {
+        return array[index];
+    }
+
+    public int size() {
+        return array.length;
+    }
+
+    public boolean isChecked() {
+        return checked;
+    }
+
+    private void validate() {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        int index = SortedValidation.firstUnsorted(array, sequentialThreshold, parallelism);
+        if (index >= 0) {
+            logger.error("Input array is not sorted at index: {}", index);
+            throw new IllegalArgumentException("Sorted view requires a sorted array");
+        }
+    }
+}
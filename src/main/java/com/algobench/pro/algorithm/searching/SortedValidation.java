@@ -0,0 +1,117 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Shared sortedness checks for the validated search handles.
+ * <p>
+ * A check reports the first index at which the array is out of order, or -1 if it is sorted. Large arrays
+ * are split into ranges checked as independent fork/join tasks; each range compares its first element with
+ * the last element of the range before it, so the ranges together cover every adjacent pair.
+ */
+final class SortedValidation {
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private SortedValidation() {
+    }
+
+    /**
+     * Returns whether validated handles re-check their array on every lookup by default
+     * ({@code search.checked}).
+     */
+    static boolean defaultChecked() {
+        return config.getBooleanProperty("search.checked", false);
+    }
+
+    /**
+     * Returns the first index holding a null element or an element less than its predecessor, or -1 if
+     * there is none.
+     */
+    static <T extends Comparable<T>> int firstUnsorted(T[] array, int sequentialThreshold, int parallelism) {
+        if (parallelism == 1 || array.length <= sequentialThreshold) {
+            return firstUnsortedIn(array, 0, array.length);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new CheckTask((from, to) -> firstUnsortedIn(array, from, to), 0, array.length,
+                sequentialThreshold));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the first index holding an element less than its predecessor, or -1 if there is none.
+     */
+    static int firstUnsorted(int[] array, int sequentialThreshold, int parallelism) {
+        if (parallelism == 1 || array.length <= sequentialThreshold) {
+            return firstUnsortedIn(array, 0, array.length);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new CheckTask((from, to) -> firstUnsortedIn(array, from, to), 0, array.length,
+                sequentialThreshold));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <T extends Comparable<T>> int firstUnsortedIn(T[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            // A range forked at from starts by comparing against the previous range's last element,
+            // which that range has already reported if it is null
+            if (array[i] == null || (i > 0 && (array[i - 1] == null || array[i - 1].compareTo(array[i]) > 0))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int firstUnsortedIn(int[] array, int from, int to) {
+        for (int i = Math.max(from, 1); i < to; i++) {
+            if (array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Checks one range of indexes sequentially. */
+    private interface RangeCheck {
+        int firstUnsorted(int from, int to);
+    }
+
+    /**
+     * Checks {@code [from, to)} by halving until ranges fit the sequential threshold, preferring the
+     * result of the left half so the first violation is reported.
+     */
+    private static final class CheckTask extends RecursiveTask<Integer> {
+        private final RangeCheck check;
+        private final int from;
+        private final int to;
+        private final int sequentialThreshold;
+
+        CheckTask(RangeCheck check, int from, int to, int sequentialThreshold) {
+            this.check = check;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= sequentialThreshold) {
+                return check.firstUnsorted(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CheckTask right = new CheckTask(check, mid, to, sequentialThreshold);
+            right.fork();
+            int leftResult = new CheckTask(check, from, mid, sequentialThreshold).compute();
+            int rightResult = right.join();
+            return leftResult >= 0 ? leftResult : rightResult;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.algobench.pro.algorithm.searching.filter;
+
+import java.util.Arrays;
+
+/**
+ * Hashing helpers shared by the membership filters.
+ */
+final class FilterHashing {
+
+    private FilterHashing() {
+    }
+
+    /**
+     * Mixes a key with a seed using the MurmurHash3 64-bit finalizer. For a fixed seed the mapping is a
+     * bijection, so distinct keys never share a hash.
+     */
+    static long mix(long key, long seed) {
+        long h = key + seed;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Maps a 32-bit hash to {@code [0, n)} by multiplication instead of the slower modulo.
+     */
+    static int reduce(int hash, int n) {
+        return (int) (((hash & 0xffffffffL) * n) >>> 32);
+    }
+
+    /**
+     * Returns the distinct keys in ascending order, copying the input unless it is already sorted and
+     * duplicate free.
+     */
+    static long[] distinct(long[] keys) {
+        boolean strictlyAscending = true;
+        for (int i = 1; i < keys.length && strictlyAscending; i++) {
+            strictlyAscending = keys[i - 1] < keys[i];
+        }
+        if (strictlyAscending) {
+            return keys;
+        }
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+}
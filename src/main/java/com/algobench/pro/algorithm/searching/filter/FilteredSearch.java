@@ -0,0 +1,142 @@
+package com.algobench.pro.algorithm.searching.filter;
+
+import com.algobench.pro.algorithm.searching.SearchAlgorithm;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link SearchAlgorithm} decorator that answers definite misses from a membership filter.
+ * <p>
+ * When most lookups miss, every miss still pays a full search through memory that is likely cold. The
+ * decorator builds a {@link MembershipFilter} once from the elements of one array and consults it before the
+ * wrapped search: a target the filter rules out is reported as absent at the cost of one or a few cache
+ * misses in the filter, and only the remaining targets, the hits plus the filter's false positives, reach
+ * the wrapped search. Results are exactly those of the wrapped search.
+ * <p>
+ * Elements are mapped to {@code long} keys by a key function that must agree with {@code equals}: equal
+ * elements must have equal keys. The filter only describes the array it was built from, so lookups in any
+ * other array go straight to the wrapped search.
+ *
+ * @param <T> the type of elements in the array and the target value
+ * @version 1.0
+ * @see MembershipFilter
+ */
+public class FilteredSearch<T> implements SearchAlgorithm<T> {
+    private static final Logger logger = LogManager.getLogger(FilteredSearch.class);
+
+    private final SearchAlgorithm<T> delegate;
+    private final T[] array;
+    private final ToLongFunction<? super T> keyFunction;
+    private final MembershipFilter filter;
+
+    /**
+     * Creates the decorator with a {@link BlockedBloomFilter} using the configured bits per key.
+     *
+     * @param delegate the search answering the targets the filter lets through
+     * @param array the array whose elements the filter is built from
+     * @param keyFunction maps elements to filter keys; equal elements must map to equal keys
+     * @throws IllegalArgumentException if an argument is null or the array contains null
+     */
+    public FilteredSearch(SearchAlgorithm<T> delegate, T[] array, ToLongFunction<? super T> keyFunction) {
+        this(delegate, array, keyFunction, BlockedBloomFilter::new);
+    }
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate the search answering the targets the filter lets through
+     * @param array the array whose elements the filter is built from
+     * @param keyFunction maps elements to filter keys; equal elements must map to equal keys
+     * @param filterFactory builds the filter from the keys of the array, for example {@code XorFilter::new}
+     * @throws IllegalArgumentException if an argument is null or the array contains null
+     */
+    public FilteredSearch(SearchAlgorithm<T> delegate, T[] array, ToLongFunction<? super T> keyFunction,
+                          Function<long[], ? extends MembershipFilter> filterFactory) {
+        if (delegate == null || keyFunction == null || filterFactory == null) {
+            throw new IllegalArgumentException("Delegate, key function and filter factory cannot be null");
+        }
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Filtered search requires non-null elements");
+            }
+            keys[i] = keyFunction.applyAsLong(array[i]);
+        }
+        delegate.validateArray(array);
+        this.delegate = delegate;
+        this.array = array;
+        this.keyFunction = keyFunction;
+        this.filter = filterFactory.apply(keys);
+    }
+
+    @Override
+    public int search(T[] array, T target) {
+        if (array == this.array && target != null && !filter.mightContain(keyFunction.applyAsLong(target))) {
+            Instrumentation.record(TraceEvent.SEARCH_START, array.length, 0);
+            Instrumentation.record(TraceEvent.SEARCH_END, -1, 0);
+            return -1;
+        }
+        return delegate.search(array, target);
+    }
+
+    /**
+     * Searches for every target, passing only the targets the filter cannot rule out to the wrapped search
+     * as one smaller batch.
+     */
+    @Override
+    public void searchAll(T[] array, T[] targets, int[] out) {
+        if (array != this.array) {
+            delegate.searchAll(array, targets, out);
+            return;
+        }
+        validateBatch(targets, out);
+
+        int[] candidates = new int[targets.length];
+        int candidateCount = 0;
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null || filter.mightContain(keyFunction.applyAsLong(targets[i]))) {
+                candidates[candidateCount++] = i;
+            } else {
+                out[i] = -1;
+            }
+        }
+
+        T[] passed = Arrays.copyOf(targets, candidateCount);
+        for (int c = 0; c < candidateCount; c++) {
+            passed[c] = targets[candidates[c]];
+        }
+        int[] results = new int[candidateCount];
+        delegate.searchAll(array, passed, results);
+        for (int c = 0; c < candidateCount; c++) {
+            out[candidates[c]] = results[c];
+        }
+    }
+
+    @Override
+    public void validateArray(T[] array) {
+        delegate.validateArray(array);
+    }
+
+    /**
+     * Returns the filter consulted before the wrapped search.
+     */
+    public MembershipFilter getFilter() {
+        return filter;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName() + " + " + filter.getName();
+    }
+}
@@ -0,0 +1,46 @@
+package com.algobench.pro.algorithm.searching.filter;
+
+/**
+ * {@code MembershipFilter} is the base interface for the approximate membership filters within the AlgoBench
+ * Pro application. A filter is built once from a set of {@code long} keys and answers whether a key may be
+ * in the set: a negative answer is always correct, while a positive one is wrong with a small false-positive
+ * probability that trades off against the bits spent per key.
+ *
+ * @version 1.0
+ * @see FilteredSearch
+ */
+public interface MembershipFilter {
+
+    /**
+     * Returns false if the key is certainly not in the set the filter was built from, and true if it may be.
+     *
+     * @param key The key to test.
+     * @return Whether the key may be in the set.
+     */
+    boolean mightContain(long key);
+
+    /**
+     * Returns the number of bits the filter stores.
+     */
+    long sizeInBits();
+
+    /**
+     * Returns the number of distinct keys the filter was built from.
+     */
+    int keyCount();
+
+    /**
+     * Returns the number of bits stored per distinct key.
+     */
+    default double bitsPerKey() {
+        return (double) sizeInBits() / Math.max(1, keyCount());
+    }
+
+    /**
+     * Returns the name of the filter.
+     * This name is intended to be human-readable and used in the application's UI or reporting features.
+     *
+     * @return A string representing the name of the filter implementation.
+     */
+    String getName();
+}
@@ -0,0 +1,45 @@
+package com.algobench.pro.algorithm.searching.hash;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+
+/**
+ * Sizing and hashing helpers shared by the open-addressing hash indexes.
+ */
+final class HashIndexSupport {
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    /** The golden ratio in fixed point, whose multiples spread consecutive keys evenly (Fibonacci hashing). */
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+    private HashIndexSupport() {
+    }
+
+    /**
+     * Returns the configured largest fraction of occupied slots ({@code hash.index.load.factor.percent}).
+     */
+    static double defaultLoadFactor() {
+        return config.getIntProperty("hash.index.load.factor.percent", 50) / 100.0;
+    }
+
+    /**
+     * Returns the smallest power-of-two table size keeping {@code keys} entries within the load factor.
+     */
+    static int capacity(int keys, double loadFactor) {
+        if (!(loadFactor > 0 && loadFactor <= 0.95)) {
+            throw new IllegalArgumentException("Load factor must be in (0, 0.95]");
+        }
+        long needed = Math.max(2, (long) Math.ceil(keys / loadFactor));
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Too many keys for a hash index: " + keys);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Returns the home slot of a key in a table of {@code 1 << bits} slots from the high bits of its
+     * Fibonacci hash, which depend on every bit of the key.
+     */
+    static int home(long key, int bits) {
+        return (int) ((key * GOLDEN) >>> (Long.SIZE - bits));
+    }
+}
@@ -0,0 +1,122 @@
+package com.algobench.pro.algorithm.searching.hash;
+
+import com.algobench.pro.algorithm.searching.SearchAlgorithm;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A {@link SearchAlgorithm} backed by an {@link IntHashIndex}, for exact-match lookups in O(1) expected
+ * probes.
+ * <p>
+ * The index is built once from one array, which need not be sorted, and lookups in that array return the
+ * original position of the target, the first one for duplicate values. Lookups in any other array fall back
+ * to a linear scan for the first occurrence. The array must not be modified while the search is in use.
+ *
+ * @version 1.0
+ * @see IntHashIndex
+ */
+public class HashSearch implements SearchAlgorithm<Integer> {
+    private static final Logger logger = LogManager.getLogger(HashSearch.class);
+
+    private final Integer[] array;
+    private final IntHashIndex index;
+
+    /**
+     * Builds the index with the configured load factor.
+     *
+     * @param array the array to index, in any order
+     * @throws IllegalArgumentException if the array is null or contains null
+     */
+    public HashSearch(Integer[] array) {
+        this(array, HashIndexSupport.defaultLoadFactor());
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param array the array to index, in any order
+     * @param loadFactor the largest fraction of occupied slots, in (0, 0.95]
+     * @throws IllegalArgumentException if the array is null or contains null, or the load factor is out of
+     *         range
+     */
+    public HashSearch(Integer[] array, double loadFactor) {
+        validateArray(array);
+        int[] values = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            values[i] = array[i];
+        }
+        this.array = array;
+        this.index = new IntHashIndex(values, loadFactor);
+    }
+
+    /**
+     * Looks up the target. Lookups in the indexed array skip the O(n) validation, which was done when the
+     * index was built.
+     */
+    @Override
+    public int search(Integer[] array, Integer target) {
+        if (target == null) {
+            logger.error("Search target is null");
+            throw new IllegalArgumentException("Search target cannot be null");
+        }
+        if (array == this.array) {
+            return index.indexOf(target);
+        }
+        validateArray(array);
+        return scan(array, target);
+    }
+
+    @Override
+    public void searchAll(Integer[] array, Integer[] targets, int[] out) {
+        if (array != this.array) {
+            validateArray(array);
+        }
+        validateBatch(targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) {
+                logger.error("Search target at index {} is null", i);
+                throw new IllegalArgumentException("Search targets cannot contain null");
+            }
+            out[i] = array == this.array ? index.indexOf(targets[i]) : scan(array, targets[i]);
+        }
+    }
+
+    private static int scan(Integer[] array, int target) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index answering lookups in the array the search was built from.
+     */
+    public IntHashIndex getIndex() {
+        return index;
+    }
+
+    @Override
+    public String getName() {
+        return "Hash Index";
+    }
+
+    /**
+     * Additional validation to ensure the array is free of null elements; unlike the sorted-array
+     * searches, no order is required.
+     * @param array The array to validate
+     * @throws IllegalArgumentException if the array contains null
+     */
+    @Override
+    public void validateArray(Integer[] array) {
+        SearchAlgorithm.super.validateArray(array);
+
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Hash search requires non-null elements");
+            }
+        }
+    }
+}
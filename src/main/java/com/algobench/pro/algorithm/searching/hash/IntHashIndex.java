@@ -0,0 +1,163 @@
+package com.algobench.pro.algorithm.searching.hash;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash index from the values of an {@code int[]} to their positions in it.
+ * <p>
+ * Each slot of the table is a single {@code long} packing a key with its array position, so a probe reads
+ * one word and a lookup usually touches one cache line; there are no boxed keys or entry objects. Collisions
+ * are resolved by Robin Hood linear probing: an insertion that has travelled further from its home slot than
+ * the occupant of a slot takes that slot and moves the occupant on. This keeps probe sequences short and
+ * even, and lets a lookup for a missing key stop as soon as it meets an entry closer to home than itself.
+ * <p>
+ * The array need not be sorted. For duplicate values the first position is indexed, matching the first
+ * occurrence reported by the sorted-array searches. The index is static: it does not follow later changes
+ * to the array.
+ *
+ * @version 1.0
+ * @see LongHashIndex
+ * @see HashSearch
+ */
+public class IntHashIndex {
+    private static final Logger logger = LogManager.getLogger(IntHashIndex.class);
+
+    /** An empty slot: its position half is -1, which no entry has. */
+    private static final long EMPTY = -1L;
+
+    private final long[] table;
+    private final int bits;
+    private final int mask;
+    private int size;
+
+    /**
+     * Builds the index with the configured load factor ({@code hash.index.load.factor.percent}).
+     *
+     * @param values the values to index, in any order
+     * @throws IllegalArgumentException if the array is null
+     */
+    public IntHashIndex(int[] values) {
+        this(values, HashIndexSupport.defaultLoadFactor());
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param values the values to index, in any order
+     * @param loadFactor the largest fraction of occupied slots, in (0, 0.95]
+     * @throws IllegalArgumentException if the array is null or the load factor is out of range
+     */
+    public IntHashIndex(int[] values, double loadFactor) {
+        if (values == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        int capacity = HashIndexSupport.capacity(values.length, loadFactor);
+        this.bits = Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+        this.table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        for (int i = 0; i < values.length; i++) {
+            insert(values[i], i);
+        }
+    }
+
+    private void insert(int key, int position) {
+        long entry = ((long) key << 32) | position;
+        int slot = HashIndexSupport.home(key, bits);
+        for (int distance = 0; ; distance++, slot = (slot + 1) & mask) {
+            long current = table[slot];
+            if (current == EMPTY) {
+                table[slot] = entry;
+                size++;
+                return;
+            }
+            int currentKey = (int) (current >>> 32);
+            if (currentKey == (int) (entry >>> 32)) {
+                // Only the original key can meet itself, so this keeps its first position
+                return;
+            }
+            int currentDistance = (slot - HashIndexSupport.home(currentKey, bits)) & mask;
+            if (currentDistance < distance) {
+                table[slot] = entry;
+                entry = current;
+                distance = currentDistance;
+            }
+        }
+    }
+
+    /**
+     * Returns the first position of the value in the indexed array, or -1 if it does not occur.
+     */
+    public int indexOf(int value) {
+        Instrumentation.record(TraceEvent.SEARCH_START, size, 0);
+        int result = find(value);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Looks up every target, storing the result of {@link #indexOf(int)} for {@code targets[i]} in
+     * {@code out[i]}.
+     * @throws IllegalArgumentException if either array is null or {@code out} is shorter than {@code targets}
+     */
+    public void searchAll(int[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = find(targets[i]);
+        }
+    }
+
+    private int find(int key) {
+        int slot = HashIndexSupport.home(key, bits);
+        for (int distance = 0; ; distance++, slot = (slot + 1) & mask) {
+            long current = table[slot];
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, slot, distance);
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            int currentKey = (int) (current >>> 32);
+            if (currentKey == key) {
+                return (int) current;
+            }
+            if (((slot - HashIndexSupport.home(currentKey, bits)) & mask) < distance) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct values indexed.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Returns the memory taken by the table in bytes.
+     */
+    public long footprintBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    public String getName() {
+        return "Hash Index (int[])";
+    }
+}
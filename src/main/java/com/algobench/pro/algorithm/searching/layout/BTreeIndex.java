@@ -0,0 +1,165 @@
+package com.algobench.pro.algorithm.searching.layout;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * A static search index storing a sorted array of objects as an implicit B-tree with cache-line-sized nodes.
+ * <p>
+ * This is the object form of {@link IntBTreeIndex}: each node holds {@value #KEYS_PER_NODE} references, one
+ * cache line with compressed references. The layout is padded to whole nodes, and the padding slots take the
+ * last in-order positions, so they are not confined to the leaves: with 17 keys, slots 1 to 15 of the root are
+ * padding. Padding slots hold {@code null}, which ranks after every key. Within a node the keys are compared
+ * in order until the first one not less than the target, since every comparison dereferences a key anyway.
+ *
+ * @param <T> the type of keys, must implement Comparable
+ * @version 1.0
+ * @see IntBTreeIndex
+ * @see EytzingerIndex
+ */
+public class BTreeIndex<T extends Comparable<T>> {
+    private static final Logger logger = LogManager.getLogger(BTreeIndex.class);
+
+    /** Keys per node: one 64-byte cache line of compressed references. */
+    public static final int KEYS_PER_NODE = 16;
+
+    private final T[] keys;
+    private final int[] ranks;
+    private final int nodes;
+    private final int size;
+
+    /**
+     * Builds the index with the configured sequential threshold and parallelism.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @throws IllegalArgumentException if the array is null, contains null or is not sorted
+     */
+    public BTreeIndex(T[] sorted) {
+        this(sorted, ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @param sequentialThreshold subtrees of at most this many keys are laid out by a single task
+     * @param parallelism the number of worker threads used to lay out large arrays
+     * @throws IllegalArgumentException if the array is null, contains null or is not sorted, or a setting is
+     *                                  not positive
+     */
+    public BTreeIndex(T[] sorted, int sequentialThreshold, int parallelism) {
+        ParallelSettings.checkSettings(sequentialThreshold, parallelism);
+        validateSorted(sorted);
+        this.size = sorted.length;
+        this.nodes = StaticTreeLayout.nodeCount(size, KEYS_PER_NODE);
+        this.ranks = StaticTreeLayout.ranks(size, KEYS_PER_NODE, sequentialThreshold, parallelism);
+        this.keys = Arrays.copyOf(sorted, ranks.length);
+        for (int slot = 0; slot < keys.length; slot++) {
+            keys[slot] = ranks[slot] < size ? sorted[ranks[slot]] : null;
+        }
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key not less than the target, or {@link #size()}
+     * if every key is less.
+     */
+    public int lowerBound(T target) {
+        int slot = lowerBoundSlot(checkTarget(target));
+        return slot < 0 ? size : ranks[slot];
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key equal to the target, or -1 if there is none.
+     */
+    public int indexOf(T target) {
+        checkTarget(target);
+        Instrumentation.record(TraceEvent.SEARCH_START, size, 0);
+        int result = find(target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Looks up every target, storing the result of {@link #indexOf(Comparable)} for {@code targets[i]} in
+     * {@code out[i]}.
+     * @throws IllegalArgumentException if either array is null, a target is null or {@code out} is shorter
+     *                                  than {@code targets}
+     */
+    public void searchAll(T[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = find(checkTarget(targets[i]));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName() {
+        return "B-Tree Index";
+    }
+
+    private int find(T target) {
+        int slot = lowerBoundSlot(target);
+        return slot >= 0 && keys[slot].compareTo(target) == 0 ? ranks[slot] : -1;
+    }
+
+    /**
+     * Returns the slot of the lower bound of the target, or -1 if every key is less. Padding slots are
+     * never returned: a null slot ends the scan of its node without being recorded, and since padding is the
+     * in-order tail of the layout, every slot after it in order is padding too, so the descent below it finds
+     * the real lower bound if there is one.
+     */
+    private int lowerBoundSlot(T target) {
+        T[] keys = this.keys;
+        int result = -1;
+        int node = 0;
+        while (node < nodes) {
+            int base = node * KEYS_PER_NODE;
+            int below = 0;
+            while (below < KEYS_PER_NODE && keys[base + below] != null
+                    && keys[base + below].compareTo(target) < 0) {
+                below++;
+            }
+            if (below < KEYS_PER_NODE && keys[base + below] != null) {
+                result = base + below;
+            }
+            node = node * (KEYS_PER_NODE + 1) + below + 1;
+        }
+        return result;
+    }
+
+    private static <T> T checkTarget(T target) {
+        if (target == null) {
+            logger.error("Search target is null");
+            throw new IllegalArgumentException("Search target cannot be null");
+        }
+        return target;
+    }
+
+    private static <T extends Comparable<T>> void validateSorted(T[] sorted) {
+        if (sorted == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Search index keys cannot be null");
+            }
+            if (i > 0 && sorted[i - 1].compareTo(sorted[i]) > 0) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Search index requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.algobench.pro.algorithm.searching.layout;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * A static search index storing a sorted array of objects in Eytzinger (breadth-first) order.
+ * <p>
+ * This is the object form of {@link IntEytzingerIndex}: the references are laid out so that the top
+ * levels of the implicit tree share cache lines and the descent moves to {@code 2k + 1 + (key < target)}
+ * at every step. Each step still dereferences the probed key for {@code compareTo}, so the gain over a
+ * binary search is smaller than for primitives.
+ *
+ * @param <T> the type of keys, must implement Comparable
+ * @version 1.0
+ * @see IntEytzingerIndex
+ * @see BTreeIndex
+ */
+public class EytzingerIndex<T extends Comparable<T>> {
+    private static final Logger logger = LogManager.getLogger(EytzingerIndex.class);
+
+    private final T[] keys;
+
+    /**
+     * Builds the index with the configured sequential threshold and parallelism.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @throws IllegalArgumentException if the array is null, contains null or is not sorted
+     */
+    public EytzingerIndex(T[] sorted) {
+        this(sorted, ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @param sequentialThreshold subtrees of at most this many keys are laid out by a single task
+     * @param parallelism the number of worker threads used to lay out large arrays
+     * @throws IllegalArgumentException if the array is null, contains null or is not sorted, or a setting is
+     *                                  not positive
+     */
+    public EytzingerIndex(T[] sorted, int sequentialThreshold, int parallelism) {
+        ParallelSettings.checkSettings(sequentialThreshold, parallelism);
+        validateSorted(sorted);
+        int[] ranks = StaticTreeLayout.ranks(sorted.length, 1, sequentialThreshold, parallelism);
+        this.keys = Arrays.copyOf(sorted, sorted.length);
+        for (int k = 0; k < keys.length; k++) {
+            keys[k] = sorted[ranks[k]];
+        }
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key not less than the target, or {@link #size()}
+     * if every key is less.
+     */
+    public int lowerBound(T target) {
+        int node = lowerBoundNode(checkTarget(target));
+        return node < 0 ? keys.length : StaticTreeLayout.eytzingerRank(node, keys.length);
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key equal to the target, or -1 if there is none.
+     */
+    public int indexOf(T target) {
+        checkTarget(target);
+        Instrumentation.record(TraceEvent.SEARCH_START, keys.length, 0);
+        int result = find(target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Looks up every target, storing the result of {@link #indexOf(Comparable)} for {@code targets[i]} in
+     * {@code out[i]}.
+     * @throws IllegalArgumentException if either array is null, a target is null or {@code out} is shorter
+     *                                  than {@code targets}
+     */
+    public void searchAll(T[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = find(checkTarget(targets[i]));
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String getName() {
+        return "Eytzinger Index";
+    }
+
+    private int find(T target) {
+        int node = lowerBoundNode(target);
+        return node >= 0 && keys[node].compareTo(target) == 0 ? StaticTreeLayout.eytzingerRank(node, keys.length) : -1;
+    }
+
+    /**
+     * Returns the Eytzinger position of the lower bound of the target, or -1 if every key is less.
+     */
+    private int lowerBoundNode(T target) {
+        T[] keys = this.keys;
+        int node = 0;
+        while (node < keys.length) {
+            node = 2 * node + 1 + (keys[node].compareTo(target) < 0 ? 1 : 0);
+        }
+        // In one-based numbering, strip the trailing right turns and the final left turn
+        int oneBased = node + 1;
+        oneBased >>>= Integer.numberOfTrailingZeros(~oneBased) + 1;
+        return oneBased - 1;
+    }
+
+    private static <T> T checkTarget(T target) {
+        if (target == null) {
+            logger.error("Search target is null");
+            throw new IllegalArgumentException("Search target cannot be null");
+        }
+        return target;
+    }
+
+    private static <T extends Comparable<T>> void validateSorted(T[] sorted) {
+        if (sorted == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] == null) {
+                logger.error("Input array contains null at index: {}", i);
+                throw new IllegalArgumentException("Search index keys cannot be null");
+            }
+            if (i > 0 && sorted[i - 1].compareTo(sorted[i]) > 0) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Search index requires a sorted array");
+            }
+        }
+    }
+}
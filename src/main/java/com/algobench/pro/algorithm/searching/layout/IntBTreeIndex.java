@@ -0,0 +1,167 @@
+package com.algobench.pro.algorithm.searching.layout;
+
+import com.algobench.pro.algorithm.simd.IntKernels;
+import com.algobench.pro.algorithm.simd.SimdSupport;
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A static search index storing a sorted {@code int[]} as an implicit B-tree with cache-line-sized nodes.
+ * <p>
+ * Each node holds {@value #KEYS_PER_NODE} consecutive keys, one 64-byte cache line, and has
+ * {@code KEYS_PER_NODE + 1} children numbered in breadth-first order, so no child pointers are stored. A
+ * lookup reads one line per level and descends a tree about {@code log_17 n} levels deep instead of the
+ * {@code log_2 n} cache misses of a binary search once the array outgrows the cache. Within a node the
+ * child is chosen by counting the keys below the target with {@link IntKernels#nodeRank}: one register
+ * comparison with the vectorized kernels, and a branch-free loop the JIT can vectorize otherwise.
+ * The layout is padded to whole nodes, and the padding slots take the last in-order positions, so they are
+ * not confined to the leaves: with 17 keys, slots 1 to 15 of the root are padding. Padding slots hold
+ * {@link Integer#MAX_VALUE}, which ranks after every real key, and are never reported as a match.
+ * <p>
+ * Lookups return positions in the original sorted array, which are kept alongside the keys; for duplicate
+ * keys the first occurrence is reported. The layout is built once, in parallel for large arrays.
+ *
+ * @version 1.0
+ * @see IntEytzingerIndex
+ */
+public class IntBTreeIndex {
+    private static final Logger logger = LogManager.getLogger(IntBTreeIndex.class);
+
+    /** Keys per node: one 64-byte cache line of {@code int}s. */
+    public static final int KEYS_PER_NODE = 16;
+
+    private final int[] keys;
+    private final int[] ranks;
+    private final int nodes;
+    private final int size;
+    private final IntKernels kernels;
+
+    /**
+     * Builds the index with the configured sequential threshold and parallelism.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @throws IllegalArgumentException if the array is null or not sorted
+     */
+    public IntBTreeIndex(int[] sorted) {
+        this(sorted, ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Builds the index with the preferred node search kernels.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @param sequentialThreshold subtrees of at most this many keys are laid out by a single task
+     * @param parallelism the number of worker threads used to lay out large arrays
+     * @throws IllegalArgumentException if the array is null or not sorted, or a setting is not positive
+     */
+    public IntBTreeIndex(int[] sorted, int sequentialThreshold, int parallelism) {
+        this(sorted, sequentialThreshold, parallelism, SimdSupport.preferred());
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @param sequentialThreshold subtrees of at most this many keys are laid out by a single task
+     * @param parallelism the number of worker threads used to lay out large arrays
+     * @param kernels the kernels ranking the target within a node
+     * @throws IllegalArgumentException if the array is null or not sorted, a setting is not positive or the
+     *         kernels are null
+     */
+    public IntBTreeIndex(int[] sorted, int sequentialThreshold, int parallelism, IntKernels kernels) {
+        ParallelSettings.checkSettings(sequentialThreshold, parallelism);
+        if (kernels == null) {
+            throw new IllegalArgumentException("Kernels cannot be null");
+        }
+        this.kernels = kernels;
+        validateSorted(sorted);
+        this.size = sorted.length;
+        this.nodes = StaticTreeLayout.nodeCount(size, KEYS_PER_NODE);
+        this.ranks = StaticTreeLayout.ranks(size, KEYS_PER_NODE, sequentialThreshold, parallelism);
+        this.keys = new int[ranks.length];
+        for (int slot = 0; slot < keys.length; slot++) {
+            keys[slot] = ranks[slot] < size ? sorted[ranks[slot]] : Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key not less than the target, or {@link #size()}
+     * if every key is less.
+     */
+    public int lowerBound(int target) {
+        int slot = lowerBoundSlot(target);
+        return slot < 0 ? size : Math.min(ranks[slot], size);
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key equal to the target, or -1 if there is none.
+     */
+    public int indexOf(int target) {
+        Instrumentation.record(TraceEvent.SEARCH_START, size, 0);
+        int result = find(target);
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Looks up every target, storing the result of {@link #indexOf(int)} for {@code targets[i]} in
+     * {@code out[i]}.
+     * @throws IllegalArgumentException if either array is null or {@code out} is shorter than {@code targets}
+     */
+    public void searchAll(int[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        for (int i = 0; i < targets.length; i++) {
+            out[i] = find(targets[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName() {
+        return "B-Tree Index (int[])";
+    }
+
+    private int find(int target) {
+        int slot = lowerBoundSlot(target);
+        return slot >= 0 && keys[slot] == target && ranks[slot] < size ? ranks[slot] : -1;
+    }
+
+    /**
+     * Returns the slot of the lower bound of the target, or -1 if every key is less.
+     */
+    private int lowerBoundSlot(int target) {
+        int[] keys = this.keys;
+        int result = -1;
+        int node = 0;
+        while (node < nodes) {
+            int base = node * KEYS_PER_NODE;
+            int below = kernels.nodeRank(keys, base, base + KEYS_PER_NODE, target);
+            if (below < KEYS_PER_NODE) {
+                result = base + below;
+            }
+            node = node * (KEYS_PER_NODE + 1) + below + 1;
+        }
+        return result;
+    }
+
+    private static void validateSorted(int[] sorted) {
+        if (sorted == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Search index requires a sorted array");
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.algobench.pro.algorithm.searching.layout;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A static search index storing a sorted {@code long[]} in Eytzinger (breadth-first) order.
+ * <p>
+ * Node {@code k} has children {@code 2k + 1} and {@code 2k + 2}, so the first levels of the implicit tree,
+ * which every lookup visits, share a handful of cache lines, and the next probes of a descent are
+ * predictable addresses rather than far-apart midpoints. The descent is branch-free: each step moves to
+ * {@code 2k + 1 + (key < target)}, leaving no mispredicted branch per level. After falling off the tree
+ * the lower bound is the last node at which the descent went left, recovered from the trailing one bits of
+ * the final position. Lookups write no shared state, so concurrent readers neither race nor contend for the
+ * index's cache lines.
+ * <p>
+ * Lookups return positions in the original sorted array, computed from the final slot rather than read from
+ * a second array that would cost another cache miss; for duplicate keys the first occurrence is reported.
+ * The layout is built once, in parallel for large arrays.
+ *
+ * @version 1.0
+ * @see LongBTreeIndex
+ */
+public class LongEytzingerIndex {
+    private static final Logger logger = LogManager.getLogger(LongEytzingerIndex.class);
+
+    private final long[] keys;
+
+    /**
+     * Builds the index with the configured sequential threshold and parallelism.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @throws IllegalArgumentException if the array is null or not sorted
+     */
+    public LongEytzingerIndex(long[] sorted) {
+        this(sorted, ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param sorted the keys in ascending order; not modified or retained
+     * @param sequentialThreshold subtrees of at most this many keys are laid out by a single task
+     * @param parallelism the number of worker threads used to lay out large arrays
+     * @throws IllegalArgumentException if the array is null or not sorted, or a setting is not positive
+     */
+    public LongEytzingerIndex(long[] sorted, int sequentialThreshold, int parallelism) {
+        ParallelSettings.checkSettings(sequentialThreshold, parallelism);
+        validateSorted(sorted);
+        int[] ranks = StaticTreeLayout.ranks(sorted.length, 1, sequentialThreshold, parallelism);
+        this.keys = new long[sorted.length];
+        for (int k = 0; k < keys.length; k++) {
+            keys[k] = sorted[ranks[k]];
+        }
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key not less than the target, or {@link #size()}
+     * if every key is less.
+     */
+    public int lowerBound(long target) {
+        int node = lowerBoundNode(target);
+        return node < 0 ? keys.length : StaticTreeLayout.eytzingerRank(node, keys.length);
+    }
+
+    /**
+     * Returns the position in the sorted array of the first key equal to the target, or -1 if there is none.
+     */
+    public int indexOf(long target) {
+        Instrumentation.record(TraceEvent.SEARCH_START, keys.length, 0);
+        int node = lowerBoundNode(target);
+        int result = node >= 0 && keys[node] == target ? StaticTreeLayout.eytzingerRank(node, keys.length) : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Looks up every target, storing the result of {@link #indexOf(long)} for {@code targets[i]} in
+     * {@code out[i]}.
+     * @throws IllegalArgumentException if either array is null or {@code out} is shorter than {@code targets}
+     */
+    public void searchAll(long[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        for (int i = 0; i < targets.length; i++) {
+            int node = lowerBoundNode(targets[i]);
+            out[i] = node >= 0 && keys[node] == targets[i] ? StaticTreeLayout.eytzingerRank(node, keys.length) : -1;
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String getName() {
+        return "Eytzinger Index (long[])";
+    }
+
+    /**
+     * Returns the Eytzinger position of the lower bound of the target, or -1 if every key is less.
+     */
+    private int lowerBoundNode(long target) {
+        long[] keys = this.keys;
+        int node = 0;
+        while (node < keys.length) {
+            node = 2 * node + 1 + (keys[node] < target ? 1 : 0);
+        }
+        // In one-based numbering, strip the trailing right turns and the final left turn
+        int oneBased = node + 1;
+        oneBased >>>= Integer.numberOfTrailingZeros(~oneBased) + 1;
+        return oneBased - 1;
+    }
+
+    private static void validateSorted(long[] sorted) {
+        if (sorted == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                logger.error("Input array is not sorted at index: {}", i);
+                throw new IllegalArgumentException("Search index requires a sorted array");
+            }
+        }
+    }
+}
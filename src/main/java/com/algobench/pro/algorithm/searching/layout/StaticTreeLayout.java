@@ -0,0 +1,149 @@
+package com.algobench.pro.algorithm.searching.layout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Builds the slot-to-rank mapping shared by the static search tree layouts.
+ * <p>
+ * A layout stores a sorted array as a complete search tree of {@code nodes} nodes with {@code keysPerNode}
+ * keys each, numbered in breadth-first order: the children of node {@code k} are nodes
+ * {@code k * (keysPerNode + 1) + 1} through {@code k * (keysPerNode + 1) + keysPerNode + 1}, and key slot
+ * {@code i} of node {@code k} is slot {@code k * keysPerNode + i}. The in-order position of each slot is its
+ * rank in the sorted array; slots whose rank is at least the array length are padding. With one key per node
+ * this is the Eytzinger layout, with a cache line's worth of keys per node it is a static B-tree.
+ * <p>
+ * Ranks are assigned by an in-order traversal. Large inputs are split by subtree: the number of slots in a
+ * subtree follows from the block ranges it covers on each level, so every child's first rank is known up
+ * front and the subtrees are filled as independent fork/join tasks.
+ */
+final class StaticTreeLayout {
+    private StaticTreeLayout() {
+    }
+
+    /**
+     * Returns the number of nodes needed to hold {@code length} keys.
+     */
+    static int nodeCount(int length, int keysPerNode) {
+        return (length + keysPerNode - 1) / keysPerNode;
+    }
+
+    /**
+     * Returns the rank of slot {@code node} of the Eytzinger layout of {@code length} keys without a lookup
+     * table. The rank in the perfect tree of the same height follows from the slot's level and offset; the
+     * leaves missing from an incomplete last level, which hold every other perfect rank from the right, are
+     * then subtracted.
+     */
+    static int eytzingerRank(int node, int length) {
+        int height = 32 - Integer.numberOfLeadingZeros(length);
+        int oneBased = node + 1;
+        int depth = 31 - Integer.numberOfLeadingZeros(oneBased);
+        long perfectRank = ((long) (oneBased - (1 << depth)) * 2 + 1 << (height - 1 - depth)) - 1;
+        long lastLevel = length - ((1L << (height - 1)) - 1);
+        return (int) (perfectRank - Math.max(0, (perfectRank + 1) / 2 - lastLevel));
+    }
+
+    /**
+     * Computes the rank of every slot of the layout of {@code length} keys.
+     *
+     * @param sequentialThreshold subtrees with at most this many slots are filled by a single task
+     * @param parallelism the number of worker threads used for large layouts
+     * @return The rank of each slot; ranks of {@code length} or more mark padding
+     */
+    static int[] ranks(int length, int keysPerNode, int sequentialThreshold, int parallelism) {
+        int nodes = nodeCount(length, keysPerNode);
+        int[] ranks = new int[Math.multiplyExact(nodes, keysPerNode)];
+        Builder builder = new Builder(ranks, nodes, keysPerNode, sequentialThreshold);
+        if (parallelism == 1 || ranks.length <= sequentialThreshold) {
+            builder.fillSequential(0, 0);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(builder.new FillTask(0, 0));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return ranks;
+    }
+
+    private static final class Builder {
+        private final int[] ranks;
+        private final int nodes;
+        private final int keysPerNode;
+        private final int sequentialThreshold;
+
+        Builder(int[] ranks, int nodes, int keysPerNode, int sequentialThreshold) {
+            this.ranks = ranks;
+            this.nodes = nodes;
+            this.keysPerNode = keysPerNode;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        private long child(long node, int i) {
+            return node * (keysPerNode + 1) + i + 1;
+        }
+
+        /**
+         * Assigns consecutive ranks starting at {@code rank} to the subtree in order, returning the next rank.
+         */
+        int fillSequential(long node, int rank) {
+            if (node >= nodes) {
+                return rank;
+            }
+            int slot = (int) node * keysPerNode;
+            for (int i = 0; i < keysPerNode; i++) {
+                rank = fillSequential(child(node, i), rank);
+                ranks[slot + i] = rank++;
+            }
+            return fillSequential(child(node, keysPerNode), rank);
+        }
+
+        /**
+         * Returns the number of slots in the subtree rooted at {@code node}.
+         */
+        long subtreeSlots(long node) {
+            long slots = 0;
+            for (long first = node, last = node; first < nodes; first = child(first, 0), last = child(last, keysPerNode)) {
+                slots += (Math.min(last, nodes - 1) - first + 1) * keysPerNode;
+            }
+            return slots;
+        }
+
+        final class FillTask extends RecursiveAction {
+            private final long node;
+            private final int rank;
+
+            FillTask(long node, int rank) {
+                this.node = node;
+                this.rank = rank;
+            }
+
+            @Override
+            protected void compute() {
+                if (subtreeSlots(node) <= sequentialThreshold) {
+                    fillSequential(node, rank);
+                    return;
+                }
+                List<FillTask> children = new ArrayList<>(keysPerNode + 1);
+                int slot = (int) node * keysPerNode;
+                int next = rank;
+                for (int i = 0; i < keysPerNode; i++) {
+                    long child = child(node, i);
+                    if (child < nodes) {
+                        children.add(new FillTask(child, next));
+                        next += (int) subtreeSlots(child);
+                    }
+                    ranks[slot + i] = next++;
+                }
+                long last = child(node, keysPerNode);
+                if (last < nodes) {
+                    children.add(new FillTask(last, next));
+                }
+                invokeAll(children);
+            }
+        }
+    }
+}
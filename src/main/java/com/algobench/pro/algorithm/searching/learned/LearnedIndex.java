@@ -0,0 +1,307 @@
+package com.algobench.pro.algorithm.searching.learned;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A learned search index over a sorted {@code long[]}, in the style of the PGM-index.
+ * <p>
+ * The index models the position of each key as a piecewise-linear function of the key. Every segment
+ * predicts the position of every key it covers within {@code epsilon}, so a lookup evaluates one segment and
+ * then searches a window of about {@code 2 * epsilon} positions instead of the whole array. The segments'
+ * first keys form a much smaller sorted array that is modelled the same way, level by level, until a single
+ * segment remains; a lookup descends the levels with one prediction and one bounded search each. The model
+ * takes a few bytes per segment, a small fraction of the keys themselves for realistic key sets.
+ * <p>
+ * Segments are found by the shrinking-cone method in a single pass over the keys: a segment starts at a key,
+ * the range of slopes that keeps every later key within {@code epsilon} narrows with each key, and a new
+ * segment starts when it becomes empty. The same pass checks that the keys are sorted. For duplicate keys
+ * the model is trained on the first occurrence, and lookups report the first occurrence. A window that
+ * misses the answer, as can happen for absent keys next to long runs of duplicates, is widened by galloping,
+ * so lookups are always correct.
+ * <p>
+ * The array is wrapped, not copied, so it must not be modified while the index is in use.
+ *
+ * @version 1.0
+ */
+public class LearnedIndex {
+    private static final Logger logger = LogManager.getLogger(LearnedIndex.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    /** Bytes per segment: a {@code long} first key, a {@code double} slope and an {@code int} position. */
+    private static final int SEGMENT_BYTES = Long.BYTES + Double.BYTES + Integer.BYTES;
+
+    private final long[] keys;
+    private final int epsilon;
+    /** Level 0 models {@code keys}; level {@code l + 1} models the first keys of level {@code l}. */
+    private final Level[] levels;
+
+    /**
+     * Builds the index with the configured error bound ({@code learned.index.epsilon}).
+     *
+     * @param sorted the keys in ascending order; wrapped, not copied
+     * @throws IllegalArgumentException if the array is null or not sorted
+     */
+    public LearnedIndex(long[] sorted) {
+        this(sorted, config.getIntProperty("learned.index.epsilon", 64));
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param sorted the keys in ascending order; wrapped, not copied
+     * @param epsilon the largest distance between a predicted and an actual position
+     * @throws IllegalArgumentException if the array is null or not sorted, or the error bound is not positive
+     */
+    public LearnedIndex(long[] sorted, int epsilon) {
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("Error bound must be positive");
+        }
+        if (sorted == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        this.keys = sorted;
+        this.epsilon = epsilon;
+
+        List<Level> built = new ArrayList<>();
+        Level level = Level.fit(sorted, epsilon, true);
+        built.add(level);
+        while (level.size() > 1) {
+            level = Level.fit(level.firstKeys, epsilon, false);
+            built.add(level);
+        }
+        this.levels = built.toArray(new Level[0]);
+    }
+
+    /**
+     * Returns the position of the first key not less than the target, or {@link #size()} if every key is
+     * less.
+     */
+    public int lowerBound(long target) {
+        if (keys.length == 0) {
+            return 0;
+        }
+        int segment = 0;
+        for (int l = levels.length - 1; l > 0; l--) {
+            long[] below = levels[l - 1].firstKeys;
+            int predicted = levels[l].predict(segment, target, below.length);
+            // The segment of the level below is the last one whose first key is not greater than the target
+            segment = Math.max(0, boundedUpperBound(below, target, predicted) - 1);
+        }
+        return boundedLowerBound(keys, target, levels[0].predict(segment, target, keys.length));
+    }
+
+    /**
+     * Returns the position of the first key equal to the target, or -1 if there is none.
+     */
+    public int indexOf(long target) {
+        Instrumentation.record(TraceEvent.SEARCH_START, keys.length, 0);
+        int index = lowerBound(target);
+        int result = index < keys.length && keys[index] == target ? index : -1;
+        Instrumentation.record(TraceEvent.SEARCH_END, result, 0);
+        return result;
+    }
+
+    /**
+     * Looks up every target, storing the result of {@link #indexOf(long)} for {@code targets[i]} in
+     * {@code out[i]}.
+     * @throws IllegalArgumentException if either array is null or {@code out} is shorter than {@code targets}
+     */
+    public void searchAll(long[] targets, int[] out) {
+        if (targets == null || out == null || out.length < targets.length) {
+            logger.error("Invalid batch: targets or output array missing or too short");
+            throw new IllegalArgumentException("Output array must hold a result for every target");
+        }
+        for (int i = 0; i < targets.length; i++) {
+            int index = lowerBound(targets[i]);
+            out[i] = index < keys.length && keys[index] == targets[i] ? index : -1;
+        }
+    }
+
+    /**
+     * Returns the approximate memory taken by the model in bytes, excluding the keys themselves.
+     */
+    public long footprintBytes() {
+        long bytes = 0;
+        for (Level level : levels) {
+            bytes += (long) level.size() * SEGMENT_BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the number of segments modelling the keys, on the lowest level.
+     */
+    public int segmentCount() {
+        return levels[0].size();
+    }
+
+    /**
+     * Returns the number of levels, including the lowest.
+     */
+    public int height() {
+        return levels.length;
+    }
+
+    public int getEpsilon() {
+        return epsilon;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String getName() {
+        return "Learned Index (long[])";
+    }
+
+    /**
+     * Returns the first index of {@code array} whose element is not less than the target, searching a
+     * window of {@code epsilon} around the predicted position and galloping outwards if the window misses.
+     */
+    private int boundedLowerBound(long[] array, long target, int predicted) {
+        int low = Math.max(0, predicted - epsilon - 1);
+        int high = Math.min(array.length, predicted + epsilon + 2);
+        // Invariant after widening: the answer lies in [low, high]
+        for (int step = epsilon + 1; low > 0 && array[low - 1] >= target; step <<= 1) {
+            high = low - 1;
+            low = Math.max(0, low - step);
+        }
+        for (int step = epsilon + 1; high < array.length && array[high] < target; step <<= 1) {
+            low = high + 1;
+            high = (int) Math.min(array.length, (long) high + step);
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SEARCH_PROBE, mid, Long.compare(target, array[mid]));
+            }
+            if (array[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index of {@code array} whose element is greater than the target.
+     */
+    private int boundedUpperBound(long[] array, long target, int predicted) {
+        return target == Long.MAX_VALUE ? array.length : boundedLowerBound(array, target + 1, predicted);
+    }
+
+    /**
+     * One level of the model: segments described by their first key, slope and the position of their
+     * first key.
+     */
+    private static final class Level {
+        private final long[] firstKeys;
+        private final double[] slopes;
+        private final int[] positions;
+
+        private Level(long[] firstKeys, double[] slopes, int[] positions) {
+            this.firstKeys = firstKeys;
+            this.slopes = slopes;
+            this.positions = positions;
+        }
+
+        int size() {
+            return firstKeys.length;
+        }
+
+        /**
+         * Predicts the position of the key in the array this level models, clamped to {@code [0, length)}.
+         */
+        int predict(int segment, long key, int length) {
+            double position = positions[segment] + slopes[segment] * unsignedDistance(firstKeys[segment], key);
+            return (int) Math.max(0, Math.min(length - 1, position));
+        }
+
+        /**
+         * Fits segments to the keys in one pass with the shrinking-cone method. Only the first occurrence of
+         * each key is a training point.
+         *
+         * @param validate whether to check the order of the keys during the pass
+         */
+        static Level fit(long[] keys, int epsilon, boolean validate) {
+            int capacity = 16;
+            long[] firstKeys = new long[capacity];
+            double[] slopes = new double[capacity];
+            int[] positions = new int[capacity];
+            int count = 0;
+
+            long startKey = 0;
+            int startPosition = 0;
+            double minSlope = 0;
+            double maxSlope = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < keys.length; i++) {
+                if (i > 0 && keys[i] <= keys[i - 1]) {
+                    if (validate && keys[i] < keys[i - 1]) {
+                        logger.error("Input array is not sorted at index: {}", i);
+                        throw new IllegalArgumentException("Learned index requires a sorted array");
+                    }
+                    continue;
+                }
+                if (count > 0) {
+                    double distance = unsignedDistance(startKey, keys[i]);
+                    double low = Math.max(minSlope, (i - epsilon - startPosition) / distance);
+                    double high = Math.min(maxSlope, (i + epsilon - startPosition) / distance);
+                    if (low <= high) {
+                        minSlope = low;
+                        maxSlope = high;
+                        continue;
+                    }
+                    slopes[count - 1] = slope(minSlope, maxSlope);
+                }
+                if (count == capacity) {
+                    capacity *= 2;
+                    firstKeys = Arrays.copyOf(firstKeys, capacity);
+                    slopes = Arrays.copyOf(slopes, capacity);
+                    positions = Arrays.copyOf(positions, capacity);
+                }
+                startKey = keys[i];
+                startPosition = i;
+                minSlope = 0;
+                maxSlope = Double.POSITIVE_INFINITY;
+                firstKeys[count] = startKey;
+                positions[count] = startPosition;
+                count++;
+            }
+            if (count > 0) {
+                slopes[count - 1] = slope(minSlope, maxSlope);
+            } else {
+                // An empty array still gets one segment so every level has a root
+                count = 1;
+            }
+            return new Level(Arrays.copyOf(firstKeys, count), Arrays.copyOf(slopes, count),
+                Arrays.copyOf(positions, count));
+        }
+
+        /** Picks the middle of the feasible slopes; a segment of one key has no upper bound and gets 0. */
+        private static double slope(double minSlope, double maxSlope) {
+            return maxSlope == Double.POSITIVE_INFINITY ? 0 : (minSlope + maxSlope) / 2;
+        }
+
+        /**
+         * Returns {@code to - from} as a double, treating the difference as unsigned so that keys spanning
+         * more than half the {@code long} range do not overflow. Keys below {@code from} map to 0.
+         */
+        private static double unsignedDistance(long from, long to) {
+            if (to <= from) {
+                return 0;
+            }
+            long difference = to - from;
+            return difference >= 0 ? difference : ((difference >>> 1) | (difference & 1)) * 2.0;
+        }
+    }
+}
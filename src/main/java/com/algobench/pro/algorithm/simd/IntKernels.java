@@ -0,0 +1,50 @@
+package com.algobench.pro.algorithm.simd;
+
+/**
+ * Data-parallel kernels over {@code int} arrays shared by the search and sort algorithms.
+ * <p>
+ * Every kernel has a scalar implementation that runs on any JVM and a vectorized one, built against the
+ * incubating {@code jdk.incubator.vector} module by the {@code vector} Maven profile, that compares a full
+ * SIMD register of values per instruction. Use {@link SimdSupport#preferred()} to obtain the fastest
+ * implementation available at run time; both return identical results for the same input.
+ * <p>
+ * Kernels do not validate their arguments: they are called from the inner loops of algorithms that have
+ * already checked the array and the bounds.
+ *
+ * @version 1.0
+ * @see SimdSupport
+ */
+public interface IntKernels {
+    /**
+     * Extra scratch slots, beyond the length of the partitioned range, that {@link #partition} needs for
+     * full-register stores at the edges of its output.
+     */
+    int SCRATCH_PADDING = 64;
+
+    /**
+     * Scans a small sorted window for the first value not less than the key.
+     *
+     * @return the first index in {@code [from, to)} whose value is not less than the key, or {@code to}
+     */
+    int lowerBoundScan(int[] array, int from, int to, int key);
+
+    /**
+     * Counts the values in {@code [from, to)} that are less than the key. For the sorted keys of a k-ary
+     * search tree node this is the index of the child to descend into.
+     */
+    int nodeRank(int[] array, int from, int to, int key);
+
+    /**
+     * Reorders {@code [from, to)} so that the values less than the pivot come first, followed by the rest.
+     * The order within each part is unspecified.
+     *
+     * @param scratch working space of at least {@code to - from + SCRATCH_PADDING} values
+     * @return the index of the first value not less than the pivot, or {@code to} if there is none
+     */
+    int partition(int[] array, int from, int to, int pivot, int[] scratch);
+
+    /**
+     * Returns the name of the kernel implementation.
+     */
+    String getName();
+}
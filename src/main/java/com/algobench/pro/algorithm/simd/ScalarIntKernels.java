@@ -0,0 +1,52 @@
+package com.algobench.pro.algorithm.simd;
+
+/**
+ * Portable {@link IntKernels} processing one value per step. The node rank and the partition are branch
+ * free, so their cost does not depend on how predictable the comparisons are, and the JIT may still
+ * auto-vectorize the counting loop.
+ */
+final class ScalarIntKernels implements IntKernels {
+    @Override
+    public int lowerBoundScan(int[] array, int from, int to, int key) {
+        for (int i = from; i < to; i++) {
+            if (array[i] >= key) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int nodeRank(int[] array, int from, int to, int key) {
+        int below = 0;
+        for (int i = from; i < to; i++) {
+            below += array[i] < key ? 1 : 0;
+        }
+        return below;
+    }
+
+    /**
+     * Writes every value to both ends of the scratch space and advances only the end it belongs to, then
+     * copies the two parts back.
+     */
+    @Override
+    public int partition(int[] array, int from, int to, int pivot, int[] scratch) {
+        int low = 0;
+        int high = to - from - 1;
+        for (int i = from; i < to; i++) {
+            int value = array[i];
+            int less = value < pivot ? 1 : 0;
+            scratch[low] = value;
+            scratch[high] = value;
+            low += less;
+            high -= 1 - less;
+        }
+        System.arraycopy(scratch, 0, array, from, to - from);
+        return from + low;
+    }
+
+    @Override
+    public String getName() {
+        return "Scalar";
+    }
+}
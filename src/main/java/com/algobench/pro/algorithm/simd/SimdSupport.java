@@ -0,0 +1,59 @@
+package com.algobench.pro.algorithm.simd;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+
+import java.util.Optional;
+
+/**
+ * Selects the {@link IntKernels} implementation used at run time.
+ * <p>
+ * The vectorized kernels live in the {@code vector} subpackage, which only the {@code vector} Maven profile
+ * compiles, and need the JVM to be started with {@code --add-modules jdk.incubator.vector}. They are loaded
+ * reflectively once; if the classes were not built, the module is not present or the hardware has no
+ * vector registers of at least 256 bits, the scalar kernels are used instead. Setting
+ * {@code simd.vector.enabled=false} forces the scalar kernels.
+ *
+ * @version 1.0
+ * @see IntKernels
+ */
+public final class SimdSupport {
+    private static final String VECTOR_KERNELS = "com.algobench.pro.algorithm.simd.vector.VectorIntKernels";
+
+    private static final IntKernels SCALAR = new ScalarIntKernels();
+    private static final IntKernels VECTOR = loadVectorKernels();
+    private static final boolean VECTOR_ENABLED =
+        ConfigurationManager.getInstance().getBooleanProperty("simd.vector.enabled", true);
+
+    private SimdSupport() {
+    }
+
+    /**
+     * Returns the vectorized kernels if they are available and enabled, and the scalar kernels otherwise.
+     */
+    public static IntKernels preferred() {
+        return VECTOR_ENABLED && VECTOR != null ? VECTOR : SCALAR;
+    }
+
+    /**
+     * Returns the portable scalar kernels.
+     */
+    public static IntKernels scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Returns the vectorized kernels, or an empty optional if they cannot be loaded in this JVM. Unlike
+     * {@link #preferred()} this ignores {@code simd.vector.enabled}, so benchmarks can compare both paths.
+     */
+    public static Optional<IntKernels> vector() {
+        return Optional.ofNullable(VECTOR);
+    }
+
+    private static IntKernels loadVectorKernels() {
+        try {
+            return (IntKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
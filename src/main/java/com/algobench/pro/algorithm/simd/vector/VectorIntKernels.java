@@ -0,0 +1,139 @@
+package com.algobench.pro.algorithm.simd.vector;
+
+import com.algobench.pro.algorithm.simd.IntKernels;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link IntKernels} built on the incubating Vector API, comparing a full register of values per step.
+ * <p>
+ * The scan and the node rank use the widest register the hardware prefers: the scan stops at the first
+ * register holding a value not less than the key, and the rank adds up the lanes below the key. The
+ * partition works on 256-bit registers of eight lanes: the lanes below the pivot select one of 256
+ * precomputed shuffles that moves them to the front and the rest to the back, and the shuffled register is
+ * stored twice, at the growing front of the scratch space and at its shrinking back, so each store keeps
+ * exactly the lanes of its own part and the surplus lanes are overwritten later.
+ * <p>
+ * This class is only compiled by the {@code vector} Maven profile and is loaded reflectively by
+ * {@link com.algobench.pro.algorithm.simd.SimdSupport}.
+ *
+ * @version 1.0
+ */
+public final class VectorIntKernels implements IntKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> PARTITION_SPECIES = IntVector.SPECIES_256;
+    private static final int PARTITION_LANES = PARTITION_SPECIES.length();
+    private static final int[] LANE_BITS = {1, 2, 4, 8, 16, 32, 64, 128};
+    private static final int[] PACK = buildPackTable();
+
+    /**
+     * @throws UnsupportedOperationException if the hardware has no vector registers of at least 256 bits,
+     *         where the API would run on slow fallbacks
+     */
+    public VectorIntKernels() {
+        if (SPECIES.vectorBitSize() < PARTITION_SPECIES.vectorBitSize()) {
+            throw new UnsupportedOperationException("Vector kernels need registers of at least 256 bits");
+        }
+    }
+
+    @Override
+    public int lowerBoundScan(int[] array, int from, int to, int key) {
+        IntVector keys = IntVector.broadcast(SPECIES, key);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> notLess = IntVector.fromArray(SPECIES, array, i).compare(VectorOperators.GE, keys);
+            if (notLess.anyTrue()) {
+                return i + notLess.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] >= key) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int nodeRank(int[] array, int from, int to, int key) {
+        IntVector keys = IntVector.broadcast(SPECIES, key);
+        int below = 0;
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            below += IntVector.fromArray(SPECIES, array, i).compare(VectorOperators.LT, keys).trueCount();
+        }
+        for (; i < to; i++) {
+            below += array[i] < key ? 1 : 0;
+        }
+        return below;
+    }
+
+    /**
+     * The lane mask becomes a table index by summing per-lane bit weights, and the shuffle is loaded as a
+     * vector; on JDK 17 both compile to far fewer instructions than {@code VectorMask.toLong} and
+     * {@code VectorShuffle.fromArray}. Lows grow from the start of the scratch space and highs from
+     * {@code length + PARTITION_LANES} downwards, so a full-register store at either end never reaches the
+     * other part.
+     */
+    @Override
+    public int partition(int[] array, int from, int to, int pivot, int[] scratch) {
+        int length = to - from;
+        IntVector pivots = IntVector.broadcast(PARTITION_SPECIES, pivot);
+        IntVector laneBits = IntVector.fromArray(PARTITION_SPECIES, LANE_BITS, 0);
+        IntVector zero = IntVector.zero(PARTITION_SPECIES);
+        int low = 0;
+        int high = length + PARTITION_LANES;
+        int i = from;
+        for (int bound = from + PARTITION_SPECIES.loopBound(length); i < bound; i += PARTITION_LANES) {
+            IntVector values = IntVector.fromArray(PARTITION_SPECIES, array, i);
+            VectorMask<Integer> less = values.compare(VectorOperators.LT, pivots);
+            int bits = zero.blend(laneBits, less).reduceLanes(VectorOperators.ADD);
+            IntVector packed = values.rearrange(
+                IntVector.fromArray(PARTITION_SPECIES, PACK, bits * PARTITION_LANES).toShuffle());
+            packed.intoArray(scratch, low);
+            packed.intoArray(scratch, high - PARTITION_LANES);
+            int count = Integer.bitCount(bits);
+            low += count;
+            high -= PARTITION_LANES - count;
+        }
+        for (; i < to; i++) {
+            int value = array[i];
+            if (value < pivot) {
+                scratch[low++] = value;
+            } else {
+                scratch[--high] = value;
+            }
+        }
+        System.arraycopy(scratch, 0, array, from, low);
+        System.arraycopy(scratch, high, array, from + low, length - low);
+        return from + low;
+    }
+
+    @Override
+    public String getName() {
+        return "Vector API (" + SPECIES.vectorBitSize() + "-bit)";
+    }
+
+    /**
+     * For every lane mask, lists the lanes whose bit is set followed by the others, each in lane order.
+     */
+    private static int[] buildPackTable() {
+        int[] table = new int[(1 << PARTITION_LANES) * PARTITION_LANES];
+        for (int mask = 0; mask < 1 << PARTITION_LANES; mask++) {
+            int slot = mask * PARTITION_LANES;
+            for (int lane = 0; lane < PARTITION_LANES; lane++) {
+                if ((mask & (1 << lane)) != 0) {
+                    table[slot++] = lane;
+                }
+            }
+            for (int lane = 0; lane < PARTITION_LANES; lane++) {
+                if ((mask & (1 << lane)) == 0) {
+                    table[slot++] = lane;
+                }
+            }
+        }
+        return table;
+    }
+}
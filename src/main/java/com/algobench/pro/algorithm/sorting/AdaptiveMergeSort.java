@@ -0,0 +1,437 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.Arrays;
+
+/**
+ * Implements an adaptive natural Merge Sort in the style of TimSort.
+ * <p>
+ * Instead of splitting the input blindly, the sort scans it for existing runs: maximal non-descending
+ * sequences, and strictly descending sequences, which are reversed in place. Runs shorter than a computed
+ * minimum length (between 16 and 32) are extended with binary insertion sort. Runs are kept on a stack
+ * whose lengths satisfy the TimSort invariants, so merges stay balanced, and every merge:
+ * <ul>
+ *     <li>first gallops to skip the prefix of the left run and the suffix of the right run that are
+ *     already in their final place, and</li>
+ *     <li>switches from one-at-a-time merging to galloping (exponential search plus bulk copy) whenever
+ *     one run wins {@value #MIN_GALLOP} times in a row.</li>
+ * </ul>
+ * A fully sorted input is recognised as a single run and costs {@code n - 1} comparisons; inputs made of
+ * a few long runs sort in close to linear time. The sort is stable and uses at most {@code n / 2}
+ * elements of temporary storage.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ */
+public class AdaptiveMergeSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
+    /** Inputs shorter than this are sorted with a single binary insertion sort. */
+    private static final int MIN_MERGE = 32;
+
+    /** Consecutive wins by one run after which merging switches to galloping. */
+    private static final int MIN_GALLOP = 7;
+
+    /** Enough stack entries for any array length given the run-length invariants. */
+    private static final int MAX_RUNS = 49;
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            new MergeState<>(array).sort();
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Adaptive Merge Sort";
+    }
+
+    /**
+     * Returns the minimum run length for an input of the given size: {@code n} itself below
+     * {@link #MIN_MERGE}, otherwise a value {@code k} in {@code [16, 32]} such that {@code n / k} is
+     * close to, but no more than, a power of two.
+     */
+    static int minRunLength(int length) {
+        int remainder = 0;
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+
+    /**
+     * Per-call state: the array being sorted, the stack of pending runs and the merge buffer.
+     */
+    private static final class MergeState<T extends Comparable<T>> {
+        private final T[] array;
+        private final int[] runBase = new int[MAX_RUNS];
+        private final int[] runLength = new int[MAX_RUNS];
+        private int stackSize;
+        private T[] buffer;
+
+        MergeState(T[] array) {
+            this.array = array;
+        }
+
+        void sort() {
+            int length = array.length;
+            if (length < MIN_MERGE) {
+                int initialRun = countRunAndMakeAscending(0, length);
+                binaryInsertionSort(0, length, initialRun);
+                return;
+            }
+
+            int minRun = minRunLength(length);
+            int low = 0;
+            int remaining = length;
+            while (remaining > 0) {
+                int run = countRunAndMakeAscending(low, length);
+                if (run < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binaryInsertionSort(low, low + forced, low + run);
+                    run = forced;
+                }
+                runBase[stackSize] = low;
+                runLength[stackSize] = run;
+                stackSize++;
+                mergeCollapse();
+
+                low += run;
+                remaining -= run;
+            }
+            mergeForceCollapse();
+        }
+
+        /**
+         * Returns the length of the run starting at {@code low}, reversing it first if it is strictly descending.
+         */
+        private int countRunAndMakeAscending(int low, int high) {
+            int runHigh = low + 1;
+            if (runHigh == high) {
+                return 1;
+            }
+            if (array[runHigh++].compareTo(array[low]) < 0) {
+                while (runHigh < high && array[runHigh].compareTo(array[runHigh - 1]) < 0) {
+                    runHigh++;
+                }
+                reverse(low, runHigh);
+            } else {
+                while (runHigh < high && array[runHigh].compareTo(array[runHigh - 1]) >= 0) {
+                    runHigh++;
+                }
+            }
+            return runHigh - low;
+        }
+
+        private void reverse(int low, int high) {
+            for (high--; low < high; low++, high--) {
+                T temp = array[low];
+                array[low] = array[high];
+                array[high] = temp;
+            }
+        }
+
+        /**
+         * Sorts {@code [low, high)} given that {@code [low, start)} is already sorted, placing each further
+         * element after any equal ones found by binary search.
+         */
+        private void binaryInsertionSort(int low, int high, int start) {
+            for (; start < high; start++) {
+                T pivot = array[start];
+                int left = low;
+                int right = start;
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (pivot.compareTo(array[mid]) < 0) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                System.arraycopy(array, left, array, left + 1, start - left);
+                array[left] = pivot;
+            }
+        }
+
+        /**
+         * Merges runs until the stack satisfies {@code len[i-2] > len[i-1] + len[i]} and
+         * {@code len[i-1] > len[i]} for every position.
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        private void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack positions {@code i} and {@code i + 1}.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Elements of run 1 not greater than run 2's first element are already in place
+            int skip = gallopRight(array[base2], array, base1, length1, 0);
+            base1 += skip;
+            length1 -= skip;
+            if (length1 == 0) {
+                return;
+            }
+
+            // Elements of run 2 not less than run 1's last element are already in place
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs front to back, buffering the shorter left run.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            T[] temp = ensureBuffer(length1);
+            System.arraycopy(array, base1, temp, 0, length1);
+            int cursor1 = 0;
+            int end1 = length1;
+            int cursor2 = base2;
+            int end2 = base2 + length2;
+            int dest = base1;
+
+            while (cursor1 < end1 && cursor2 < end2) {
+                int wins1 = 0;
+                int wins2 = 0;
+                while (cursor1 < end1 && cursor2 < end2) {
+                    if (array[cursor2].compareTo(temp[cursor1]) < 0) {
+                        array[dest++] = array[cursor2++];
+                        wins1 = 0;
+                        if (++wins2 >= MIN_GALLOP) {
+                            break;
+                        }
+                    } else {
+                        array[dest++] = temp[cursor1++];
+                        wins2 = 0;
+                        if (++wins1 >= MIN_GALLOP) {
+                            break;
+                        }
+                    }
+                }
+
+                while (cursor1 < end1 && cursor2 < end2) {
+                    int count1 = gallopRight(array[cursor2], temp, cursor1, end1 - cursor1, 0);
+                    System.arraycopy(temp, cursor1, array, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    if (cursor1 == end1) {
+                        break;
+                    }
+
+                    int count2 = gallopLeft(temp[cursor1], array, cursor2, end2 - cursor2, 0);
+                    System.arraycopy(array, cursor2, array, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) {
+                        break;
+                    }
+                }
+            }
+            // Whatever remains of run 2 is already in place
+            System.arraycopy(temp, cursor1, array, dest, end1 - cursor1);
+        }
+
+        /**
+         * Merges two adjacent runs back to front, buffering the shorter right run.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            T[] temp = ensureBuffer(length2);
+            System.arraycopy(array, base2, temp, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            while (cursor1 >= base1 && cursor2 >= 0) {
+                int wins1 = 0;
+                int wins2 = 0;
+                while (cursor1 >= base1 && cursor2 >= 0) {
+                    if (temp[cursor2].compareTo(array[cursor1]) < 0) {
+                        array[dest--] = array[cursor1--];
+                        wins2 = 0;
+                        if (++wins1 >= MIN_GALLOP) {
+                            break;
+                        }
+                    } else {
+                        array[dest--] = temp[cursor2--];
+                        wins1 = 0;
+                        if (++wins2 >= MIN_GALLOP) {
+                            break;
+                        }
+                    }
+                }
+
+                while (cursor1 >= base1 && cursor2 >= 0) {
+                    int remaining1 = cursor1 - base1 + 1;
+                    int count1 = remaining1 - gallopRight(temp[cursor2], array, base1, remaining1, remaining1 - 1);
+                    dest -= count1;
+                    cursor1 -= count1;
+                    System.arraycopy(array, cursor1 + 1, array, dest + 1, count1);
+                    if (cursor1 < base1) {
+                        break;
+                    }
+
+                    int count2 = cursor2 + 1 - gallopLeft(array[cursor1], temp, 0, cursor2 + 1, cursor2);
+                    dest -= count2;
+                    cursor2 -= count2;
+                    System.arraycopy(temp, cursor2 + 1, array, dest + 1, count2);
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) {
+                        break;
+                    }
+                }
+            }
+            // Whatever remains of run 1 is already in place
+            System.arraycopy(temp, 0, array, dest - cursor2, cursor2 + 1);
+        }
+
+        private T[] ensureBuffer(int length) {
+            if (buffer == null || buffer.length < length) {
+                int capacity = Math.max(length, Math.min(array.length >>> 1, 2 * length));
+                buffer = Arrays.copyOf(array, capacity);
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Returns the leftmost position at which {@code key} could be inserted into the sorted range
+     * {@code [base, base + length)}: the number of elements strictly less than {@code key}. The search
+     * gallops outwards from {@code base + hint} before finishing with a binary search.
+     */
+    static <T extends Comparable<T>> int gallopLeft(T key, T[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (key.compareTo(array[base + hint]) > 0) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && key.compareTo(array[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && key.compareTo(array[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+
+        // array[base + lastOffset] < key <= array[base + offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (key.compareTo(array[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the rightmost position at which {@code key} could be inserted into the sorted range
+     * {@code [base, base + length)}: the number of elements less than or equal to {@code key}. The search
+     * gallops outwards from {@code base + hint} before finishing with a binary search.
+     */
+    static <T extends Comparable<T>> int gallopRight(T key, T[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (key.compareTo(array[base + hint]) < 0) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && key.compareTo(array[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && key.compareTo(array[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        // array[base + lastOffset] <= key < array[base + offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (key.compareTo(array[base + mid]) < 0) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,116 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Implements Bucket Sort for objects with a bounded floating-point key.
+ * <p>
+ * The key of every element is extracted once, and the range between the smallest and largest key is divided
+ * into as many equal-width buckets as there are elements. Elements are counted per bucket and scattered into
+ * a buffer, and each bucket is then sorted by the elements' natural ordering: insertion sort for buckets of
+ * up to {@value DoubleBucketSort#INSERTION_SORT_THRESHOLD} elements, {@link IntroSort} for larger ones.
+ * The key only routes elements to buckets, so it need not be exact, but it must never order elements
+ * against their natural ordering: if {@code a.compareTo(b) < 0} then the key of {@code a} must not exceed
+ * the key of {@code b}.
+ * <p>
+ * Inputs whose key range is not a positive finite number (all keys equal, infinities or NaN) cannot be
+ * bucketed and are sorted entirely with Intro Sort.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see DoubleBucketSort
+ */
+public class BucketSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
+    private final ToDoubleFunction<? super T> keyExtractor;
+    private final IntroSort<T> fallbackSort;
+
+    /**
+     * Creates a bucket sort distributing elements by the given key.
+     * @param keyExtractor Derives the bucketing key of an element; called once per element per sort
+     * @throws IllegalArgumentException if the key extractor is null
+     */
+    public BucketSort(ToDoubleFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+        this.keyExtractor = keyExtractor;
+        this.fallbackSort = new IntroSort<>();
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            bucketSort(array);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Bucket Sort";
+    }
+
+    private void bucketSort(T[] array) {
+        int n = array.length;
+        double[] keys = new double[n];
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double key = keyExtractor.applyAsDouble(array[i]);
+            keys[i] = key;
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        double span = max - min;
+        // Math.min and Math.max propagate NaN, so a NaN key also fails this check
+        if (!(span > 0) || span == Double.POSITIVE_INFINITY) {
+            fallbackSort.sortRange(array, 0, n - 1);
+            return;
+        }
+
+        double scale = n / span;
+        int[] buckets = new int[n];
+        int[] ends = new int[n];
+        for (int i = 0; i < n; i++) {
+            int bucket = Math.min((int) ((keys[i] - min) * scale), n - 1);
+            buckets[i] = bucket;
+            ends[bucket]++;
+        }
+        for (int bucket = 1; bucket < n; bucket++) {
+            ends[bucket] += ends[bucket - 1];
+        }
+        T[] source = array.clone();
+        for (int i = n - 1; i >= 0; i--) {
+            array[--ends[buckets[i]]] = source[i];
+        }
+
+        // ends[b] now holds the start of bucket b
+        for (int bucket = 0; bucket < n; bucket++) {
+            int from = ends[bucket];
+            int to = bucket + 1 < n ? ends[bucket + 1] : n;
+            if (to - from <= DoubleBucketSort.INSERTION_SORT_THRESHOLD) {
+                insertionSort(array, from, to);
+            } else {
+                fallbackSort.sortRange(array, from, to - 1);
+            }
+        }
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            T value = array[i];
+            int j = i - 1;
+            while (j >= from && array[j].compareTo(value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+}
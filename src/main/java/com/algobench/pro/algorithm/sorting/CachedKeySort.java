@@ -0,0 +1,70 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.Function;
+
+/**
+ * Sorts objects by a {@code Comparable} key that is extracted exactly once per element.
+ * <p>
+ * This is the general form of {@link CachedLongKeySort} for keys that do not fit in a {@code long}, such
+ * as normalized strings. The key extractor runs n times rather than twice per comparison. The cached keys
+ * are sorted stably together with an {@code int[]} of original positions, and the objects are then
+ * moved into the resulting order in a single pass.
+ * <p>
+ * The order is defined entirely by the extracted keys, so the extractor should be consistent with the
+ * elements' natural ordering when the sort is used as a drop-in {@link SortingAlgorithm}. Elements with
+ * equal keys keep their input order.
+ *
+ * @param <T> the type of elements to be sorted
+ * @param <K> the type of the extracted sort keys
+ * @version 1.0
+ * @see CachedLongKeySort
+ */
+public class CachedKeySort<T extends Comparable<T>, K extends Comparable<? super K>> implements SortingAlgorithm<T> {
+    private static final Logger logger = LogManager.getLogger(CachedKeySort.class);
+
+    private final Function<? super T, ? extends K> keyExtractor;
+
+    /**
+     * Creates a sort ordering elements by the given key.
+     * @param keyExtractor Derives the sort key of an element; called once per element per sort and must not
+     *                     return {@code null}
+     */
+    public CachedKeySort(Function<? super T, ? extends K> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            @SuppressWarnings("unchecked")
+            K[] keys = (K[]) new Comparable<?>[array.length];
+            for (int i = 0; i < array.length; i++) {
+                K key = keyExtractor.apply(array[i]);
+                if (key == null) {
+                    logger.error("Key extractor returned null for element at index {}", i);
+                    throw new IllegalArgumentException("Key extractor returned null for element at index " + i);
+                }
+                keys[i] = key;
+            }
+            int[] order = KeySortSupport.identity(array.length);
+            KeySortSupport.sort(keys, order);
+            KeySortSupport.applyPermutation(array, order);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Cached Key Sort";
+    }
+}
@@ -0,0 +1,119 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Implements a stable Counting Sort for objects with a small integer key.
+ * <p>
+ * The key of every element is extracted once, one scan finds the key range, and when that range is at most
+ * the configured maximum the elements are counted per key and scattered into a buffer in key order, in
+ * O(n + range) time. Elements with equal keys keep their input order. The key must be consistent with the
+ * elements' natural ordering, so that {@code a.compareTo(b)} has the sign of comparing their keys.
+ * <p>
+ * When the range is larger than the maximum the sort either falls back to {@link IntroSort} or, if
+ * constructed without fallback, refuses the input with an {@link IllegalArgumentException}.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see IntCountingSort
+ */
+public class CountingSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
+    private static final Logger logger = LogManager.getLogger(CountingSort.class);
+
+    private final ToIntFunction<? super T> keyExtractor;
+    private final int maxRange;
+    private final boolean fallback;
+    private final IntroSort<T> fallbackSort;
+
+    /**
+     * Creates a counting sort with the configured maximum range ({@code counting.sort.max.range}) that falls
+     * back to Intro Sort for larger ranges.
+     * @param keyExtractor Derives the integer key of an element; called once per element per sort
+     */
+    public CountingSort(ToIntFunction<? super T> keyExtractor) {
+        this(keyExtractor, IntCountingSort.defaultMaxRange(), true);
+    }
+
+    /**
+     * Creates a counting sort.
+     *
+     * @param keyExtractor Derives the integer key of an element; called once per element per sort
+     * @param maxRange the largest key range, and number of counters, the sort will allocate
+     * @param fallback whether larger ranges are sorted with Intro Sort instead of being rejected
+     * @throws IllegalArgumentException if the key extractor is null or the maximum range is not positive
+     */
+    public CountingSort(ToIntFunction<? super T> keyExtractor, int maxRange, boolean fallback) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+        this.keyExtractor = keyExtractor;
+        this.maxRange = IntCountingSort.checkMaxRange(maxRange);
+        this.fallback = fallback;
+        this.fallbackSort = new IntroSort<>();
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            int[] keys = new int[array.length];
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < array.length; i++) {
+                int key = keyExtractor.applyAsInt(array[i]);
+                keys[i] = key;
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+
+            long range = (long) max - min + 1;
+            if (range <= maxRange) {
+                countingSort(array, keys, min, (int) range);
+            } else if (fallback) {
+                fallbackSort.sortRange(array, 0, array.length - 1);
+            } else {
+                logger.error("Key range {} exceeds the counting sort limit of {}", range, maxRange);
+                throw new IllegalArgumentException("Key range " + range + " exceeds the limit of " + maxRange);
+            }
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Counting Sort";
+    }
+
+    public int getMaxRange() {
+        return maxRange;
+    }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    private void countingSort(T[] array, int[] keys, int min, int range) {
+        int[] offsets = new int[range];
+        for (int key : keys) {
+            offsets[key - min]++;
+        }
+        int position = 0;
+        for (int key = 0; key < range; key++) {
+            int count = offsets[key];
+            offsets[key] = position;
+            position += count;
+        }
+
+        T[] source = array.clone();
+        for (int i = 0; i < source.length; i++) {
+            array[offsets[keys[i] - min]++] = source[i];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements Bucket Sort for primitive {@code double} arrays with bounded keys.
+ * <p>
+ * One scan finds the smallest and largest value, and the range between them is divided into as many
+ * equal-width buckets as there are elements. A counting pass and a scatter pass move every value into its
+ * bucket in a buffer, after which each bucket holds about one element for evenly spread keys and is finished
+ * with insertion sort, for O(n) expected time. Buckets that end up with more than
+ * {@value #INSERTION_SORT_THRESHOLD} values because the keys are clustered are sorted by {@link RadixSort}
+ * on order-preserving bit patterns instead, so skewed input stays O(n) per bucket rather than quadratic.
+ * <p>
+ * Inputs whose range is not a positive finite number (all values equal, infinities or NaN) cannot be
+ * bucketed and are sorted entirely by the radix fallback. The order is that of
+ * {@link Double#compare(double, double)}.
+ *
+ * @version 1.0
+ * @see DoubleSortingAlgorithm
+ * @see BucketSort
+ */
+public class DoubleBucketSort implements DoubleSortingAlgorithm {
+    /** Buckets up to this size are finished with insertion sort, larger ones with radix sort. */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    @Override
+    public void sort(double[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            bucketSort(array);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Bucket Sort (double[])";
+    }
+
+    private static void bucketSort(double[] array) {
+        int n = array.length;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double span = max - min;
+        // Math.min and Math.max propagate NaN, so a NaN key also fails this check
+        if (!(span > 0) || span == Double.POSITIVE_INFINITY) {
+            radixSort(array, 0, n);
+            return;
+        }
+
+        double scale = n / span;
+        int[] ends = new int[n];
+        for (double value : array) {
+            ends[bucket(value, min, scale, n)]++;
+        }
+        for (int bucket = 1; bucket < n; bucket++) {
+            ends[bucket] += ends[bucket - 1];
+        }
+        double[] buffer = new double[n];
+        for (int i = n - 1; i >= 0; i--) {
+            double value = array[i];
+            buffer[--ends[bucket(value, min, scale, n)]] = value;
+        }
+
+        // ends[b] now holds the start of bucket b
+        for (int bucket = 0; bucket < n; bucket++) {
+            int from = ends[bucket];
+            int to = bucket + 1 < n ? ends[bucket + 1] : n;
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(buffer, from, to);
+            } else {
+                radixSort(buffer, from, to);
+            }
+        }
+        System.arraycopy(buffer, 0, array, 0, n);
+    }
+
+    /**
+     * Maps a value to its bucket; monotone in the value, so buckets are ordered.
+     */
+    private static int bucket(double value, double min, double scale, int buckets) {
+        return Math.min((int) ((value - min) * scale), buckets - 1);
+    }
+
+    private static void insertionSort(double[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double value = array[i];
+            int j = i - 1;
+            while (j >= from && Double.compare(array[j], value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    /**
+     * Sorts {@code array[from, to)} by mapping each value to a {@code long} whose signed order matches
+     * {@link Double#compare(double, double)}, radix sorting those, and mapping them back.
+     */
+    static void radixSort(double[] array, int from, int to) {
+        int length = to - from;
+        long[] bits = new long[length];
+        for (int i = 0; i < length; i++) {
+            long value = Double.doubleToLongBits(array[from + i]);
+            bits[i] = value ^ ((value >> 63) & Long.MAX_VALUE);
+        }
+        long[] buffer = new long[length];
+        long[] sorted = RadixSort.sortRange(bits, buffer, 0, length, Long.SIZE) ? buffer : bits;
+        for (int i = 0; i < length; i++) {
+            long value = sorted[i];
+            array[from + i] = Double.longBitsToDouble(value ^ ((value >> 63) & Long.MAX_VALUE));
+        }
+    }
+}
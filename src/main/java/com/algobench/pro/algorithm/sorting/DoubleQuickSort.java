@@ -0,0 +1,65 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements the Quick Sort algorithm for primitive {@code double} arrays.
+ * <p>
+ * This is the primitive specialization of {@link QuickSort}: it uses the same Lomuto partitioning scheme,
+ * but compares and swaps {@code double} values in place instead of {@code Double} references.
+ *
+ * @version 1.0
+ * @see DoubleSortingAlgorithm
+ * @see QuickSort
+ */
+public class DoubleQuickSort implements DoubleSortingAlgorithm {
+    @Override
+    public void sort(double[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        quickSort(array, 0, array.length - 1);
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Quick Sort (double[])";
+    }
+
+    private void quickSort(double[] array, int low, int high) {
+        if (low < high) {
+            int pivotIndex = partition(array, low, high);
+
+            // Recursively sort the sub-arrays
+            quickSort(array, low, pivotIndex - 1);
+            quickSort(array, pivotIndex + 1, high);
+        }
+    }
+
+    private int partition(double[] array, int low, int high) {
+        // Choose the rightmost element as pivot
+        double pivot = array[high];
+
+        // Index of smaller element
+        int i = (low - 1);
+
+        // Compare each element with pivot
+        for (int j = low; j < high; j++) {
+            if (Double.compare(array[j], pivot) <= 0) {
+                i++;
+                swap(array, i, j);
+            }
+        }
+
+        // Place pivot in its correct position
+        swap(array, i + 1, high);
+        return i + 1;
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,222 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.Arrays;
+
+/**
+ * Implements a stable in-place Merge Sort that needs only a constant amount of extra memory.
+ * <p>
+ * The array is first cut into blocks of {@value #BLOCK_SIZE} elements, each sorted with insertion sort, and
+ * the blocks are then merged bottom-up in passes of doubling width. Each merge of two adjacent sorted runs
+ * picks the cheapest strategy that needs no length-dependent memory:
+ * <ul>
+ *     <li>Runs that are already in order are left alone, and runs that are entirely out of order are
+ *     exchanged with a single rotation.</li>
+ *     <li>If the shorter run fits in the fixed-size cache (by default {@value #DEFAULT_CACHE_SIZE}
+ *     elements), it is copied there and merged linearly, front to back or back to front.</li>
+ *     <li>Otherwise the SymMerge scheme of Kim and Kutzner splits the merge: a binary search finds a split
+ *     point at which rotating the middle section leaves two smaller, independent merges, which are handled
+ *     recursively.</li>
+ * </ul>
+ * SymMerge performs O(n log n) comparisons and O(n log² n) element moves in the worst case. The cache removes
+ * most of those moves in practice, because the recursion ends as soon as a sub-merge fits in it. Elements
+ * are only moved by rotations and by stable merges, so equal elements keep their input order.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see MergeSort
+ */
+public class InPlaceMergeSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
+    /** Length of the runs produced by the initial insertion sort pass. */
+    static final int BLOCK_SIZE = 32;
+
+    /** Default number of elements in the constant-size merge cache. */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final int cacheSize;
+
+    /**
+     * Creates an in-place merge sort with a cache of {@value #DEFAULT_CACHE_SIZE} elements.
+     */
+    public InPlaceMergeSort() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates an in-place merge sort.
+     *
+     * @param cacheSize the number of elements of the constant-size merge cache; zero merges by rotations only
+     * @throws IllegalArgumentException if the cache size is negative
+     */
+    public InPlaceMergeSort(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            new Merger(array).sort();
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "In-Place Merge Sort";
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Per-call state: the array being sorted and its merge cache.
+     */
+    private final class Merger {
+        private final T[] array;
+        private final T[] cache;
+
+        Merger(T[] array) {
+            this.array = array;
+            this.cache = Arrays.copyOf(array, Math.min(cacheSize, array.length / 2));
+        }
+
+        void sort() {
+            int length = array.length;
+            for (int from = 0; from < length; from += BLOCK_SIZE) {
+                insertionSort(from, Math.min(from + BLOCK_SIZE, length));
+            }
+            for (int width = BLOCK_SIZE; width < length; width *= 2) {
+                for (int from = 0; from < length - width; from += 2 * width) {
+                    merge(from, from + width, Math.min(from + 2 * width, length));
+                }
+            }
+        }
+
+        /**
+         * Merges the adjacent sorted runs {@code [from, mid)} and {@code [mid, to)}.
+         */
+        private void merge(int from, int mid, int to) {
+            if (from >= mid || mid >= to || array[mid - 1].compareTo(array[mid]) <= 0) {
+                return;
+            }
+            if (array[to - 1].compareTo(array[from]) < 0) {
+                rotate(from, mid, to);
+                return;
+            }
+
+            int leftLength = mid - from;
+            int rightLength = to - mid;
+            if (leftLength <= cache.length && leftLength <= rightLength) {
+                mergeForward(from, mid, to);
+            } else if (rightLength <= cache.length) {
+                mergeBackward(from, mid, to);
+            } else {
+                symMerge(from, mid, to);
+            }
+        }
+
+        /**
+         * Splits the merge around the middle of {@code [from, to)}: finds {@code start} such that rotating
+         * {@code [start, mid)} with {@code [mid, end)} leaves two independent merges on either side.
+         */
+        private void symMerge(int from, int mid, int to) {
+            int half = (from + to) >>> 1;
+            int n = half + mid;
+            int start;
+            int limit;
+            if (mid > half) {
+                start = n - to;
+                limit = half;
+            } else {
+                start = from;
+                limit = mid;
+            }
+            int p = n - 1;
+            while (start < limit) {
+                int c = (start + limit) >>> 1;
+                if (array[p - c].compareTo(array[c]) >= 0) {
+                    start = c + 1;
+                } else {
+                    limit = c;
+                }
+            }
+
+            int end = n - start;
+            if (start < mid && mid < end) {
+                rotate(start, mid, end);
+            }
+            merge(from, start, half);
+            merge(half, end, to);
+        }
+
+        private void mergeForward(int from, int mid, int to) {
+            int leftLength = mid - from;
+            System.arraycopy(array, from, cache, 0, leftLength);
+            int i = 0;
+            int j = mid;
+            int k = from;
+            while (i < leftLength && j < to) {
+                if (array[j].compareTo(cache[i]) < 0) {
+                    array[k++] = array[j++];
+                } else {
+                    array[k++] = cache[i++];
+                }
+            }
+            System.arraycopy(cache, i, array, k, leftLength - i);
+        }
+
+        private void mergeBackward(int from, int mid, int to) {
+            int rightLength = to - mid;
+            System.arraycopy(array, mid, cache, 0, rightLength);
+            int i = mid - 1;
+            int j = rightLength - 1;
+            int k = to - 1;
+            while (i >= from && j >= 0) {
+                if (cache[j].compareTo(array[i]) < 0) {
+                    array[k--] = array[i--];
+                } else {
+                    array[k--] = cache[j--];
+                }
+            }
+            System.arraycopy(cache, 0, array, from, j + 1);
+        }
+
+        /**
+         * Exchanges the adjacent ranges {@code [from, mid)} and {@code [mid, to)} with three reversals.
+         */
+        private void rotate(int from, int mid, int to) {
+            reverse(from, mid);
+            reverse(mid, to);
+            reverse(from, to);
+        }
+
+        private void reverse(int from, int to) {
+            for (to--; from < to; from++, to--) {
+                T temp = array[from];
+                array[from] = array[to];
+                array[to] = temp;
+            }
+        }
+
+        private void insertionSort(int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                T value = array[i];
+                int j = i - 1;
+                while (j >= from && array[j].compareTo(value) > 0) {
+                    array[j + 1] = array[j];
+                    j--;
+                }
+                array[j + 1] = value;
+            }
+        }
+    }
+}
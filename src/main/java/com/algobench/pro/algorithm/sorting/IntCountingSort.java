@@ -0,0 +1,117 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Implements Counting Sort for primitive {@code int} arrays.
+ * <p>
+ * One scan finds the smallest and largest value; when the key range {@code max - min + 1} is at most the
+ * configured maximum, a second scan counts every value and the array is rewritten from the counts, in
+ * O(n + range) time with {@code range} counters of extra memory. This beats comparison sorts by a wide margin
+ * when many elements share few distinct values, such as enum ordinals or small bounded codes.
+ * <p>
+ * When the range is larger than the maximum the sort either falls back to {@link IntIntroSort} or, if
+ * constructed without fallback, refuses the input with an {@link IllegalArgumentException}.
+ *
+ * @version 1.0
+ * @see IntSortingAlgorithm
+ * @see CountingSort
+ */
+public class IntCountingSort implements IntSortingAlgorithm {
+    private static final Logger logger = LogManager.getLogger(IntCountingSort.class);
+
+    private final int maxRange;
+    private final boolean fallback;
+    private final IntIntroSort fallbackSort;
+
+    /**
+     * Creates a counting sort with the configured maximum range ({@code counting.sort.max.range}) that falls
+     * back to Intro Sort for larger ranges.
+     */
+    public IntCountingSort() {
+        this(defaultMaxRange(), true);
+    }
+
+    /**
+     * Creates a counting sort.
+     *
+     * @param maxRange the largest key range, and number of counters, the sort will allocate
+     * @param fallback whether larger ranges are sorted with Intro Sort instead of being rejected
+     * @throws IllegalArgumentException if the maximum range is not positive
+     */
+    public IntCountingSort(int maxRange, boolean fallback) {
+        this.maxRange = checkMaxRange(maxRange);
+        this.fallback = fallback;
+        this.fallbackSort = new IntIntroSort();
+    }
+
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            int min = array[0];
+            int max = array[0];
+            for (int value : array) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            long range = (long) max - min + 1;
+            if (range <= maxRange) {
+                countingSort(array, min, (int) range);
+            } else if (fallback) {
+                fallbackSort.sortRange(array, 0, array.length - 1);
+            } else {
+                logger.error("Key range {} exceeds the counting sort limit of {}", range, maxRange);
+                throw new IllegalArgumentException("Key range " + range + " exceeds the limit of " + maxRange);
+            }
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Counting Sort (int[])";
+    }
+
+    public int getMaxRange() {
+        return maxRange;
+    }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    /**
+     * Returns the configured maximum key range ({@code counting.sort.max.range}).
+     */
+    static int defaultMaxRange() {
+        return ConfigurationManager.getInstance().getIntProperty("counting.sort.max.range", 1 << 22);
+    }
+
+    static int checkMaxRange(int maxRange) {
+        if (maxRange < 1) {
+            throw new IllegalArgumentException("Maximum key range must be positive");
+        }
+        return maxRange;
+    }
+
+    private static void countingSort(int[] array, int min, int range) {
+        int[] counts = new int[range];
+        for (int value : array) {
+            counts[value - min]++;
+        }
+        int position = 0;
+        for (int key = 0; key < range; key++) {
+            int value = min + key;
+            for (int end = position + counts[key]; position < end; position++) {
+                array[position] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements introspective selection (Introselect) and partial sorting for primitive {@code int} arrays.
+ * <p>
+ * This is the primitive specialization of {@link IntroSelect}, using the same sampled pivots, three-way
+ * partitioning and median-of-medians fallback.
+ *
+ * @version 1.0
+ * @see IntSelectionAlgorithm
+ * @see IntroSelect
+ */
+public class IntIntroSelect implements IntSelectionAlgorithm {
+    private final IntIntroSort rangeSort = new IntIntroSort();
+
+    @Override
+    public int select(int[] array, int k) {
+        validateSelection(array, k);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, k);
+        selectRange(array, 0, array.length - 1, k, IntroSort.depthLimit(array.length));
+        Instrumentation.record(TraceEvent.SORT_END, array.length, k);
+        return array[k];
+    }
+
+    @Override
+    public void partialSort(int[] array, int k) {
+        validatePartialSort(array, k);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, k);
+        if (k > 0) {
+            selectRange(array, 0, array.length - 1, k - 1, IntroSort.depthLimit(array.length));
+            rangeSort.sortRange(array, 0, k - 2);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, k);
+    }
+
+    @Override
+    public String getName() {
+        return "Intro Select (int[])";
+    }
+
+    private void selectRange(int[] array, int low, int high, int k, int depthLimit) {
+        while (high - low >= IntroSort.INSERTION_SORT_THRESHOLD) {
+            int pivotIndex;
+            if (depthLimit > 0) {
+                depthLimit--;
+                pivotIndex = rangeSort.selectPivot(array, low, high);
+            } else {
+                pivotIndex = medianOfMedians(array, low, high);
+            }
+            swap(array, low, pivotIndex);
+            int pivot = array[low];
+
+            // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int value = array[i];
+                if (value < pivot) {
+                    swap(array, lt++, i++);
+                } else if (value > pivot) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.PARTITION, lt, gt);
+            }
+
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    private int medianOfMedians(int[] array, int low, int high) {
+        int medians = low;
+        for (int groupStart = low; groupStart <= high; groupStart += IntroSelect.GROUP_SIZE) {
+            int groupEnd = Math.min(groupStart + IntroSelect.GROUP_SIZE - 1, high);
+            insertionSort(array, groupStart, groupEnd);
+            swap(array, medians++, groupStart + (groupEnd - groupStart) / 2);
+        }
+        int middle = low + (medians - 1 - low) / 2;
+        selectRange(array, low, medians - 1, middle, 0);
+        return middle;
+    }
+
+    private void insertionSort(int[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= low && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
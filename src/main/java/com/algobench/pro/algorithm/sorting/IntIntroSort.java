@@ -0,0 +1,150 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements an introspective Quick Sort (Introsort) for primitive {@code int} arrays.
+ * <p>
+ * This is the primitive specialization of {@link IntroSort}, using the same pivot sampling, three-way
+ * partitioning, insertion-sort cutoff and depth-limited heap sort fallback.
+ *
+ * @version 1.0
+ * @see IntSortingAlgorithm
+ * @see IntroSort
+ */
+public class IntIntroSort implements IntSortingAlgorithm {
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            introSort(array, 0, array.length - 1, IntroSort.depthLimit(array.length));
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Intro Sort (int[])";
+    }
+
+    /**
+     * Sorts the inclusive range {@code [low, high]} of the array.
+     */
+    void sortRange(int[] array, int low, int high) {
+        if (high > low) {
+            introSort(array, low, high, IntroSort.depthLimit(high - low + 1));
+        }
+    }
+
+    private void introSort(int[] array, int low, int high, int depthLimit) {
+        while (high - low >= IntroSort.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+
+            swap(array, low, selectPivot(array, low, high));
+            int pivot = array[low];
+
+            // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int value = array[i];
+                if (value < pivot) {
+                    swap(array, lt++, i++);
+                } else if (value > pivot) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse into the smaller side, loop on the larger one
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    /**
+     * Returns the index of the sampled pivot for the inclusive range {@code [low, high]}.
+     */
+    int selectPivot(int[] array, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low > IntroSort.NINTHER_THRESHOLD) {
+            int step = (high - low) / 8;
+            int first = medianOfThree(array, low, low + step, low + 2 * step);
+            int second = medianOfThree(array, mid - step, mid, mid + step);
+            int third = medianOfThree(array, high - 2 * step, high - step, high);
+            return medianOfThree(array, first, second, third);
+        }
+        return medianOfThree(array, low, mid, high);
+    }
+
+    private int medianOfThree(int[] array, int a, int b, int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private void insertionSort(int[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= low && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    private void heapSort(int[] array, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void siftDown(int[] array, int offset, int root, int length) {
+        int value = array[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (value >= array[offset + child]) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            root = child;
+        }
+        array[offset + root] = value;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,142 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implements a parallel Sample Sort for primitive {@code int} arrays.
+ * <p>
+ * This is the primitive specialization of {@link ParallelSampleSort}, using the same oversampled
+ * splitters, branch-free splitter-tree classification and per-chunk scatter. The buckets are finished
+ * in parallel with {@link IntIntroSort}.
+ *
+ * @version 1.0
+ * @see IntSortingAlgorithm
+ * @see ParallelSampleSort
+ */
+public class IntParallelSampleSort implements IntSortingAlgorithm, AutoCloseable {
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+    private final IntIntroSort sequentialSort;
+
+    /**
+     * Creates a parallel sample sort using the threshold and parallelism from application.properties.
+     */
+    public IntParallelSampleSort() {
+        this(ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Creates a parallel sample sort.
+     *
+     * @param sequentialThreshold inputs of this many elements or fewer are sorted sequentially
+     * @param parallelism the number of worker threads, and of chunks the input is split into
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public IntParallelSampleSort(int sequentialThreshold, int parallelism) {
+        this.sequentialThreshold = ParallelSettings.checkSequentialThreshold(sequentialThreshold);
+        this.pool = ParallelSortSupport.createPool(parallelism);
+        this.sequentialSort = new IntIntroSort();
+    }
+
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length <= sequentialThreshold) {
+            sequentialSort.sortRange(array, 0, array.length - 1);
+        } else {
+            parallelSort(array);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Sample Sort (int[])";
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the worker threads of this sort's fork/join pool. A sort already running completes, but
+     * later calls to sort are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private void parallelSort(int[] array) {
+        int length = array.length;
+        int chunks = pool.getParallelism();
+        int buckets = ParallelSampleSort.bucketCount(chunks);
+        int levels = Integer.numberOfTrailingZeros(buckets);
+        int[] tree = buildSplitterTree(array, buckets);
+
+        // Classify each chunk and count its elements per bucket
+        byte[] bucketOf = new byte[length];
+        int[][] counts = new int[chunks][buckets];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] count = counts[chunk];
+            int end = ParallelSortSupport.chunkStart(chunk + 1, chunks, length);
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < end; i++) {
+                int value = array[i];
+                int node = 1;
+                for (int level = 0; level < levels; level++) {
+                    node = 2 * node + (value > tree[node] ? 1 : 0);
+                }
+                int bucket = node - buckets;
+                bucketOf[i] = (byte) bucket;
+                count[bucket]++;
+            }
+        });
+        int[] bucketStarts = ParallelSortSupport.toChunkOffsets(counts, buckets);
+
+        // Every chunk scatters into its own disjoint slots of each bucket
+        int[] buffer = new int[length];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] offset = counts[chunk];
+            int end = ParallelSortSupport.chunkStart(chunk + 1, chunks, length);
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < end; i++) {
+                buffer[offset[bucketOf[i] & 0xFF]++] = array[i];
+            }
+        });
+
+        ParallelSortSupport.forEachParallel(pool, buckets, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+            sequentialSort.sortRange(buffer, from, to - 1);
+            System.arraycopy(buffer, from, array, from, to - from);
+        });
+    }
+
+    /**
+     * Draws and sorts a random sample, returning its evenly spaced splitters as a 1-indexed Eytzinger tree.
+     */
+    private int[] buildSplitterTree(int[] array, int buckets) {
+        int sampleSize = Math.min(array.length, ParallelSampleSort.OVERSAMPLING * buckets);
+        int[] sample = new int[sampleSize];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = array[random.nextInt(array.length)];
+        }
+        sequentialSort.sortRange(sample, 0, sampleSize - 1);
+
+        int[] tree = new int[buckets];
+        for (int node = 1; node < buckets; node++) {
+            tree[node] = sample[Math.max(0, ParallelSampleSort.splitterSampleIndex(node, buckets, sampleSize))];
+        }
+        return tree;
+    }
+}
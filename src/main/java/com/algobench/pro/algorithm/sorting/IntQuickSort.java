@@ -0,0 +1,69 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements the Quick Sort algorithm for primitive {@code int} arrays.
+ * <p>
+ * This is the primitive specialization of {@link QuickSort}: it uses the same Lomuto partitioning scheme and
+ * {@link SmallArraySort} leaf kernels, but compares and swaps {@code int} values in place instead of
+ * {@code Integer} references.
+ *
+ * @version 1.0
+ * @see IntSortingAlgorithm
+ * @see QuickSort
+ */
+public class IntQuickSort implements IntSortingAlgorithm {
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        // One merge buffer for every leaf, so sorting allocates nothing per partition
+        quickSort(array, 0, array.length - 1, new int[SmallArraySort.NETWORK_MAX]);
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Quick Sort (int[])";
+    }
+
+    private void quickSort(int[] array, int low, int high, int[] scratch) {
+        if (high - low < SmallArraySort.KERNEL_MAX) {
+            SmallArraySort.sort(array, low, high + 1, scratch);
+        } else {
+            int pivotIndex = partition(array, low, high);
+
+            // Recursively sort the sub-arrays
+            quickSort(array, low, pivotIndex - 1, scratch);
+            quickSort(array, pivotIndex + 1, high, scratch);
+        }
+    }
+
+    private int partition(int[] array, int low, int high) {
+        // Choose the rightmost element as pivot
+        int pivot = array[high];
+
+        // Index of smaller element
+        int i = (low - 1);
+
+        // Compare each element with pivot
+        for (int j = low; j < high; j++) {
+            if (array[j] <= pivot) {
+                i++;
+                swap(array, i, j);
+            }
+        }
+
+        // Place pivot in its correct position
+        swap(array, i + 1, high);
+        return i + 1;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
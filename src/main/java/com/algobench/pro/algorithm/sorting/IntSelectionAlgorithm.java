@@ -0,0 +1,72 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * {@code IntSelectionAlgorithm} is the primitive counterpart of {@link SelectionAlgorithm} for {@code int[]} inputs.
+ *
+ * @version 1.0
+ * @see SelectionAlgorithm
+ */
+public interface IntSelectionAlgorithm {
+    Logger logger = LogManager.getLogger(IntSelectionAlgorithm.class);
+
+    /**
+     * Rearranges the array so that {@code array[k]} holds the value that would be there after a full ascending
+     * sort, every value before it is not greater and every value after it is not smaller.
+     *
+     * @param array The array to rearrange in place.
+     * @param k The zero-based rank to select.
+     * @return The selected value, {@code array[k]}.
+     * @throws IllegalArgumentException if the array is null or {@code k} is outside {@code [0, array.length)}.
+     */
+    int select(int[] array, int k);
+
+    /**
+     * Rearranges the array so that its first {@code k} positions hold the {@code k} smallest values in ascending
+     * order. The order of the remaining values is unspecified.
+     *
+     * @param array The array to rearrange in place.
+     * @param k The number of leading positions to sort.
+     * @throws IllegalArgumentException if the array is null or {@code k} is outside {@code [0, array.length]}.
+     */
+    void partialSort(int[] array, int k);
+
+    /**
+     * Gets the name of the selection algorithm.
+     * This name should be human-readable and suitable for display in the application's UI or reports.
+     *
+     * @return A string representing the name of the selection algorithm.
+     */
+    String getName();
+
+    /**
+     * Validates the arguments of {@link #select}.
+     *
+     * @throws IllegalArgumentException If the array is {@code null} or {@code k} is not a valid index.
+     */
+    default void validateSelection(int[] array, int k) {
+        validateRank(array, k, array == null ? 0 : array.length - 1);
+    }
+
+    /**
+     * Validates the arguments of {@link #partialSort}.
+     *
+     * @throws IllegalArgumentException If the array is {@code null} or {@code k} exceeds its length.
+     */
+    default void validatePartialSort(int[] array, int k) {
+        validateRank(array, k, array == null ? 0 : array.length);
+    }
+
+    private void validateRank(int[] array, int k, int maxRank) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (k < 0 || k > maxRank) {
+            logger.error("Rank {} is outside [0, {}]", k, maxRank);
+            throw new IllegalArgumentException("Rank must be between 0 and " + maxRank);
+        }
+    }
+}
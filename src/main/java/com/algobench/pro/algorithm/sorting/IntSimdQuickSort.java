@@ -0,0 +1,92 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.algorithm.simd.IntKernels;
+import com.algobench.pro.algorithm.simd.SimdSupport;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Quick Sort for primitive {@code int} arrays built on the partition kernel of {@link IntKernels}.
+ * <p>
+ * Each range is split around the median of its first, middle and last values by
+ * {@link IntKernels#partition}, which with the vectorized kernels classifies a whole register of values per
+ * step and writes both parts through a scratch buffer instead of swapping one pair at a time. When no value
+ * is below the pivot, the pivot is the minimum and the run of values equal to it is split off by a second
+ * partition, so inputs with many duplicates still make progress. The smaller part is sorted recursively and
+ * the larger one iteratively, and ranges below {@link SmallArraySort#KERNEL_MAX} go to the
+ * {@link SmallArraySort} kernels.
+ * <p>
+ * The kernels default to {@link SimdSupport#preferred()}, so the partition is scalar, and still branch free,
+ * when the Vector API is not available. A scratch buffer as long as the array is allocated per sort.
+ *
+ * @version 1.0
+ * @see IntQuickSort
+ * @see IntKernels
+ */
+public class IntSimdQuickSort implements IntSortingAlgorithm {
+    private final IntKernels kernels;
+
+    /**
+     * Creates a sort using the preferred kernels.
+     */
+    public IntSimdQuickSort() {
+        this(SimdSupport.preferred());
+    }
+
+    /**
+     * Creates a sort using the given kernels.
+     *
+     * @throws IllegalArgumentException if the kernels are null
+     */
+    public IntSimdQuickSort(IntKernels kernels) {
+        if (kernels == null) {
+            throw new IllegalArgumentException("Kernels cannot be null");
+        }
+        this.kernels = kernels;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > SmallArraySort.KERNEL_MAX) {
+            quickSort(array, 0, array.length, new int[array.length + IntKernels.SCRATCH_PADDING]);
+        } else {
+            SmallArraySort.sort(array, 0, array.length);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "SIMD Quick Sort (int[], " + kernels.getName() + ")";
+    }
+
+    public IntKernels getKernels() {
+        return kernels;
+    }
+
+    private void quickSort(int[] array, int from, int to, int[] scratch) {
+        while (to - from > SmallArraySort.KERNEL_MAX) {
+            int pivot = medianOfThree(array[from], array[(from + to) >>> 1], array[to - 1]);
+            int split = kernels.partition(array, from, to, pivot, scratch);
+            if (split == from) {
+                if (pivot == Integer.MAX_VALUE) {
+                    return;
+                }
+                from = kernels.partition(array, from, to, pivot + 1, scratch);
+            } else if (split - from < to - split) {
+                quickSort(array, from, split, scratch);
+                from = split;
+            } else {
+                quickSort(array, split, to, scratch);
+                to = split;
+            }
+        }
+        SmallArraySort.sort(array, from, to, scratch);
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+}
@@ -0,0 +1,45 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * {@code IntSortingAlgorithm} is the primitive counterpart of {@link SortingAlgorithm} for {@code int[]} inputs.
+ * Implementations operate directly on the primitive array, avoiding the per-element object headers,
+ * pointer indirection and virtual {@code compareTo} calls that a boxed {@code Integer[]} incurs.
+ *
+ * @version 1.0
+ * @see SortingAlgorithm
+ */
+public interface IntSortingAlgorithm {
+    Logger logger = LogManager.getLogger(IntSortingAlgorithm.class);
+
+    /**
+     * Sorts the given array in ascending order using the specific sorting algorithm implementation.
+     *
+     * @param array The array to be sorted in place.
+     * @throws IllegalArgumentException if the input array is null.
+     */
+    void sort(int[] array);
+
+    /**
+     * Gets the name of the sorting algorithm.
+     * This name should be human-readable and suitable for display in the application's UI or reports.
+     *
+     * @return A string representing the name of the sorting algorithm.
+     */
+    String getName();
+
+    /**
+     * Validates the input array to ensure it is not null before proceeding with the sorting operation.
+     *
+     * @param array The array to validate.
+     * @throws IllegalArgumentException If the array is {@code null}.
+     */
+    default void validateInput(int[] array) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+    }
+}
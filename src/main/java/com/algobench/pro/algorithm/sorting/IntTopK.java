@@ -0,0 +1,135 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * Streaming selection of the {@code k} largest {@code int} values with a bounded min-heap.
+ * <p>
+ * This is the primitive specialization of {@link TopK}, storing the heap in an {@code int[]} of length
+ * {@code k}.
+ *
+ * @version 1.0
+ * @see TopK
+ */
+public class IntTopK {
+    private static final Logger logger = LogManager.getLogger(IntTopK.class);
+
+    private final int[] heap;
+    private int size;
+
+    /**
+     * Creates an empty selector that retains the {@code k} largest offered values.
+     *
+     * @param k the number of values to retain
+     * @throws IllegalArgumentException if {@code k} is not positive
+     */
+    public IntTopK(int k) {
+        if (k < 1) {
+            logger.error("Invalid top-k size: {}", k);
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.heap = new int[k];
+    }
+
+    /**
+     * Returns the {@code k} largest values of the iterator in descending order, or all of them if there are
+     * fewer than {@code k}.
+     *
+     * @throws IllegalArgumentException if the iterator is null or {@code k} is not positive
+     */
+    public static int[] largest(PrimitiveIterator.OfInt values, int k) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        IntTopK topK = new IntTopK(k);
+        while (values.hasNext()) {
+            topK.offer(values.nextInt());
+        }
+        return topK.toSortedArray();
+    }
+
+    /**
+     * Returns the {@code k} largest values of the array in descending order, or all of them if there are
+     * fewer than {@code k}. The array is not modified.
+     *
+     * @throws IllegalArgumentException if the array is null or {@code k} is not positive
+     */
+    public static int[] largest(int[] array, int k) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        IntTopK topK = new IntTopK(k);
+        for (int value : array) {
+            topK.offer(value);
+        }
+        return topK.toSortedArray();
+    }
+
+    /**
+     * Offers one value, retaining it if it is among the {@code k} largest seen so far.
+     */
+    public void offer(int value) {
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+        } else if (value > heap[0]) {
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Returns the number of retained values, at most {@code k}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the retained values in descending order without changing the selector.
+     */
+    public int[] toSortedArray() {
+        int[] values = Arrays.copyOf(heap, size);
+        Arrays.sort(values);
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+        return values;
+    }
+
+    private void siftUp(int index) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (value >= heap[parent]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index) {
+        int value = heap[index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,132 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements introspective selection (Introselect) and partial sorting.
+ * <p>
+ * Selection runs Quickselect with the same sampled pivots and three-way partitioning as {@link IntroSort}, but
+ * after each partition it continues only into the side that contains the requested rank, so the expected cost
+ * is linear. Once {@link IntroSort#depthLimit(int)} partitions have failed to finish the search, it switches to
+ * median-of-medians pivots (medians of groups of {@value #GROUP_SIZE}), which guarantees a linear worst case.
+ * Because of the three-way partition, ranks inside a run of duplicate keys finish immediately.
+ * <p>
+ * {@link #partialSort} selects rank {@code k - 1} and then sorts only the {@code k - 1} elements before it,
+ * costing O(n + k log k).
+ *
+ * @param <T> the type of elements to select from, must implement Comparable
+ * @version 1.0
+ * @see SelectionAlgorithm
+ * @see IntroSort
+ */
+public class IntroSelect<T extends Comparable<T>> implements SelectionAlgorithm<T> {
+    /** Group size for the median-of-medians fallback. */
+    static final int GROUP_SIZE = 5;
+
+    private final IntroSort<T> rangeSort = new IntroSort<>();
+
+    @Override
+    public T select(T[] array, int k) {
+        validateSelection(array, k);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, k);
+        selectRange(array, 0, array.length - 1, k, IntroSort.depthLimit(array.length));
+        Instrumentation.record(TraceEvent.SORT_END, array.length, k);
+        return array[k];
+    }
+
+    @Override
+    public void partialSort(T[] array, int k) {
+        validatePartialSort(array, k);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, k);
+        if (k > 0) {
+            selectRange(array, 0, array.length - 1, k - 1, IntroSort.depthLimit(array.length));
+            rangeSort.sortRange(array, 0, k - 2);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, k);
+    }
+
+    @Override
+    public String getName() {
+        return "Intro Select";
+    }
+
+    /**
+     * Places rank {@code k} of the inclusive range {@code [low, high]}; a depth limit of zero selects
+     * median-of-medians pivots from the start.
+     */
+    private void selectRange(T[] array, int low, int high, int k, int depthLimit) {
+        while (high - low >= IntroSort.INSERTION_SORT_THRESHOLD) {
+            int pivotIndex;
+            if (depthLimit > 0) {
+                depthLimit--;
+                pivotIndex = rangeSort.selectPivot(array, low, high);
+            } else {
+                pivotIndex = medianOfMedians(array, low, high);
+            }
+            swap(array, low, pivotIndex);
+            T pivot = array[low];
+
+            // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int comparison = array[i].compareTo(pivot);
+                if (comparison < 0) {
+                    swap(array, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.PARTITION, lt, gt);
+            }
+
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    /**
+     * Moves the median of every group of {@value #GROUP_SIZE} to the front of the range and returns the index of
+     * the median of those medians, found recursively with median-of-medians pivots.
+     */
+    private int medianOfMedians(T[] array, int low, int high) {
+        int medians = low;
+        for (int groupStart = low; groupStart <= high; groupStart += GROUP_SIZE) {
+            int groupEnd = Math.min(groupStart + GROUP_SIZE - 1, high);
+            insertionSort(array, groupStart, groupEnd);
+            swap(array, medians++, groupStart + (groupEnd - groupStart) / 2);
+        }
+        int middle = low + (medians - 1 - low) / 2;
+        selectRange(array, low, medians - 1, middle, 0);
+        return middle;
+    }
+
+    private void insertionSort(T[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            T value = array[i];
+            int j = i - 1;
+            while (j >= low && array[j].compareTo(value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
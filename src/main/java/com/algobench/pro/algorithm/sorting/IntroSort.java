@@ -0,0 +1,175 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements an introspective Quick Sort (Introsort) for arrays of {@code Comparable} elements.
+ * <p>
+ * Compared to the textbook {@link QuickSort}, this variant is robust against the inputs that drive a fixed
+ * pivot choice quadratic:
+ * <ul>
+ *     <li>the pivot is the median of three samples, or Tukey's ninther (median of three medians) on large ranges,
+ *     so sorted and reverse-sorted inputs split evenly;</li>
+ *     <li>partitioning is three-way (Dutch national flag), so runs of keys equal to the pivot are excluded
+ *     from further recursion and few-unique inputs finish in linear time per distinct key;</li>
+ *     <li>ranges of at most {@value #INSERTION_SORT_THRESHOLD} elements are finished with insertion sort;</li>
+ *     <li>once the recursion depth exceeds {@code 2 * floor(log2(n))} the remaining range is heap sorted,
+ *     guaranteeing {@code O(n log n)} in the worst case.</li>
+ * </ul>
+ * Recursion only descends into the smaller partition while the larger one is processed iteratively,
+ * so the stack depth is bounded by {@code O(log n)}.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see QuickSort
+ */
+public class IntroSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
+    /** Ranges of this size or smaller are sorted with insertion sort. */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Ranges larger than this use Tukey's ninther instead of a plain median of three. */
+    static final int NINTHER_THRESHOLD = 128;
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            introSort(array, 0, array.length - 1, depthLimit(array.length));
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Intro Sort";
+    }
+
+    /**
+     * Returns the recursion depth after which Introsort switches to heap sort: {@code 2 * floor(log2(n))}.
+     */
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Sorts the inclusive range {@code [low, high]} of the array.
+     */
+    void sortRange(T[] array, int low, int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private void introSort(T[] array, int low, int high, int depthLimit) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+
+            swap(array, low, selectPivot(array, low, high));
+            T pivot = array[low];
+
+            // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int comparison = array[i].compareTo(pivot);
+                if (comparison < 0) {
+                    swap(array, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse into the smaller side, loop on the larger one
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    /**
+     * Returns the index of the sampled pivot for the inclusive range {@code [low, high]}.
+     */
+    int selectPivot(T[] array, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low > NINTHER_THRESHOLD) {
+            int step = (high - low) / 8;
+            int first = medianOfThree(array, low, low + step, low + 2 * step);
+            int second = medianOfThree(array, mid - step, mid, mid + step);
+            int third = medianOfThree(array, high - 2 * step, high - step, high);
+            return medianOfThree(array, first, second, third);
+        }
+        return medianOfThree(array, low, mid, high);
+    }
+
+    private int medianOfThree(T[] array, int a, int b, int c) {
+        if (array[a].compareTo(array[b]) < 0) {
+            if (array[b].compareTo(array[c]) < 0) {
+                return b;
+            }
+            return array[a].compareTo(array[c]) < 0 ? c : a;
+        }
+        if (array[a].compareTo(array[c]) < 0) {
+            return a;
+        }
+        return array[b].compareTo(array[c]) < 0 ? c : b;
+    }
+
+    private void insertionSort(T[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            T value = array[i];
+            int j = i - 1;
+            while (j >= low && array[j].compareTo(value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    private void heapSort(T[] array, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void siftDown(T[] array, int offset, int root, int length) {
+        T value = array[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && array[offset + child].compareTo(array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (value.compareTo(array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            root = child;
+        }
+        array[offset + root] = value;
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
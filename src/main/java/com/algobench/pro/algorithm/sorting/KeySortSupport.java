@@ -0,0 +1,132 @@
+package com.algobench.pro.algorithm.sorting;
+
+import java.util.Arrays;
+
+/**
+ * Shared helpers for the cached-key sorts: a stable merge sort of key and index arrays that move together,
+ * and the final permutation of the original elements.
+ */
+final class KeySortSupport {
+    /** Ranges up to this length are finished with insertion sort. */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private KeySortSupport() {
+    }
+
+    /**
+     * Returns the identity permutation {@code 0, 1, ..., length - 1}.
+     */
+    static int[] identity(int length) {
+        int[] index = new int[length];
+        for (int i = 0; i < length; i++) {
+            index[i] = i;
+        }
+        return index;
+    }
+
+    /**
+     * Stably sorts {@code keys} in ascending order, applying every move to {@code index} as well.
+     */
+    static void sort(long[] keys, int[] index) {
+        mergeSort(keys.clone(), index.clone(), keys, index, 0, keys.length);
+    }
+
+    /**
+     * Stably sorts {@code keys} in ascending order, applying every move to {@code index} as well.
+     */
+    static <K extends Comparable<? super K>> void sort(K[] keys, int[] index) {
+        mergeSort(keys.clone(), index.clone(), keys, index, 0, keys.length);
+    }
+
+    /**
+     * Rearranges {@code array} so that position {@code i} receives the element previously at {@code order[i]}.
+     */
+    static <T> void applyPermutation(T[] array, int[] order) {
+        T[] original = Arrays.copyOf(array, array.length);
+        for (int i = 0; i < order.length; i++) {
+            array[i] = original[order[i]];
+        }
+    }
+
+    /*
+     * Sorts [from, to) of the source arrays into the destination arrays. Both pairs hold the same
+     * contents on entry; the roles swap at every level so each merge reads one pair and writes the other.
+     */
+    private static void mergeSort(long[] sourceKeys, int[] sourceIndex, long[] keys, int[] index,
+                                  int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                long key = keys[i];
+                int position = index[i];
+                int j = i - 1;
+                while (j >= from && keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    index[j + 1] = index[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                index[j + 1] = position;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, index, sourceKeys, sourceIndex, from, mid);
+        mergeSort(keys, index, sourceKeys, sourceIndex, mid, to);
+
+        if (sourceKeys[mid - 1] <= sourceKeys[mid]) {
+            System.arraycopy(sourceKeys, from, keys, from, to - from);
+            System.arraycopy(sourceIndex, from, index, from, to - from);
+            return;
+        }
+
+        for (int i = from, left = from, right = mid; i < to; i++) {
+            if (right >= to || left < mid && sourceKeys[left] <= sourceKeys[right]) {
+                keys[i] = sourceKeys[left];
+                index[i] = sourceIndex[left++];
+            } else {
+                keys[i] = sourceKeys[right];
+                index[i] = sourceIndex[right++];
+            }
+        }
+    }
+
+    private static <K extends Comparable<? super K>> void mergeSort(K[] sourceKeys, int[] sourceIndex,
+                                                                   K[] keys, int[] index, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                K key = keys[i];
+                int position = index[i];
+                int j = i - 1;
+                while (j >= from && keys[j].compareTo(key) > 0) {
+                    keys[j + 1] = keys[j];
+                    index[j + 1] = index[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                index[j + 1] = position;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, index, sourceKeys, sourceIndex, from, mid);
+        mergeSort(keys, index, sourceKeys, sourceIndex, mid, to);
+
+        if (sourceKeys[mid - 1].compareTo(sourceKeys[mid]) <= 0) {
+            System.arraycopy(sourceKeys, from, keys, from, to - from);
+            System.arraycopy(sourceIndex, from, index, from, to - from);
+            return;
+        }
+
+        for (int i = from, left = from, right = mid; i < to; i++) {
+            if (right >= to || left < mid && sourceKeys[left].compareTo(sourceKeys[right]) <= 0) {
+                keys[i] = sourceKeys[left];
+                index[i] = sourceIndex[left++];
+            } else {
+                keys[i] = sourceKeys[right];
+                index[i] = sourceIndex[right++];
+            }
+        }
+    }
+}
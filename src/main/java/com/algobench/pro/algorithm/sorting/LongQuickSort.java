@@ -0,0 +1,65 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements the Quick Sort algorithm for primitive {@code long} arrays.
+ * <p>
+ * This is the primitive specialization of {@link QuickSort}: it uses the same Lomuto partitioning scheme,
+ * but compares and swaps {@code long} values in place instead of {@code Long} references.
+ *
+ * @version 1.0
+ * @see LongSortingAlgorithm
+ * @see QuickSort
+ */
+public class LongQuickSort implements LongSortingAlgorithm {
+    @Override
+    public void sort(long[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        quickSort(array, 0, array.length - 1);
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Quick Sort (long[])";
+    }
+
+    private void quickSort(long[] array, int low, int high) {
+        if (low < high) {
+            int pivotIndex = partition(array, low, high);
+
+            // Recursively sort the sub-arrays
+            quickSort(array, low, pivotIndex - 1);
+            quickSort(array, pivotIndex + 1, high);
+        }
+    }
+
+    private int partition(long[] array, int low, int high) {
+        // Choose the rightmost element as pivot
+        long pivot = array[high];
+
+        // Index of smaller element
+        int i = (low - 1);
+
+        // Compare each element with pivot
+        for (int j = low; j < high; j++) {
+            if (array[j] <= pivot) {
+                i++;
+                swap(array, i, j);
+            }
+        }
+
+        // Place pivot in its correct position
+        swap(array, i + 1, high);
+        return i + 1;
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,75 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements the classic top-down Merge Sort with a full-size buffer.
+ * <p>
+ * The array and one buffer of the same length alternate roles at each level of the recursion, so every
+ * merge reads from one and writes to the other without copying back. Ranges of up to
+ * {@value #INSERTION_SORT_THRESHOLD} elements are finished with insertion sort, and merges of runs that are
+ * already in order are skipped. The sort is stable and runs in O(n log n) time, but needs {@code n} elements
+ * of extra memory; {@link InPlaceMergeSort} trades some speed for a constant amount.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see InPlaceMergeSort
+ */
+public class MergeSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            mergeSort(array.clone(), array, 0, array.length);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort";
+    }
+
+    /**
+     * Sorts {@code source[from, to)} into {@code target[from, to)}; both must hold the same elements on entry.
+     */
+    private void mergeSort(T[] source, T[] target, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(target, from, to);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(target, source, from, mid);
+        mergeSort(target, source, mid, to);
+
+        if (source[mid - 1].compareTo(source[mid]) <= 0) {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+        for (int i = from, left = from, right = mid; i < to; i++) {
+            if (right >= to || left < mid && source[left].compareTo(source[right]) <= 0) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    private void insertionSort(T[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            T value = array[i];
+            int j = i - 1;
+            while (j >= from && array[j].compareTo(value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+}
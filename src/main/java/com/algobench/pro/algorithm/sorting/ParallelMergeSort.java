@@ -0,0 +1,229 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implements a stable parallel Merge Sort on top of the fork/join framework.
+ * <p>
+ * The array and an equally sized buffer alternate roles at each level of the recursion, so no copying is
+ * needed between levels. Both halves are sorted as forked tasks and then combined by a parallel merge:
+ * the median of the larger run is located in the smaller run by binary search, which splits the merge into
+ * two independent merges that are forked in turn. Ranges no larger than the sequential threshold are
+ * sorted and merged sequentially.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see ParallelQuickSort
+ */
+public class ParallelMergeSort<T extends Comparable<T>> implements SortingAlgorithm<T>, AutoCloseable {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates a parallel merge sort using the threshold and parallelism from application.properties.
+     */
+    public ParallelMergeSort() {
+        this(ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Creates a parallel merge sort.
+     *
+     * @param sequentialThreshold ranges of this many elements or fewer are sorted and merged sequentially
+     * @param parallelism the number of worker threads in the fork/join pool
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public ParallelMergeSort(int sequentialThreshold, int parallelism) {
+        this.sequentialThreshold = ParallelSettings.checkSequentialThreshold(sequentialThreshold);
+        this.pool = ParallelSortSupport.createPool(parallelism);
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            T[] buffer = array.clone();
+            pool.invoke(new SortTask(array, buffer, 0, array.length));
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Merge Sort";
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the worker threads of this sort's fork/join pool. A sort already running completes, but
+     * later calls to sort are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in place, using {@code buffer[from, to)} (which must hold the same
+     * elements on entry) as scratch space.
+     */
+    private final class SortTask extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+
+        SortTask(T[] array, T[] buffer, int from, int to) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialThreshold) {
+                sequentialSort(array, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(buffer, array, from, mid), new SortTask(buffer, array, mid, to));
+            new MergeTask(buffer, from, mid, mid, to, array, from).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code source[leftFrom, leftTo)} and {@code source[rightFrom, rightTo)} into
+     * {@code target} starting at {@code targetFrom}. Elements of the left run precede equal elements of
+     * the right run, keeping the sort stable.
+     */
+    private final class MergeTask extends RecursiveAction {
+        private final T[] source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final T[] target;
+        private final int targetFrom;
+
+        MergeTask(T[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, T[] target, int targetFrom) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.targetFrom = targetFrom;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength == 0 || rightLength == 0 || leftLength + rightLength <= sequentialThreshold) {
+                merge(source, leftFrom, leftTo, rightFrom, rightTo, target, targetFrom);
+                return;
+            }
+
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                rightSplit = lowerBound(source, rightFrom, rightTo, source[leftSplit]);
+            } else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = upperBound(source, leftFrom, leftTo, source[rightSplit]);
+            }
+
+            int headLength = (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            if (headLength == 0 || headLength == leftLength + rightLength) {
+                // The split point fell on a run boundary, so one half would be this whole merge again
+                merge(source, leftFrom, leftTo, rightFrom, rightTo, target, targetFrom);
+                return;
+            }
+
+            int targetSplit = targetFrom + headLength;
+            invokeAll(
+                new MergeTask(source, leftFrom, leftSplit, rightFrom, rightSplit, target, targetFrom),
+                new MergeTask(source, leftSplit, leftTo, rightSplit, rightTo, target, targetSplit)
+            );
+        }
+    }
+
+    private static <T extends Comparable<T>> void sequentialSort(T[] array, T[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(buffer, array, from, mid);
+        sequentialSort(buffer, array, mid, to);
+        merge(buffer, from, mid, mid, to, array, from);
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            T value = array[i];
+            int j = i - 1;
+            while (j >= from && array[j].compareTo(value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    private static <T extends Comparable<T>> void merge(T[] source, int leftFrom, int leftTo,
+                                                        int rightFrom, int rightTo, T[] target, int targetFrom) {
+        int i = leftFrom;
+        int j = rightFrom;
+        int k = targetFrom;
+        while (i < leftTo && j < rightTo) {
+            target[k++] = source[j].compareTo(source[i]) < 0 ? source[j++] : source[i++];
+        }
+        System.arraycopy(source, i, target, k, leftTo - i);
+        System.arraycopy(source, j, target, k + (leftTo - i), rightTo - j);
+    }
+
+    /** Returns the first index in {@code [from, to)} whose element is not less than {@code key}. */
+    private static <T extends Comparable<T>> int lowerBound(T[] array, int from, int to, T key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (array[mid].compareTo(key) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /** Returns the first index in {@code [from, to)} whose element is greater than {@code key}. */
+    private static <T extends Comparable<T>> int upperBound(T[] array, int from, int to, T key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (array[mid].compareTo(key) <= 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+}
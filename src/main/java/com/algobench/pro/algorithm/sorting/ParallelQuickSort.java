@@ -0,0 +1,130 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implements a parallel Quick Sort on top of the fork/join framework.
+ * <p>
+ * Each {@link RecursiveAction} picks a sampled pivot, performs a three-way partition of its range and then
+ * forks the two sides as independent tasks. Ranges no larger than the sequential threshold, or ranges
+ * reached after too many unbalanced splits, are finished by {@link IntroSort} on the worker thread.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see ParallelMergeSort
+ */
+public class ParallelQuickSort<T extends Comparable<T>> implements SortingAlgorithm<T>, AutoCloseable {
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+    private final IntroSort<T> sequentialSort;
+
+    /**
+     * Creates a parallel quick sort using the threshold and parallelism from application.properties.
+     */
+    public ParallelQuickSort() {
+        this(ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Creates a parallel quick sort.
+     *
+     * @param sequentialThreshold ranges of this many elements or fewer are sorted sequentially
+     * @param parallelism the number of worker threads in the fork/join pool
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public ParallelQuickSort(int sequentialThreshold, int parallelism) {
+        this.sequentialThreshold = ParallelSettings.checkSequentialThreshold(sequentialThreshold);
+        this.pool = ParallelSortSupport.createPool(parallelism);
+        this.sequentialSort = new IntroSort<>();
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            pool.invoke(new SortTask(array, 0, array.length - 1, IntroSort.depthLimit(array.length)));
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Quick Sort";
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the worker threads of this sort's fork/join pool. A sort already running completes, but
+     * later calls to sort are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private final class SortTask extends RecursiveAction {
+        private final T[] array;
+        private final int low;
+        private final int high;
+        private final int depthLimit;
+
+        SortTask(T[] array, int low, int high, int depthLimit) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < sequentialThreshold || depthLimit == 0) {
+                sequentialSort.sortRange(array, low, high);
+                return;
+            }
+
+            int pivotIndex = sequentialSort.selectPivot(array, low, high);
+            T temp = array[low];
+            array[low] = array[pivotIndex];
+            array[pivotIndex] = temp;
+            T pivot = array[low];
+
+            // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int comparison = array[i].compareTo(pivot);
+                if (comparison < 0) {
+                    swap(array, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            invokeAll(new SortTask(array, low, lt - 1, depthLimit - 1),
+                      new SortTask(array, gt + 1, high, depthLimit - 1));
+        }
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,242 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implements a parallel most-significant-digit (MSD) Radix Sort for primitive {@code int} and {@code long}
+ * arrays.
+ * <p>
+ * The input is split into one chunk per worker. Each worker computes the key range and an 8-bit digit
+ * histogram of its own chunk, so no counters are shared between threads. The distributing digit is taken
+ * from the most significant bits that actually vary across the input, which keeps bounded keys (such as
+ * values below 10000) spread over many buckets instead of all landing in bucket zero. The per-chunk
+ * histograms are turned into disjoint write offsets, every worker scatters its chunk into the buffer,
+ * and the resulting buckets are finished independently in parallel with the sequential LSD
+ * {@link RadixSort} on the remaining lower bits.
+ * <p>
+ * Inputs no larger than the sequential threshold are sorted by {@link RadixSort} directly.
+ *
+ * @version 1.0
+ * @see RadixSort
+ */
+public class ParallelRadixSort implements IntSortingAlgorithm, LongSortingAlgorithm, AutoCloseable {
+    private static final int RADIX_BITS = RadixSort.RADIX_BITS;
+    private static final int RADIX = RadixSort.RADIX;
+    private static final int DIGIT_MASK = RadixSort.DIGIT_MASK;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates a parallel radix sort using the threshold and parallelism from application.properties.
+     */
+    public ParallelRadixSort() {
+        this(ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Creates a parallel radix sort.
+     *
+     * @param sequentialThreshold inputs of this many elements or fewer are sorted sequentially
+     * @param parallelism the number of worker threads, and of chunks the input is split into
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public ParallelRadixSort(int sequentialThreshold, int parallelism) {
+        this.sequentialThreshold = ParallelSettings.checkSequentialThreshold(sequentialThreshold);
+        this.pool = ParallelSortSupport.createPool(parallelism);
+    }
+
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length <= sequentialThreshold) {
+            new RadixSort().sort(array);
+        } else {
+            parallelSort(array);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public void sort(long[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length <= sequentialThreshold) {
+            new RadixSort().sort(array);
+        } else {
+            parallelSort(array);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel MSD Radix Sort";
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the worker threads of this sort's fork/join pool. A sort already running completes, but
+     * later calls to sort are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private void parallelSort(int[] array) {
+        int length = array.length;
+        int chunks = pool.getParallelism();
+        int[] minKeys = new int[chunks];
+        int[] maxKeys = new int[chunks];
+
+        // Key range of each chunk, on sign-flipped keys so the unsigned order matches the signed one
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int min = -1;
+            int max = 0;
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < ParallelSortSupport.chunkStart(chunk + 1, chunks, length); i++) {
+                int key = array[i] ^ Integer.MIN_VALUE;
+                if (Integer.compareUnsigned(key, min) < 0) {
+                    min = key;
+                }
+                if (Integer.compareUnsigned(key, max) > 0) {
+                    max = key;
+                }
+            }
+            minKeys[chunk] = min;
+            maxKeys[chunk] = max;
+        });
+
+        int min = -1;
+        int max = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            if (Integer.compareUnsigned(minKeys[chunk], min) < 0) {
+                min = minKeys[chunk];
+            }
+            if (Integer.compareUnsigned(maxKeys[chunk], max) > 0) {
+                max = maxKeys[chunk];
+            }
+        }
+        if (min == max) {
+            return;
+        }
+        int shift = Math.max(0, Integer.SIZE - Integer.numberOfLeadingZeros(min ^ max) - RADIX_BITS);
+
+        // Per-chunk histograms of the distributing digit
+        int[][] counts = new int[chunks][RADIX];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] count = counts[chunk];
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < ParallelSortSupport.chunkStart(chunk + 1, chunks, length); i++) {
+                count[((array[i] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+            }
+        });
+        int[] bucketStarts = ParallelSortSupport.toChunkOffsets(counts, RADIX);
+
+        // Every chunk scatters into its own disjoint slots of each bucket
+        int[] buffer = new int[length];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] offset = counts[chunk];
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < ParallelSortSupport.chunkStart(chunk + 1, chunks, length); i++) {
+                int value = array[i];
+                buffer[offset[((value ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+            }
+        });
+
+        // Buckets share all bits from the distributing digit upwards, so only the lower bits remain
+        ParallelSortSupport.forEachParallel(pool, RADIX, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+            boolean sortedInBuffer = true;
+            if (to - from > 1 && shift > 0) {
+                sortedInBuffer = !RadixSort.sortRange(buffer, array, from, to, shift);
+            }
+            if (sortedInBuffer) {
+                System.arraycopy(buffer, from, array, from, to - from);
+            }
+        });
+    }
+
+    private void parallelSort(long[] array) {
+        int length = array.length;
+        int chunks = pool.getParallelism();
+        long[] minKeys = new long[chunks];
+        long[] maxKeys = new long[chunks];
+
+        // Key range of each chunk, on sign-flipped keys so the unsigned order matches the signed one
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            long min = -1L;
+            long max = 0L;
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < ParallelSortSupport.chunkStart(chunk + 1, chunks, length); i++) {
+                long key = array[i] ^ Long.MIN_VALUE;
+                if (Long.compareUnsigned(key, min) < 0) {
+                    min = key;
+                }
+                if (Long.compareUnsigned(key, max) > 0) {
+                    max = key;
+                }
+            }
+            minKeys[chunk] = min;
+            maxKeys[chunk] = max;
+        });
+
+        long min = -1L;
+        long max = 0L;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            if (Long.compareUnsigned(minKeys[chunk], min) < 0) {
+                min = minKeys[chunk];
+            }
+            if (Long.compareUnsigned(maxKeys[chunk], max) > 0) {
+                max = maxKeys[chunk];
+            }
+        }
+        if (min == max) {
+            return;
+        }
+        int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(min ^ max) - RADIX_BITS);
+
+        // Per-chunk histograms of the distributing digit
+        int[][] counts = new int[chunks][RADIX];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] count = counts[chunk];
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < ParallelSortSupport.chunkStart(chunk + 1, chunks, length); i++) {
+                count[(int) ((array[i] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+            }
+        });
+        int[] bucketStarts = ParallelSortSupport.toChunkOffsets(counts, RADIX);
+
+        // Every chunk scatters into its own disjoint slots of each bucket
+        long[] buffer = new long[length];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] offset = counts[chunk];
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < ParallelSortSupport.chunkStart(chunk + 1, chunks, length); i++) {
+                long value = array[i];
+                buffer[offset[(int) ((value ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+            }
+        });
+
+        // Buckets share all bits from the distributing digit upwards, so only the lower bits remain
+        ParallelSortSupport.forEachParallel(pool, RADIX, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+            boolean sortedInBuffer = true;
+            if (to - from > 1 && shift > 0) {
+                sortedInBuffer = !RadixSort.sortRange(buffer, array, from, to, shift);
+            }
+            if (sortedInBuffer) {
+                System.arraycopy(buffer, from, array, from, to - from);
+            }
+        });
+    }
+}
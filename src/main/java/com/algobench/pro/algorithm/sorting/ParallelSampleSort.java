@@ -0,0 +1,184 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ParallelSettings;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implements a parallel Sample Sort.
+ * <p>
+ * Fork/join Quick Sort only reaches full parallelism after its first few partitions, which each run on a
+ * single thread. Sample Sort instead distributes the whole input in one parallel pass:
+ * <ol>
+ *     <li>A random sample of {@value #OVERSAMPLING} elements per bucket is sorted, and every
+ *     {@value #OVERSAMPLING}-th sample becomes one of the {@code k - 1} splitters, where {@code k} is the
+ *     parallelism rounded up to a power of two.</li>
+ *     <li>The splitters are stored as an implicit binary search tree (Eytzinger layout). Each worker
+ *     classifies its chunk of the input by descending that tree, computing the child index arithmetically
+ *     as {@code 2 * node + (element > splitter)}. This needs exactly {@code log2(k)} comparisons and no
+ *     data-dependent branches.</li>
+ *     <li>Per-chunk bucket histograms become disjoint write offsets, and every worker scatters its chunk into
+ *     a buffer, so no counters or slots are shared between threads.</li>
+ *     <li>The buckets are sorted independently in parallel with {@link IntroSort} and copied back.</li>
+ * </ol>
+ * Inputs no larger than the sequential threshold are sorted by {@link IntroSort} directly.
+ *
+ * @param <T> the type of elements to be sorted, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see IntParallelSampleSort
+ */
+public class ParallelSampleSort<T extends Comparable<T>> implements SortingAlgorithm<T>, AutoCloseable {
+    /** Number of sampled elements per bucket; higher values give more evenly sized buckets. */
+    static final int OVERSAMPLING = 32;
+
+    /** Upper bound on the bucket count, so bucket indices fit in a byte. */
+    static final int MAX_BUCKETS = 256;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+    private final IntroSort<T> sequentialSort;
+
+    /**
+     * Creates a parallel sample sort using the threshold and parallelism from application.properties.
+     */
+    public ParallelSampleSort() {
+        this(ParallelSettings.defaultSequentialThreshold(), ParallelSettings.defaultParallelism());
+    }
+
+    /**
+     * Creates a parallel sample sort.
+     *
+     * @param sequentialThreshold inputs of this many elements or fewer are sorted sequentially
+     * @param parallelism the number of worker threads, and of chunks the input is split into
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public ParallelSampleSort(int sequentialThreshold, int parallelism) {
+        this.sequentialThreshold = ParallelSettings.checkSequentialThreshold(sequentialThreshold);
+        this.pool = ParallelSortSupport.createPool(parallelism);
+        this.sequentialSort = new IntroSort<>();
+    }
+
+    @Override
+    public void sort(T[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length <= sequentialThreshold) {
+            sequentialSort.sortRange(array, 0, array.length - 1);
+        } else {
+            parallelSort(array);
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Sample Sort";
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the worker threads of this sort's fork/join pool. A sort already running completes, but
+     * later calls to sort are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Returns the number of buckets for the given parallelism: the next power of two, at least 2 and at
+     * most {@link #MAX_BUCKETS}.
+     */
+    static int bucketCount(int parallelism) {
+        int buckets = Integer.highestOneBit(Math.max(2, parallelism) * 2 - 1);
+        return Math.min(buckets, MAX_BUCKETS);
+    }
+
+    /**
+     * Returns the index of the sorted sample that becomes splitter {@code node} of the Eytzinger tree, where
+     * {@code node} runs from 1 to {@code buckets - 1} and the splitters are spread evenly over the sample.
+     */
+    static int splitterSampleIndex(int node, int buckets, int sampleSize) {
+        int level = 31 - Integer.numberOfLeadingZeros(node);
+        int rank = (2 * (node - (1 << level)) + 1) * (buckets >> (level + 1));
+        return (int) ((long) rank * sampleSize / buckets) - 1;
+    }
+
+    private void parallelSort(T[] array) {
+        int length = array.length;
+        int chunks = pool.getParallelism();
+        int buckets = bucketCount(chunks);
+        int levels = Integer.numberOfTrailingZeros(buckets);
+        T[] tree = buildSplitterTree(array, buckets);
+
+        // Classify each chunk and count its elements per bucket
+        byte[] bucketOf = new byte[length];
+        int[][] counts = new int[chunks][buckets];
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] count = counts[chunk];
+            int end = ParallelSortSupport.chunkStart(chunk + 1, chunks, length);
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < end; i++) {
+                T value = array[i];
+                int node = 1;
+                for (int level = 0; level < levels; level++) {
+                    node = 2 * node + (value.compareTo(tree[node]) > 0 ? 1 : 0);
+                }
+                int bucket = node - buckets;
+                bucketOf[i] = (byte) bucket;
+                count[bucket]++;
+            }
+        });
+        int[] bucketStarts = ParallelSortSupport.toChunkOffsets(counts, buckets);
+
+        // Every chunk scatters into its own disjoint slots of each bucket
+        @SuppressWarnings("unchecked")
+        T[] buffer = (T[]) Array.newInstance(array.getClass().getComponentType(), length);
+        ParallelSortSupport.forEachParallel(pool, chunks, chunk -> {
+            int[] offset = counts[chunk];
+            int end = ParallelSortSupport.chunkStart(chunk + 1, chunks, length);
+            for (int i = ParallelSortSupport.chunkStart(chunk, chunks, length); i < end; i++) {
+                buffer[offset[bucketOf[i] & 0xFF]++] = array[i];
+            }
+        });
+
+        ParallelSortSupport.forEachParallel(pool, buckets, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+            sequentialSort.sortRange(buffer, from, to - 1);
+            System.arraycopy(buffer, from, array, from, to - from);
+        });
+    }
+
+    /**
+     * Draws and sorts a random sample, returning its evenly spaced splitters as a 1-indexed Eytzinger tree.
+     */
+    private T[] buildSplitterTree(T[] array, int buckets) {
+        int sampleSize = Math.min(array.length, OVERSAMPLING * buckets);
+        @SuppressWarnings("unchecked")
+        T[] sample = (T[]) Array.newInstance(array.getClass().getComponentType(), sampleSize);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = array[random.nextInt(array.length)];
+        }
+        sequentialSort.sortRange(sample, 0, sampleSize - 1);
+
+        @SuppressWarnings("unchecked")
+        T[] tree = (T[]) Array.newInstance(array.getClass().getComponentType(), buckets);
+        for (int node = 1; node < buckets; node++) {
+            tree[node] = sample[Math.max(0, splitterSampleIndex(node, buckets, sampleSize))];
+        }
+        return tree;
+    }
+}
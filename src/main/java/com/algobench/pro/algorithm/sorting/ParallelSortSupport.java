@@ -0,0 +1,65 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.config.ParallelSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Shared pool and task helpers for the fork/join based sorting algorithms.
+ */
+final class ParallelSortSupport {
+    private ParallelSortSupport() {
+    }
+
+    static ForkJoinPool createPool(int parallelism) {
+        return new ForkJoinPool(ParallelSettings.checkParallelism(parallelism));
+    }
+
+    /**
+     * Runs {@code body} for every index in {@code [0, count)} as independent tasks in the given pool
+     * and waits for all of them to complete.
+     */
+    static void forEachParallel(ForkJoinPool pool, int count, IntConsumer body) {
+        pool.invoke(ForkJoinTask.adapt(() -> {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                tasks.add(ForkJoinTask.adapt(() -> body.accept(index)));
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }));
+    }
+
+    /**
+     * Returns the first index of chunk {@code chunk} when {@code length} elements are split into
+     * {@code chunks} nearly equal consecutive chunks; {@code chunkStart(chunks, ...)} is {@code length}.
+     */
+    static int chunkStart(int chunk, int chunks, int length) {
+        return (int) ((long) length * chunk / chunks);
+    }
+
+    /**
+     * Replaces each chunk's histogram with that chunk's first write position in every bucket, with buckets
+     * laid out in order and chunks in input order within a bucket (which keeps the distribution stable).
+     *
+     * @return the start index of every bucket, plus the total length as a final sentinel entry
+     */
+    static int[] toChunkOffsets(int[][] counts, int buckets) {
+        int[] bucketStarts = new int[buckets + 1];
+        int offset = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketStarts[bucket] = offset;
+            for (int[] count : counts) {
+                int chunkCount = count[bucket];
+                count[bucket] = offset;
+                offset += chunkCount;
+            }
+        }
+        bucketStarts[buckets] = offset;
+        return bucketStarts;
+    }
+}
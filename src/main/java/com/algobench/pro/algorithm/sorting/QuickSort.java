@@ -1,30 +1,32 @@
 package com.algobench.pro.algorithm.sorting;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
 
 /**
  * Implements the Quick Sort algorithm for sorting arrays.
  * <p>
  * QuickSort is a divide-and-conquer algorithm that works by selecting a 'pivot' element
  * from the array and partitioning the other elements into two sub-arrays, according to whether they are
- * less than or greater than the pivot. The sub-arrays are then sorted recursively.
+ * less than or greater than the pivot. The sub-arrays are then sorted recursively, down to partitions of
+ * {@value SmallArraySort#KERNEL_MAX} elements or fewer, which are finished by the branch-free
+ * {@link SmallArraySort} kernels.
  * <p>
- * This implementation includes logging at various stages for debugging and performance analysis.
+ * Partitions and swaps are recorded as {@link TraceEvent}s when {@link Instrumentation} runs in trace mode;
+ * in production mode the sort performs no logging or tracing work.
  *
  * @param <T> the type of elements to be sorted, must implement Comparable
  * @version 1.0
  * @see SortingAlgorithm
  */
 public class QuickSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
-    private static final Logger logger = LogManager.getLogger(QuickSort.class);
-
     @Override
     public void sort(T[] array) {
         validateInput(array);
-        logger.info("Starting QuickSort on array of length: {}", array.length);
-        quickSort(array, 0, array.length - 1);
-        logger.info("QuickSort completed");
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        // One merge buffer for every leaf, so sorting allocates nothing per partition
+        quickSort(array, 0, array.length - 1, new Object[SmallArraySort.NETWORK_MAX]);
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
     }
 
     @Override
@@ -32,22 +34,27 @@ public class QuickSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
         return "Quick Sort";
     }
 
-    private void quickSort(T[] array, int low, int high) {
-        if (low < high) {
-            logger.debug("Partitioning array between indices {} and {}", low, high);
+    private void quickSort(T[] array, int low, int high, Object[] scratch) {
+        if (high - low < SmallArraySort.KERNEL_MAX) {
+            SmallArraySort.sort(array, low, high + 1, scratch);
+        } else {
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.PARTITION, low, high);
+            }
             int pivotIndex = partition(array, low, high);
-            logger.debug("Pivot element placed at index: {}", pivotIndex);
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.PIVOT_PLACED, pivotIndex, 0);
+            }
 
             // Recursively sort the sub-arrays
-            quickSort(array, low, pivotIndex - 1);
-            quickSort(array, pivotIndex + 1, high);
+            quickSort(array, low, pivotIndex - 1, scratch);
+            quickSort(array, pivotIndex + 1, high, scratch);
         }
     }
 
     private int partition(T[] array, int low, int high) {
         // Choose the rightmost element as pivot
         T pivot = array[high];
-        logger.debug("Selected pivot value: {}", pivot);
 
         // Index of smaller element
         int i = (low - 1);
@@ -67,7 +74,9 @@ public class QuickSort<T extends Comparable<T>> implements SortingAlgorithm<T> {
 
     private void swap(T[] array, int i, int j) {
         if (i != j) {
-            logger.debug("Swapping elements at indices {} and {}", i, j);
+            if (Instrumentation.TRACE_ENABLED) {
+                Instrumentation.record(TraceEvent.SWAP, i, j);
+            }
             T temp = array[i];
             array[i] = array[j];
             array[j] = temp;
@@ -0,0 +1,153 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+
+/**
+ * Implements a least-significant-digit (LSD) Radix Sort for primitive {@code int} and {@code long} arrays.
+ * <p>
+ * Keys are processed in 8-bit digits, from the lowest digit to the highest. A single scan over the input
+ * builds the histograms of every digit up front, and any pass in which all keys share the same digit is
+ * skipped entirely, so small key ranges (for example keys below 65536) only pay for the passes over the
+ * digits that actually vary. The sign bit is flipped when extracting digits so negative keys sort before
+ * positive ones. The sort is stable and needs one buffer of the input's size.
+ *
+ * @version 1.0
+ * @see IntSortingAlgorithm
+ * @see LongSortingAlgorithm
+ * @see ParallelRadixSort
+ */
+public class RadixSort implements IntSortingAlgorithm, LongSortingAlgorithm {
+    static final int RADIX_BITS = 8;
+    static final int RADIX = 1 << RADIX_BITS;
+    static final int DIGIT_MASK = RADIX - 1;
+
+    @Override
+    public void sort(int[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            int[] buffer = new int[array.length];
+            if (sortRange(array, buffer, 0, array.length, Integer.SIZE)) {
+                System.arraycopy(buffer, 0, array, 0, array.length);
+            }
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public void sort(long[] array) {
+        validateInput(array);
+        Instrumentation.record(TraceEvent.SORT_START, array.length, 0);
+        if (array.length > 1) {
+            long[] buffer = new long[array.length];
+            if (sortRange(array, buffer, 0, array.length, Long.SIZE)) {
+                System.arraycopy(buffer, 0, array, 0, array.length);
+            }
+        }
+        Instrumentation.record(TraceEvent.SORT_END, array.length, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "LSD Radix Sort";
+    }
+
+    /**
+     * Sorts {@code array[from, to)} by the lowest {@code bits} bits of each sign-flipped key, using
+     * {@code buffer[from, to)} as scratch space.
+     *
+     * @return {@code true} if the sorted range ended up in {@code buffer}, {@code false} if it is in {@code array}
+     */
+    static boolean sortRange(int[] array, int[] buffer, int from, int to, int bits) {
+        int passes = (bits + RADIX_BITS - 1) / RADIX_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int i = from; i < to; i++) {
+            int key = array[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(key >>> (pass * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        int length = to - from;
+        int[] source = array;
+        int[] target = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            int[] count = counts[pass];
+            if (isTrivialPass(count, length)) {
+                continue;
+            }
+            toOffsets(count, from);
+            int shift = pass * RADIX_BITS;
+            for (int i = from; i < to; i++) {
+                int value = source[i];
+                target[count[((value ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return source == buffer;
+    }
+
+    /**
+     * Sorts {@code array[from, to)} by the lowest {@code bits} bits of each sign-flipped key, using
+     * {@code buffer[from, to)} as scratch space.
+     *
+     * @return {@code true} if the sorted range ended up in {@code buffer}, {@code false} if it is in {@code array}
+     */
+    static boolean sortRange(long[] array, long[] buffer, int from, int to, int bits) {
+        int passes = (bits + RADIX_BITS - 1) / RADIX_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int i = from; i < to; i++) {
+            long key = array[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        int length = to - from;
+        long[] source = array;
+        long[] target = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            int[] count = counts[pass];
+            if (isTrivialPass(count, length)) {
+                continue;
+            }
+            toOffsets(count, from);
+            int shift = pass * RADIX_BITS;
+            for (int i = from; i < to; i++) {
+                long value = source[i];
+                target[count[(int) ((value ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+            }
+            long[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return source == buffer;
+    }
+
+    /**
+     * Returns whether every key falls into a single bucket, in which case the pass would not move anything.
+     */
+    static boolean isTrivialPass(int[] count, int length) {
+        for (int bucketCount : count) {
+            if (bucketCount != 0) {
+                return bucketCount == length;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts a histogram into exclusive prefix sums starting at {@code base}.
+     */
+    static void toOffsets(int[] count, int base) {
+        int offset = base;
+        for (int digit = 0; digit < count.length; digit++) {
+            int bucketCount = count[digit];
+            count[digit] = offset;
+            offset += bucketCount;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * {@code SelectionAlgorithm} defines order-statistic operations that do less work than a full sort: finding the
+ * element of a given rank (the median, a percentile) and sorting only the smallest {@code k} elements.
+ *
+ * @param <T> the type of elements to select from, must implement Comparable
+ * @version 1.0
+ * @see SortingAlgorithm
+ * @see IntSelectionAlgorithm
+ */
+public interface SelectionAlgorithm<T extends Comparable<T>> {
+    Logger logger = LogManager.getLogger(SelectionAlgorithm.class);
+
+    /**
+     * Rearranges the array so that {@code array[k]} holds the element that would be there after a full ascending
+     * sort, every element before it is not greater and every element after it is not smaller.
+     *
+     * @param array The array to rearrange in place.
+     * @param k The zero-based rank to select.
+     * @return The selected element, {@code array[k]}.
+     * @throws IllegalArgumentException if the array is null or {@code k} is outside {@code [0, array.length)}.
+     */
+    T select(T[] array, int k);
+
+    /**
+     * Rearranges the array so that its first {@code k} positions hold the {@code k} smallest elements in ascending
+     * order. The order of the remaining elements is unspecified.
+     *
+     * @param array The array to rearrange in place.
+     * @param k The number of leading positions to sort.
+     * @throws IllegalArgumentException if the array is null or {@code k} is outside {@code [0, array.length]}.
+     */
+    void partialSort(T[] array, int k);
+
+    /**
+     * Gets the name of the selection algorithm.
+     * This name should be human-readable and suitable for display in the application's UI or reports.
+     *
+     * @return A string representing the name of the selection algorithm.
+     */
+    String getName();
+
+    /**
+     * Validates the arguments of {@link #select}.
+     *
+     * @throws IllegalArgumentException If the array is {@code null} or {@code k} is not a valid index.
+     */
+    default void validateSelection(T[] array, int k) {
+        validateRank(array, k, array == null ? 0 : array.length - 1);
+    }
+
+    /**
+     * Validates the arguments of {@link #partialSort}.
+     *
+     * @throws IllegalArgumentException If the array is {@code null} or {@code k} exceeds its length.
+     */
+    default void validatePartialSort(T[] array, int k) {
+        validateRank(array, k, array == null ? 0 : array.length);
+    }
+
+    private void validateRank(T[] array, int k, int maxRank) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (k < 0 || k > maxRank) {
+            logger.error("Rank {} is outside [0, {}]", k, maxRank);
+            throw new IllegalArgumentException("Rank must be between 0 and " + maxRank);
+        }
+    }
+}
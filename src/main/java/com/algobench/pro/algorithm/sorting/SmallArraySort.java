@@ -0,0 +1,298 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Kernels for sorting small arrays and ranges, plus a batch API for sorting many small arrays at once.
+ * <p>
+ * Quick Sort spends much of its time in tiny leaf partitions, and some workloads consist entirely of
+ * millions of independent arrays of 8 to 64 elements. Ordinary insertion sort is a poor fit for both because
+ * its inner loop ends on an unpredictable comparison. These kernels avoid data-dependent branches:
+ * <ul>
+ *     <li>Ranges of up to {@value #NETWORK_MAX} elements use a fixed sorting network, a sequence of
+ *     compare-exchange steps that is the same for every input. The networks are Batcher's odd-even merge
+ *     sort for the next power of two, with comparators beyond the range dropped. For {@code int} the
+ *     compare-exchange is a {@code Math.min}/{@code Math.max} pair, which compiles to conditional moves.</li>
+ *     <li>Ranges of up to {@value #KERNEL_MAX} elements sort both halves with networks and combine them with a
+ *     branchless merge, which advances its two cursors by the result of the comparison instead of
+ *     branching on it.</li>
+ *     <li>Larger {@code int} ranges up to {@value #INSERTION_SORT_MAX} elements use insertion sort, and
+ *     anything bigger falls back to {@link IntIntroSort} or {@link IntroSort}.</li>
+ * </ul>
+ * On random {@code int} data the network kernel sorts 8 to 16 elements about twice as fast as insertion sort.
+ * Branchless insertion sort variants (counting larger elements, compare-exchange ladders) were measured
+ * too, but above 24 elements they were slower than the merge kernel and than plain insertion sort, so
+ * they are not used. The kernels are not stable.
+ *
+ * @version 1.0
+ * @see QuickSort
+ * @see IntQuickSort
+ */
+public final class SmallArraySort {
+    private static final Logger logger = LogManager.getLogger(SmallArraySort.class);
+
+    /** Largest range sorted with a single sorting network. */
+    public static final int NETWORK_MAX = 16;
+
+    /** Largest range sorted by the branch-free kernels; also the leaf size used by Quick Sort. */
+    public static final int KERNEL_MAX = 2 * NETWORK_MAX;
+
+    /** Largest {@code int} range sorted with insertion sort before falling back to Introsort. */
+    public static final int INSERTION_SORT_MAX = 64;
+
+    private static final int[][] NETWORKS = buildNetworks();
+
+    private SmallArraySort() {
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array in ascending order.
+     */
+    public static void sort(int[] array, int from, int to) {
+        if (to - from <= NETWORK_MAX) {
+            networkSort(array, from, to);
+        } else {
+            sort(array, from, to, new int[NETWORK_MAX]);
+        }
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array in ascending order, using {@code scratch} to hold the left
+     * run of a merge. Callers sorting many ranges, such as Quick Sort leaves, pass one scratch array to every
+     * call so that no range allocates.
+     *
+     * @param scratch working space of at least {@value #NETWORK_MAX} elements, or half the range if that is less
+     */
+    public static void sort(int[] array, int from, int to, int[] scratch) {
+        int length = to - from;
+        if (length <= NETWORK_MAX) {
+            networkSort(array, from, to);
+        } else if (length <= KERNEL_MAX) {
+            int mid = from + length / 2;
+            networkSort(array, from, mid);
+            networkSort(array, mid, to);
+            branchlessMerge(array, from, mid, to, scratch);
+        } else if (length <= INSERTION_SORT_MAX) {
+            insertionSort(array, from, to);
+        } else {
+            new IntIntroSort().sortRange(array, from, to - 1);
+        }
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array in ascending order.
+     */
+    public static <T extends Comparable<T>> void sort(T[] array, int from, int to) {
+        if (to - from <= NETWORK_MAX) {
+            networkSort(array, from, to);
+        } else {
+            sort(array, from, to, new Object[NETWORK_MAX]);
+        }
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array in ascending order, using {@code scratch} to hold the left
+     * run of a merge.
+     *
+     * @param scratch working space of at least {@value #NETWORK_MAX} elements, or half the range if that is less
+     * @see #sort(int[], int, int, int[])
+     */
+    public static <T extends Comparable<T>> void sort(T[] array, int from, int to, Object[] scratch) {
+        int length = to - from;
+        if (length <= NETWORK_MAX) {
+            networkSort(array, from, to);
+        } else if (length <= KERNEL_MAX) {
+            int mid = from + length / 2;
+            networkSort(array, from, mid);
+            networkSort(array, mid, to);
+            branchlessMerge(array, from, mid, to, scratch);
+        } else {
+            new IntroSort<T>().sortRange(array, from, to - 1);
+        }
+    }
+
+    /**
+     * Sorts every array of the batch independently.
+     *
+     * @throws IllegalArgumentException if the batch or any of its arrays is null
+     */
+    public static void sortAll(int[][] arrays) {
+        if (arrays == null) {
+            logger.error("Input batch is null");
+            throw new IllegalArgumentException("Input batch cannot be null");
+        }
+        int[] scratch = new int[NETWORK_MAX];
+        for (int[] array : arrays) {
+            if (array == null) {
+                logger.error("Input batch contains a null array");
+                throw new IllegalArgumentException("Input batch cannot contain null arrays");
+            }
+            sort(array, 0, array.length, scratch);
+        }
+    }
+
+    /**
+     * Sorts every array of the batch independently.
+     *
+     * @throws IllegalArgumentException if the batch or any of its arrays is null
+     */
+    public static <T extends Comparable<T>> void sortAll(T[][] arrays) {
+        if (arrays == null) {
+            logger.error("Input batch is null");
+            throw new IllegalArgumentException("Input batch cannot be null");
+        }
+        Object[] scratch = new Object[NETWORK_MAX];
+        for (T[] array : arrays) {
+            if (array == null) {
+                logger.error("Input batch contains a null array");
+                throw new IllegalArgumentException("Input batch cannot contain null arrays");
+            }
+            sort(array, 0, array.length, scratch);
+        }
+    }
+
+    /**
+     * Sorts each consecutive segment of {@code segmentLength} values of a flat array independently; a final
+     * shorter segment is sorted on its own. Packing many small arrays into one flat array avoids a separate
+     * object and pointer indirection per array.
+     *
+     * @throws IllegalArgumentException if the data is null or the segment length is not positive
+     */
+    public static void sortSegments(int[] data, int segmentLength) {
+        if (data == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (segmentLength < 1) {
+            throw new IllegalArgumentException("Segment length must be positive");
+        }
+        int[] scratch = new int[NETWORK_MAX];
+        for (int from = 0; from < data.length; from += segmentLength) {
+            sort(data, from, Math.min(from + segmentLength, data.length), scratch);
+        }
+    }
+
+    private static void networkSort(int[] array, int from, int to) {
+        int[] network = NETWORKS[Math.max(0, to - from)];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = from + network[c];
+            int j = from + network[c + 1];
+            int a = array[i];
+            int b = array[j];
+            array[i] = Math.min(a, b);
+            array[j] = Math.max(a, b);
+        }
+    }
+
+    private static <T extends Comparable<T>> void networkSort(T[] array, int from, int to) {
+        int[] network = NETWORKS[Math.max(0, to - from)];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = from + network[c];
+            int j = from + network[c + 1];
+            T a = array[i];
+            T b = array[j];
+            boolean exchange = a.compareTo(b) > 0;
+            array[i] = exchange ? b : a;
+            array[j] = exchange ? a : b;
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code [from, mid)} and {@code [mid, to)}, copying the left run into the scratch
+     * array first.
+     */
+    private static void branchlessMerge(int[] array, int from, int mid, int to, int[] scratch) {
+        int leftLength = mid - from;
+        System.arraycopy(array, from, scratch, 0, leftLength);
+        int i = 0;
+        int j = mid;
+        int k = from;
+        while (i < leftLength && j < to) {
+            int a = scratch[i];
+            int b = array[j];
+            boolean takeRight = b < a;
+            array[k++] = takeRight ? b : a;
+            i += takeRight ? 0 : 1;
+            j += takeRight ? 1 : 0;
+        }
+        // Whatever remains of the right run is already in place
+        System.arraycopy(scratch, i, array, k, leftLength - i);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> void branchlessMerge(T[] array, int from, int mid, int to,
+                                                                  Object[] scratch) {
+        int leftLength = mid - from;
+        System.arraycopy(array, from, scratch, 0, leftLength);
+        int i = 0;
+        int j = mid;
+        int k = from;
+        while (i < leftLength && j < to) {
+            T a = (T) scratch[i];
+            T b = array[j];
+            boolean takeRight = b.compareTo(a) < 0;
+            array[k++] = takeRight ? b : a;
+            i += takeRight ? 0 : 1;
+            j += takeRight ? 1 : 0;
+        }
+        System.arraycopy(scratch, i, array, k, leftLength - i);
+    }
+
+    private static void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= from && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    /**
+     * Returns the comparator pairs of the network for {@code length} elements, for {@code 0 <= length <= 16}.
+     */
+    static int[] network(int length) {
+        return NETWORKS[length].clone();
+    }
+
+    /**
+     * Builds Batcher's odd-even merge sort network for 16 inputs and derives every smaller size by dropping the
+     * comparators that touch an index outside the range. This is valid because the missing inputs can be read
+     * as {@code +infinity} padding at the end, which those comparators would never move.
+     */
+    private static int[][] buildNetworks() {
+        int[] full = new int[2 * 63];
+        int count = 0;
+        for (int p = 1; p < NETWORK_MAX; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < NETWORK_MAX; j += 2 * k) {
+                    for (int i = 0; i < k && i + j + k < NETWORK_MAX; i++) {
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            full[count++] = i + j;
+                            full[count++] = i + j + k;
+                        }
+                    }
+                }
+            }
+        }
+
+        int[][] networks = new int[NETWORK_MAX + 1][];
+        for (int length = 0; length <= NETWORK_MAX; length++) {
+            int[] pairs = new int[count];
+            int used = 0;
+            for (int c = 0; c < count; c += 2) {
+                if (full[c + 1] < length) {
+                    pairs[used++] = full[c];
+                    pairs[used++] = full[c + 1];
+                }
+            }
+            networks[length] = Arrays.copyOf(pairs, used);
+        }
+        return networks;
+    }
+}
@@ -47,6 +47,5 @@ public interface SortingAlgorithm<T extends Comparable<T>> {
             logger.error("Input array is null");
             throw new IllegalArgumentException("Input array cannot be null");
         }
-        logger.debug("Input validation successful for array of length: {}", array.length);
     }
 }
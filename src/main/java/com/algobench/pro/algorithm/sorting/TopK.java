@@ -0,0 +1,152 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streaming selection of the {@code k} largest elements with a bounded min-heap.
+ * <p>
+ * The heap holds at most {@code k} elements, with the smallest retained element at its root. Each offered
+ * element is compared against that root and discarded unless it is larger, so a stream of {@code n} elements
+ * costs O(n log k) comparisons in the worst case and close to {@code n} on typical data. Memory stays
+ * O(k) no matter how long the stream is, so sources that do not fit in memory, or are never materialized as an
+ * array, can be processed through {@link #offer} or {@link #largest(Iterator, int)}.
+ *
+ * @param <T> the type of elements, must implement Comparable
+ * @version 1.0
+ * @see IntTopK
+ * @see SelectionAlgorithm
+ */
+public class TopK<T extends Comparable<T>> {
+    private static final Logger logger = LogManager.getLogger(TopK.class);
+
+    private final int k;
+    private final Object[] heap;
+    private int size;
+
+    /**
+     * Creates an empty selector that retains the {@code k} largest offered elements.
+     *
+     * @param k the number of elements to retain
+     * @throws IllegalArgumentException if {@code k} is not positive
+     */
+    public TopK(int k) {
+        if (k < 1) {
+            logger.error("Invalid top-k size: {}", k);
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+        this.heap = new Object[k];
+    }
+
+    /**
+     * Returns the {@code k} largest elements of the iterator in descending order, or all of them if there are
+     * fewer than {@code k}.
+     *
+     * @throws IllegalArgumentException if the iterator or any element is null, or {@code k} is not positive
+     */
+    public static <T extends Comparable<T>> List<T> largest(Iterator<? extends T> elements, int k) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Elements cannot be null");
+        }
+        TopK<T> topK = new TopK<>(k);
+        while (elements.hasNext()) {
+            topK.offer(elements.next());
+        }
+        return topK.toSortedList();
+    }
+
+    /**
+     * Returns the {@code k} largest elements of the array in descending order, or all of them if there are
+     * fewer than {@code k}. The array is not modified.
+     *
+     * @throws IllegalArgumentException if the array or any element is null, or {@code k} is not positive
+     */
+    public static <T extends Comparable<T>> List<T> largest(T[] array, int k) {
+        if (array == null) {
+            logger.error("Input array is null");
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        TopK<T> topK = new TopK<>(k);
+        for (T element : array) {
+            topK.offer(element);
+        }
+        return topK.toSortedList();
+    }
+
+    /**
+     * Offers one element, retaining it if it is among the {@code k} largest seen so far.
+     *
+     * @throws IllegalArgumentException if the element is null
+     */
+    public void offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        if (size < k) {
+            heap[size] = element;
+            siftUp(size++);
+        } else if (element.compareTo(elementAt(0)) > 0) {
+            heap[0] = element;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Returns the number of retained elements, at most {@code k}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the retained elements in descending order without changing the selector.
+     */
+    public List<T> toSortedList() {
+        @SuppressWarnings("unchecked")
+        T[] elements = (T[]) Arrays.copyOf(heap, size, Comparable[].class);
+        Arrays.sort(elements, Collections.reverseOrder());
+        return new ArrayList<>(Arrays.asList(elements));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
+    }
+
+    private void siftUp(int index) {
+        T element = elementAt(index);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            T parentElement = elementAt(parent);
+            if (element.compareTo(parentElement) >= 0) {
+                break;
+            }
+            heap[index] = parentElement;
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    private void siftDown(int index) {
+        T element = elementAt(index);
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && elementAt(child + 1).compareTo(elementAt(child)) < 0) {
+                child++;
+            }
+            if (element.compareTo(elementAt(child)) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = element;
+    }
+}
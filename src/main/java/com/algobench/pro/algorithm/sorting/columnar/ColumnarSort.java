@@ -0,0 +1,301 @@
+package com.algobench.pro.algorithm.sorting.columnar;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts records stored column-wise, as parallel primitive arrays, without materializing row objects.
+ * <p>
+ * The sorter is configured with one or more {@link SortKey}s, most significant first. {@link #sortOrder()}
+ * computes the permutation of row indices that orders the rows by those keys, with ties kept in their
+ * original order, and the {@code gather} and {@code reorder} methods then apply that permutation to any
+ * number of key or payload columns, one column per pass so that every pass streams through the permutation
+ * and the output sequentially.
+ * <p>
+ * The permutation is built least significant key first, each step being a stable sort of the row indices by
+ * one group of keys. Every key is encoded into an unsigned {@code long} (see {@link SortKey}); adjacent keys
+ * whose encodings fit in 64 bits together, such as two {@code int} columns, are packed into one word and
+ * handled by a single step. Each step is an LSD radix sort with 8-bit digits whose histograms are all built
+ * in one pass over the keys, and digits that are the same for every row are skipped, so narrow or clustered
+ * keys cost fewer passes. Inputs of up to {@value #INSERTION_SORT_THRESHOLD} rows are sorted by comparison
+ * with insertion sort instead.
+ *
+ * @version 1.0
+ * @see SortKey
+ */
+public class ColumnarSort {
+    private static final Logger logger = LogManager.getLogger(ColumnarSort.class);
+
+    /** Inputs up to this many rows are sorted by insertion sort instead of radix sort. */
+    static final int INSERTION_SORT_THRESHOLD = 64;
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    private final List<SortKey> keys;
+
+    /**
+     * Creates a columnar sort over the given keys, most significant first.
+     * @throws IllegalArgumentException if no keys are given or a key is null
+     */
+    public ColumnarSort(SortKey... keys) {
+        this(keys == null ? null : Arrays.asList(keys));
+    }
+
+    /**
+     * Creates a columnar sort over the given keys, most significant first.
+     * @throws IllegalArgumentException if no keys are given or a key is null
+     */
+    public ColumnarSort(List<SortKey> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort key is required");
+        }
+        if (keys.contains(null)) {
+            throw new IllegalArgumentException("Sort keys cannot be null");
+        }
+        this.keys = List.copyOf(keys);
+    }
+
+    public List<SortKey> getKeys() {
+        return keys;
+    }
+
+    public String getName() {
+        return "Columnar Sort";
+    }
+
+    /**
+     * Computes the stable sorting permutation of the rows from the current contents of the key columns.
+     * @return The row indices in sorted order: position {@code i} holds the row that belongs at {@code i}
+     * @throws IllegalArgumentException if the key columns have different lengths
+     */
+    public int[] sortOrder() {
+        int rows = keys.get(0).length();
+        for (SortKey key : keys) {
+            if (key.length() != rows) {
+                logger.error("Key columns have different lengths: {} and {}", rows, key.length());
+                throw new IllegalArgumentException("All key columns must have the same length");
+            }
+        }
+
+        Instrumentation.record(TraceEvent.SORT_START, rows, 0);
+        int[] order = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            order[i] = i;
+        }
+        if (rows > 1) {
+            long[] packed = new long[rows];
+            long[] keyBuffer = rows > INSERTION_SORT_THRESHOLD ? new long[rows] : null;
+            int[] orderBuffer = rows > INSERTION_SORT_THRESHOLD ? new int[rows] : null;
+
+            int end = keys.size();
+            while (end > 0) {
+                int start = end - 1;
+                int width = keys.get(start).width();
+                while (start > 0 && width + keys.get(start - 1).width() <= Long.SIZE) {
+                    start--;
+                    width += keys.get(start).width();
+                }
+                for (int k = start; k < end; k++) {
+                    keys.get(k).encode(order, packed, k > start);
+                }
+                if (rows <= INSERTION_SORT_THRESHOLD) {
+                    insertionSort(packed, order);
+                } else {
+                    radixSort(packed, order, width, keyBuffer, orderBuffer);
+                }
+                end = start;
+            }
+        }
+        Instrumentation.record(TraceEvent.SORT_END, rows, 0);
+        return order;
+    }
+
+    /**
+     * Returns a new column holding {@code column[order[i]]} at position {@code i}.
+     * @throws IllegalArgumentException if the column and the permutation have different lengths
+     */
+    public static int[] gather(int[] column, int[] order) {
+        checkColumn(column == null ? -1 : column.length, order);
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new column holding {@code column[order[i]]} at position {@code i}.
+     * @throws IllegalArgumentException if the column and the permutation have different lengths
+     */
+    public static long[] gather(long[] column, int[] order) {
+        checkColumn(column == null ? -1 : column.length, order);
+        long[] result = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new column holding {@code column[order[i]]} at position {@code i}.
+     * @throws IllegalArgumentException if the column and the permutation have different lengths
+     */
+    public static double[] gather(double[] column, int[] order) {
+        checkColumn(column == null ? -1 : column.length, order);
+        double[] result = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new column holding {@code column[order[i]]} at position {@code i}.
+     * @throws IllegalArgumentException if the column and the permutation have different lengths
+     */
+    public static <T> T[] gather(T[] column, int[] order) {
+        checkColumn(column == null ? -1 : column.length, order);
+        T[] result = Arrays.copyOf(column, order.length);
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Applies the permutation to each column in place, gathering through one scratch array shared by all
+     * columns.
+     * @throws IllegalArgumentException if a column and the permutation have different lengths
+     */
+    public static void reorder(int[] order, int[]... columns) {
+        for (int[] column : columns) {
+            checkColumn(column == null ? -1 : column.length, order);
+        }
+        int[] scratch = new int[order.length];
+        for (int[] column : columns) {
+            for (int i = 0; i < order.length; i++) {
+                scratch[i] = column[order[i]];
+            }
+            System.arraycopy(scratch, 0, column, 0, order.length);
+        }
+    }
+
+    /**
+     * Applies the permutation to each column in place, gathering through one scratch array shared by all
+     * columns.
+     * @throws IllegalArgumentException if a column and the permutation have different lengths
+     */
+    public static void reorder(int[] order, long[]... columns) {
+        for (long[] column : columns) {
+            checkColumn(column == null ? -1 : column.length, order);
+        }
+        long[] scratch = new long[order.length];
+        for (long[] column : columns) {
+            for (int i = 0; i < order.length; i++) {
+                scratch[i] = column[order[i]];
+            }
+            System.arraycopy(scratch, 0, column, 0, order.length);
+        }
+    }
+
+    /**
+     * Applies the permutation to each column in place, gathering through one scratch array shared by all
+     * columns.
+     * @throws IllegalArgumentException if a column and the permutation have different lengths
+     */
+    public static void reorder(int[] order, double[]... columns) {
+        for (double[] column : columns) {
+            checkColumn(column == null ? -1 : column.length, order);
+        }
+        double[] scratch = new double[order.length];
+        for (double[] column : columns) {
+            for (int i = 0; i < order.length; i++) {
+                scratch[i] = column[order[i]];
+            }
+            System.arraycopy(scratch, 0, column, 0, order.length);
+        }
+    }
+
+    private static void checkColumn(int columnLength, int[] order) {
+        if (order == null) {
+            logger.error("Permutation is null");
+            throw new IllegalArgumentException("Permutation cannot be null");
+        }
+        if (columnLength != order.length) {
+            logger.error("Column length {} does not match permutation length {}", columnLength, order.length);
+            throw new IllegalArgumentException("Column must be non-null and as long as the permutation");
+        }
+    }
+
+    /**
+     * Stably sorts the unsigned keys, applying every move to {@code order}; only the low {@code width} bits
+     * of the keys may be set. The buffers must be as long as the keys.
+     */
+    private static void radixSort(long[] keys, int[] order, int width, long[] keyBuffer, int[] orderBuffer) {
+        int n = keys.length;
+        int passes = (width + RADIX_BITS - 1) / RADIX_BITS;
+        int[][] counts = new int[passes][BUCKETS];
+        for (long key : keys) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & (BUCKETS - 1)]++;
+            }
+        }
+
+        long[] sourceKeys = keys;
+        int[] sourceOrder = order;
+        long[] targetKeys = keyBuffer;
+        int[] targetOrder = orderBuffer;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            if (count[(int) (sourceKeys[0] >>> shift) & (BUCKETS - 1)] == n) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                int bucketSize = count[bucket];
+                count[bucket] = offset;
+                offset += bucketSize;
+            }
+            for (int i = 0; i < n; i++) {
+                long key = sourceKeys[i];
+                int position = count[(int) (key >>> shift) & (BUCKETS - 1)]++;
+                targetKeys[position] = key;
+                targetOrder[position] = sourceOrder[i];
+            }
+
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            int[] swapOrder = sourceOrder;
+            sourceOrder = targetOrder;
+            targetOrder = swapOrder;
+        }
+
+        if (sourceOrder != order) {
+            System.arraycopy(sourceOrder, 0, order, 0, n);
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] order) {
+        for (int i = 1; i < keys.length; i++) {
+            long key = keys[i];
+            int row = order[i];
+            int j = i - 1;
+            while (j >= 0 && Long.compareUnsigned(keys[j], key) > 0) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = row;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.algobench.pro.algorithm.sorting.columnar;
+
+/**
+ * A key column of a {@link ColumnarSort} together with its sort direction.
+ * <p>
+ * Each column type has its own encoding into an unsigned {@code long} whose natural order is the requested
+ * order of the column: signed integers have their sign bit flipped, doubles are mapped through their IEEE 754
+ * bits so that the encoding follows {@link Double#compare} (with {@code -0.0} before {@code 0.0} and NaN
+ * last), and descending keys are additionally complemented. Keys of integer columns only occupy the low
+ * {@value Integer#SIZE} bits, which lets the sorter pack them next to other keys.
+ */
+public abstract class SortKey {
+    private final SortOrder order;
+
+    private SortKey(SortOrder order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+        this.order = order;
+    }
+
+    /**
+     * Creates a key over an {@code int[]} column.
+     * @throws IllegalArgumentException if the column or the order is null
+     */
+    public static SortKey of(int[] column, SortOrder order) {
+        return new IntKey(checkColumn(column), order);
+    }
+
+    /**
+     * Creates a key over a {@code long[]} column.
+     * @throws IllegalArgumentException if the column or the order is null
+     */
+    public static SortKey of(long[] column, SortOrder order) {
+        return new LongKey(checkColumn(column), order);
+    }
+
+    /**
+     * Creates a key over a {@code double[]} column.
+     * @throws IllegalArgumentException if the column or the order is null
+     */
+    public static SortKey of(double[] column, SortOrder order) {
+        return new DoubleKey(checkColumn(column), order);
+    }
+
+    public SortOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the number of rows in the column.
+     */
+    public abstract int length();
+
+    /**
+     * Returns the number of low bits used by the encoded keys.
+     */
+    abstract int width();
+
+    /**
+     * Stores the encoded key of row {@code rows[i]} in {@code keys[i]}, shifted into the low {@link #width()}
+     * bits after the bits already present when {@code append} is set. Keys of full {@value Long#SIZE}-bit
+     * width are never appended to others and ignore the flag.
+     */
+    abstract void encode(int[] rows, long[] keys, boolean append);
+
+    boolean isDescending() {
+        return order == SortOrder.DESCENDING;
+    }
+
+    private static <C> C checkColumn(C column) {
+        if (column == null) {
+            throw new IllegalArgumentException("Key column cannot be null");
+        }
+        return column;
+    }
+
+    private static final class IntKey extends SortKey {
+        private final int[] column;
+
+        IntKey(int[] column, SortOrder order) {
+            super(order);
+            this.column = column;
+        }
+
+        @Override
+        public int length() {
+            return column.length;
+        }
+
+        @Override
+        int width() {
+            return Integer.SIZE;
+        }
+
+        @Override
+        void encode(int[] rows, long[] keys, boolean append) {
+            int flip = isDescending() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+            for (int i = 0; i < rows.length; i++) {
+                long key = (column[rows[i]] ^ flip) & 0xFFFFFFFFL;
+                keys[i] = append ? keys[i] << Integer.SIZE | key : key;
+            }
+        }
+    }
+
+    private static final class LongKey extends SortKey {
+        private final long[] column;
+
+        LongKey(long[] column, SortOrder order) {
+            super(order);
+            this.column = column;
+        }
+
+        @Override
+        public int length() {
+            return column.length;
+        }
+
+        @Override
+        int width() {
+            return Long.SIZE;
+        }
+
+        @Override
+        void encode(int[] rows, long[] keys, boolean append) {
+            long flip = isDescending() ? Long.MAX_VALUE : Long.MIN_VALUE;
+            for (int i = 0; i < rows.length; i++) {
+                keys[i] = column[rows[i]] ^ flip;
+            }
+        }
+    }
+
+    private static final class DoubleKey extends SortKey {
+        private final double[] column;
+
+        DoubleKey(double[] column, SortOrder order) {
+            super(order);
+            this.column = column;
+        }
+
+        @Override
+        public int length() {
+            return column.length;
+        }
+
+        @Override
+        int width() {
+            return Long.SIZE;
+        }
+
+        @Override
+        void encode(int[] rows, long[] keys, boolean append) {
+            long complement = isDescending() ? -1L : 0L;
+            for (int i = 0; i < rows.length; i++) {
+                long bits = Double.doubleToLongBits(column[rows[i]]);
+                keys[i] = bits ^ (bits >> 63 | Long.MIN_VALUE) ^ complement;
+            }
+        }
+    }
+}
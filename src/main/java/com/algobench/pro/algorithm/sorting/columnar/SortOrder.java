@@ -0,0 +1,9 @@
+package com.algobench.pro.algorithm.sorting.columnar;
+
+/**
+ * Direction in which a {@link SortKey} column is ordered.
+ */
+public enum SortOrder {
+    ASCENDING,
+    DESCENDING
+}
@@ -0,0 +1,228 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+import com.algobench.pro.algorithm.sorting.LongSortingAlgorithm;
+import com.algobench.pro.algorithm.sorting.RadixSort;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts binary files larger than the heap with an external (out-of-core) merge sort.
+ * <p>
+ * Files are sequences of fixed-width records, each a big-endian signed 64-bit key of
+ * {@value #RECORD_BYTES} bytes. The sort proceeds in two phases:
+ * <ol>
+ *     <li><b>Run generation</b> - the input is read through a {@link FileChannel} in chunks of
+ *     {@link ExternalSortConfig#getChunkSizeBytes()}, each chunk is sorted in memory by a
+ *     {@link LongSortingAlgorithm} and written to a temporary run file.</li>
+ *     <li><b>Merging</b> - up to {@link ExternalSortConfig#getFanIn()} runs at a time are combined by a k-way
+ *     merge that reads every run through a {@link MappedRunReader} and selects the next record with a
+ *     {@link LoserTree}. Passes repeat until one run remains, which becomes the output file.</li>
+ * </ol>
+ * Heap usage is bounded by the chunk size plus the sorter's own buffers, regardless of the file size.
+ *
+ * @version 1.0
+ * @see ExternalSortConfig
+ */
+public class ExternalMergeSort {
+    private static final Logger logger = LogManager.getLogger(ExternalMergeSort.class);
+
+    /** Width of one record in bytes. */
+    public static final int RECORD_BYTES = Long.BYTES;
+
+    private final ExternalSortConfig config;
+    private final LongSortingAlgorithm runSorter;
+
+    /**
+     * Creates an external merge sort with default settings, sorting runs with {@link RadixSort}.
+     */
+    public ExternalMergeSort() {
+        this(new ExternalSortConfig(), new RadixSort());
+    }
+
+    /**
+     * Creates an external merge sort.
+     *
+     * @param config chunk size, merge fan-in and buffer settings
+     * @param runSorter the in-memory algorithm used to sort each chunk into a run
+     * @throws IllegalArgumentException if either argument is null
+     */
+    public ExternalMergeSort(ExternalSortConfig config, LongSortingAlgorithm runSorter) {
+        if (config == null || runSorter == null) {
+            throw new IllegalArgumentException("Configuration and run sorter cannot be null");
+        }
+        this.config = config;
+        this.runSorter = runSorter;
+    }
+
+    /**
+     * Sorts the records of {@code input} in ascending order into {@code output}.
+     *
+     * @param input the file to sort; it is not modified
+     * @param output the file to write; replaced if it exists
+     * @return statistics about the runs and merge passes performed
+     * @throws IllegalArgumentException if a path is null or the input length is not a multiple of the record width
+     * @throws IOException if reading, writing or mapping a file fails
+     */
+    public ExternalSortStatistics sort(Path input, Path output) throws IOException {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output paths cannot be null");
+        }
+        long inputBytes = Files.size(input);
+        if (inputBytes % RECORD_BYTES != 0) {
+            logger.error("Input size {} is not a multiple of the record width", inputBytes);
+            throw new IllegalArgumentException("Input length must be a multiple of " + RECORD_BYTES + " bytes");
+        }
+
+        logger.info("Starting external sort of {} ({} bytes) with {}", input, inputBytes, config);
+        List<Path> runs = new ArrayList<>();
+        int mergePasses = 0;
+        try {
+            createRuns(input, inputBytes / RECORD_BYTES, runs);
+            int initialRuns = runs.size();
+            logger.info("Created {} initial runs", initialRuns);
+
+            while (runs.size() > 1) {
+                runs = mergePass(runs);
+                mergePasses++;
+                logger.info("Merge pass {} produced {} runs", mergePasses, runs.size());
+            }
+
+            if (runs.isEmpty()) {
+                Files.write(output, new byte[0]);
+            } else {
+                Files.move(runs.remove(0), output, StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.info("External sort completed: {} records", inputBytes / RECORD_BYTES);
+            return new ExternalSortStatistics(inputBytes / RECORD_BYTES, initialRuns, mergePasses);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    public ExternalSortConfig getConfig() {
+        return config;
+    }
+
+    public String getName() {
+        return "External Merge Sort (" + runSorter.getName() + " runs)";
+    }
+
+    private void createRuns(Path input, long totalRecords, List<Path> runs) throws IOException {
+        long[] chunk = new long[(int) Math.min(config.getChunkRecords(), Math.max(totalRecords, 1))];
+        ByteBuffer readBuffer = ByteBuffer.allocateDirect(
+            config.getIoBufferBytes() - config.getIoBufferBytes() % RECORD_BYTES);
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            int count = 0;
+            while (true) {
+                int read = channel.read(readBuffer);
+                readBuffer.flip();
+                while (readBuffer.remaining() >= RECORD_BYTES) {
+                    chunk[count++] = readBuffer.getLong();
+                    if (count == chunk.length) {
+                        runs.add(writeRun(chunk, count));
+                        count = 0;
+                    }
+                }
+                readBuffer.compact();
+                if (read < 0) {
+                    break;
+                }
+            }
+            if (count > 0) {
+                runs.add(writeRun(chunk, count));
+            }
+        }
+    }
+
+    private Path writeRun(long[] chunk, int count) throws IOException {
+        // Pad a partial final chunk with the largest key so it sorts to the end and is never written
+        Arrays.fill(chunk, count, chunk.length, Long.MAX_VALUE);
+        runSorter.sort(chunk);
+
+        Path run = Files.createTempFile(config.getTempDirectory(), "algobench-run-", ".bin");
+        try (RunWriter writer = new RunWriter(run, config.getIoBufferBytes())) {
+            writer.write(chunk, count);
+        }
+        return run;
+    }
+
+    private List<Path> mergePass(List<Path> runs) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += config.getFanIn()) {
+                List<Path> group = runs.subList(from, Math.min(from + config.getFanIn(), runs.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                merged.add(merge(group));
+                for (Path run : group) {
+                    Files.delete(run);
+                }
+            }
+            return merged;
+        } catch (IOException | RuntimeException e) {
+            for (Path run : merged) {
+                if (!runs.contains(run)) {
+                    Files.deleteIfExists(run);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private Path merge(List<Path> group) throws IOException {
+        int k = group.size();
+        MappedRunReader[] readers = new MappedRunReader[k];
+        long[] heads = new long[k];
+        boolean[] exhausted = new boolean[k];
+        Path target = Files.createTempFile(config.getTempDirectory(), "algobench-run-", ".bin");
+        try {
+            for (int i = 0; i < k; i++) {
+                readers[i] = new MappedRunReader(group.get(i), config.getMapWindowBytes());
+                exhausted[i] = !readers[i].hasNext();
+                if (!exhausted[i]) {
+                    heads[i] = readers[i].next();
+                }
+            }
+
+            LoserTree tree = new LoserTree(heads, exhausted);
+            try (RunWriter writer = new RunWriter(target, config.getIoBufferBytes())) {
+                while (!tree.isEmpty()) {
+                    int winner = tree.winner();
+                    writer.write(heads[winner]);
+                    if (readers[winner].hasNext()) {
+                        heads[winner] = readers[winner].next();
+                    } else {
+                        exhausted[winner] = true;
+                    }
+                    tree.replaceWinner();
+                }
+            }
+            return target;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        } finally {
+            for (MappedRunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+}
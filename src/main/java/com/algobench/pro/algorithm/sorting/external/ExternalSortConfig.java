@@ -0,0 +1,100 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Configuration settings for {@link ExternalMergeSort}.
+ */
+public class ExternalSortConfig {
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final long MB = 1024L * 1024L;
+
+    private final long chunkSizeBytes;
+    private final int fanIn;
+    private final int ioBufferBytes;
+    private final long mapWindowBytes;
+    private final Path tempDirectory;
+
+    /**
+     * Creates an external sort configuration with default settings from application.properties.
+     */
+    public ExternalSortConfig() {
+        this(
+            config.getIntProperty("external.sort.chunk.mb", 64) * MB,
+            config.getIntProperty("external.sort.fan.in", 16),
+            config.getIntProperty("external.sort.io.buffer.kb", 1024) * 1024,
+            config.getIntProperty("external.sort.map.window.mb", 16) * MB,
+            Paths.get(config.getProperty("external.sort.temp.dir", System.getProperty("java.io.tmpdir")))
+        );
+    }
+
+    /**
+     * Creates an external sort configuration with custom settings.
+     *
+     * @param chunkSizeBytes bytes of input sorted in memory per run; bounds the sort's heap usage
+     * @param fanIn maximum number of runs combined by one k-way merge
+     * @param ioBufferBytes size of the buffers used to read input and write runs
+     * @param mapWindowBytes size of each memory-mapped window when reading runs during merging
+     * @param tempDirectory directory in which run files are created
+     * @throws IllegalArgumentException if a size is smaller than one record or the fan-in is below 2
+     */
+    public ExternalSortConfig(long chunkSizeBytes, int fanIn, int ioBufferBytes,
+                              long mapWindowBytes, Path tempDirectory) {
+        if (chunkSizeBytes < ExternalMergeSort.RECORD_BYTES
+                || chunkSizeBytes / ExternalMergeSort.RECORD_BYTES > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Chunk size must hold between 1 and 2^31 - 9 records");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Merge fan-in must be at least 2");
+        }
+        if (ioBufferBytes < ExternalMergeSort.RECORD_BYTES || mapWindowBytes < ExternalMergeSort.RECORD_BYTES) {
+            throw new IllegalArgumentException("Buffer sizes must hold at least one record");
+        }
+        if (tempDirectory == null) {
+            throw new IllegalArgumentException("Temporary directory cannot be null");
+        }
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.fanIn = fanIn;
+        this.ioBufferBytes = ioBufferBytes;
+        this.mapWindowBytes = mapWindowBytes;
+        this.tempDirectory = tempDirectory;
+    }
+
+    public long getChunkSizeBytes() {
+        return chunkSizeBytes;
+    }
+
+    /**
+     * Returns the number of records sorted in memory per run.
+     */
+    public int getChunkRecords() {
+        return (int) (chunkSizeBytes / ExternalMergeSort.RECORD_BYTES);
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    public int getIoBufferBytes() {
+        return ioBufferBytes;
+    }
+
+    public long getMapWindowBytes() {
+        return mapWindowBytes;
+    }
+
+    public Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ExternalSortConfig{chunkSizeBytes=%d, fanIn=%d, ioBufferBytes=%d, mapWindowBytes=%d, tempDirectory=%s}",
+            chunkSizeBytes, fanIn, ioBufferBytes, mapWindowBytes, tempDirectory
+        );
+    }
+}
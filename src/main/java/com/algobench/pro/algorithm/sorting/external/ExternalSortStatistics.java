@@ -0,0 +1,38 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+/**
+ * Summary of one {@link ExternalMergeSort} execution.
+ */
+public class ExternalSortStatistics {
+    private final long records;
+    private final int initialRuns;
+    private final int mergePasses;
+
+    public ExternalSortStatistics(long records, int initialRuns, int mergePasses) {
+        this.records = records;
+        this.initialRuns = initialRuns;
+        this.mergePasses = mergePasses;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getBytes() {
+        return records * ExternalMergeSort.RECORD_BYTES;
+    }
+
+    public int getInitialRuns() {
+        return initialRuns;
+    }
+
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExternalSortStatistics{records=%d, initialRuns=%d, mergePasses=%d}",
+                             records, initialRuns, mergePasses);
+    }
+}
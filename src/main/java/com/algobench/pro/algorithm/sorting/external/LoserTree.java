@@ -0,0 +1,79 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+import java.util.Arrays;
+
+/**
+ * Tournament tree of losers used to select the smallest head among k sorted sources.
+ * <p>
+ * Internal nodes store the loser of the match played there and node 0 holds the overall winner, so
+ * replacing the winner's key only replays the matches on the path from its leaf to the root:
+ * {@code ceil(log2(k))} comparisons per record, independent of which source wins.
+ */
+final class LoserTree {
+    private final int size;
+    private final int[] tree;
+    private final long[] keys;
+    private final boolean[] exhausted;
+
+    /**
+     * Builds the tree over the current head of every source.
+     *
+     * @param keys the head key of each source, updated in place by the caller through {@link #replaceWinner}
+     * @param exhausted whether each source has no records left
+     */
+    LoserTree(long[] keys, boolean[] exhausted) {
+        this.size = keys.length;
+        this.keys = keys;
+        this.exhausted = exhausted;
+        this.tree = new int[size];
+        Arrays.fill(tree, -1);
+        for (int source = size - 1; source >= 0; source--) {
+            replay(source);
+        }
+    }
+
+    /**
+     * Returns the source holding the smallest head key.
+     */
+    int winner() {
+        return tree[0];
+    }
+
+    /**
+     * Returns whether every source is exhausted.
+     */
+    boolean isEmpty() {
+        return exhausted[tree[0]];
+    }
+
+    /**
+     * Replays the tournament after the winner's head key has changed or the winner became exhausted.
+     */
+    void replaceWinner() {
+        replay(tree[0]);
+    }
+
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (source + size) >>> 1; node > 0; node >>>= 1) {
+            int opponent = tree[node];
+            if (opponent == -1) {
+                // Only reached while building: park here until the sibling subtree reports its winner
+                tree[node] = winner;
+                return;
+            }
+            if (beats(opponent, winner)) {
+                tree[node] = winner;
+                winner = opponent;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) {
+            return false;
+        }
+        return exhausted[b] || keys[a] < keys[b];
+    }
+}
@@ -0,0 +1,58 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader of a sorted run file through a sliding memory-mapped window.
+ * <p>
+ * Only one window of the file is mapped at a time, so runs larger than 2 GB (the limit of a single
+ * mapping) are supported and the reader's address-space footprint stays bounded during wide merges.
+ */
+final class MappedRunReader implements Closeable {
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowBytes;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedRunReader(Path file, long windowBytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowBytes = windowBytes - windowBytes % ExternalMergeSort.RECORD_BYTES;
+        this.windowStart = 0;
+        mapWindow();
+    }
+
+    /**
+     * Returns whether another record is available.
+     */
+    boolean hasNext() {
+        return window.hasRemaining() || windowStart + window.capacity() < fileSize;
+    }
+
+    /**
+     * Returns the next record.
+     */
+    long next() throws IOException {
+        if (!window.hasRemaining()) {
+            windowStart += window.capacity();
+            mapWindow();
+        }
+        return window.getLong();
+    }
+
+    private void mapWindow() throws IOException {
+        long length = Math.min(windowBytes, fileSize - windowStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffered writer of records to a file through a {@link FileChannel} and a direct buffer.
+ */
+final class RunWriter implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    RunWriter(Path file, int bufferBytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes - bufferBytes % ExternalMergeSort.RECORD_BYTES);
+    }
+
+    void write(long record) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.putLong(record);
+    }
+
+    void write(long[] records, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            write(records[i]);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.algobench.pro.algorithm.sorting.offheap;
+
+import com.algobench.pro.util.instrumentation.Instrumentation;
+import com.algobench.pro.util.instrumentation.TraceEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Sorts fixed-width records in place inside a {@link ByteBuffer}, without materializing any Java objects.
+ * <p>
+ * The bytes between the buffer's position and limit are treated as an array of records of
+ * {@link #getRecordSize()} bytes, each holding a signed {@code int} or {@code long} key at
+ * {@link #getKeyOffset()}, read in the buffer's byte order. Records are ordered by that key with an
+ * introspective Quick Sort that compares keys through absolute reads and swaps whole records in place,
+ * eight bytes at a time when the record size allows. Heap allocation is constant, so a direct buffer or a
+ * {@link MappedByteBuffer} of hundreds of millions of records (up to the 2 GB limit of a single buffer) sorts
+ * without producing garbage or GC pauses.
+ * <p>
+ * The sort is not stable. The buffer's position, limit and byte order are left unchanged.
+ *
+ * @version 1.0
+ */
+public class OffHeapRecordSort {
+    private static final Logger logger = LogManager.getLogger(OffHeapRecordSort.class);
+
+    /** Ranges of this many records or fewer are sorted with insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Ranges larger than this use Tukey's ninther instead of a plain median of three. */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Width and signedness of the sort key stored in every record.
+     */
+    public enum KeyType {
+        /** A signed 32-bit key. */
+        INT(Integer.BYTES),
+        /** A signed 64-bit key. */
+        LONG(Long.BYTES);
+
+        private final int width;
+
+        KeyType(int width) {
+            this.width = width;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+    }
+
+    private final int recordSize;
+    private final int keyOffset;
+    private final KeyType keyType;
+
+    /**
+     * Creates a sorter for records with a {@code long} key.
+     *
+     * @param recordSize the width of one record in bytes
+     * @param keyOffset the offset of the key within a record
+     * @throws IllegalArgumentException if the key does not fit inside the record
+     */
+    public OffHeapRecordSort(int recordSize, int keyOffset) {
+        this(recordSize, keyOffset, KeyType.LONG);
+    }
+
+    /**
+     * Creates a sorter for records with a key of the given type.
+     *
+     * @param recordSize the width of one record in bytes
+     * @param keyOffset the offset of the key within a record
+     * @param keyType the width of the key
+     * @throws IllegalArgumentException if the key type is null or the key does not fit inside the record
+     */
+    public OffHeapRecordSort(int recordSize, int keyOffset, KeyType keyType) {
+        if (keyType == null) {
+            throw new IllegalArgumentException("Key type cannot be null");
+        }
+        if (recordSize < 1 || keyOffset < 0 || keyOffset > recordSize - keyType.getWidth()) {
+            throw new IllegalArgumentException(String.format(
+                "A %d-byte key at offset %d does not fit in a %d-byte record", keyType.getWidth(), keyOffset, recordSize));
+        }
+        this.recordSize = recordSize;
+        this.keyOffset = keyOffset;
+        this.keyType = keyType;
+    }
+
+    /**
+     * Sorts the records between the buffer's position and limit in ascending key order.
+     *
+     * @param buffer the buffer holding the records
+     * @throws IllegalArgumentException if the buffer is null or read-only, or its remaining bytes are not a
+     *                                  multiple of the record size
+     */
+    public void sort(ByteBuffer buffer) {
+        if (buffer == null) {
+            logger.error("Input buffer is null");
+            throw new IllegalArgumentException("Input buffer cannot be null");
+        }
+        if (buffer.isReadOnly()) {
+            logger.error("Input buffer is read-only");
+            throw new IllegalArgumentException("Input buffer cannot be read-only");
+        }
+        if (buffer.remaining() % recordSize != 0) {
+            logger.error("Buffer size {} is not a multiple of the record size {}", buffer.remaining(), recordSize);
+            throw new IllegalArgumentException("Buffer size must be a multiple of the record size");
+        }
+
+        int records = buffer.remaining() / recordSize;
+        Instrumentation.record(TraceEvent.SORT_START, records, 0);
+        if (records > 1) {
+            new RecordView(buffer).introSort(0, records - 1, 2 * (31 - Integer.numberOfLeadingZeros(records)));
+        }
+        Instrumentation.record(TraceEvent.SORT_END, records, 0);
+    }
+
+    public String getName() {
+        return "Off-Heap Record Sort";
+    }
+
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    public int getKeyOffset() {
+        return keyOffset;
+    }
+
+    public KeyType getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Record-indexed access to one buffer for the duration of a sort.
+     */
+    private final class RecordView {
+        private final ByteBuffer buffer;
+        private final int base;
+        private final boolean longKey;
+
+        RecordView(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.base = buffer.position();
+            this.longKey = keyType == KeyType.LONG;
+        }
+
+        long key(int record) {
+            int index = base + record * recordSize + keyOffset;
+            return longKey ? buffer.getLong(index) : buffer.getInt(index);
+        }
+
+        void introSort(int low, int high, int depthLimit) {
+            while (high - low >= INSERTION_SORT_THRESHOLD) {
+                if (depthLimit-- == 0) {
+                    heapSort(low, high);
+                    return;
+                }
+
+                swap(low, selectPivot(low, high));
+                long pivot = key(low);
+
+                // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+                int lt = low;
+                int gt = high;
+                int i = low + 1;
+                while (i <= gt) {
+                    long value = key(i);
+                    if (value < pivot) {
+                        swap(lt++, i++);
+                    } else if (value > pivot) {
+                        swap(i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+
+                // Recurse into the smaller side, loop on the larger one
+                if (lt - low < high - gt) {
+                    introSort(low, lt - 1, depthLimit);
+                    low = gt + 1;
+                } else {
+                    introSort(gt + 1, high, depthLimit);
+                    high = lt - 1;
+                }
+            }
+            insertionSort(low, high);
+        }
+
+        private int selectPivot(int low, int high) {
+            int mid = low + (high - low) / 2;
+            if (high - low > NINTHER_THRESHOLD) {
+                int step = (high - low) / 8;
+                int first = medianOfThree(low, low + step, low + 2 * step);
+                int second = medianOfThree(mid - step, mid, mid + step);
+                int third = medianOfThree(high - 2 * step, high - step, high);
+                return medianOfThree(first, second, third);
+            }
+            return medianOfThree(low, mid, high);
+        }
+
+        private int medianOfThree(int a, int b, int c) {
+            long keyA = key(a);
+            long keyB = key(b);
+            long keyC = key(c);
+            if (keyA < keyB) {
+                if (keyB < keyC) {
+                    return b;
+                }
+                return keyA < keyC ? c : a;
+            }
+            if (keyA < keyC) {
+                return a;
+            }
+            return keyB < keyC ? c : b;
+        }
+
+        /**
+         * Insertion sort by adjacent swaps, so no record ever has to be held outside the buffer.
+         */
+        private void insertionSort(int low, int high) {
+            for (int i = low + 1; i <= high; i++) {
+                long value = key(i);
+                for (int j = i; j > low && key(j - 1) > value; j--) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        private void heapSort(int low, int high) {
+            int length = high - low + 1;
+            for (int i = length / 2 - 1; i >= 0; i--) {
+                siftDown(low, i, length);
+            }
+            for (int end = length - 1; end > 0; end--) {
+                swap(low, low + end);
+                siftDown(low, 0, end);
+            }
+        }
+
+        private void siftDown(int offset, int root, int length) {
+            int child;
+            while ((child = 2 * root + 1) < length) {
+                if (child + 1 < length && key(offset + child) < key(offset + child + 1)) {
+                    child++;
+                }
+                if (key(offset + root) >= key(offset + child)) {
+                    return;
+                }
+                swap(offset + root, offset + child);
+                root = child;
+            }
+        }
+
+        private void swap(int i, int j) {
+            if (i == j) {
+                return;
+            }
+            int first = base + i * recordSize;
+            int second = base + j * recordSize;
+            int offset = 0;
+            for (; offset + Long.BYTES <= recordSize; offset += Long.BYTES) {
+                long temp = buffer.getLong(first + offset);
+                buffer.putLong(first + offset, buffer.getLong(second + offset));
+                buffer.putLong(second + offset, temp);
+            }
+            for (; offset < recordSize; offset++) {
+                byte temp = buffer.get(first + offset);
+                buffer.put(first + offset, buffer.get(second + offset));
+                buffer.put(second + offset, temp);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.algobench.pro.benchmark;
+
+import java.util.Random;
+
+/**
+ * Shapes of benchmark input data.
+ * <p>
+ * Sorting algorithms can behave very differently on random data than on the presorted or duplicate-heavy
+ * inputs seen in production, so benchmarks can request a specific distribution of keys.
+ */
+public enum InputDistribution {
+    /** Uniformly random keys between 0 and 9999. */
+    RANDOM("Random"),
+    /** Keys already in ascending order. */
+    SORTED("Sorted"),
+    /** Keys in descending order. */
+    REVERSED("Reverse Sorted"),
+    /** Ascending keys with about 1% of the positions swapped at random. */
+    NEARLY_SORTED("Nearly Sorted"),
+    /** Random keys drawn from only ten distinct values. */
+    FEW_UNIQUE("Few Unique");
+
+    private static final int KEY_RANGE = 10000;
+
+    private final String displayName;
+
+    InputDistribution(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Generates an array of the given size following this distribution.
+     * @param size The number of keys to generate
+     * @param random The random source to draw from
+     * @return A new array of keys
+     */
+    public int[] generate(int size, Random random) {
+        int[] array = new int[size];
+        switch (this) {
+            case RANDOM:
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(KEY_RANGE);
+                }
+                break;
+            case SORTED:
+                for (int i = 0; i < size; i++) {
+                    array[i] = i;
+                }
+                break;
+            case REVERSED:
+                for (int i = 0; i < size; i++) {
+                    array[i] = size - i;
+                }
+                break;
+            case NEARLY_SORTED:
+                for (int i = 0; i < size; i++) {
+                    array[i] = i;
+                }
+                for (int swaps = size / 100; swaps > 0; swaps--) {
+                    int a = random.nextInt(size);
+                    int b = random.nextInt(size);
+                    int temp = array[a];
+                    array[a] = array[b];
+                    array[b] = temp;
+                }
+                break;
+            case FEW_UNIQUE:
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(10);
+                }
+                break;
+        }
+        return array;
+    }
+
+    /**
+     * Generates ascending keys {@code 0..size-1} of which all but the given percentage stay in place: the
+     * remaining positions are chosen at random and their keys shuffled among them.
+     * @param size The number of keys to generate
+     * @param sortedPercent The percentage of positions, 0 to 100, that keep their sorted key
+     * @param random The random source to draw from
+     * @return A new array of keys
+     */
+    public static int[] partiallySorted(int size, int sortedPercent, Random random) {
+        if (sortedPercent < 0 || sortedPercent > 100) {
+            throw new IllegalArgumentException("Sorted percentage must be between 0 and 100");
+        }
+        int[] array = new int[size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i;
+            positions[i] = i;
+        }
+
+        // Partial Fisher-Yates: the first 'displaced' entries of positions become a random sample
+        int displaced = (int) ((long) size * (100 - sortedPercent) / 100);
+        for (int i = 0; i < displaced; i++) {
+            int j = i + random.nextInt(size - i);
+            int temp = positions[i];
+            positions[i] = positions[j];
+            positions[j] = temp;
+        }
+        for (int i = displaced - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = array[positions[i]];
+            array[positions[i]] = array[positions[j]];
+            array[positions[j]] = temp;
+        }
+        return array;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,70 @@
+package com.algobench.pro.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Shapes of sorted key sets for search benchmarks.
+ * <p>
+ * Search algorithms that estimate positions from key values, such as interpolation search, are fast on
+ * evenly spread keys and degrade on skewed ones, so search benchmarks can request keys whose spacing
+ * follows a specific distribution.
+ */
+public enum KeyDistribution {
+    /** Keys drawn uniformly from the non-negative {@code int} range. */
+    UNIFORM("Uniform"),
+    /**
+     * Keys whose frequency falls off as {@code 1 / key}, the continuous form of a Zipf distribution with
+     * exponent one: most keys are small and a long tail reaches up to the largest {@code int}.
+     */
+    ZIPFIAN("Zipfian"),
+    /** Keys packed densely around 16 random centers separated by wide empty gaps. */
+    CLUSTERED("Clustered");
+
+    private static final int CLUSTERS = 16;
+
+    private final String displayName;
+
+    KeyDistribution(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Generates keys following this distribution, in ascending order.
+     * @param size The number of keys to generate
+     * @param random The random source to draw from
+     * @return A new sorted array of keys
+     */
+    public int[] generateSorted(int size, Random random) {
+        int[] keys = new int[size];
+        switch (this) {
+            case UNIFORM:
+                for (int i = 0; i < size; i++) {
+                    keys[i] = random.nextInt(Integer.MAX_VALUE);
+                }
+                break;
+            case ZIPFIAN:
+                // Inverse transform sampling of the density 1 / key over [1, Integer.MAX_VALUE]
+                double logRange = Math.log(Integer.MAX_VALUE);
+                for (int i = 0; i < size; i++) {
+                    keys[i] = (int) Math.exp(random.nextDouble() * logRange);
+                }
+                break;
+            case CLUSTERED:
+                int[] centers = new int[CLUSTERS];
+                for (int c = 0; c < CLUSTERS; c++) {
+                    centers[c] = random.nextInt(Integer.MAX_VALUE - 2 * size - 1);
+                }
+                for (int i = 0; i < size; i++) {
+                    keys[i] = centers[random.nextInt(CLUSTERS)] + random.nextInt(2 * size + 1);
+                }
+                break;
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -3,6 +3,10 @@ package com.algobench.pro.benchmark.metrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
 /**
  * Utility class for tracking memory usage during algorithm execution.
  */
@@ -12,10 +16,12 @@ public class MemoryTracker {
     private static final long GC_WAIT_MS = 100;
 
     private final Runtime runtime;
+    private final com.sun.management.ThreadMXBean threadBean;
     private long baselineMemory;
 
     public MemoryTracker() {
         this.runtime = Runtime.getRuntime();
+        this.threadBean = allocationTrackingThreadBean();
         this.baselineMemory = 0;
     }
 
@@ -49,6 +55,30 @@ public class MemoryTracker {
         return delta;
     }
 
+    /**
+     * Gets the memory currently held by direct {@code ByteBuffer}s, which lives outside the heap and is
+     * therefore not part of {@link #getUsedMemory()}.
+     * @return Direct buffer memory in bytes, or 0 if the JVM does not report it
+     */
+    public long getDirectMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the total number of heap bytes allocated so far by the calling thread. The difference between two
+     * readings is the allocation of the code that ran in between, independent of garbage collection, but it
+     * does not include allocations made by other threads such as fork/join workers.
+     * @return Allocated bytes, or -1 if the JVM does not support per-thread allocation tracking
+     */
+    public long getThreadAllocatedBytes() {
+        return threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
     /**
      * Gets the maximum available memory.
      * @return Maximum memory in bytes
@@ -105,4 +135,15 @@ public class MemoryTracker {
             getMemoryDelta() / 1024.0 / 1024.0
         );
     }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingThreadBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+            return allocationBean;
+        }
+        logger.debug("Per-thread allocation tracking is not supported by this JVM");
+        return null;
+    }
 }
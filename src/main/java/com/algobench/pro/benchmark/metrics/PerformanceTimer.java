@@ -26,9 +26,10 @@ public class PerformanceTimer {
             logger.error("Timer is already running");
             throw new IllegalStateException("Timer is already running");
         }
-        startTime = System.nanoTime();
-        isRunning = true;
+        // Log before reading the clock so the logging cost stays outside the measured interval
         logger.debug("Timer started");
+        isRunning = true;
+        startTime = System.nanoTime();
     }
 
     /**
@@ -13,17 +13,32 @@ public class BenchmarkResult {
     private static final Logger logger = LogManager.getLogger(BenchmarkResult.class);
 
     private final String algorithmName;
+    private final String parameterLabel;
     private final Map<Integer, List<Duration>> sizeToTimings;
     private final Map<Integer, Long> sizeToMemoryUsage;
+    private final Map<Integer, Map<String, Double>> sizeToMetrics;
+    private final Set<String> metricNames;
     private final int warmupRuns;
     private final int measurementRuns;
 
     public BenchmarkResult(String algorithmName, int warmupRuns, int measurementRuns) {
+        this(algorithmName, warmupRuns, measurementRuns, "Size");
+    }
+
+    /**
+     * Creates a result whose measurements are keyed by a parameter other than the input size,
+     * for example a thread count or a presortedness percentage.
+     * @param parameterLabel The column header used for the parameter in reports
+     */
+    public BenchmarkResult(String algorithmName, int warmupRuns, int measurementRuns, String parameterLabel) {
         this.algorithmName = algorithmName;
+        this.parameterLabel = parameterLabel;
         this.warmupRuns = warmupRuns;
         this.measurementRuns = measurementRuns;
         this.sizeToTimings = new TreeMap<>();
         this.sizeToMemoryUsage = new TreeMap<>();
+        this.sizeToMetrics = new TreeMap<>();
+        this.metricNames = new LinkedHashSet<>();
     }
 
     /**
@@ -42,6 +57,32 @@ public class BenchmarkResult {
         logger.debug("Recorded memory usage for size {}: {} bytes", inputSize, memoryBytes);
     }
 
+    /**
+     * Records an additional named metric for a specific input size, such as a throughput
+     * or a rate, which is reported as an extra column.
+     */
+    public void setMetric(int inputSize, String name, double value) {
+        sizeToMetrics.computeIfAbsent(inputSize, k -> new LinkedHashMap<>()).put(name, value);
+        metricNames.add(name);
+        logger.debug("Recorded metric {} for size {}: {}", name, inputSize, value);
+    }
+
+    /**
+     * Gets a named metric for a specific input size.
+     * @return The metric value, or {@code null} if it was not recorded
+     */
+    public Double getMetric(int inputSize, String name) {
+        Map<String, Double> metrics = sizeToMetrics.get(inputSize);
+        return metrics == null ? null : metrics.get(name);
+    }
+
+    /**
+     * Gets the names of all recorded metrics in the order they were first recorded.
+     */
+    public Set<String> getMetricNames() {
+        return Collections.unmodifiableSet(metricNames);
+    }
+
     /**
      * Gets statistics for a specific input size.
      */
@@ -69,9 +110,13 @@ public class BenchmarkResult {
         report.append(String.format("Benchmark Results for %s%n", algorithmName));
         report.append(String.format("Configuration: %d warmup runs, %d measurement runs%n",
                                   warmupRuns, measurementRuns));
-        report.append(String.format("%n%-10s %-15s %-15s %-15s %-15s%n",
-                                  "Size", "Avg Time (ms)", "Min Time (ms)", "Max Time (ms)", "Memory (MB)"));
-        report.append("-".repeat(70)).append("\n");
+        report.append(String.format("%n%-10s %-15s %-15s %-15s %-15s",
+                                  parameterLabel, "Avg Time (ms)", "Min Time (ms)", "Max Time (ms)", "Memory (MB)"));
+        for (String name : metricNames) {
+            report.append(String.format(" %-15s", name));
+        }
+        report.append(String.format("%n"));
+        report.append("-".repeat(70 + 16 * metricNames.size())).append("\n");
 
         for (int size : sizeToTimings.keySet()) {
             RunStatistics stats = getStatistics(size);
@@ -81,8 +126,13 @@ public class BenchmarkResult {
                 double maxMs = stats.getMax().toMillis();
                 double memoryMB = sizeToMemoryUsage.getOrDefault(size, 0L) / 1024.0 / 1024.0;
 
-                report.append(String.format("%-10d %-15.2f %-15.2f %-15.2f %-15.2f%n",
+                report.append(String.format("%-10d %-15.2f %-15.2f %-15.2f %-15.2f",
                                          size, avgMs, minMs, maxMs, memoryMB));
+                for (String name : metricNames) {
+                    Double value = getMetric(size, name);
+                    report.append(value == null ? String.format(" %-15s", "-") : String.format(" %-15.2f", value));
+                }
+                report.append(String.format("%n"));
             }
         }
 
@@ -93,6 +143,10 @@ public class BenchmarkResult {
         return algorithmName;
     }
 
+    public String getParameterLabel() {
+        return parameterLabel;
+    }
+
     public Set<Integer> getInputSizes() {
         return Collections.unmodifiableSet(sizeToTimings.keySet());
     }
@@ -0,0 +1,88 @@
+package com.algobench.pro.benchmark.results;
+
+import com.algobench.pro.visualization.table.TableFormatter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a side-by-side report of several benchmark results, with each algorithm's speedup
+ * relative to a baseline algorithm.
+ */
+public class ComparisonReport {
+    private static final Logger logger = LogManager.getLogger(ComparisonReport.class);
+    private final BenchmarkResult baseline;
+    private final List<BenchmarkResult> results;
+
+    /**
+     * Creates a comparison report.
+     * @param baseline The result every other algorithm is compared against
+     * @param others The results to compare with the baseline
+     */
+    public ComparisonReport(BenchmarkResult baseline, List<BenchmarkResult> others) {
+        if (baseline == null) {
+            throw new IllegalArgumentException("Baseline result cannot be null");
+        }
+        this.baseline = baseline;
+        this.results = new ArrayList<>();
+        this.results.add(baseline);
+        this.results.addAll(others);
+    }
+
+    /**
+     * Creates a comparison report from a list whose first element is the baseline.
+     * @param results The results to compare, baseline first
+     * @return The comparison report
+     */
+    public static ComparisonReport ofBaselineFirst(List<BenchmarkResult> results) {
+        if (results == null || results.isEmpty()) {
+            throw new IllegalArgumentException("At least one benchmark result is required");
+        }
+        return new ComparisonReport(results.get(0), results.subList(1, results.size()));
+    }
+
+    /**
+     * Returns how many times faster the given result is than the baseline at an input size,
+     * based on average times. Returns {@code NaN} if either side has no measurements for that size.
+     */
+    public double getSpeedup(BenchmarkResult result, int inputSize) {
+        RunStatistics baseStats = baseline.getStatistics(inputSize);
+        RunStatistics stats = result.getStatistics(inputSize);
+        if (baseStats == null || stats == null || stats.getAverage().isZero()) {
+            return Double.NaN;
+        }
+        return (double) baseStats.getAverage().toNanos() / stats.getAverage().toNanos();
+    }
+
+    /**
+     * Generates the comparison as a plain text table.
+     * @return Formatted report string
+     */
+    public String generateTextReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Comparison Report - baseline: %s%n%n", baseline.getAlgorithmName()));
+
+        TableFormatter table = new TableFormatter(
+            baseline.getParameterLabel(), "Algorithm", "Avg Time (ms)", "Speedup"
+        );
+        for (int size : baseline.getInputSizes()) {
+            for (BenchmarkResult result : results) {
+                RunStatistics stats = result.getStatistics(size);
+                if (stats != null) {
+                    table.addRow(
+                        String.valueOf(size),
+                        result.getAlgorithmName(),
+                        String.format("%.3f", stats.getAverage().toNanos() / 1_000_000.0),
+                        String.format("%.2fx", getSpeedup(result, size))
+                    );
+                }
+            }
+        }
+        report.append(table.format()).append("\n");
+
+        logger.info("Generated comparison report against {}", baseline.getAlgorithmName());
+        return report.toString();
+    }
+}
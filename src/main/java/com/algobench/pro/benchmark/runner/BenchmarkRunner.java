@@ -1,18 +1,65 @@
 package com.algobench.pro.benchmark.runner;
 
+import com.algobench.pro.algorithm.searching.BinarySearch;
+import com.algobench.pro.algorithm.searching.GroupBinarySearch;
+import com.algobench.pro.algorithm.searching.IntGroupBinarySearch;
+import com.algobench.pro.algorithm.searching.IntSearchAlgorithm;
+import com.algobench.pro.algorithm.searching.RangeSearch;
 import com.algobench.pro.algorithm.searching.SearchAlgorithm;
+import com.algobench.pro.algorithm.searching.SortedView;
+import com.algobench.pro.algorithm.searching.filter.BlockedBloomFilter;
+import com.algobench.pro.algorithm.searching.filter.FilteredSearch;
+import com.algobench.pro.algorithm.searching.filter.MembershipFilter;
+import com.algobench.pro.algorithm.searching.filter.XorFilter;
+import com.algobench.pro.algorithm.searching.hash.IntHashIndex;
+import com.algobench.pro.algorithm.searching.layout.IntBTreeIndex;
+import com.algobench.pro.algorithm.searching.layout.IntEytzingerIndex;
+import com.algobench.pro.algorithm.searching.learned.LearnedIndex;
+import com.algobench.pro.algorithm.simd.IntKernels;
+import com.algobench.pro.algorithm.simd.SimdSupport;
+import com.algobench.pro.algorithm.sorting.DoubleSortingAlgorithm;
+import com.algobench.pro.algorithm.sorting.IntSelectionAlgorithm;
+import com.algobench.pro.algorithm.sorting.IntSortingAlgorithm;
+import com.algobench.pro.algorithm.sorting.LongSortingAlgorithm;
+import com.algobench.pro.algorithm.sorting.SelectionAlgorithm;
+import com.algobench.pro.algorithm.sorting.SmallArraySort;
 import com.algobench.pro.algorithm.sorting.SortingAlgorithm;
+import com.algobench.pro.algorithm.sorting.TopK;
+import com.algobench.pro.algorithm.sorting.columnar.ColumnarSort;
+import com.algobench.pro.algorithm.sorting.columnar.SortKey;
+import com.algobench.pro.algorithm.sorting.columnar.SortOrder;
+import com.algobench.pro.algorithm.sorting.external.ExternalMergeSort;
+import com.algobench.pro.algorithm.sorting.offheap.OffHeapRecordSort;
 import com.algobench.pro.benchmark.BenchmarkConfig;
+import com.algobench.pro.benchmark.InputDistribution;
+import com.algobench.pro.benchmark.KeyDistribution;
 import com.algobench.pro.visualization.progress.ProgressBar;
 import com.algobench.pro.benchmark.metrics.MemoryTracker;
 import com.algobench.pro.benchmark.metrics.PerformanceTimer;
 import com.algobench.pro.benchmark.results.BenchmarkResult;
+import com.algobench.pro.benchmark.results.RunStatistics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * Runs benchmarks for algorithms with different input sizes.
@@ -39,23 +86,416 @@ public class BenchmarkRunner {
      * Benchmarks a sorting algorithm with different array sizes.
      */
     public BenchmarkResult benchmarkSorting(SortingAlgorithm<Integer> algorithm) {
-        logger.info("Starting benchmark for {}", algorithm.getName());
+        return benchmarkSorting(algorithm.getName(), this::generateRandomArray, algorithm::sort);
+    }
+
+    /**
+     * Benchmarks a sorting algorithm over arbitrary element types with different array sizes, using the
+     * given generator to build a fresh input array of each requested size.
+     * @param algorithm The algorithm to benchmark
+     * @param generator Creates an unsorted array of the requested size
+     */
+    public <T extends Comparable<T>> BenchmarkResult benchmarkSorting(SortingAlgorithm<T> algorithm,
+                                                                      IntFunction<T[]> generator) {
+        return benchmarkSorting(algorithm.getName(), generator, algorithm::sort);
+    }
+
+    /**
+     * Benchmarks several sorting algorithms with the same configuration so they can be compared in one report.
+     * The first algorithm is treated as the baseline by {@link com.algobench.pro.benchmark.results.ComparisonReport#ofBaselineFirst}.
+     */
+    public List<BenchmarkResult> compareSorting(List<? extends SortingAlgorithm<Integer>> algorithms) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (SortingAlgorithm<Integer> algorithm : algorithms) {
+            results.add(benchmarkSorting(algorithm));
+        }
+        return results;
+    }
+
+    /**
+     * Benchmarks a sorting algorithm with different array sizes on inputs of the given distribution.
+     */
+    public BenchmarkResult benchmarkSorting(SortingAlgorithm<Integer> algorithm, InputDistribution distribution) {
+        return benchmarkSorting(
+            algorithm.getName() + " [" + distribution.getDisplayName() + "]",
+            size -> box(distribution.generate(size, random)),
+            algorithm::sort
+        );
+    }
+
+    /**
+     * Benchmarks a sorting algorithm on arrays of a fixed size as the share of already sorted positions
+     * varies, showing how well it exploits existing order.
+     * @param algorithm The algorithm to benchmark
+     * @param size The array size used for every measurement
+     * @param sortedPercentages The percentages of positions, 0 to 100, left in sorted order
+     * @see InputDistribution#partiallySorted(int, int, Random)
+     */
+    public BenchmarkResult benchmarkPresortedness(SortingAlgorithm<Integer> algorithm, int size,
+                                                  int... sortedPercentages) {
+        logger.info("Starting presortedness benchmark for {}", algorithm.getName());
         BenchmarkResult result = new BenchmarkResult(
-            algorithm.getName(),
+            algorithm.getName() + " [n=" + size + "]",
+            config.getWarmupRuns(),
+            config.getMeasurementRuns(),
+            "Presorted %"
+        );
+
+        for (int percent : sortedPercentages) {
+            runSortingBenchmark(
+                ignored -> box(InputDistribution.partiallySorted(size, percent, random)),
+                algorithm::sort,
+                percent,
+                result
+            );
+        }
+
+        logger.info("Benchmark completed for {}", algorithm.getName());
+        return result;
+    }
+
+    /**
+     * Benchmarks a sorting algorithm on arrays of a fixed size whose values are drawn uniformly from
+     * {@code [0, range)} for each given range. Comparing a range-sensitive sort such as
+     * {@link com.algobench.pro.algorithm.sorting.CountingSort} against a comparison sort over the same ranges
+     * shows the crossover point between them.
+     * @param algorithm The algorithm to benchmark
+     * @param size The array size used for every measurement
+     * @param ranges The numbers of distinct values to draw from
+     */
+    public BenchmarkResult benchmarkKeyRange(SortingAlgorithm<Integer> algorithm, int size, int... ranges) {
+        return benchmarkKeyRange(algorithm.getName(), range -> box(random.ints(size, 0, range).toArray()),
+            algorithm::sort, size, ranges);
+    }
+
+    /**
+     * Benchmarks a primitive {@code int[]} sorting algorithm on arrays of a fixed size whose values are drawn
+     * uniformly from {@code [0, range)} for each given range.
+     * @see #benchmarkKeyRange(SortingAlgorithm, int, int...)
+     */
+    public BenchmarkResult benchmarkIntKeyRange(IntSortingAlgorithm algorithm, int size, int... ranges) {
+        return benchmarkKeyRange(algorithm.getName(), range -> random.ints(size, 0, range).toArray(),
+            algorithm::sort, size, ranges);
+    }
+
+    private <A> BenchmarkResult benchmarkKeyRange(String algorithmName, IntFunction<A> generator,
+                                                  Consumer<A> sorter, int size, int... ranges) {
+        logger.info("Starting key range benchmark for {}", algorithmName);
+        BenchmarkResult result = new BenchmarkResult(
+            algorithmName + " [n=" + size + "]",
+            config.getWarmupRuns(),
+            config.getMeasurementRuns(),
+            "Key Range"
+        );
+
+        for (int range : ranges) {
+            if (range < 1) {
+                throw new IllegalArgumentException("Key range must be positive");
+            }
+            runSortingBenchmark(generator, sorter, range, result);
+        }
+
+        logger.info("Benchmark completed for {}", algorithmName);
+        return result;
+    }
+
+    /**
+     * Benchmarks selecting the element at the given quantile (0.5 for the median) with different array sizes,
+     * for comparison against fully sorting the same inputs with {@link #benchmarkSorting(SortingAlgorithm)}.
+     * @param algorithm The selection algorithm to benchmark
+     * @param quantile The rank to select as a fraction of the array length, between 0 and 1
+     */
+    public BenchmarkResult benchmarkSelection(SelectionAlgorithm<Integer> algorithm, double quantile) {
+        checkQuantile(quantile);
+        return benchmarkSorting(
+            algorithm.getName() + " [p" + Math.round(quantile * 100) + "]",
+            this::generateRandomArray,
+            array -> algorithm.select(array, (int) (quantile * (array.length - 1)))
+        );
+    }
+
+    /**
+     * Benchmarks selecting the element at the given quantile of primitive {@code int[]} arrays with different
+     * array sizes.
+     * @see #benchmarkSelection(SelectionAlgorithm, double)
+     */
+    public BenchmarkResult benchmarkIntSelection(IntSelectionAlgorithm algorithm, double quantile) {
+        checkQuantile(quantile);
+        return benchmarkSorting(
+            algorithm.getName() + " [p" + Math.round(quantile * 100) + "]",
+            this::generateRandomIntArray,
+            array -> algorithm.select(array, (int) (quantile * (array.length - 1)))
+        );
+    }
+
+    /**
+     * Benchmarks sorting only the {@code k} smallest elements with different array sizes.
+     */
+    public BenchmarkResult benchmarkPartialSort(SelectionAlgorithm<Integer> algorithm, int k) {
+        return benchmarkSorting(
+            algorithm.getName() + " partial sort [k=" + k + "]",
+            this::generateRandomArray,
+            array -> algorithm.partialSort(array, Math.min(k, array.length))
+        );
+    }
+
+    /**
+     * Benchmarks streaming selection of the {@code k} largest elements with a bounded heap, with different
+     * array sizes.
+     * @see TopK
+     */
+    public BenchmarkResult benchmarkTopK(int k) {
+        return benchmarkSorting(
+            "Top-K Heap [k=" + k + "]",
+            this::generateRandomArray,
+            array -> TopK.largest(array, k)
+        );
+    }
+
+    private static void checkQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Benchmarks sorting batches of many small independent {@code int[]} arrays with the
+     * {@link SmallArraySort} kernels. Results are keyed by array length, and every row carries a
+     * "ns/element" metric.
+     * @param batchSize The number of arrays sorted per measured run
+     * @param arrayLengths The array lengths to measure
+     */
+    public BenchmarkResult benchmarkSmallArrayBatches(int batchSize, int... arrayLengths) {
+        return benchmarkSmallArrayBatches("Small Array Kernels", SmallArraySort::sortAll, batchSize, arrayLengths);
+    }
+
+    /**
+     * Benchmarks sorting batches of many small independent {@code int[]} arrays, calling the given algorithm
+     * once per array.
+     * @see #benchmarkSmallArrayBatches(int, int...)
+     */
+    public BenchmarkResult benchmarkSmallArrayBatches(IntSortingAlgorithm algorithm, int batchSize,
+                                                      int... arrayLengths) {
+        return benchmarkSmallArrayBatches(algorithm.getName(), batch -> {
+            for (int[] array : batch) {
+                algorithm.sort(array);
+            }
+        }, batchSize, arrayLengths);
+    }
+
+    private BenchmarkResult benchmarkSmallArrayBatches(String algorithmName, Consumer<int[][]> batchSorter,
+                                                       int batchSize, int[] arrayLengths) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        logger.info("Starting small array batch benchmark for {}", algorithmName);
+        BenchmarkResult result = new BenchmarkResult(
+            algorithmName + " [batch=" + batchSize + "]",
+            config.getWarmupRuns(),
+            config.getMeasurementRuns(),
+            "Array Length"
+        );
+
+        for (int length : arrayLengths) {
+            runSortingBenchmark(
+                ignored -> {
+                    int[][] batch = new int[batchSize][];
+                    for (int i = 0; i < batchSize; i++) {
+                        batch[i] = generateRandomIntArray(length);
+                    }
+                    return batch;
+                },
+                batchSorter,
+                length,
+                result
+            );
+            double elements = (double) batchSize * length;
+            result.setMetric(length, "ns/element", result.getStatistics(length).getAverage().toNanos() / elements);
+        }
+
+        logger.info("Benchmark completed for {}", algorithmName);
+        return result;
+    }
+
+    /**
+     * Benchmarks sorting a table of four parallel columns (region, timestamp, amount, id) by region ascending
+     * and then timestamp descending, with different numbers of rows. The first result builds one row object
+     * per record, sorts them with {@link Arrays#sort(Object[], Comparator)} and writes the columns back; the
+     * second computes a {@link ColumnarSort} permutation and gathers the columns without creating any rows.
+     * The first result is the baseline for {@link com.algobench.pro.benchmark.results.ComparisonReport#ofBaselineFirst}.
+     */
+    public List<BenchmarkResult> compareColumnarSort() {
+        Comparator<TableRow> rowOrder = Comparator.comparingInt(TableRow::region)
+            .thenComparing(Comparator.comparingLong(TableRow::timestamp).reversed());
+        List<BenchmarkResult> results = new ArrayList<>();
+        results.add(benchmarkSorting("Row Objects + Arrays.sort", this::generateTable, table -> {
+            TableRow[] rows = new TableRow[table.region().length];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = new TableRow(table.region()[i], table.timestamp()[i], table.amount()[i], table.id()[i]);
+            }
+            Arrays.sort(rows, rowOrder);
+            for (int i = 0; i < rows.length; i++) {
+                table.region()[i] = rows[i].region();
+                table.timestamp()[i] = rows[i].timestamp();
+                table.amount()[i] = rows[i].amount();
+                table.id()[i] = rows[i].id();
+            }
+        }));
+        results.add(benchmarkSorting("Columnar Sort", this::generateTable, table -> {
+            int[] order = new ColumnarSort(
+                SortKey.of(table.region(), SortOrder.ASCENDING),
+                SortKey.of(table.timestamp(), SortOrder.DESCENDING)
+            ).sortOrder();
+            ColumnarSort.reorder(order, table.region(), table.id());
+            ColumnarSort.reorder(order, table.timestamp());
+            ColumnarSort.reorder(order, table.amount());
+        }));
+        return results;
+    }
+
+    /**
+     * Benchmarks a parallel sorting algorithm on arrays of a fixed size with different numbers of threads,
+     * producing a scaling curve keyed by thread count. Every row also carries a "Speedup" metric relative to
+     * the first thread count. Each instance is closed after its thread count is measured if it is
+     * {@link AutoCloseable}, releasing its worker threads.
+     * @param factory Creates the algorithm configured for the given number of threads
+     * @param size The array size used for every measurement
+     * @param threadCounts The thread counts to measure, typically starting at 1
+     */
+    public BenchmarkResult benchmarkThreadScaling(IntFunction<? extends SortingAlgorithm<Integer>> factory,
+                                                  int size, int... threadCounts) {
+        return benchmarkThreadScaling(
+            factory,
+            SortingAlgorithm::getName,
+            algorithm -> algorithm::sort,
+            ignored -> generateRandomArray(size),
+            size,
+            threadCounts
+        );
+    }
+
+    /**
+     * Benchmarks a parallel primitive {@code int[]} sorting algorithm on arrays of a fixed size with
+     * different numbers of threads.
+     * @see #benchmarkThreadScaling(IntFunction, int, int...)
+     */
+    public BenchmarkResult benchmarkIntThreadScaling(IntFunction<? extends IntSortingAlgorithm> factory,
+                                                     int size, int... threadCounts) {
+        return benchmarkThreadScaling(
+            factory,
+            IntSortingAlgorithm::getName,
+            algorithm -> algorithm::sort,
+            ignored -> generateRandomIntArray(size),
+            size,
+            threadCounts
+        );
+    }
+
+    private <S, A> BenchmarkResult benchmarkThreadScaling(IntFunction<? extends S> factory,
+                                                          Function<? super S, String> names,
+                                                          Function<? super S, Consumer<A>> sorters,
+                                                          IntFunction<A> generator, int size, int[] threadCounts) {
+        if (threadCounts.length == 0) {
+            throw new IllegalArgumentException("At least one thread count is required");
+        }
+        BenchmarkResult result = null;
+        String algorithmName = null;
+        for (int threads : threadCounts) {
+            S algorithm = factory.apply(threads);
+            try {
+                if (result == null) {
+                    algorithmName = names.apply(algorithm);
+                    logger.info("Starting thread scaling benchmark for {}", algorithmName);
+                    result = new BenchmarkResult(
+                        algorithmName + " [n=" + size + "]",
+                        config.getWarmupRuns(),
+                        config.getMeasurementRuns(),
+                        "Threads"
+                    );
+                }
+                runSortingBenchmark(generator, sorters.apply(algorithm), threads, result);
+            } finally {
+                release(algorithm);
+            }
+        }
+
+        double baselineNanos = result.getStatistics(threadCounts[0]).getAverage().toNanos();
+        for (int threads : threadCounts) {
+            double averageNanos = Math.max(1, result.getStatistics(threads).getAverage().toNanos());
+            result.setMetric(threads, "Speedup", baselineNanos / averageNanos);
+        }
+
+        logger.info("Benchmark completed for {}", algorithmName);
+        return result;
+    }
+
+    /**
+     * Closes the algorithm if it holds resources such as a worker pool.
+     */
+    private static void release(Object algorithm) {
+        if (algorithm instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.error("Failed to release algorithm resources", e);
+            }
+        }
+    }
+
+    /**
+     * Benchmarks a primitive {@code int[]} sorting algorithm with different array sizes.
+     */
+    public BenchmarkResult benchmarkIntSorting(IntSortingAlgorithm algorithm) {
+        return benchmarkSorting(algorithm.getName(), this::generateRandomIntArray, algorithm::sort);
+    }
+
+    /**
+     * Benchmarks a primitive {@code int[]} sorting algorithm with different array sizes on inputs of the
+     * given distribution.
+     */
+    public BenchmarkResult benchmarkIntSorting(IntSortingAlgorithm algorithm, InputDistribution distribution) {
+        return benchmarkSorting(
+            algorithm.getName() + " [" + distribution.getDisplayName() + "]",
+            size -> distribution.generate(size, random),
+            algorithm::sort
+        );
+    }
+
+    /**
+     * Benchmarks a primitive {@code long[]} sorting algorithm with different array sizes.
+     */
+    public BenchmarkResult benchmarkLongSorting(LongSortingAlgorithm algorithm) {
+        return benchmarkSorting(algorithm.getName(), this::generateRandomLongArray, algorithm::sort);
+    }
+
+    /**
+     * Benchmarks a primitive {@code double[]} sorting algorithm with different array sizes.
+     */
+    public BenchmarkResult benchmarkDoubleSorting(DoubleSortingAlgorithm algorithm) {
+        return benchmarkSorting(algorithm.getName(), this::generateRandomDoubleArray, algorithm::sort);
+    }
+
+    private <A> BenchmarkResult benchmarkSorting(String algorithmName, IntFunction<A> generator, Consumer<A> sorter) {
+        logger.info("Starting benchmark for {}", algorithmName);
+        BenchmarkResult result = new BenchmarkResult(
+            algorithmName,
             config.getWarmupRuns(),
             config.getMeasurementRuns()
         );
 
         for (int size : config.getInputSizes()) {
-            runSortingBenchmark(algorithm, size, result);
+            runSortingBenchmark(generator, sorter, size, result);
         }
 
-        logger.info("Benchmark completed for {}", algorithm.getName());
+        logger.info("Benchmark completed for {}", algorithmName);
         return result;
     }
 
     /**
-     * Benchmarks a searching algorithm with different array sizes.
+     * Benchmarks a searching algorithm with different array sizes. Besides the time of single lookups, every
+     * size reports the throughput of batch lookups through {@link SearchAlgorithm#searchAll} with one target
+     * per element, as "Lookups/s (M)" for targets in random order and "Sorted Lookups/s (M)" for ascending
+     * targets.
      */
     public BenchmarkResult benchmarkSearching(SearchAlgorithm<Integer> algorithm) {
         logger.info("Starting benchmark for {}", algorithm.getName());
@@ -73,9 +513,595 @@ public class BenchmarkRunner {
         return result;
     }
 
-    private void runSortingBenchmark(SortingAlgorithm<Integer> algorithm, int size, BenchmarkResult result) {
-        logger.info("Running sorting benchmark for size: {}", size);
-        System.out.printf("\nRunning benchmark for size: %d%n", size);
+    /**
+     * Benchmarks a primitive {@code int[]} searching algorithm with different array sizes on sorted keys of
+     * the given distribution. Every run answers {@code lookups} targets through one
+     * {@link IntSearchAlgorithm#searchAll} call, so the array is validated once per run; half of the targets
+     * are keys of the array and half are drawn uniformly between its smallest and largest key. Every size
+     * carries an "ns/lookup" metric.
+     * @param lookups The number of lookups per run
+     */
+    public BenchmarkResult benchmarkIntSearching(IntSearchAlgorithm algorithm, KeyDistribution distribution,
+                                                int lookups) {
+        if (lookups < 1) {
+            throw new IllegalArgumentException("Number of lookups must be positive");
+        }
+        String name = algorithm.getName() + " [" + distribution.getDisplayName() + "]";
+        logger.info("Starting benchmark for {}", name);
+        BenchmarkResult result = new BenchmarkResult(name, config.getWarmupRuns(), config.getMeasurementRuns());
+
+        for (int size : config.getInputSizes()) {
+            int[] keys = distribution.generateSorted(size, random);
+            int[] out = new int[lookups];
+            IntFunction<int[]> targets = ignored -> {
+                int[] batch = new int[lookups];
+                for (int i = 0; i < lookups; i++) {
+                    batch[i] = i % 2 == 0
+                        ? keys[random.nextInt(size)]
+                        : keys[0] + (int) (random.nextDouble() * ((long) keys[size - 1] - keys[0]));
+                }
+                return batch;
+            };
+            runBenchmark(targets, batch -> algorithm.searchAll(keys, batch, out), size, result);
+            result.setMetric(size, "ns/lookup", (double) result.getStatistics(size).getAverage().toNanos() / lookups);
+        }
+
+        logger.info("Benchmark completed for {}", name);
+        return result;
+    }
+
+    /**
+     * Benchmarks repeated lookups in a sorted array of each given size through {@link BinarySearch}, which
+     * re-validates the array on every call (the baseline), and through a {@link SortedView}, which validated
+     * it once on creation. Every run looks up {@code lookups} random keys one at a time, so the baseline
+     * grows linearly with the array size while the view grows logarithmically. Every row carries an
+     * "ns/lookup" metric, and the view also reports the one-time "Validation (ms)" of creating it.
+     * @param lookups The number of lookups per run
+     * @param sizes The array sizes to measure
+     */
+    public List<BenchmarkResult> benchmarkSortedView(int lookups, int... sizes) {
+        if (lookups < 1) {
+            throw new IllegalArgumentException("Number of lookups must be positive");
+        }
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        List<BenchmarkResult> results = List.of(
+            new BenchmarkResult(binarySearch.getName(), config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("Sorted View", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size")
+        );
+        logger.info("Starting sorted view benchmark for {} sizes", sizes.length);
+
+        for (int size : sizes) {
+            Integer[] array = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = i;
+            }
+            timer.start();
+            SortedView<Integer> view = new SortedView<>(array);
+            results.get(1).setMetric(size, "Validation (ms)", timer.stop().toNanos() / 1e6);
+            IntFunction<Integer[]> targets = ignored -> random.ints(lookups, 0, size).boxed().toArray(Integer[]::new);
+
+            runBenchmark(targets, batch -> {
+                for (Integer target : batch) {
+                    binarySearch.search(array, target);
+                }
+            }, size, results.get(0));
+            runBenchmark(targets, batch -> {
+                for (Integer target : batch) {
+                    view.search(target);
+                }
+            }, size, results.get(1));
+
+            for (BenchmarkResult result : results) {
+                result.setMetric(size, "ns/lookup", (double) result.getStatistics(size).getAverage().toNanos() / lookups);
+            }
+        }
+
+        logger.info("Sorted view benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks lookups in a sorted {@code int[]} of each given size with three layouts: plain binary search
+     * over the sorted array ({@link Arrays#binarySearch(int[], int)}, the baseline), an
+     * {@link IntEytzingerIndex} and an {@link IntBTreeIndex}. Every run looks up {@code lookups} random keys,
+     * half of them present; the layouts are built once per size outside the timed region. Choosing sizes from
+     * a few kilobytes to several times the last-level cache shows where the cache-conscious layouts pay off.
+     * Every row carries an "ns/lookup" metric.
+     * @param lookups The number of lookups per run
+     * @param sizes The array sizes to measure
+     */
+    public List<BenchmarkResult> benchmarkSearchLayouts(int lookups, int... sizes) {
+        if (lookups < 1) {
+            throw new IllegalArgumentException("Number of lookups must be positive");
+        }
+        List<BenchmarkResult> results = List.of(
+            new BenchmarkResult("Arrays.binarySearch", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("Eytzinger Index (int[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("B-Tree Index (int[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size")
+        );
+        logger.info("Starting search layout benchmark for {} sizes", sizes.length);
+
+        for (int size : sizes) {
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = 2 * i;
+            }
+            IntEytzingerIndex eytzinger = new IntEytzingerIndex(sorted);
+            IntBTreeIndex bTree = new IntBTreeIndex(sorted);
+            int[] out = new int[lookups];
+            IntFunction<int[]> targets = ignored -> random.ints(lookups, 0, 2 * size).toArray();
+
+            runBenchmark(targets, batch -> {
+                for (int i = 0; i < batch.length; i++) {
+                    out[i] = Arrays.binarySearch(sorted, batch[i]);
+                }
+            }, size, results.get(0));
+            runBenchmark(targets, batch -> eytzinger.searchAll(batch, out), size, results.get(1));
+            runBenchmark(targets, batch -> bTree.searchAll(batch, out), size, results.get(2));
+
+            for (BenchmarkResult result : results) {
+                result.setMetric(size, "ns/lookup", (double) result.getStatistics(size).getAverage().toNanos() / lookups);
+            }
+        }
+
+        logger.info("Search layout benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks lookups in a sorted {@code long[]} of each given size through {@link BinarySearch} over the
+     * boxed keys (the baseline), {@link Arrays#binarySearch(long[], long)} over the plain sorted array and a
+     * {@link LearnedIndex}. Keys are drawn uniformly below 2^50; every run looks up {@code lookups} targets,
+     * half of them present, and BinarySearch validates the boxed array once per run. Every row carries an
+     * "ns/lookup" metric, and the learned index also reports its "Model (KB)", "Segments" and "Build (ms)".
+     * @param lookups The number of lookups per run
+     * @param sizes The array sizes to measure
+     */
+    public List<BenchmarkResult> benchmarkLearnedIndex(int lookups, int... sizes) {
+        if (lookups < 1) {
+            throw new IllegalArgumentException("Number of lookups must be positive");
+        }
+        BinarySearch<Long> binarySearch = new BinarySearch<>();
+        List<BenchmarkResult> results = List.of(
+            new BenchmarkResult(binarySearch.getName(), config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("Arrays.binarySearch (long[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("Learned Index (long[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size")
+        );
+        logger.info("Starting learned index benchmark for {} sizes", sizes.length);
+
+        for (int size : sizes) {
+            long[] keys = random.longs(size, 0, 1L << 50).sorted().toArray();
+            Long[] boxed = Arrays.stream(keys).boxed().toArray(Long[]::new);
+            timer.start();
+            LearnedIndex index = new LearnedIndex(keys);
+            BenchmarkResult learned = results.get(2);
+            learned.setMetric(size, "Build (ms)", timer.stop().toNanos() / 1e6);
+            learned.setMetric(size, "Model (KB)", index.footprintBytes() / 1024.0);
+            learned.setMetric(size, "Segments", index.segmentCount());
+
+            int[] out = new int[lookups];
+            IntFunction<long[]> targets = ignored -> {
+                long[] batch = new long[lookups];
+                for (int i = 0; i < lookups; i++) {
+                    batch[i] = i % 2 == 0 ? keys[random.nextInt(size)] : random.nextLong(1L << 50);
+                }
+                return batch;
+            };
+            runBenchmark(ignored -> Arrays.stream(targets.apply(0)).boxed().toArray(Long[]::new),
+                batch -> binarySearch.searchAll(boxed, batch, out), size, results.get(0));
+            runBenchmark(targets, batch -> {
+                for (int i = 0; i < batch.length; i++) {
+                    out[i] = Arrays.binarySearch(keys, batch[i]);
+                }
+            }, size, results.get(1));
+            runBenchmark(targets, batch -> index.searchAll(batch, out), size, learned);
+
+            for (BenchmarkResult result : results) {
+                result.setMetric(size, "ns/lookup", (double) result.getStatistics(size).getAverage().toNanos() / lookups);
+            }
+        }
+
+        logger.info("Learned index benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks batch lookups through {@link BinarySearch} alone (the baseline) and behind a
+     * {@link FilteredSearch} with a {@link BlockedBloomFilter} and with an {@link XorFilter}, keyed by the
+     * percentage of targets present in the array. The array holds the even numbers below {@code 2 * size}
+     * and missing targets are odd numbers from the same range, so misses search as deep as hits. Every row
+     * carries an "ns/lookup" metric; the filtered rows also report the filter's measured "FPR (%)" and its
+     * "Bits/Key".
+     * @param size The array size used for every measurement
+     * @param lookups The number of lookups per run
+     * @param hitPercents The percentages of present targets to measure, 0 to 100
+     */
+    public List<BenchmarkResult> benchmarkMembershipFilters(int size, int lookups, int... hitPercents) {
+        if (size < 1 || lookups < 1) {
+            throw new IllegalArgumentException("Array size and number of lookups must be positive");
+        }
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = 2 * i;
+        }
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        List<SearchAlgorithm<Integer>> searches = List.of(
+            binarySearch,
+            new FilteredSearch<>(binarySearch, array, Integer::longValue),
+            new FilteredSearch<>(binarySearch, array, Integer::longValue, XorFilter::new)
+        );
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (SearchAlgorithm<Integer> search : searches) {
+            results.add(new BenchmarkResult(search.getName(), config.getWarmupRuns(), config.getMeasurementRuns(), "Hit %"));
+        }
+        logger.info("Starting membership filter benchmark for size: {}", size);
+
+        int[] out = new int[lookups];
+        for (int hitPercent : hitPercents) {
+            if (hitPercent < 0 || hitPercent > 100) {
+                throw new IllegalArgumentException("Hit percentage must be between 0 and 100");
+            }
+            IntFunction<Integer[]> targets = ignored -> {
+                Integer[] batch = new Integer[lookups];
+                for (int i = 0; i < lookups; i++) {
+                    int key = 2 * random.nextInt(size);
+                    batch[i] = random.nextInt(100) < hitPercent ? key : key + 1;
+                }
+                return batch;
+            };
+            for (int s = 0; s < searches.size(); s++) {
+                SearchAlgorithm<Integer> search = searches.get(s);
+                BenchmarkResult result = results.get(s);
+                runBenchmark(targets, batch -> search.searchAll(array, batch, out), hitPercent, result);
+                result.setMetric(hitPercent, "ns/lookup",
+                    (double) result.getStatistics(hitPercent).getAverage().toNanos() / lookups);
+                if (search instanceof FilteredSearch) {
+                    MembershipFilter filter = ((FilteredSearch<Integer>) search).getFilter();
+                    int falsePositives = 0;
+                    for (int i = 0; i < lookups; i++) {
+                        falsePositives += filter.mightContain(2L * random.nextInt(size) + 1) ? 1 : 0;
+                    }
+                    result.setMetric(hitPercent, "FPR (%)", 100.0 * falsePositives / lookups);
+                    result.setMetric(hitPercent, "Bits/Key", filter.bitsPerKey());
+                }
+            }
+        }
+
+        logger.info("Membership filter benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks exact-match lookups among random values of each given size through {@link BinarySearch} over
+     * the sorted boxed values (the baseline), {@link Arrays#binarySearch(int[], int)} over the sorted
+     * {@code int[]}, a {@code HashMap<Integer, Integer>} from value to position and an {@link IntHashIndex}.
+     * Every run looks up {@code lookups} targets, half of them present. Besides "ns/lookup", every row
+     * reports the "Build (ms)" of its structure from the unsorted values and the heap it retains as
+     * "Bytes/Key".
+     * @param lookups The number of lookups per run
+     * @param sizes The numbers of values to measure
+     */
+    public List<BenchmarkResult> benchmarkHashIndex(int lookups, int... sizes) {
+        if (lookups < 1) {
+            throw new IllegalArgumentException("Number of lookups must be positive");
+        }
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        List<BenchmarkResult> results = List.of(
+            new BenchmarkResult(binarySearch.getName(), config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("Arrays.binarySearch (int[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("HashMap<Integer, Integer>", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size"),
+            new BenchmarkResult("Hash Index (int[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Array Size")
+        );
+        logger.info("Starting hash index benchmark for {} sizes", sizes.length);
+
+        for (int size : sizes) {
+            int[] values = random.ints(size).toArray();
+            Integer[] boxed = measureBuild(() -> Arrays.stream(values).sorted().boxed().toArray(Integer[]::new),
+                results.get(0), size);
+            int[] sorted = measureBuild(() -> {
+                int[] copy = values.clone();
+                Arrays.sort(copy);
+                return copy;
+            }, results.get(1), size);
+            Map<Integer, Integer> map = measureBuild(() -> {
+                Map<Integer, Integer> positions = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    positions.putIfAbsent(values[i], i);
+                }
+                return positions;
+            }, results.get(2), size);
+            IntHashIndex index = measureBuild(() -> new IntHashIndex(values), results.get(3), size);
+
+            int[] out = new int[lookups];
+            IntFunction<int[]> targets = ignored -> {
+                int[] batch = new int[lookups];
+                for (int i = 0; i < lookups; i++) {
+                    batch[i] = i % 2 == 0 ? values[random.nextInt(size)] : random.nextInt();
+                }
+                return batch;
+            };
+            runBenchmark(ignored -> Arrays.stream(targets.apply(0)).boxed().toArray(Integer[]::new),
+                batch -> binarySearch.searchAll(boxed, batch, out), size, results.get(0));
+            runBenchmark(targets, batch -> {
+                for (int i = 0; i < batch.length; i++) {
+                    out[i] = Arrays.binarySearch(sorted, batch[i]);
+                }
+            }, size, results.get(1));
+            runBenchmark(ignored -> Arrays.stream(targets.apply(0)).boxed().toArray(Integer[]::new), batch -> {
+                for (int i = 0; i < batch.length; i++) {
+                    out[i] = map.getOrDefault(batch[i], -1);
+                }
+            }, size, results.get(2));
+            runBenchmark(targets, batch -> index.searchAll(batch, out), size, results.get(3));
+
+            for (BenchmarkResult result : results) {
+                result.setMetric(size, "ns/lookup", (double) result.getStatistics(size).getAverage().toNanos() / lookups);
+            }
+        }
+
+        logger.info("Hash index benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks time-window counts over a sorted {@code long[]} of timestamps, keyed by the window width. The
+     * array holds {@code size} timestamps drawn below {@code size / 4}, so every timestamp repeats about four
+     * times, and every run counts the timestamps in {@code queries} closed windows whose start times ascend.
+     * The baseline finds each window start with {@link Arrays#binarySearch(long[], long)} and walks to the
+     * first duplicate and then across the window; the other rows use {@link RangeSearch#countInRange} per
+     * window and the one-sweep {@link RangeSearch#rangesAll}. Every row carries "ns/range" and
+     * "Avg Count" metrics.
+     * @param size The number of timestamps
+     * @param queries The number of windows per run
+     * @param windowWidths The window widths to measure, in timestamp units
+     */
+    public List<BenchmarkResult> benchmarkRangeQueries(int size, int queries, int... windowWidths) {
+        if (size < 4 || queries < 1) {
+            throw new IllegalArgumentException("Array size must be at least 4 and number of queries positive");
+        }
+        List<BenchmarkResult> results = List.of(
+            new BenchmarkResult("Binary Search + Linear Walk", config.getWarmupRuns(), config.getMeasurementRuns(), "Window Width"),
+            new BenchmarkResult("Range Search (countInRange)", config.getWarmupRuns(), config.getMeasurementRuns(), "Window Width"),
+            new BenchmarkResult("Range Search (rangesAll)", config.getWarmupRuns(), config.getMeasurementRuns(), "Window Width")
+        );
+        logger.info("Starting range query benchmark for {} window widths", windowWidths.length);
+
+        long span = size / 4;
+        long[] timestamps = random.longs(size, 0, span).sorted().toArray();
+        int[] counts = new int[queries];
+        int[] starts = new int[queries];
+        int[] ends = new int[queries];
+        for (int width : windowWidths) {
+            if (width < 1) {
+                throw new IllegalArgumentException("Window width must be positive");
+            }
+            IntFunction<long[][]> windows = ignored -> {
+                long[] lows = random.longs(queries, 0, span).sorted().toArray();
+                long[] highs = new long[queries];
+                for (int i = 0; i < queries; i++) {
+                    highs[i] = lows[i] + width - 1;
+                }
+                return new long[][]{lows, highs};
+            };
+            runBenchmark(windows, batch -> {
+                long[] lows = batch[0];
+                long[] highs = batch[1];
+                for (int i = 0; i < queries; i++) {
+                    int from = Arrays.binarySearch(timestamps, lows[i]);
+                    if (from < 0) {
+                        from = -from - 1;
+                    }
+                    while (from > 0 && timestamps[from - 1] == lows[i]) {
+                        from--;
+                    }
+                    int to = from;
+                    while (to < timestamps.length && timestamps[to] <= highs[i]) {
+                        to++;
+                    }
+                    counts[i] = to - from;
+                }
+            }, width, results.get(0));
+            runBenchmark(windows, batch -> {
+                for (int i = 0; i < queries; i++) {
+                    counts[i] = RangeSearch.countInRange(timestamps, batch[0][i], batch[1][i]);
+                }
+            }, width, results.get(1));
+            runBenchmark(windows, batch -> RangeSearch.rangesAll(timestamps, batch[0], batch[1], starts, ends),
+                width, results.get(2));
+
+            double totalCount = 0;
+            for (int i = 0; i < queries; i++) {
+                totalCount += ends[i] - starts[i];
+            }
+            for (BenchmarkResult result : results) {
+                result.setMetric(width, "ns/range", (double) result.getStatistics(width).getAverage().toNanos() / queries);
+                result.setMetric(width, "Avg Count", totalCount / queries);
+            }
+        }
+
+        logger.info("Range query benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks batches of unsorted lookups in a sorted array of {@code size} random values, keyed by the
+     * number of searches advanced together. The rows are one lookup at a time with
+     * {@link Arrays#binarySearch(int[], int)} (the baseline) and {@link IntGroupBinarySearch} over an
+     * {@code int[]}, then the same pair over the boxed {@code Integer[]}, where one lookup at a time uses
+     * {@link Arrays#binarySearch(Object[], Object)} and the group search is {@link GroupBinarySearch}. Every
+     * run looks up {@code lookups} targets, half of them present; the group searches validate the array once
+     * per run. Every row carries "ns/lookup" and "M lookups/s" metrics.
+     * @param size The array size, ideally far larger than the last-level cache
+     * @param lookups The number of lookups per run
+     * @param groupSizes The group sizes to measure
+     */
+    public List<BenchmarkResult> benchmarkGroupSearch(int size, int lookups, int... groupSizes) {
+        if (size < 1 || lookups < 1) {
+            throw new IllegalArgumentException("Array size and number of lookups must be positive");
+        }
+        List<BenchmarkResult> results = List.of(
+            new BenchmarkResult("Arrays.binarySearch (int[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Group Size"),
+            new BenchmarkResult(new IntGroupBinarySearch(1).getName(), config.getWarmupRuns(), config.getMeasurementRuns(), "Group Size"),
+            new BenchmarkResult("Arrays.binarySearch (Integer[])", config.getWarmupRuns(), config.getMeasurementRuns(), "Group Size"),
+            new BenchmarkResult(new GroupBinarySearch<Integer>(1).getName(), config.getWarmupRuns(), config.getMeasurementRuns(), "Group Size")
+        );
+        logger.info("Starting group search benchmark for {} group sizes", groupSizes.length);
+
+        int[] array = random.ints(size).sorted().toArray();
+        Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+        int[] out = new int[lookups];
+        IntFunction<int[]> targets = ignored -> {
+            int[] batch = new int[lookups];
+            for (int i = 0; i < lookups; i++) {
+                batch[i] = i % 2 == 0 ? array[random.nextInt(size)] : random.nextInt();
+            }
+            return batch;
+        };
+        IntFunction<Integer[]> boxedTargets = ignored -> Arrays.stream(targets.apply(0)).boxed().toArray(Integer[]::new);
+        for (int groupSize : groupSizes) {
+            IntGroupBinarySearch groupSearch = new IntGroupBinarySearch(groupSize);
+            GroupBinarySearch<Integer> boxedGroupSearch = new GroupBinarySearch<>(groupSize);
+            runBenchmark(targets, batch -> {
+                for (int i = 0; i < batch.length; i++) {
+                    out[i] = Arrays.binarySearch(array, batch[i]);
+                }
+            }, groupSize, results.get(0));
+            runBenchmark(targets, batch -> groupSearch.searchAll(array, batch, out), groupSize, results.get(1));
+            runBenchmark(boxedTargets, batch -> {
+                for (int i = 0; i < batch.length; i++) {
+                    out[i] = Arrays.binarySearch(boxed, batch[i]);
+                }
+            }, groupSize, results.get(2));
+            runBenchmark(boxedTargets, batch -> boxedGroupSearch.searchAll(boxed, batch, out), groupSize,
+                results.get(3));
+
+            for (BenchmarkResult result : results) {
+                double nanos = (double) result.getStatistics(groupSize).getAverage().toNanos() / lookups;
+                result.setMetric(groupSize, "ns/lookup", nanos);
+                result.setMetric(groupSize, "M lookups/s", 1e3 / nanos);
+            }
+        }
+
+        logger.info("Group search benchmark completed");
+        return results;
+    }
+
+    /**
+     * Benchmarks the {@link IntKernels} one by one, keyed by the window size each call works on: the scalar
+     * kernels and, when they can be loaded, the vectorized ones. Every run makes {@code calls} calls on
+     * windows at random offsets of a 64K-value array that stays in cache, so the rows compare instruction
+     * throughput rather than memory latency: the linear scan and the node rank search sorted windows for
+     * keys taken from the window, and the partition splits random windows around one of their values. Every
+     * row carries an "ns/call" metric, and each vectorized row a "Speedup" over its scalar counterpart; the
+     * scalar rows come first, in kernel order, followed by the vectorized rows if any.
+     * @param calls The number of kernel calls per run
+     * @param windowSizes The window sizes to measure, at most 65536
+     */
+    public List<BenchmarkResult> benchmarkSimdKernels(int calls, int... windowSizes) {
+        if (calls < 1) {
+            throw new IllegalArgumentException("Number of calls must be positive");
+        }
+        int length = 1 << 16;
+        List<IntKernels> kernels = new ArrayList<>();
+        kernels.add(SimdSupport.scalar());
+        SimdSupport.vector().ifPresentOrElse(kernels::add,
+            () -> logger.info("Vector kernels unavailable; measuring the scalar kernels only"));
+        String[] kernelNames = {"Linear Scan", "Node Rank", "Partition"};
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (IntKernels kernel : kernels) {
+            for (String kernelName : kernelNames) {
+                results.add(new BenchmarkResult(kernelName + " (" + kernel.getName() + ")", config.getWarmupRuns(),
+                    config.getMeasurementRuns(), "Window Size"));
+            }
+        }
+        logger.info("Starting SIMD kernel benchmark for {} window sizes", windowSizes.length);
+
+        int[] sorted = random.ints(length).sorted().toArray();
+        int[] data = random.ints(length).toArray();
+        int[] scratch = new int[length + IntKernels.SCRATCH_PADDING];
+        for (int window : windowSizes) {
+            if (window < 1 || window > length) {
+                throw new IllegalArgumentException("Window size must be between 1 and " + length);
+            }
+            IntFunction<int[][]> windows = ignored -> new int[][]{
+                random.ints(calls, 0, length - window + 1).toArray(),
+                random.ints(calls, 0, window).toArray()
+            };
+            long[] sink = new long[1];
+            for (int k = 0; k < kernels.size(); k++) {
+                IntKernels kernel = kernels.get(k);
+                runBenchmark(windows, batch -> {
+                    for (int i = 0; i < calls; i++) {
+                        int from = batch[0][i];
+                        sink[0] += kernel.lowerBoundScan(sorted, from, from + window, sorted[from + batch[1][i]]);
+                    }
+                }, window, results.get(k * kernelNames.length));
+                runBenchmark(windows, batch -> {
+                    for (int i = 0; i < calls; i++) {
+                        int from = batch[0][i];
+                        sink[0] += kernel.nodeRank(sorted, from, from + window, sorted[from + batch[1][i]]);
+                    }
+                }, window, results.get(k * kernelNames.length + 1));
+                runBenchmark(windows, batch -> {
+                    for (int i = 0; i < calls; i++) {
+                        int from = batch[0][i];
+                        sink[0] += kernel.partition(data, from, from + window, data[from + batch[1][i]], scratch);
+                    }
+                }, window, results.get(k * kernelNames.length + 2));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                BenchmarkResult result = results.get(i);
+                result.setMetric(window, "ns/call", (double) result.getStatistics(window).getAverage().toNanos() / calls);
+                if (i >= kernelNames.length) {
+                    BenchmarkResult scalar = results.get(i % kernelNames.length);
+                    result.setMetric(window, "Speedup", scalar.getMetric(window, "ns/call") / result.getMetric(window, "ns/call"));
+                }
+            }
+            logger.debug("Kernel result checksum {}", sink[0]);
+        }
+
+        logger.info("SIMD kernel benchmark completed");
+        return results;
+    }
+
+    /**
+     * Builds a structure once, recording its "Build (ms)" and the heap it retains per key as "Bytes/Key".
+     */
+    private <S> S measureBuild(Supplier<S> builder, BenchmarkResult result, int size) {
+        memoryTracker.gcAndWait();
+        long usedBefore = memoryTracker.getUsedMemory();
+        timer.start();
+        S built = builder.get();
+        result.setMetric(size, "Build (ms)", timer.stop().toNanos() / 1e6);
+        memoryTracker.gcAndWait();
+        result.setMetric(size, "Bytes/Key", (double) (memoryTracker.getUsedMemory() - usedBefore) / size);
+        return built;
+    }
+
+    /**
+     * Runs a sorting benchmark for one parameter value. Besides the timings and the heap delta, records the
+     * largest number of bytes allocated by a single measured sort as the "Peak Alloc (KB)" metric when the JVM
+     * supports per-thread allocation tracking.
+     */
+    private <A> void runSortingBenchmark(IntFunction<A> generator, Consumer<A> sorter, int size,
+                                         BenchmarkResult result) {
+        long peakAllocated = runBenchmark(generator, sorter, size, result);
+        if (peakAllocated >= 0) {
+            result.setMetric(size, "Peak Alloc (KB)", peakAllocated / 1024.0);
+        }
+    }
+
+    /**
+     * Runs the warmup and measurement phases of an operation for one parameter value, recording the timings
+     * and the heap delta. Every run applies the operation to a freshly generated input.
+     * @return The largest number of bytes allocated by a single measured run, or -1 if this cannot be measured
+     */
+    private <A> long runBenchmark(IntFunction<A> generator, Consumer<A> operation, int size,
+                                  BenchmarkResult result) {
+        String parameter = result.getParameterLabel().toLowerCase();
+        logger.info("Running benchmark for {}: {}", parameter, size);
+        System.out.printf("\nRunning benchmark for %s: %d%n", parameter, size);
         
         // Create progress bar for all runs
         int totalRuns = config.getWarmupRuns() + config.getMeasurementRuns();
@@ -83,22 +1109,186 @@ public class BenchmarkRunner {
         
         // Run warmup phase
         for (int i = 0; i < config.getWarmupRuns(); i++) {
-            Integer[] array = generateRandomArray(size);
-            runSingleSortTest(algorithm, array, result, size);
+            A input = generator.apply(size);
+            runSingleRun(operation, input, result, size);
             progress.increment();
         }
 
         // Run measurement phase
         memoryTracker.snapshot(); // Take baseline memory snapshot
+        long peakAllocated = -1;
         for (int i = 0; i < config.getMeasurementRuns(); i++) {
-            Integer[] array = generateRandomArray(size);
-            runSingleSortTest(algorithm, array, result, size);
+            A input = generator.apply(size);
+            peakAllocated = Math.max(peakAllocated, runSingleRun(operation, input, result, size));
             progress.increment();
         }
         result.setMemoryUsage(size, memoryTracker.getMemoryDelta());
 
         progress.complete();
-        logger.info("Completed benchmark for size: {}", size);
+        logger.info("Completed benchmark for {}: {}", parameter, size);
+        return peakAllocated;
+    }
+
+    /**
+     * Benchmarks an off-heap record sort on direct buffers holding the given numbers of records with random
+     * keys. One buffer is allocated per record count and refilled before every run, so the heap delta
+     * reported as memory usage reflects only the sorter itself; the direct memory held by the buffer is
+     * reported as the "Off-Heap (MB)" metric.
+     */
+    public BenchmarkResult benchmarkOffHeapSort(OffHeapRecordSort sorter, int... recordCounts) {
+        logger.info("Starting off-heap sort benchmark for {}", sorter.getName());
+        BenchmarkResult result = new BenchmarkResult(
+            sorter.getName() + " [" + sorter.getRecordSize() + "-byte records]",
+            config.getWarmupRuns(),
+            config.getMeasurementRuns(),
+            "Records"
+        );
+
+        for (int records : recordCounts) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.multiplyExact(records, sorter.getRecordSize()));
+            runSortingBenchmark(
+                ignored -> fillRandomRecords(buffer, sorter),
+                sorter::sort,
+                records,
+                result
+            );
+            result.setMetric(records, "Off-Heap (MB)", memoryTracker.getDirectMemoryUsed() / 1024.0 / 1024.0);
+        }
+
+        logger.info("Benchmark completed for {}", sorter.getName());
+        return result;
+    }
+
+    /**
+     * Benchmarks an external merge sort on generated binary files of the given sizes (in megabytes),
+     * reporting the sort throughput in MB/s. Input and output files are created in the sorter's
+     * temporary directory and deleted afterwards.
+     */
+    public BenchmarkResult benchmarkExternalSort(ExternalMergeSort sorter, int... fileSizesMb) {
+        logger.info("Starting external sort benchmark for {}", sorter.getName());
+        BenchmarkResult result = new BenchmarkResult(
+            sorter.getName(),
+            config.getWarmupRuns(),
+            config.getMeasurementRuns(),
+            "File (MB)"
+        );
+
+        for (int sizeMb : fileSizesMb) {
+            try {
+                runExternalSortBenchmark(sorter, sizeMb, result);
+            } catch (IOException e) {
+                logger.error("External sort benchmark failed for {} MB", sizeMb, e);
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        logger.info("Benchmark completed for {}", sorter.getName());
+        return result;
+    }
+
+    private void runExternalSortBenchmark(ExternalMergeSort sorter, int sizeMb, BenchmarkResult result)
+            throws IOException {
+        logger.info("Running external sort benchmark for {} MB", sizeMb);
+        System.out.printf("\nRunning benchmark for file size: %d MB%n", sizeMb);
+
+        Path directory = sorter.getConfig().getTempDirectory();
+        Path input = Files.createTempFile(directory, "algobench-input-", ".bin");
+        Path output = Files.createTempFile(directory, "algobench-output-", ".bin");
+        try {
+            writeRandomRecords(input, (long) sizeMb * 1024 * 1024 / ExternalMergeSort.RECORD_BYTES);
+
+            int totalRuns = config.getWarmupRuns() + config.getMeasurementRuns();
+            ProgressBar progress = new ProgressBar(totalRuns, "Progress");
+            for (int i = 0; i < config.getWarmupRuns(); i++) {
+                runSingleExternalSortTest(sorter, input, output, result, sizeMb);
+                progress.increment();
+            }
+
+            memoryTracker.snapshot();
+            for (int i = 0; i < config.getMeasurementRuns(); i++) {
+                runSingleExternalSortTest(sorter, input, output, result, sizeMb);
+                progress.increment();
+            }
+            result.setMemoryUsage(sizeMb, memoryTracker.getMemoryDelta());
+
+            RunStatistics stats = result.getStatistics(sizeMb);
+            if (stats != null && !stats.getAverage().isZero()) {
+                result.setMetric(sizeMb, "MB/s", sizeMb / (stats.getAverage().toNanos() / 1_000_000_000.0));
+            }
+            progress.complete();
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+        logger.info("Completed external sort benchmark for {} MB", sizeMb);
+    }
+
+    private void runSingleExternalSortTest(ExternalMergeSort sorter, Path input, Path output,
+                                           BenchmarkResult result, int sizeMb) throws IOException {
+        if (config.isGcBeforeBenchmark()) {
+            memoryTracker.gcAndWait();
+        }
+
+        timer.start();
+        sorter.sort(input, output);
+        Duration duration = timer.stop();
+
+        result.addTiming(sizeMb, duration);
+        logger.debug("External sort completed in {} ms", duration.toMillis());
+    }
+
+    private void writeRandomRecords(Path file, long records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long i = 0; i < records; i++) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                buffer.putLong(random.nextLong());
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private Table generateTable(int rows) {
+        Table table = new Table(new int[rows], new long[rows], new double[rows], new int[rows]);
+        for (int i = 0; i < rows; i++) {
+            table.region()[i] = random.nextInt(64);
+            table.timestamp()[i] = random.nextLong();
+            table.amount()[i] = random.nextDouble() * 1000;
+            table.id()[i] = i;
+        }
+        return table;
+    }
+
+    /** Column-wise table used by {@link #compareColumnarSort()}. */
+    private record Table(int[] region, long[] timestamp, double[] amount, int[] id) {
+    }
+
+    /** Row of {@link Table} materialized as an object. */
+    private record TableRow(int region, long timestamp, double amount, int id) {
+    }
+
+    private ByteBuffer fillRandomRecords(ByteBuffer buffer, OffHeapRecordSort sorter) {
+        int recordSize = sorter.getRecordSize();
+        int keyOffset = sorter.getKeyOffset();
+        boolean longKey = sorter.getKeyType() == OffHeapRecordSort.KeyType.LONG;
+        for (int record = 0; record < buffer.capacity(); record += recordSize) {
+            if (longKey) {
+                buffer.putLong(record + keyOffset, random.nextLong());
+            } else {
+                buffer.putInt(record + keyOffset, random.nextInt());
+            }
+        }
+        return buffer;
     }
 
     private void runSearchingBenchmark(SearchAlgorithm<Integer> algorithm, int size, BenchmarkResult result) {
@@ -131,22 +1321,57 @@ public class BenchmarkRunner {
         }
         result.setMemoryUsage(size, memoryTracker.getMemoryDelta());
 
+        // Batch lookups of one random target per element, first in random and then in ascending order
+        Integer[] targets = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            targets[i] = random.nextInt(size);
+        }
+        result.setMetric(size, "Lookups/s (M)", measureBatchLookups(algorithm, array, targets));
+        Arrays.sort(targets);
+        result.setMetric(size, "Sorted Lookups/s (M)", measureBatchLookups(algorithm, array, targets));
+
         progress.complete();
         logger.info("Completed benchmark for size: {}", size);
     }
 
-    private void runSingleSortTest(SortingAlgorithm<Integer> algorithm, Integer[] array, 
-                                 BenchmarkResult result, int size) {
+    /**
+     * Runs warmup and measurement batches of {@link SearchAlgorithm#searchAll} over the given targets.
+     * @return The mean throughput of the measured batches in millions of lookups per second
+     */
+    private double measureBatchLookups(SearchAlgorithm<Integer> algorithm, Integer[] array, Integer[] targets) {
+        int[] out = new int[targets.length];
+        for (int i = 0; i < config.getWarmupRuns(); i++) {
+            algorithm.searchAll(array, targets, out);
+        }
+        long totalNanos = 0;
+        for (int i = 0; i < config.getMeasurementRuns(); i++) {
+            timer.start();
+            algorithm.searchAll(array, targets, out);
+            totalNanos += timer.stop().toNanos();
+        }
+        return (double) targets.length * config.getMeasurementRuns() / Math.max(1, totalNanos) * 1_000;
+    }
+
+    /**
+     * Times a single run of the operation on the given input.
+     * @return The bytes allocated by the calling thread during the run, or -1 if this cannot be measured
+     */
+    private <A> long runSingleRun(Consumer<A> operation, A input,
+                                  BenchmarkResult result, int size) {
         if (config.isGcBeforeBenchmark()) {
             memoryTracker.gcAndWait();
         }
 
+        // Read the allocation counter outside the timed region so its cost is not charged to the run
+        long allocatedBefore = memoryTracker.getThreadAllocatedBytes();
         timer.start();
-        algorithm.sort(array);
+        operation.accept(input);
         Duration duration = timer.stop();
+        long allocatedAfter = memoryTracker.getThreadAllocatedBytes();
         
         result.addTiming(size, duration);
-        logger.debug("Sort completed in {} ms", duration.toMillis());
+        logger.debug("Run completed in {} ms", duration.toMillis());
+        return allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
     }
 
     private void runSingleSearchTest(SearchAlgorithm<Integer> algorithm, Integer[] array, 
@@ -170,4 +1395,36 @@ public class BenchmarkRunner {
         }
         return array;
     }
+
+    private static Integer[] box(int[] values) {
+        Integer[] array = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = values[i];
+        }
+        return array;
+    }
+
+    private int[] generateRandomIntArray(int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(10000);
+        }
+        return array;
+    }
+
+    private long[] generateRandomLongArray(int size) {
+        long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(10000);
+        }
+        return array;
+    }
+
+    private double[] generateRandomDoubleArray(int size) {
+        double[] array = new double[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextDouble() * 10000;
+        }
+        return array;
+    }
 }
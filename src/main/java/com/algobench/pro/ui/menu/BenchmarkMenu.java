@@ -2,16 +2,22 @@ package com.algobench.pro.ui.menu;
 
 import com.algobench.pro.algorithm.searching.BinarySearch;
 import com.algobench.pro.algorithm.searching.SearchAlgorithm;
+import com.algobench.pro.algorithm.sorting.IntroSort;
+import com.algobench.pro.algorithm.sorting.ParallelMergeSort;
+import com.algobench.pro.algorithm.sorting.ParallelQuickSort;
 import com.algobench.pro.algorithm.sorting.QuickSort;
 import com.algobench.pro.algorithm.sorting.SortingAlgorithm;
 import com.algobench.pro.benchmark.BenchmarkConfig;
 import com.algobench.pro.benchmark.results.BenchmarkResult;
+import com.algobench.pro.benchmark.results.ComparisonReport;
 import com.algobench.pro.benchmark.results.PerformanceReport;
 import com.algobench.pro.benchmark.runner.BenchmarkRunner;
 import com.algobench.pro.ui.console.InputHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
+
 /**
  * Menu handler for benchmark operations.
  */
@@ -33,9 +39,10 @@ public class BenchmarkMenu implements MenuItem {
             System.out.println("\n=== Benchmark Menu ===");
             System.out.println("1. Benchmark Sorting Algorithms");
             System.out.println("2. Benchmark Searching Algorithms");
+            System.out.println("3. Compare Sorting Algorithms");
             System.out.println("0. Return to Main Menu");
             
-            int choice = inputHandler.getIntInRange("\nEnter your choice: ", 0, 2);
+            int choice = inputHandler.getIntInRange("\nEnter your choice: ", 0, 3);
             
             switch (choice) {
                 case 0:
@@ -47,6 +54,9 @@ public class BenchmarkMenu implements MenuItem {
                 case 2:
                     benchmarkSearchingAlgorithms();
                     break;
+                case 3:
+                    compareSortingAlgorithms();
+                    break;
             }
         }
     }
@@ -100,6 +110,28 @@ public class BenchmarkMenu implements MenuItem {
         }
     }
 
+    private void compareSortingAlgorithms() {
+        logger.info("Starting sorting algorithms comparison");
+        System.out.println("\nComparing sorting algorithms against QuickSort...");
+
+        try (ParallelQuickSort<Integer> parallelQuickSort = new ParallelQuickSort<>();
+             ParallelMergeSort<Integer> parallelMergeSort = new ParallelMergeSort<>()) {
+            List<SortingAlgorithm<Integer>> algorithms = List.of(
+                new QuickSort<>(),
+                new IntroSort<>(),
+                parallelQuickSort,
+                parallelMergeSort
+            );
+            List<BenchmarkResult> results = benchmarkRunner.compareSorting(algorithms);
+
+            System.out.println("\nBenchmark Complete!");
+            System.out.println("\n" + ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        } catch (Exception e) {
+            logger.error("Error during sorting comparison", e);
+            System.out.println("Error running benchmark: " + e.getMessage());
+        }
+    }
+
     private void benchmarkSearchingAlgorithms() {
         logger.info("Starting searching algorithms benchmark");
         System.out.println("\nBenchmarking Binary Search...");
@@ -0,0 +1,62 @@
+package com.algobench.pro.util.config;
+
+/**
+ * Configured defaults and checks for the fork/join settings shared by the parallel algorithms.
+ * <p>
+ * Every parallel algorithm takes a sequential threshold, below which a range is handled by a single task,
+ * and a parallelism, the number of worker threads. Their defaults come from
+ * {@code parallel.sequential.threshold} and {@code parallel.parallelism}.
+ */
+public final class ParallelSettings {
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private ParallelSettings() {
+    }
+
+    /**
+     * Returns the configured sequential threshold ({@code parallel.sequential.threshold}).
+     */
+    public static int defaultSequentialThreshold() {
+        return config.getIntProperty("parallel.sequential.threshold", 8192);
+    }
+
+    /**
+     * Returns the configured parallelism ({@code parallel.parallelism}), where zero or a negative value
+     * means the number of available processors.
+     */
+    public static int defaultParallelism() {
+        int parallelism = config.getIntProperty("parallel.parallelism", 0);
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the sequential threshold if it is positive.
+     * @throws IllegalArgumentException if the threshold is less than 1
+     */
+    public static int checkSequentialThreshold(int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold must be positive");
+        }
+        return sequentialThreshold;
+    }
+
+    /**
+     * Returns the parallelism if it is positive.
+     * @throws IllegalArgumentException if the parallelism is less than 1
+     */
+    public static int checkParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        return parallelism;
+    }
+
+    /**
+     * Checks both settings.
+     * @throws IllegalArgumentException if either setting is less than 1
+     */
+    public static void checkSettings(int sequentialThreshold, int parallelism) {
+        checkSequentialThreshold(sequentialThreshold);
+        checkParallelism(parallelism);
+    }
+}
@@ -0,0 +1,69 @@
+package com.algobench.pro.util.instrumentation;
+
+import com.algobench.pro.util.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Entry point of the algorithm instrumentation layer.
+ * <p>
+ * The mode is fixed when this class is initialized, from the {@code algobench.instrumentation} system
+ * property or else the {@code instrumentation.mode} setting in application.properties:
+ * <ul>
+ *     <li>{@code production} (default) - {@link #TRACE_ENABLED} is {@code false}. Algorithms guard every
+ *     event with it, and because it is a {@code static final} constant the JIT compiler removes the guarded
+ *     code entirely, leaving hot paths free of any logging or tracing work.</li>
+ *     <li>{@code trace} - events are recorded into a preallocated {@link TraceBuffer} of
+ *     {@code instrumentation.trace.capacity} entries, which can be dumped after a run.</li>
+ * </ul>
+ * Algorithms must not call a logger on their hot paths; failures are still logged where they are thrown.
+ */
+public final class Instrumentation {
+    private static final Logger logger = LogManager.getLogger(Instrumentation.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    /** Whether algorithms record trace events. Constant for the lifetime of the JVM. */
+    public static final boolean TRACE_ENABLED;
+
+    private static final TraceBuffer BUFFER;
+
+    static {
+        String mode = System.getProperty("algobench.instrumentation",
+                                         config.getProperty("instrumentation.mode", "production"));
+        TRACE_ENABLED = "trace".equalsIgnoreCase(mode.trim());
+        BUFFER = TRACE_ENABLED
+            ? new TraceBuffer(config.getIntProperty("instrumentation.trace.capacity", 65536))
+            : null;
+        logger.info("Instrumentation mode: {}", TRACE_ENABLED ? "trace" : "production");
+    }
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Records an event in trace mode; does nothing in production mode.
+     */
+    public static void record(TraceEvent event, long firstArgument, long secondArgument) {
+        if (TRACE_ENABLED) {
+            BUFFER.record(event, firstArgument, secondArgument);
+        }
+    }
+
+    /**
+     * Returns the global trace buffer.
+     * @throws IllegalStateException if instrumentation is in production mode
+     */
+    public static TraceBuffer getTraceBuffer() {
+        if (!TRACE_ENABLED) {
+            throw new IllegalStateException("Tracing is disabled in production instrumentation mode");
+        }
+        return BUFFER;
+    }
+
+    /**
+     * Returns the formatted contents of the global trace buffer, or a note that tracing is disabled.
+     */
+    public static String dumpTrace() {
+        return TRACE_ENABLED ? BUFFER.dump() : "Tracing disabled (production instrumentation mode)";
+    }
+}
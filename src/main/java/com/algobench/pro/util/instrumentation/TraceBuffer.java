@@ -0,0 +1,129 @@
+package com.algobench.pro.util.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-capacity ring buffer of trace events.
+ * <p>
+ * All storage is allocated up front as parallel primitive arrays, so recording an event never allocates
+ * or boxes. Once full, the oldest events are overwritten. Slots are claimed with an atomic counter, so
+ * concurrent writers never share a slot; {@link #dump()} should be called once the traced work is done.
+ */
+public class TraceBuffer {
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] threadIds;
+    private final TraceEvent[] events;
+    private final long[] firstArguments;
+    private final long[] secondArguments;
+    private final AtomicLong cursor;
+
+    /**
+     * Creates a trace buffer.
+     * @param capacity The number of events retained, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or exceeds 2^30
+     */
+    public TraceBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Trace buffer capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.timestamps = new long[size];
+        this.threadIds = new long[size];
+        this.events = new TraceEvent[size];
+        this.firstArguments = new long[size];
+        this.secondArguments = new long[size];
+        this.cursor = new AtomicLong();
+    }
+
+    /**
+     * Records an event, overwriting the oldest one if the buffer is full.
+     */
+    public void record(TraceEvent event, long firstArgument, long secondArgument) {
+        int slot = (int) (cursor.getAndIncrement() & mask);
+        timestamps[slot] = System.nanoTime();
+        threadIds[slot] = Thread.currentThread().getId();
+        firstArguments[slot] = firstArgument;
+        secondArguments[slot] = secondArgument;
+        events[slot] = event;
+    }
+
+    /**
+     * Returns the number of events currently retained.
+     */
+    public int size() {
+        return (int) Math.min(cursor.get(), capacity());
+    }
+
+    /**
+     * Returns the total number of events recorded since creation or the last {@link #clear()},
+     * including overwritten ones.
+     */
+    public long getTotalRecorded() {
+        return cursor.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the type of the i-th retained event, oldest first.
+     */
+    public TraceEvent getEvent(int index) {
+        return events[slotOf(index)];
+    }
+
+    /**
+     * Returns the first argument of the i-th retained event, oldest first.
+     */
+    public long getFirstArgument(int index) {
+        return firstArguments[slotOf(index)];
+    }
+
+    /**
+     * Returns the second argument of the i-th retained event, oldest first.
+     */
+    public long getSecondArgument(int index) {
+        return secondArguments[slotOf(index)];
+    }
+
+    /**
+     * Discards all retained events.
+     */
+    public void clear() {
+        cursor.set(0);
+    }
+
+    /**
+     * Formats the retained events, oldest first, one per line with timestamps relative to the oldest event.
+     * @return The formatted trace
+     */
+    public String dump() {
+        int size = size();
+        StringBuilder trace = new StringBuilder();
+        trace.append(String.format("Trace: %d events retained, %d recorded%n", size, getTotalRecorded()));
+        if (size == 0) {
+            return trace.toString();
+        }
+        long origin = timestamps[slotOf(0)];
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(i);
+            TraceEvent event = events[slot];
+            trace.append(String.format("%12d ns  [thread %d]  %-14s %s=%d %s=%d%n",
+                timestamps[slot] - origin, threadIds[slot], event,
+                event.getFirstArgument(), firstArguments[slot],
+                event.getSecondArgument(), secondArguments[slot]));
+        }
+        return trace.toString();
+    }
+
+    private int slotOf(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Trace index out of range: " + index);
+        }
+        long oldest = cursor.get() - size();
+        return (int) ((oldest + index) & mask);
+    }
+}
@@ -0,0 +1,34 @@
+package com.algobench.pro.util.instrumentation;
+
+/**
+ * Types of structured events recorded by algorithms when running in trace mode.
+ * Each event carries two numeric arguments whose meaning is given by the argument labels.
+ */
+public enum TraceEvent {
+    SORT_START("length", "-"),
+    SORT_END("length", "-"),
+    PARTITION("low", "high"),
+    PIVOT_PLACED("index", "-"),
+    SWAP("i", "j"),
+    SEARCH_START("length", "-"),
+    SEARCH_PROBE("mid", "comparison"),
+    SEARCH_END("result", "-"),
+    VERTEX_SETTLED("queueSize", "-"),
+    EDGE_RELAXED("queueSize", "-");
+
+    private final String firstArgument;
+    private final String secondArgument;
+
+    TraceEvent(String firstArgument, String secondArgument) {
+        this.firstArgument = firstArgument;
+        this.secondArgument = secondArgument;
+    }
+
+    public String getFirstArgument() {
+        return firstArgument;
+    }
+
+    public String getSecondArgument() {
+        return secondArgument;
+    }
+}
@@ -1,15 +1,53 @@
 package com.algobench.pro;
 
+import com.algobench.pro.algorithm.sorting.AdaptiveMergeSort;
+import com.algobench.pro.algorithm.sorting.CachedKeySort;
+import com.algobench.pro.algorithm.sorting.CachedLongKeySort;
+import com.algobench.pro.algorithm.sorting.CountingSort;
+import com.algobench.pro.algorithm.sorting.DoubleBucketSort;
+import com.algobench.pro.algorithm.sorting.DoubleQuickSort;
+import com.algobench.pro.algorithm.sorting.InPlaceMergeSort;
+import com.algobench.pro.algorithm.sorting.IntCountingSort;
+import com.algobench.pro.algorithm.sorting.IntIntroSelect;
+import com.algobench.pro.algorithm.sorting.IntIntroSort;
+import com.algobench.pro.algorithm.sorting.IntParallelSampleSort;
+import com.algobench.pro.algorithm.sorting.IntQuickSort;
+import com.algobench.pro.algorithm.sorting.IntSimdQuickSort;
+import com.algobench.pro.algorithm.sorting.IntroSelect;
+import com.algobench.pro.algorithm.sorting.IntroSort;
+import com.algobench.pro.algorithm.sorting.MergeSort;
+import com.algobench.pro.algorithm.sorting.ParallelMergeSort;
+import com.algobench.pro.algorithm.sorting.ParallelQuickSort;
+import com.algobench.pro.algorithm.sorting.ParallelRadixSort;
+import com.algobench.pro.algorithm.sorting.ParallelSampleSort;
+import com.algobench.pro.algorithm.sorting.RadixSort;
+import com.algobench.pro.algorithm.sorting.external.ExternalMergeSort;
+import com.algobench.pro.algorithm.sorting.offheap.OffHeapRecordSort;
 import com.algobench.pro.algorithm.sorting.QuickSort;
 import com.algobench.pro.algorithm.sorting.SortingAlgorithm;
+import com.algobench.pro.algorithm.sorting.SmallArraySort;
 import com.algobench.pro.algorithm.searching.BinarySearch;
+import com.algobench.pro.algorithm.searching.IntBinarySearch;
+import com.algobench.pro.algorithm.searching.IntExponentialSearch;
+import com.algobench.pro.algorithm.searching.IntInterpolationSearch;
 import com.algobench.pro.algorithm.searching.SearchAlgorithm;
+import com.algobench.pro.algorithm.simd.SimdSupport;
 import com.algobench.pro.benchmark.BenchmarkConfig;
+import com.algobench.pro.benchmark.KeyDistribution;
 import com.algobench.pro.benchmark.runner.BenchmarkRunner;
 import com.algobench.pro.benchmark.results.BenchmarkResult;
+import com.algobench.pro.benchmark.results.ComparisonReport;
+import com.algobench.pro.util.instrumentation.AlgorithmLogCounter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -38,6 +76,464 @@ public class PerformanceTestSuite {
         System.out.println(result.generateReport());
     }
 
+    @Test
+    @DisplayName("Benchmark QuickSort with all logging enabled against the default configuration")
+    void benchmarkProductionInstrumentationOverhead() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult quiet = runner.benchmarkSorting(new QuickSort<>());
+        BenchmarkResult verbose;
+        int algorithmLogEvents;
+        try (AlgorithmLogCounter counter = AlgorithmLogCounter.install()) {
+            verbose = runner.benchmarkSorting(new QuickSort<>());
+            algorithmLogEvents = counter.getCount();
+        }
+
+        assertEquals(0, algorithmLogEvents, "Production mode hot paths must not reach any logger");
+
+        System.out.println("\nQuickSort at default log level vs. ALL (production instrumentation):");
+        System.out.println(new ComparisonReport(quiet, List.of(verbose)).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark primitive int[] QuickSort Performance")
+    void benchmarkIntQuickSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult result = runner.benchmarkIntSorting(new IntQuickSort());
+
+        assertNotNull(result, "Benchmark result should not be null");
+        assertEquals("Quick Sort (int[])", result.getAlgorithmName(), "Algorithm name should match");
+        assertFalse(result.getInputSizes().isEmpty(), "Input sizes should not be empty");
+
+        System.out.println("\nPrimitive int[] QuickSort Benchmark Performance Test Result:");
+        System.out.println(result.generateReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark small-array kernels on batches of independent arrays")
+    void benchmarkSmallArrayBatchPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] lengths = {8, 16, 24, 32, 64};
+        BenchmarkResult introSort = runner.benchmarkSmallArrayBatches(new IntIntroSort(), 100_000, lengths);
+        BenchmarkResult kernels = runner.benchmarkSmallArrayBatches(100_000, lengths);
+
+        assertEquals("Array Length", kernels.getParameterLabel(), "Results should be keyed by array length");
+        assertTrue(kernels.getMetric(SmallArraySort.NETWORK_MAX, "ns/element") > 0, "Per-element cost should be reported");
+
+        System.out.println("\nSmall Array Batch Comparison Result:");
+        System.out.println(new ComparisonReport(introSort, List.of(kernels)).generateTextReport());
+        System.out.println(kernels.generateReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark counting sort against QuickSort as the key range grows")
+    void benchmarkKeyRangeCrossover() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int size = 100_000;
+        int[] ranges = {16, 256, 4_096, 65_536, 1 << 20, 1 << 22};
+        // No fallback, so counting sort is measured even where it loses
+        BenchmarkResult quickSort = runner.benchmarkKeyRange(new QuickSort<>(), size, ranges);
+        BenchmarkResult countingSort = runner.benchmarkKeyRange(
+            new CountingSort<Integer>(Integer::intValue, 1 << 22, false), size, ranges);
+        BenchmarkResult intQuickSort = runner.benchmarkIntKeyRange(new IntQuickSort(), size, ranges);
+        BenchmarkResult intCountingSort = runner.benchmarkIntKeyRange(new IntCountingSort(1 << 22, false), size, ranges);
+
+        assertEquals("Key Range", countingSort.getParameterLabel(), "Results should be keyed by key range");
+
+        System.out.println("\nCounting Sort vs QuickSort by key range:");
+        System.out.println(new ComparisonReport(quickSort, List.of(countingSort)).generateTextReport());
+        System.out.println("\nPrimitive Counting Sort vs QuickSort by key range:");
+        System.out.println(new ComparisonReport(intQuickSort, List.of(intCountingSort)).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark bucket sort against primitive double QuickSort")
+    void benchmarkBucketSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult quickSort = runner.benchmarkDoubleSorting(new DoubleQuickSort());
+        BenchmarkResult bucketSort = runner.benchmarkDoubleSorting(new DoubleBucketSort());
+
+        assertEquals("Bucket Sort (double[])", bucketSort.getAlgorithmName(), "Algorithm name should match");
+
+        System.out.println("\nBucket Sort Comparison Result:");
+        System.out.println(new ComparisonReport(quickSort, List.of(bucketSort)).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark radix sorts against primitive QuickSort")
+    void benchmarkRadixSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult quickSort = runner.benchmarkIntSorting(new IntQuickSort());
+        BenchmarkResult radixSort = runner.benchmarkIntSorting(new RadixSort());
+        BenchmarkResult parallelRadixSort;
+        try (ParallelRadixSort sort = new ParallelRadixSort()) {
+            parallelRadixSort = runner.benchmarkIntSorting(sort);
+        }
+
+        assertEquals("LSD Radix Sort", radixSort.getAlgorithmName(), "Algorithm name should match");
+
+        System.out.println("\nRadix Sort Comparison Result:");
+        System.out.println(new ComparisonReport(quickSort, List.of(radixSort, parallelRadixSort)).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark adaptive merge sort against QuickSort as presortedness varies")
+    void benchmarkPresortedInputPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] sortedPercentages = {0, 50, 90, 99, 100};
+        BenchmarkResult quickSort = runner.benchmarkPresortedness(new QuickSort<>(), 10_000, sortedPercentages);
+        BenchmarkResult adaptive = runner.benchmarkPresortedness(new AdaptiveMergeSort<>(), 10_000, sortedPercentages);
+
+        assertEquals("Presorted %", adaptive.getParameterLabel(), "Results should be keyed by presortedness");
+        assertEquals(sortedPercentages.length, adaptive.getInputSizes().size(), "Every percentage should be measured");
+
+        System.out.println("\nPresortedness Comparison Result:");
+        System.out.println(new ComparisonReport(quickSort, List.of(adaptive)).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark in-place merge sort time and allocation against QuickSort and buffered merge sort")
+    void benchmarkInPlaceMergeSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        List<BenchmarkResult> results = runner.compareSorting(
+            List.of(new QuickSort<>(), new MergeSort<>(), new InPlaceMergeSort<>()));
+
+        BenchmarkResult inPlace = results.get(2);
+        assertEquals("In-Place Merge Sort", inPlace.getAlgorithmName(), "Algorithm name should match");
+
+        System.out.println("\nIn-Place Merge Sort Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark columnar sort against sorting materialized row objects")
+    void benchmarkColumnarSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        List<BenchmarkResult> results = runner.compareColumnarSort();
+
+        assertEquals("Columnar Sort", results.get(1).getAlgorithmName(), "Algorithm name should match");
+
+        System.out.println("\nColumnar sort vs row objects (region ascending, timestamp descending):");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark cached key sorts against QuickSort with expensive compareTo")
+    void benchmarkCachedKeySortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        Random random = new Random(42);
+
+        BenchmarkResult quickSortEvents = runner.benchmarkSorting(new QuickSort<LogEvent>(),
+            size -> LogEvent.randomEvents(size, random));
+        BenchmarkResult cachedEvents = runner.benchmarkSorting(new CachedLongKeySort<LogEvent>(LogEvent::epochMillis),
+            size -> LogEvent.randomEvents(size, random));
+
+        BenchmarkResult quickSortTitles = runner.benchmarkSorting(new QuickSort<Title>(),
+            size -> Title.randomTitles(size, random));
+        BenchmarkResult cachedTitles = runner.benchmarkSorting(new CachedKeySort<Title, String>(Title::collationKey),
+            size -> Title.randomTitles(size, random));
+
+        assertEquals("Cached Key Sort (long)", cachedEvents.getAlgorithmName(), "Algorithm name should match");
+
+        System.out.println("\nCached long key sort vs QuickSort (timestamp parsed in compareTo):");
+        System.out.println(new ComparisonReport(quickSortEvents, List.of(cachedEvents)).generateTextReport());
+        System.out.println("\nCached key sort vs QuickSort (string normalized in compareTo):");
+        System.out.println(new ComparisonReport(quickSortTitles, List.of(cachedTitles)).generateTextReport());
+    }
+
+    /**
+     * Log event whose ordering requires parsing its ISO-8601 timestamp.
+     */
+    private record LogEvent(String timestamp) implements Comparable<LogEvent> {
+        static LogEvent[] randomEvents(int size, Random random) {
+            LogEvent[] events = new LogEvent[size];
+            for (int i = 0; i < size; i++) {
+                events[i] = new LogEvent(Instant.ofEpochMilli(random.nextInt(Integer.MAX_VALUE) * 1000L).toString());
+            }
+            return events;
+        }
+
+        long epochMillis() {
+            return Instant.parse(timestamp).toEpochMilli();
+        }
+
+        @Override
+        public int compareTo(LogEvent other) {
+            return Long.compare(epochMillis(), other.epochMillis());
+        }
+    }
+
+    /**
+     * Title ordered case- and accent-insensitively, normalizing both strings on every comparison.
+     */
+    private record Title(String text) implements Comparable<Title> {
+        private static final String[] WORDS = {"Éclair", "apple", "Zebra", "café", "Ångström", "naïve", "delta"};
+
+        static Title[] randomTitles(int size, Random random) {
+            Title[] titles = new Title[size];
+            for (int i = 0; i < size; i++) {
+                titles[i] = new Title(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + random.nextInt(10000));
+            }
+            return titles;
+        }
+
+        String collationKey() {
+            return Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public int compareTo(Title other) {
+            return collationKey().compareTo(other.collationKey());
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark selection, partial sort and top-k against a full sort")
+    void benchmarkSelectionPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult fullSort = runner.benchmarkSorting(new IntroSort<>());
+        BenchmarkResult median = runner.benchmarkSelection(new IntroSelect<>(), 0.5);
+        BenchmarkResult percentile = runner.benchmarkSelection(new IntroSelect<>(), 0.99);
+        BenchmarkResult partialSort = runner.benchmarkPartialSort(new IntroSelect<>(), 100);
+        BenchmarkResult topK = runner.benchmarkTopK(100);
+
+        BenchmarkResult intFullSort = runner.benchmarkIntSorting(new IntIntroSort());
+        BenchmarkResult intMedian = runner.benchmarkIntSelection(new IntIntroSelect(), 0.5);
+
+        assertEquals("Intro Select [p50]", median.getAlgorithmName(), "Algorithm name should match");
+
+        System.out.println("\nSelection vs. full sort then index:");
+        System.out.println(new ComparisonReport(fullSort, List.of(median, percentile, partialSort, topK)).generateTextReport());
+        System.out.println(new ComparisonReport(intFullSort, List.of(intMedian)).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Compare parallel sorts against QuickSort")
+    void compareParallelSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        List<BenchmarkResult> results;
+        try (ParallelQuickSort<Integer> parallelQuickSort = new ParallelQuickSort<>();
+             ParallelMergeSort<Integer> parallelMergeSort = new ParallelMergeSort<>()) {
+            results = runner.compareSorting(List.of(new QuickSort<>(), parallelQuickSort, parallelMergeSort));
+        }
+
+        assertEquals(3, results.size(), "Every algorithm should produce a result");
+
+        System.out.println("\nParallel Sort Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark parallel sample sort scaling from 1 to N threads")
+    void benchmarkSampleSortScaling() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] threadCounts = threadCountsUpToProcessors();
+        BenchmarkResult boxed = runner.benchmarkThreadScaling(
+            threads -> new ParallelSampleSort<>(8192, threads), 1_000_000, threadCounts);
+        BenchmarkResult primitive = runner.benchmarkIntThreadScaling(
+            threads -> new IntParallelSampleSort(8192, threads), 5_000_000, threadCounts);
+
+        assertEquals("Threads", boxed.getParameterLabel(), "Results should be keyed by thread count");
+        assertEquals(1.0, boxed.getMetric(threadCounts[0], "Speedup"), 1e-9, "Baseline speedup should be 1");
+
+        System.out.println("\nParallel Sample Sort Scaling Result:");
+        System.out.println(boxed.generateReport());
+        System.out.println(primitive.generateReport());
+    }
+
+    /**
+     * Returns 1, 2, 4, ... up to and including the number of available processors.
+     */
+    private static int[] threadCountsUpToProcessors() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    @DisplayName("Benchmark external merge sort throughput")
+    void benchmarkExternalSortThroughput() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult result = runner.benchmarkExternalSort(new ExternalMergeSort(), 64, 256);
+
+        result.getInputSizes().forEach(sizeMb ->
+            assertTrue(result.getMetric(sizeMb, "MB/s") > 0, "Throughput should be positive"));
+
+        System.out.println("\nExternal Merge Sort Benchmark Result:");
+        System.out.println(result.generateReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark off-heap record sort on direct buffers")
+    void benchmarkOffHeapSortPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        BenchmarkResult result = runner.benchmarkOffHeapSort(new OffHeapRecordSort(32, 8), 100_000, 1_000_000, 4_000_000);
+
+        assertEquals("Records", result.getParameterLabel(), "Results should be keyed by record count");
+        result.getInputSizes().forEach(records ->
+            assertTrue(result.getMetric(records, "Off-Heap (MB)") >= records * 32 / 1024.0 / 1024.0,
+                "The record buffer should be accounted for off-heap"));
+
+        System.out.println("\nOff-Heap Record Sort Benchmark Result:");
+        System.out.println(result.generateReport());
+    }
+
+    @Test
+    @DisplayName("Benchmark interpolation and exponential search on uniform, Zipfian and clustered keys")
+    void benchmarkKeyDistributionSearchPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            BenchmarkResult binary = runner.benchmarkIntSearching(new IntBinarySearch(), distribution, 100_000);
+            List<BenchmarkResult> others = List.of(
+                runner.benchmarkIntSearching(new IntInterpolationSearch(), distribution, 100_000),
+                runner.benchmarkIntSearching(new IntExponentialSearch(), distribution, 100_000)
+            );
+
+            System.out.println("\n" + distribution.getDisplayName() + " Keys Comparison Result:");
+            System.out.println(new ComparisonReport(binary, others).generateTextReport());
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark group binary search throughput against the group size and one lookup at a time")
+    void benchmarkGroupSearchPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] groupSizes = {1, 2, 4, 8, 16, 32, 64};
+        List<BenchmarkResult> results = runner.benchmarkGroupSearch(1 << 23, 1_000_000, groupSizes);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(1).getMetric(16, "M lookups/s") > 0, "Throughput should be reported");
+
+        System.out.println("\nGroup Binary Search Comparison Result (int[]):");
+        System.out.println(new ComparisonReport(results.get(0), List.of(results.get(1))).generateTextReport());
+        System.out.println("\nGroup Binary Search Comparison Result (Integer[]):");
+        System.out.println(new ComparisonReport(results.get(2), List.of(results.get(3))).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark scalar against Vector API kernels and the quick sort built on them")
+    void benchmarkSimdKernelPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        List<BenchmarkResult> kernels = runner.benchmarkSimdKernels(200_000, 16, 64, 256, 4096);
+        List<BenchmarkResult> sorts = new ArrayList<>();
+        sorts.add(runner.benchmarkIntSorting(new IntSimdQuickSort(SimdSupport.scalar())));
+        SimdSupport.vector().ifPresent(vector -> sorts.add(runner.benchmarkIntSorting(new IntSimdQuickSort(vector))));
+
+        assertEquals(SimdSupport.vector().isPresent() ? 6 : 3, kernels.size());
+
+        System.out.println("\nSIMD Kernel Comparison Result (run with -P vector for the vectorized rows):");
+        for (int kernel = 0; kernel < 3; kernel++) {
+            List<BenchmarkResult> others = new ArrayList<>();
+            for (int row = kernel + 3; row < kernels.size(); row += 3) {
+                others.add(kernels.get(row));
+            }
+            System.out.println(new ComparisonReport(kernels.get(kernel), others).generateTextReport());
+        }
+        System.out.println(new ComparisonReport(runner.benchmarkIntSorting(new IntQuickSort()), sorts).generateTextReport());
+        kernels.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark time-window range counts against binary search with a linear walk")
+    void benchmarkRangeQueryPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] windowWidths = {1, 16, 256, 4096};
+        List<BenchmarkResult> results = runner.benchmarkRangeQueries(1 << 22, 100_000, windowWidths);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(2).getMetric(4096, "Avg Count") > 1000, "Wide windows should span many duplicates");
+
+        System.out.println("\nRange Query Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark the open-addressing hash index against BinarySearch, HashMap and a sorted array")
+    void benchmarkHashIndexPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] sizes = {1 << 12, 1 << 16, 1 << 20, 1 << 22};
+        List<BenchmarkResult> results = runner.benchmarkHashIndex(1_000_000, sizes);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(3).getMetric(1 << 22, "Bytes/Key") > 0, "Retained memory should be reported");
+
+        System.out.println("\nHash Index Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark Bloom and xor filter prefilters at different hit ratios")
+    void benchmarkMembershipFilterPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        List<BenchmarkResult> results = runner.benchmarkMembershipFilters(1 << 20, 1_000_000, 0, 10, 50, 90, 100);
+
+        assertTrue(results.get(2).getMetric(10, "FPR (%)") < 1, "Xor filter FPR should be about 0.4%");
+
+        System.out.println("\nMembership Filter Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark the learned index against BinarySearch and a plain sorted long array")
+    void benchmarkLearnedIndexPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] sizes = {1 << 16, 1 << 20, 1 << 23};
+        List<BenchmarkResult> results = runner.benchmarkLearnedIndex(1_000_000, sizes);
+
+        BenchmarkResult learned = results.get(2);
+        assertTrue(learned.getMetric(1 << 23, "Model (KB)") * 1024 < (1 << 23) * (double) Long.BYTES,
+            "The model should be smaller than the keys");
+
+        System.out.println("\nLearned Index Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark repeated lookups through a validated SortedView against re-validating BinarySearch")
+    void benchmarkSortedViewPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        int[] sizes = {1 << 10, 1 << 14, 1 << 18, 1 << 20};
+        List<BenchmarkResult> results = runner.benchmarkSortedView(1_000, sizes);
+
+        for (int size : sizes) {
+            assertTrue(results.get(1).getMetric(size, "ns/lookup") < results.get(0).getMetric(size, "ns/lookup"),
+                "Validated lookups should beat a scan per lookup at size " + size);
+        }
+
+        System.out.println("\nSorted View Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
+    @Test
+    @DisplayName("Benchmark Eytzinger and B-tree layouts against binary search from L1-resident to beyond the LLC")
+    void benchmarkSearchLayoutPerformance() {
+        BenchmarkRunner runner = new BenchmarkRunner(new BenchmarkConfig());
+        // 4 KB (L1) up to 64 MB of keys, several times a typical last-level cache
+        int[] sizes = {1 << 10, 1 << 13, 1 << 16, 1 << 19, 1 << 22, 1 << 24};
+        List<BenchmarkResult> results = runner.benchmarkSearchLayouts(1_000_000, sizes);
+
+        assertEquals("Array Size", results.get(1).getParameterLabel(), "Results should be keyed by array size");
+        assertTrue(results.get(2).getMetric(1 << 24, "ns/lookup") > 0, "Per-lookup cost should be reported");
+
+        System.out.println("\nSearch Layout Comparison Result:");
+        System.out.println(ComparisonReport.ofBaselineFirst(results).generateTextReport());
+        results.forEach(result -> System.out.println(result.generateReport()));
+    }
+
     @Test
     @DisplayName("Benchmark BinarySearch Algorithm Performance")
     void benchmarkBinarySearchPerformance() {
@@ -53,6 +549,7 @@ public class PerformanceTestSuite {
             assertNotNull(result.getStatistics(size), "Statistics should exist for each input size");
             assertTrue(result.getStatistics(size).getAverage().toMillis() > 0, "Average time should be positive");
             assertTrue(result.getMemoryUsage().get(size) >= 0, "Memory usage should not be negative");
+            assertTrue(result.getMetric(size, "Lookups/s (M)") > 0, "Batch throughput should be reported");
         });
 
         System.out.println("\nBinarySearch Benchmark Performance Test Result:");
@@ -0,0 +1,126 @@
+package com.algobench.pro.algorithm.searching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the batch lookups of BinarySearch and IntBinarySearch.
+ */
+public class BatchSearchTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(23);
+    }
+
+    @Test
+    @DisplayName("Test batch search reports indexes and misses")
+    void testSearchAllSmallArray() {
+        Integer[] array = {1, 3, 3, 3, 7, 9};
+        Integer[] targets = {9, 3, 0, 7, 10, 1, 4};
+        int[] out = new int[targets.length];
+
+        new BinarySearch<Integer>().searchAll(array, targets, out);
+
+        assertArrayEquals(new int[]{5, 1, -1, 4, -1, 0, -1}, out);
+    }
+
+    @Test
+    @DisplayName("Test sorted and unsorted batches match single lookups for many sizes")
+    void testSearchAllMatchesSingleLookups() {
+        for (int size : new int[]{0, 1, 2, 7, 8, 9, 100, 4097, 100_000}) {
+            int[] array = random.ints(size, 0, 2 * size + 1).sorted().distinct().toArray();
+            Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            for (int targetCount : new int[]{1, 10, 2 * size + 3}) {
+                int[] targets = random.ints(targetCount, -1, 2 * size + 2).toArray();
+                int[] sortedTargets = targets.clone();
+                Arrays.sort(sortedTargets);
+                for (int[] batch : new int[][]{targets, sortedTargets}) {
+                    int[] expected = Arrays.stream(batch).map(target -> Arrays.binarySearch(array, target))
+                        .map(index -> index < 0 ? -1 : index).toArray();
+
+                    int[] primitiveOut = new int[batch.length];
+                    new IntBinarySearch().searchAll(array, batch, primitiveOut);
+                    int[] boxedOut = new int[batch.length];
+                    new BinarySearch<Integer>().searchAll(boxed, Arrays.stream(batch).boxed().toArray(Integer[]::new),
+                        boxedOut);
+
+                    assertArrayEquals(expected, primitiveOut, "Mismatch for size " + size);
+                    assertArrayEquals(expected, boxedOut, "Mismatch for size " + size);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test batch search returns the first occurrence of duplicates")
+    void testSearchAllDuplicates() {
+        int[] array = random.ints(50_000, 0, 100).sorted().toArray();
+        int[] targets = random.ints(1_000, 0, 100).toArray();
+        int[] out = new int[targets.length];
+
+        new IntBinarySearch().searchAll(array, targets, out);
+
+        for (int i = 0; i < targets.length; i++) {
+            int index = out[i];
+            assertEquals(targets[i], array[index]);
+            assertTrue(index == 0 || array[index - 1] < targets[i], "Expected the first occurrence");
+        }
+    }
+
+    @Test
+    @DisplayName("Test primitive single lookup")
+    void testIntSearch() {
+        int[] array = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        IntBinarySearch search = new IntBinarySearch();
+
+        assertEquals(6, search.search(array, 7));
+        assertEquals(-1, search.search(array, 11));
+        assertEquals(-1, search.search(new int[0], 1));
+        assertEquals("Binary Search (int[])", search.getName());
+    }
+
+    @Test
+    @DisplayName("Test default batch search delegates to single lookups")
+    void testDefaultSearchAll() {
+        SearchAlgorithm<Integer> linear = new SearchAlgorithm<>() {
+            @Override
+            public int search(Integer[] array, Integer target) {
+                return Arrays.asList(array).indexOf(target);
+            }
+
+            @Override
+            public String getName() {
+                return "Linear Search";
+            }
+        };
+        int[] out = new int[3];
+
+        linear.searchAll(new Integer[]{4, 2, 9}, new Integer[]{9, 5, 4}, out);
+
+        assertArrayEquals(new int[]{2, -1, 0}, out);
+    }
+
+    @Test
+    @DisplayName("Test invalid batches throw exception")
+    void testInvalidBatches() {
+        BinarySearch<Integer> search = new BinarySearch<>();
+        IntBinarySearch intSearch = new IntBinarySearch();
+        Integer[] array = {1, 2, 3};
+
+        assertThrows(IllegalArgumentException.class, () -> search.searchAll(null, new Integer[1], new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> search.searchAll(array, null, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> search.searchAll(array, new Integer[]{1, 2}, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> search.searchAll(array, new Integer[]{1, null}, new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> search.searchAll(new Integer[]{3, 1}, new Integer[]{1}, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> intSearch.searchAll(new int[]{3, 1}, new int[]{1}, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> intSearch.searchAll(new int[]{1}, new int[]{1}, null));
+    }
+}
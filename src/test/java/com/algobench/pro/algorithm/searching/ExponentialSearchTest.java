@@ -0,0 +1,87 @@
+package com.algobench.pro.algorithm.searching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExponentialSearch and IntExponentialSearch.
+ */
+public class ExponentialSearchTest {
+    private IntExponentialSearch intSearch;
+    private ExponentialSearch<Integer> search;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        intSearch = new IntExponentialSearch();
+        search = new ExponentialSearch<>();
+        random = new Random(41);
+    }
+
+    @Test
+    @DisplayName("Test lookups report first occurrences and misses for many sizes")
+    void testSearchMatchesFirstOccurrence() {
+        for (int size : new int[]{0, 1, 2, 3, 4, 5, 63, 64, 65, 1000}) {
+            int[] array = random.ints(size, 0, size + 1).sorted().toArray();
+            Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            int[] out = new int[size + 3];
+            int[] targets = new int[size + 3];
+            Arrays.setAll(targets, i -> i - 1);
+            intSearch.searchAll(array, targets, out);
+
+            for (int i = 0; i < targets.length; i++) {
+                int expected = Arrays.asList(boxed).indexOf(targets[i]);
+                assertEquals(expected, intSearch.search(array, targets[i]), "Size " + size);
+                assertEquals(expected, search.search(boxed, targets[i]), "Size " + size);
+                assertEquals(expected, out[i], "Size " + size);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test unbounded search over sequences of unknown length")
+    void testSearchUnbounded() {
+        int[] array = random.ints(5_000, 0, 20_000).sorted().distinct().toArray();
+        Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+
+        for (int target = -1; target <= 20_001; target += 3) {
+            int expected = Math.max(-1, Arrays.binarySearch(array, target));
+            assertEquals(expected, intSearch.searchUnbounded(
+                index -> index < array.length ? array[index] : IntExponentialSearch.END_OF_SEQUENCE, target));
+            assertEquals(expected, search.searchUnbounded(index -> index < boxed.length ? boxed[index] : null, target));
+        }
+        assertEquals(-1, intSearch.searchUnbounded(index -> IntExponentialSearch.END_OF_SEQUENCE, 0));
+        assertEquals(-1, search.searchUnbounded(index -> null, 0));
+    }
+
+    @Test
+    @DisplayName("Test unbounded search only touches indexes near the target")
+    void testUnboundedProbesStayNearTarget() {
+        int[] largestIndex = {0};
+        int position = intSearch.searchUnbounded(index -> {
+            largestIndex[0] = Math.max(largestIndex[0], index);
+            return 2L * index;
+        }, 2000);
+
+        assertEquals(1000, position);
+        assertTrue(largestIndex[0] < 2048, "Probed index " + largestIndex[0]);
+        // An endless sequence of values below the target ends at the largest index without overflowing
+        assertEquals(-1, intSearch.searchUnbounded(index -> -1, 0));
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> intSearch.search(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> intSearch.search(new int[]{2, 1}, 1));
+        assertThrows(IllegalArgumentException.class, () -> intSearch.searchUnbounded(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> search.search(new Integer[]{1, null}, 1));
+        assertThrows(IllegalArgumentException.class, () -> search.searchUnbounded(index -> null, null));
+    }
+}
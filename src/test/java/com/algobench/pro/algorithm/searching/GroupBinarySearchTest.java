@@ -0,0 +1,85 @@
+package com.algobench.pro.algorithm.searching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the lockstep batch lookups of GroupBinarySearch and IntGroupBinarySearch.
+ */
+public class GroupBinarySearchTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(67);
+    }
+
+    @Test
+    @DisplayName("Test every group size reports first occurrences and misses")
+    void testGroupSizesMatchLinearScan() {
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 1000}) {
+            int[] array = random.ints(size, 0, Math.max(1, size / 2)).sorted().toArray();
+            Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            int[] targets = random.ints(size + 37, -2, size / 2 + 2).toArray();
+            Integer[] boxedTargets = Arrays.stream(targets).boxed().toArray(Integer[]::new);
+            int[] expected = Arrays.stream(targets).map(target -> firstIndexOf(array, target)).toArray();
+
+            for (int groupSize : new int[]{1, 2, 3, 8, 16, 64, 1024}) {
+                int[] out = new int[targets.length];
+                int[] boxedOut = new int[targets.length];
+                new IntGroupBinarySearch(groupSize).searchAll(array, targets, out);
+                new GroupBinarySearch<Integer>(groupSize).searchAll(boxed, boxedTargets, boxedOut);
+
+                String message = "Size " + size + ", group " + groupSize;
+                assertArrayEquals(expected, out, message);
+                assertArrayEquals(expected, boxedOut, message);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test single lookups and the configured group size")
+    void testSingleLookups() {
+        Integer[] array = {1, 3, 3, 3, 7, 9};
+        int[] ints = {1, 3, 3, 3, 7, 9};
+        GroupBinarySearch<Integer> search = new GroupBinarySearch<>();
+        IntGroupBinarySearch intSearch = new IntGroupBinarySearch();
+
+        for (int target = 0; target <= 10; target++) {
+            assertEquals(firstIndexOf(ints, target), search.search(array, target), "Target " + target);
+            assertEquals(firstIndexOf(ints, target), intSearch.search(ints, target), "Target " + target);
+        }
+        assertEquals(16, search.getGroupSize());
+        assertEquals(16, intSearch.getGroupSize());
+        assertEquals(5, new IntGroupBinarySearch(5).getGroupSize());
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new IntGroupBinarySearch(0));
+        assertThrows(IllegalArgumentException.class, () -> new GroupBinarySearch<Integer>(1025));
+        assertThrows(IllegalArgumentException.class, () -> new IntGroupBinarySearch().search(new int[]{2, 1}, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GroupBinarySearch<Integer>().searchAll(new Integer[]{1, null}, new Integer[]{1}, new int[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GroupBinarySearch<Integer>().searchAll(new Integer[]{1}, new Integer[]{null}, new int[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> new IntGroupBinarySearch().searchAll(new int[]{1}, new int[2], new int[1]));
+    }
+
+    private static int firstIndexOf(int[] array, int target) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,135 @@
+package com.algobench.pro.algorithm.searching;
+
+import com.algobench.pro.benchmark.KeyDistribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InterpolationSearch and IntInterpolationSearch.
+ */
+public class InterpolationSearchTest {
+    private IntInterpolationSearch intSearch;
+    private InterpolationSearch<Integer> search;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        intSearch = new IntInterpolationSearch();
+        search = new InterpolationSearch<>(Integer::doubleValue);
+        random = new Random(37);
+    }
+
+    @Test
+    @DisplayName("Test lookups report first occurrences and misses")
+    void testSearchSmallArray() {
+        int[] array = {1, 3, 3, 3, 7, 9, 9, 12, 15, 20, 20, 21};
+        Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+
+        for (int target = -1; target <= 22; target++) {
+            int expected = Arrays.asList(boxed).indexOf(target);
+            assertEquals(expected, intSearch.search(array, target), "Target " + target);
+            assertEquals(expected, search.search(boxed, target), "Target " + target);
+        }
+        assertEquals(-1, intSearch.search(new int[0], 5));
+    }
+
+    @Test
+    @DisplayName("Test lower bounds on every key distribution and extreme values")
+    void testLowerBoundOnDistributions() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            int[] keys = distribution.generateSorted(20_000, random);
+            for (int i = 0; i < 5_000; i++) {
+                int target = i % 2 == 0 ? keys[random.nextInt(keys.length)] : random.nextInt();
+                assertEquals(expectedLowerBound(keys, target), IntInterpolationSearch.lowerBound(keys, target),
+                    distribution + " target " + target);
+            }
+        }
+        int[] extremes = {Integer.MIN_VALUE, -5, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, Integer.MAX_VALUE};
+        for (int target : new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, -6, 4, 10}) {
+            assertEquals(expectedLowerBound(extremes, target), IntInterpolationSearch.lowerBound(extremes, target));
+        }
+    }
+
+    @Test
+    @DisplayName("Test adversarial skew falls back to binary search and stays correct")
+    void testSkewedKeys() {
+        // Exponentially growing keys make every interpolation land at the front of the range
+        int[] keys = new int[31];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (1 << i) - 1;
+        }
+        int[] wide = new int[100_000];
+        for (int i = 0; i < wide.length - 1; i++) {
+            wide[i] = i;
+        }
+        wide[wide.length - 1] = Integer.MAX_VALUE;
+
+        for (int target = 0; target < 100_000; target += 7) {
+            assertEquals(expectedLowerBound(wide, target), IntInterpolationSearch.lowerBound(wide, target));
+        }
+        for (int key : keys) {
+            assertEquals(Arrays.binarySearch(keys, key), intSearch.search(keys, key));
+        }
+    }
+
+    @Test
+    @DisplayName("Test batch lookups match single lookups")
+    void testSearchAll() {
+        int[] array = KeyDistribution.ZIPFIAN.generateSorted(10_000, random);
+        Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+        int[] targets = random.ints(2_000, 0, 1_000).toArray();
+        Integer[] boxedTargets = Arrays.stream(targets).boxed().toArray(Integer[]::new);
+        int[] out = new int[targets.length];
+        int[] boxedOut = new int[targets.length];
+
+        intSearch.searchAll(array, targets, out);
+        search.searchAll(boxed, boxedTargets, boxedOut);
+
+        for (int i = 0; i < targets.length; i++) {
+            int lowerBound = expectedLowerBound(array, targets[i]);
+            int expected = lowerBound < array.length && array[lowerBound] == targets[i] ? lowerBound : -1;
+            assertEquals(expected, out[i]);
+            assertEquals(expected, boxedOut[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test a key extractor that disagrees with the order only costs speed")
+    void testInconsistentKeyExtractor() {
+        InterpolationSearch<Integer> misled = new InterpolationSearch<>(value -> value % 2 == 0 ? Double.NaN : -value);
+        Integer[] array = new Integer[1000];
+        Arrays.setAll(array, i -> 3 * i);
+
+        for (int target = -1; target < 3001; target += 5) {
+            int expected = target >= 0 && target % 3 == 0 ? target / 3 : -1;
+            assertEquals(expected, misled.search(array, target), "Target " + target);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> intSearch.search(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> intSearch.search(new int[]{2, 1}, 1));
+        assertThrows(IllegalArgumentException.class, () -> search.search(new Integer[]{1, null}, 1));
+        assertThrows(IllegalArgumentException.class, () -> search.search(new Integer[]{1}, null));
+        assertThrows(IllegalArgumentException.class, () -> new InterpolationSearch<Integer>(null));
+    }
+
+    private static int expectedLowerBound(int[] array, int target) {
+        int index = Arrays.binarySearch(array, target);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && array[index - 1] == target) {
+            index--;
+        }
+        return index;
+    }
+}
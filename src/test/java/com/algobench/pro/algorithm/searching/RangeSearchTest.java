@@ -0,0 +1,146 @@
+package com.algobench.pro.algorithm.searching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bound and range queries of RangeSearch and the validated handles.
+ */
+public class RangeSearchTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(59);
+    }
+
+    @Test
+    @DisplayName("Test bounds and equal ranges on duplicate-heavy arrays match a linear scan")
+    void testBoundsMatchLinearScan() {
+        for (int size : new int[]{0, 1, 2, 17, 1000}) {
+            int[] ints = random.ints(size, 0, Math.max(1, size / 8)).sorted().toArray();
+            long[] longs = Arrays.stream(ints).asLongStream().map(value -> value * (1L << 40)).toArray();
+            Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+
+            for (int key = -1; key <= size / 8 + 1; key++) {
+                int lower = 0;
+                while (lower < size && ints[lower] < key) {
+                    lower++;
+                }
+                int upper = lower;
+                while (upper < size && ints[upper] == key) {
+                    upper++;
+                }
+                String message = "Size " + size + ", key " + key;
+                assertEquals(lower, RangeSearch.lowerBound(ints, key), message);
+                assertEquals(upper, RangeSearch.upperBound(ints, key), message);
+                assertEquals(new IndexRange(lower, upper), RangeSearch.equalRange(ints, key), message);
+                assertEquals(lower, RangeSearch.lowerBound(boxed, key), message);
+                assertEquals(upper, RangeSearch.upperBound(boxed, key), message);
+                assertEquals(new IndexRange(lower, upper), RangeSearch.equalRange(boxed, key), message);
+                long longKey = key * (1L << 40);
+                assertEquals(lower, RangeSearch.lowerBound(longs, longKey), message);
+                assertEquals(upper, RangeSearch.upperBound(longs, longKey), message);
+                assertEquals(new IndexRange(lower, upper), RangeSearch.equalRange(longs, longKey), message);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test range counts include both ends and are empty for inverted ranges")
+    void testCountInRange() {
+        int[] ints = {1, 3, 3, 3, 7, 9, 9};
+        long[] longs = {Long.MIN_VALUE, -5, -5, 0, Long.MAX_VALUE};
+        Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+
+        assertEquals(4, RangeSearch.countInRange(ints, 3, 7));
+        assertEquals(4, RangeSearch.countInRange(boxed, 2, 8));
+        assertEquals(0, RangeSearch.countInRange(ints, 4, 6));
+        assertEquals(0, RangeSearch.countInRange(ints, 9, 3), "Inverted ranges are empty");
+        assertEquals(0, RangeSearch.countInRange(boxed, 7, 3));
+        assertEquals(7, RangeSearch.countInRange(ints, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(5, RangeSearch.countInRange(longs, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(3, RangeSearch.countInRange(longs, -5, 0));
+        assertEquals(new IndexRange(3, 3), RangeSearch.equalRange(longs, -1));
+        assertTrue(RangeSearch.equalRange(ints, 5).isEmpty());
+        assertEquals(2, RangeSearch.equalRange(ints, 9).size());
+    }
+
+    @Test
+    @DisplayName("Test batched ranges match single queries for ordered and unordered windows")
+    void testRangesAll() {
+        int size = 5000;
+        long[] timestamps = random.longs(size, 0, size / 4).sorted().toArray();
+        int[] ints = Arrays.stream(timestamps).mapToInt(value -> (int) value).toArray();
+        Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+        for (boolean ordered : new boolean[]{true, false}) {
+            int queries = 400;
+            long[] lows = random.longs(queries, -10, size / 4 + 10).toArray();
+            if (ordered) {
+                Arrays.sort(lows);
+            }
+            long[] highs = new long[queries];
+            for (int i = 0; i < queries; i++) {
+                highs[i] = lows[i] + random.nextInt(40) - 5;
+            }
+            int[] intLows = Arrays.stream(lows).mapToInt(value -> (int) value).toArray();
+            int[] intHighs = Arrays.stream(highs).mapToInt(value -> (int) value).toArray();
+            int[][] outputs = new int[6][queries];
+
+            RangeSearch.rangesAll(timestamps, lows, highs, outputs[0], outputs[1]);
+            RangeSearch.rangesAll(ints, intLows, intHighs, outputs[2], outputs[3]);
+            RangeSearch.rangesAll(boxed, Arrays.stream(intLows).boxed().toArray(Integer[]::new),
+                Arrays.stream(intHighs).boxed().toArray(Integer[]::new), outputs[4], outputs[5]);
+
+            for (int i = 0; i < queries; i++) {
+                int start = RangeSearch.lowerBound(timestamps, lows[i]);
+                int count = RangeSearch.countInRange(timestamps, lows[i], highs[i]);
+                for (int pair = 0; pair < 6; pair += 2) {
+                    assertEquals(start, outputs[pair][i], "Start of range " + i);
+                    assertEquals(count, outputs[pair + 1][i] - outputs[pair][i], "Count of range " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test validated handles answer range queries")
+    void testSortedHandles() {
+        SortedView<Integer> view = new SortedView<>(new Integer[]{2, 4, 4, 4, 8});
+        SortedIntArray ints = new SortedIntArray(new int[]{2, 4, 4, 4, 8}, true, 4, 1);
+        int[] starts = new int[2];
+        int[] ends = new int[2];
+
+        assertEquals(new IndexRange(1, 4), view.equalRange(4));
+        assertEquals(new IndexRange(1, 4), ints.equalRange(4));
+        assertEquals(4, view.upperBound(5));
+        assertEquals(5, ints.lowerBound(9));
+        assertEquals(4, view.countInRange(3, 8));
+        assertEquals(1, ints.countInRange(5, 8));
+        ints.rangesAll(new int[]{0, 4}, new int[]{3, 100}, starts, ends);
+        assertArrayEquals(new int[]{0, 1}, starts);
+        assertArrayEquals(new int[]{1, 5}, ends);
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> RangeSearch.lowerBound((int[]) null, 1));
+        assertThrows(IllegalArgumentException.class, () -> RangeSearch.upperBound(new Integer[]{1}, null));
+        assertThrows(IllegalArgumentException.class, () -> RangeSearch.countInRange(new Integer[]{1}, 0, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> RangeSearch.rangesAll(new long[4], new long[2], new long[1], new int[2], new int[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> RangeSearch.rangesAll(new int[4], new int[2], new int[2], new int[1], new int[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> RangeSearch.rangesAll(new Integer[]{1}, new Integer[]{null}, new Integer[]{1}, new int[1], new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> new IndexRange(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> new SortedView<>(new Integer[]{1}).equalRange(null));
+    }
+}
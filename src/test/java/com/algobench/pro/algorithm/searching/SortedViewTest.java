@@ -0,0 +1,123 @@
+package com.algobench.pro.algorithm.searching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the validated search handles SortedView and SortedIntArray.
+ */
+public class SortedViewTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(31);
+    }
+
+    @Test
+    @DisplayName("Test lookups report first occurrences and misses")
+    void testSearchSmallArray() {
+        Integer[] array = {1, 3, 3, 3, 7, 9};
+        SortedView<Integer> view = new SortedView<>(array);
+        SortedIntArray ints = new SortedIntArray(new int[]{1, 3, 3, 3, 7, 9});
+
+        for (int target = 0; target <= 10; target++) {
+            int expected = Arrays.asList(array).indexOf(target);
+            assertEquals(expected, view.search(target), "Target " + target);
+            assertEquals(expected, ints.search(target), "Target " + target);
+        }
+        assertEquals(6, view.size());
+        assertEquals(7, ints.get(4));
+    }
+
+    @Test
+    @DisplayName("Test batch lookups match single lookups")
+    void testSearchAllMatchesSearch() {
+        int[] array = random.ints(50_000, 0, 100_000).sorted().toArray();
+        Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+        int[] targets = random.ints(10_000, -5, 100_005).toArray();
+        Integer[] boxedTargets = Arrays.stream(targets).boxed().toArray(Integer[]::new);
+        SortedView<Integer> view = new SortedView<>(boxed);
+        SortedIntArray ints = new SortedIntArray(array);
+        int[] viewOut = new int[targets.length];
+        int[] intOut = new int[targets.length];
+
+        view.searchAll(boxedTargets, viewOut);
+        ints.searchAll(targets, intOut);
+
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(view.search(boxedTargets[i]), viewOut[i]);
+            assertEquals(ints.search(targets[i]), intOut[i]);
+            assertEquals(viewOut[i], intOut[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel validation finds the first violation")
+    void testParallelValidation() {
+        int[] array = new int[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        assertEquals(-1, SortedValidation.firstUnsorted(array, 1000, 4));
+
+        array[70_000] = -1;
+        array[99_999] = -1;
+        assertEquals(70_000, SortedValidation.firstUnsorted(array, 1000, 4));
+        assertEquals(70_000, SortedValidation.firstUnsorted(array, Integer.MAX_VALUE, 1));
+
+        Integer[] boxed = new Integer[100_000];
+        Arrays.setAll(boxed, i -> i);
+        boxed[40_000] = null;
+        assertEquals(40_000, SortedValidation.firstUnsorted(boxed, 1000, 4));
+        // A violation exactly at a range boundary is still seen
+        Arrays.setAll(boxed, i -> i);
+        boxed[50_000] = 0;
+        assertEquals(50_000, SortedValidation.firstUnsorted(boxed, 1000, 4));
+        // A null ending a range is reported without the next range dereferencing it
+        Arrays.setAll(boxed, i -> i);
+        boxed[49_999] = null;
+        assertEquals(49_999, SortedValidation.firstUnsorted(boxed, 1000, 4));
+
+        Integer[] small = {0, 1, 2, 3, 4, 5, 6, null, 8, 9, 10, 11, 12, 13, 14, 15};
+        assertThrows(IllegalArgumentException.class, () -> new SortedView<>(small, false, 8, 2));
+    }
+
+    @Test
+    @DisplayName("Test checked mode detects arrays modified after validation")
+    void testCheckedMode() {
+        int[] array = {1, 2, 3, 4};
+        Integer[] boxed = {1, 2, 3, 4};
+        SortedIntArray unchecked = new SortedIntArray(array, false, 8192, 1);
+        SortedIntArray checked = new SortedIntArray(array, true, 8192, 1);
+        SortedView<Integer> checkedView = new SortedView<>(boxed, true, 8192, 1);
+
+        array[0] = 5;
+        boxed[0] = 5;
+
+        assertTrue(checked.isChecked());
+        assertEquals(3, unchecked.search(4), "Unchecked lookups skip validation");
+        assertThrows(IllegalArgumentException.class, () -> checked.search(2));
+        assertThrows(IllegalArgumentException.class, () -> checked.searchAll(new int[]{2}, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> checkedView.search(2));
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntArray(null));
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntArray(new int[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new SortedView<>(new Integer[]{1, null}));
+        assertThrows(IllegalArgumentException.class, () -> new SortedView<>(new Integer[]{3, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new SortedView<>(new Integer[]{1}).search(null));
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntArray(new int[]{1}, false, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SortedIntArray(new int[]{1}).searchAll(new int[2], new int[1]));
+    }
+}
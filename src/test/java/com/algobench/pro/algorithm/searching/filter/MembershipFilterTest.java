@@ -0,0 +1,123 @@
+package com.algobench.pro.algorithm.searching.filter;
+
+import com.algobench.pro.algorithm.searching.BinarySearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the membership filters and the FilteredSearch decorator.
+ */
+public class MembershipFilterTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(47);
+    }
+
+    @Test
+    @DisplayName("Test filters never report false negatives")
+    void testNoFalseNegatives() {
+        for (int size : new int[]{0, 1, 2, 100, 100_000}) {
+            long[] keys = random.longs(size).toArray();
+            MembershipFilter[] filters = {new BlockedBloomFilter(keys), new XorFilter(keys)};
+            for (MembershipFilter filter : filters) {
+                assertEquals(size, filter.keyCount(), filter.getName());
+                for (long key : keys) {
+                    assertTrue(filter.mightContain(key), filter.getName() + " lost key " + key);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test false-positive rates and bits per key")
+    void testFalsePositiveRate() {
+        long[] keys = random.longs(200_000).toArray();
+        BlockedBloomFilter bloom = new BlockedBloomFilter(keys, 10);
+        XorFilter xor = new XorFilter(keys);
+
+        int bloomHits = 0;
+        int xorHits = 0;
+        int probes = 1_000_000;
+        for (int i = 0; i < probes; i++) {
+            long absent = random.nextLong();
+            bloomHits += bloom.mightContain(absent) ? 1 : 0;
+            xorHits += xor.mightContain(absent) ? 1 : 0;
+        }
+
+        // About 1% for a 10 bits per key Bloom filter, plus the blocking penalty; 1/256 for the xor filter
+        assertTrue(bloomHits < probes * 0.02, "Bloom FPR " + bloomHits / (double) probes);
+        assertTrue(xorHits < probes * 0.006, "Xor FPR " + xorHits / (double) probes);
+        assertEquals(7, bloom.getHashCount());
+        assertEquals(10, bloom.bitsPerKey(), 0.1);
+        assertEquals(9.84, xor.bitsPerKey(), 0.1);
+    }
+
+    @Test
+    @DisplayName("Test duplicate keys are counted once")
+    void testDuplicateKeys() {
+        long[] keys = {5, 5, 3, 3, 3, 9};
+        assertEquals(3, new XorFilter(keys).keyCount());
+        assertEquals(3, new BlockedBloomFilter(keys).keyCount());
+        assertTrue(new XorFilter(keys).mightContain(9));
+    }
+
+    @Test
+    @DisplayName("Test filtered search returns exactly the wrapped search's results")
+    void testFilteredSearchMatchesDelegate() {
+        Integer[] array = random.ints(20_000, 0, 100_000).sorted().boxed().toArray(Integer[]::new);
+        Integer[] targets = random.ints(10_000, -10, 100_010).boxed().toArray(Integer[]::new);
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        FilteredSearch<Integer> bloom = new FilteredSearch<>(binarySearch, array, Integer::longValue);
+        FilteredSearch<Integer> xor = new FilteredSearch<>(binarySearch, array, Integer::longValue, XorFilter::new);
+        int[] expected = new int[targets.length];
+        int[] bloomOut = new int[targets.length];
+        int[] xorOut = new int[targets.length];
+
+        binarySearch.searchAll(array, targets, expected);
+        bloom.searchAll(array, targets, bloomOut);
+        xor.searchAll(array, targets, xorOut);
+
+        assertArrayEquals(expected, bloomOut);
+        assertArrayEquals(expected, xorOut);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(binarySearch.search(array, targets[i]) >= 0, xor.search(array, targets[i]) >= 0);
+        }
+        assertEquals("Binary Search + Xor Filter", xor.getName());
+    }
+
+    @Test
+    @DisplayName("Test lookups in another array bypass the filter")
+    void testOtherArrayBypassesFilter() {
+        Integer[] array = {1, 2, 3};
+        Integer[] other = {10, 20, 30};
+        FilteredSearch<Integer> search = new FilteredSearch<>(new BinarySearch<>(), array, Integer::longValue);
+        int[] out = new int[2];
+
+        assertEquals(1, search.search(other, 20));
+        search.searchAll(other, new Integer[]{30, 1}, out);
+        assertArrayEquals(new int[]{2, -1}, out);
+        assertEquals(-1, Arrays.asList(array).indexOf(20));
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        assertThrows(IllegalArgumentException.class, () -> new XorFilter(null));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(new long[1], 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FilteredSearch<>(binarySearch, new Integer[]{2, 1}, Integer::longValue));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FilteredSearch<>(binarySearch, new Integer[]{1, null}, Integer::longValue));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FilteredSearch<>(binarySearch, new Integer[]{1}, Integer::longValue).search(new Integer[]{1}, null));
+    }
+}
@@ -0,0 +1,121 @@
+package com.algobench.pro.algorithm.searching.hash;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntHashIndex, LongHashIndex and the HashSearch adapter.
+ */
+public class HashIndexTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(53);
+    }
+
+    @Test
+    @DisplayName("Test int index returns first positions and misses for many sizes and load factors")
+    void testIntIndexMatchesHashMap() {
+        for (int size : new int[]{0, 1, 2, 100, 100_000}) {
+            for (double loadFactor : new double[]{0.25, 0.5, 0.95}) {
+                int[] values = random.ints(size, -size, size + 1).toArray();
+                Map<Integer, Integer> expected = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    expected.putIfAbsent(values[i], i);
+                }
+                IntHashIndex index = new IntHashIndex(values, loadFactor);
+
+                assertEquals(expected.size(), index.size());
+                assertTrue(index.size() <= index.capacity() * loadFactor + 1);
+                for (int target = -size - 2; target <= size + 2; target++) {
+                    assertEquals(expected.getOrDefault(target, -1).intValue(), index.indexOf(target),
+                        "Size " + size + ", load " + loadFactor + ", target " + target);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test long index over keys spanning the whole long range")
+    void testLongIndex() {
+        long[] values = random.longs(50_000).toArray();
+        values[0] = Long.MIN_VALUE;
+        values[1] = -1L;
+        values[2] = Long.MAX_VALUE;
+        values[3] = values[10];
+        LongHashIndex index = new LongHashIndex(values, 0.9);
+        long[] targets = new long[values.length];
+        int[] out = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            targets[i] = random.nextBoolean() ? values[i] : random.nextLong();
+        }
+        index.searchAll(targets, out);
+
+        assertEquals(values.length - 1, index.size());
+        assertEquals(3, index.indexOf(values[10]), "Duplicates keep their first position");
+        assertEquals(1, index.indexOf(-1L));
+        assertEquals(2, index.indexOf(Long.MAX_VALUE));
+        for (int i = 0; i < values.length; i++) {
+            if (targets[i] == values[i] && i != 10) {
+                assertEquals(i, out[i]);
+            }
+        }
+        assertEquals(-1, new LongHashIndex(new long[0]).indexOf(0));
+    }
+
+    @Test
+    @DisplayName("Test integer keys differing only in high bits stay distinguishable")
+    void testClusteredKeys() {
+        int[] values = new int[4096];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i << 20;
+        }
+        IntHashIndex index = new IntHashIndex(values);
+        int[] out = new int[values.length];
+        index.searchAll(values, out);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, out[i]);
+        }
+        assertEquals(-1, index.indexOf(1));
+        assertEquals(values.length * 2 * Long.BYTES, index.footprintBytes());
+    }
+
+    @Test
+    @DisplayName("Test the search adapter returns original positions in unsorted arrays")
+    void testHashSearch() {
+        Integer[] array = {42, 7, 19, 7, -3};
+        HashSearch search = new HashSearch(array);
+        Integer[] other = {1, 2, 3};
+        int[] out = new int[4];
+
+        assertEquals(0, search.search(array, 42));
+        assertEquals(1, search.search(array, 7));
+        assertEquals(4, search.search(array, -3));
+        assertEquals(-1, search.search(array, 8));
+        assertEquals(2, search.search(other, 3), "Other arrays are scanned");
+        search.searchAll(array, new Integer[]{19, 0, 7, -3}, out);
+        assertArrayEquals(new int[]{2, -1, 1, 4}, out);
+        assertEquals(4, search.getIndex().size());
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashIndex(new int[1], 0));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashIndex(new long[1], 0.99));
+        assertThrows(IllegalArgumentException.class, () -> new HashSearch(new Integer[]{1, null}));
+        assertThrows(IllegalArgumentException.class, () -> new HashSearch(new Integer[]{1}).search(new Integer[]{1}, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new IntHashIndex(new int[1]).searchAll(new int[2], new int[1]));
+    }
+}
@@ -0,0 +1,136 @@
+package com.algobench.pro.algorithm.searching.layout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Eytzinger and B-tree search layouts.
+ */
+public class SearchLayoutTest {
+    private static final int[] SIZES = {0, 1, 2, 3, 15, 16, 17, 100, 289, 4913, 100_000};
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(29);
+    }
+
+    @Test
+    @DisplayName("Test slot ranks form a permutation and the layout is an in-order search tree")
+    void testRanksArePermutation() {
+        for (int keysPerNode : new int[]{1, 8, 16}) {
+            for (int length : SIZES) {
+                int[] sequential = StaticTreeLayout.ranks(length, keysPerNode, Integer.MAX_VALUE, 1);
+                int[] parallel = StaticTreeLayout.ranks(length, keysPerNode, 4, 4);
+
+                assertArrayEquals(sequential, parallel, "Parallel build differs for length " + length);
+                int[] sorted = sequential.clone();
+                Arrays.sort(sorted);
+                for (int i = 0; i < sorted.length; i++) {
+                    assertEquals(i, sorted[i], "Ranks are not a permutation for length " + length);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test computed Eytzinger ranks match the built layout")
+    void testEytzingerRankArithmetic() {
+        for (int length = 1; length <= 1100; length++) {
+            int[] ranks = StaticTreeLayout.ranks(length, 1, Integer.MAX_VALUE, 1);
+            for (int node = 0; node < length; node++) {
+                assertEquals(ranks[node], StaticTreeLayout.eytzingerRank(node, length),
+                    "Slot " + node + " of " + length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test int layouts match Arrays.binarySearch for present and missing keys")
+    void testIntLayouts() {
+        for (int size : SIZES) {
+            int[] sorted = random.ints(size, 0, 4 * size + 1).sorted().distinct().toArray();
+            int[] targets = random.ints(2 * size + 10, -1, 4 * size + 2).toArray();
+            IntEytzingerIndex eytzinger = new IntEytzingerIndex(sorted, 8, 2);
+            IntBTreeIndex bTree = new IntBTreeIndex(sorted, 8, 2);
+            int[] eytzingerOut = new int[targets.length];
+            int[] bTreeOut = new int[targets.length];
+            eytzinger.searchAll(targets, eytzingerOut);
+            bTree.searchAll(targets, bTreeOut);
+
+            for (int i = 0; i < targets.length; i++) {
+                int expected = Arrays.binarySearch(sorted, targets[i]);
+                int insertion = expected >= 0 ? expected : -expected - 1;
+                assertEquals(expected >= 0 ? expected : -1, eytzinger.indexOf(targets[i]));
+                assertEquals(expected >= 0 ? expected : -1, bTree.indexOf(targets[i]));
+                assertEquals(eytzinger.indexOf(targets[i]), eytzingerOut[i]);
+                assertEquals(bTree.indexOf(targets[i]), bTreeOut[i]);
+                assertEquals(insertion, eytzinger.lowerBound(targets[i]), "Eytzinger lower bound, size " + size);
+                assertEquals(insertion, bTree.lowerBound(targets[i]), "B-tree lower bound, size " + size);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test long and object layouts report first occurrences of duplicates")
+    void testLongAndObjectLayoutsWithDuplicates() {
+        long[] sorted = random.longs(10_000, -50, 50).sorted().toArray();
+        Long[] boxed = Arrays.stream(sorted).boxed().toArray(Long[]::new);
+        LongEytzingerIndex longEytzinger = new LongEytzingerIndex(sorted);
+        LongBTreeIndex longBTree = new LongBTreeIndex(sorted);
+        EytzingerIndex<Long> eytzinger = new EytzingerIndex<>(boxed);
+        BTreeIndex<Long> bTree = new BTreeIndex<>(boxed);
+
+        for (long target = -52; target <= 52; target++) {
+            int first = -1;
+            for (int i = 0; i < sorted.length && first < 0; i++) {
+                first = sorted[i] == target ? i : -1;
+            }
+            int lowerBound = 0;
+            while (lowerBound < sorted.length && sorted[lowerBound] < target) {
+                lowerBound++;
+            }
+            assertEquals(first, longEytzinger.indexOf(target), "Target " + target);
+            assertEquals(first, longBTree.indexOf(target), "Target " + target);
+            assertEquals(first, eytzinger.indexOf(target), "Target " + target);
+            assertEquals(first, bTree.indexOf(target), "Target " + target);
+            assertEquals(lowerBound, longEytzinger.lowerBound(target));
+            assertEquals(lowerBound, longBTree.lowerBound(target));
+            assertEquals(lowerBound, eytzinger.lowerBound(target));
+            assertEquals(lowerBound, bTree.lowerBound(target));
+        }
+    }
+
+    @Test
+    @DisplayName("Test extreme keys are not confused with B-tree padding")
+    void testExtremeKeys() {
+        int[] sorted = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        long[] longs = {Long.MIN_VALUE, 0, Long.MAX_VALUE};
+
+        assertEquals(2, new IntBTreeIndex(sorted).indexOf(Integer.MAX_VALUE));
+        assertEquals(-1, new IntBTreeIndex(new int[]{1, 2}).indexOf(Integer.MAX_VALUE));
+        assertEquals(2, new IntBTreeIndex(new int[]{1, 2}).lowerBound(Integer.MAX_VALUE));
+        assertEquals(0, new IntEytzingerIndex(sorted).indexOf(Integer.MIN_VALUE));
+        assertEquals(2, new LongBTreeIndex(longs).indexOf(Long.MAX_VALUE));
+        assertEquals(-1, new LongBTreeIndex(new long[]{5}).indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new IntEytzingerIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntBTreeIndex(new int[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new LongEytzingerIndex(new long[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new BTreeIndex<>(new Integer[]{1, null}));
+        assertThrows(IllegalArgumentException.class, () -> new EytzingerIndex<>(new Integer[]{1}).indexOf(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntBTreeIndex(new int[]{1}, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IntBTreeIndex(new int[]{1}).searchAll(new int[2], new int[1]));
+    }
+}
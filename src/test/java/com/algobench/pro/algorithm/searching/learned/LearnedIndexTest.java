@@ -0,0 +1,110 @@
+package com.algobench.pro.algorithm.searching.learned;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LearnedIndex.
+ */
+public class LearnedIndexTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(43);
+    }
+
+    @Test
+    @DisplayName("Test lower bounds match binary search for many sizes and error bounds")
+    void testLowerBoundMatchesBinarySearch() {
+        for (int size : new int[]{0, 1, 2, 10, 1000, 200_000}) {
+            long[] keys = random.longs(size, 0, 1L << 40).sorted().toArray();
+            for (int epsilon : new int[]{1, 8, 64}) {
+                LearnedIndex index = new LearnedIndex(keys, epsilon);
+                for (int i = 0; i < 2000; i++) {
+                    long target = size > 0 && i % 2 == 0 ? keys[random.nextInt(size)] : random.nextLong(1L << 40);
+                    assertEquals(expectedLowerBound(keys, target), index.lowerBound(target),
+                        "Size " + size + ", epsilon " + epsilon + ", target " + target);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test duplicates report first occurrences and misses return -1")
+    void testDuplicates() {
+        long[] keys = new long[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            // Long runs of duplicates separated by wide gaps
+            keys[i] = (i / 500) * 1_000_000L;
+        }
+        LearnedIndex index = new LearnedIndex(keys, 4);
+        long[] targets = {0, 1, 999_999, 1_000_000, 1_000_001, 19_000_000, 19_000_001, -5};
+        int[] out = new int[targets.length];
+        index.searchAll(targets, out);
+
+        assertArrayEquals(new int[]{0, -1, -1, 500, -1, 9500, -1, -1}, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(out[i], index.indexOf(targets[i]));
+            assertEquals(expectedLowerBound(keys, targets[i]), index.lowerBound(targets[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Test keys spanning the whole long range")
+    void testExtremeKeys() {
+        long[] keys = random.longs(50_000).sorted().toArray();
+        keys[0] = Long.MIN_VALUE;
+        keys[keys.length - 1] = Long.MAX_VALUE;
+        LearnedIndex index = new LearnedIndex(keys, 16);
+
+        assertEquals(0, index.indexOf(Long.MIN_VALUE));
+        assertEquals(keys.length - 1, index.indexOf(Long.MAX_VALUE));
+        for (int i = 0; i < 5000; i++) {
+            long target = random.nextBoolean() ? keys[random.nextInt(keys.length)] : random.nextLong();
+            assertEquals(expectedLowerBound(keys, target), index.lowerBound(target));
+        }
+    }
+
+    @Test
+    @DisplayName("Test the model is far smaller than the keys on smooth data")
+    void testFootprint() {
+        long[] keys = new long[1_000_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 3L * i + random.nextInt(3);
+        }
+        LearnedIndex index = new LearnedIndex(keys, 64);
+
+        assertTrue(index.segmentCount() < keys.length / 100, "Segments: " + index.segmentCount());
+        assertTrue(index.footprintBytes() < keys.length * (long) Long.BYTES / 100);
+        assertTrue(index.height() >= 1);
+        assertEquals(64, index.getEpsilon());
+        assertEquals(keys.length, index.size());
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new long[]{1, 3, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new long[]{1}, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new long[]{1}).searchAll(new long[2], new int[1]));
+    }
+
+    private static int expectedLowerBound(long[] keys, long target) {
+        int index = Arrays.binarySearch(keys, target);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && keys[index - 1] == target) {
+            index--;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,153 @@
+package com.algobench.pro.algorithm.simd;
+
+import com.algobench.pro.algorithm.searching.IntSimdBinarySearch;
+import com.algobench.pro.algorithm.searching.layout.IntBTreeIndex;
+import com.algobench.pro.algorithm.sorting.IntSimdQuickSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the scalar and, when built with the vector profile, vectorized int kernels and the
+ * algorithms using them.
+ */
+public class IntKernelsTest {
+    private Random random;
+    private List<IntKernels> kernels;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(61);
+        kernels = new ArrayList<>();
+        kernels.add(SimdSupport.scalar());
+        SimdSupport.vector().ifPresent(kernels::add);
+    }
+
+    @Test
+    @DisplayName("Test the preferred kernels are the vectorized ones whenever those load")
+    void testKernelSelection() {
+        IntKernels expected = SimdSupport.vector().orElse(SimdSupport.scalar());
+        assertSame(expected, SimdSupport.preferred());
+        assertEquals("Scalar", SimdSupport.scalar().getName());
+    }
+
+    @Test
+    @DisplayName("Test scan and node rank match a reference loop for windows with partial registers")
+    void testScanAndRank() {
+        int[] sorted = random.ints(4096, -1000, 1000).sorted().toArray();
+        for (IntKernels kernel : kernels) {
+            for (int trial = 0; trial < 5000; trial++) {
+                int width = random.nextInt(100);
+                int from = random.nextInt(sorted.length - width);
+                int key = random.nextInt(2100) - 1050;
+                int expectedIndex = from;
+                while (expectedIndex < from + width && sorted[expectedIndex] < key) {
+                    expectedIndex++;
+                }
+                String message = kernel.getName() + " window " + from + "+" + width + ", key " + key;
+                assertEquals(expectedIndex, kernel.lowerBoundScan(sorted, from, from + width, key), message);
+                assertEquals(expectedIndex - from, kernel.nodeRank(sorted, from, from + width, key), message);
+            }
+            int[] extremes = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE, Integer.MIN_VALUE, 5, 7, 9, 11};
+            assertEquals(3, kernel.nodeRank(extremes, 0, extremes.length, 0), kernel.getName());
+            assertEquals(0, kernel.nodeRank(extremes, 0, extremes.length, Integer.MIN_VALUE), kernel.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Test partition splits around the pivot and leaves values outside the range alone")
+    void testPartition() {
+        for (IntKernels kernel : kernels) {
+            for (int trial = 0; trial < 2000; trial++) {
+                int length = random.nextInt(300);
+                int bound = trial % 2 == 0 ? 8 : Integer.MAX_VALUE;
+                int[] array = random.ints(length + 20, -bound, bound).toArray();
+                int[] original = array.clone();
+                int from = 10;
+                int to = from + length;
+                int pivot = length > 0 && trial % 3 > 0 ? array[from + random.nextInt(length)] : random.nextInt();
+                int[] scratch = new int[length + IntKernels.SCRATCH_PADDING];
+
+                int split = kernel.partition(array, from, to, pivot, scratch);
+
+                String message = kernel.getName() + " trial " + trial;
+                for (int i = from; i < to; i++) {
+                    assertEquals(i < split, array[i] < pivot, message + " index " + i);
+                }
+                int[] expected = Arrays.copyOfRange(original, from, to);
+                int[] actual = Arrays.copyOfRange(array, from, to);
+                Arrays.sort(expected);
+                Arrays.sort(actual);
+                assertArrayEquals(expected, actual, message);
+                assertArrayEquals(Arrays.copyOf(original, from), Arrays.copyOf(array, from), message);
+                assertArrayEquals(Arrays.copyOfRange(original, to, original.length),
+                    Arrays.copyOfRange(array, to, array.length), message);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test quick sort on the kernels sorts random, duplicate-heavy and presorted input")
+    void testQuickSort() {
+        for (IntKernels kernel : kernels) {
+            IntSimdQuickSort sort = new IntSimdQuickSort(kernel);
+            List<int[]> inputs = List.of(
+                new int[0],
+                new int[]{3, 1, 2},
+                random.ints(100_000).toArray(),
+                random.ints(100_000, 0, 4).toArray(),
+                random.ints(5000, Integer.MAX_VALUE - 2, Integer.MAX_VALUE).map(value -> value + 1).toArray(),
+                random.ints(5000, Integer.MIN_VALUE, Integer.MIN_VALUE + 3).toArray(),
+                random.ints(50_000).sorted().toArray(),
+                new int[10_000]
+            );
+            for (int[] input : inputs) {
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+                sort.sort(input);
+                assertArrayEquals(expected, input, kernel.getName());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test searches on the kernels report first occurrences")
+    void testSearches() {
+        int[] sorted = random.ints(20_000, 0, 5000).sorted().toArray();
+        int[] targets = random.ints(2000, -10, 5010).toArray();
+        for (IntKernels kernel : kernels) {
+            IntSimdBinarySearch search = new IntSimdBinarySearch(kernel);
+            IntBTreeIndex index = new IntBTreeIndex(sorted, 1024, 1, kernel);
+            int[] out = new int[targets.length];
+            search.searchAll(sorted, targets, out);
+            for (int i = 0; i < targets.length; i++) {
+                int position = Arrays.binarySearch(sorted, targets[i]);
+                while (position > 0 && sorted[position - 1] == targets[i]) {
+                    position--;
+                }
+                int expected = Math.max(position, -1);
+                assertEquals(expected, out[i], kernel.getName() + " target " + targets[i]);
+                assertEquals(expected, search.search(sorted, targets[i]));
+                assertEquals(expected, index.indexOf(targets[i]));
+            }
+            assertEquals(-1, search.search(new int[0], 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid input throws exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new IntSimdQuickSort(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntSimdBinarySearch(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntBTreeIndex(new int[1], 1, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new IntSimdQuickSort().sort(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntSimdBinarySearch().search(new int[]{2, 1}, 1));
+    }
+}
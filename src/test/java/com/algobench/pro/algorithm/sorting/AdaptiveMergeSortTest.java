@@ -0,0 +1,153 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.benchmark.InputDistribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AdaptiveMergeSort implementation.
+ */
+public class AdaptiveMergeSortTest {
+    private static final int LARGE_SIZE = 200_000;
+
+    private AdaptiveMergeSort<Integer> adaptiveSort;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        adaptiveSort = new AdaptiveMergeSort<>();
+        random = new Random(11);
+    }
+
+    @Test
+    @DisplayName("Test sorting with random integers")
+    void testSortRandomArray() {
+        Integer[] array = {64, 34, 25, 12, 22, 11, 90};
+        Integer[] expected = {11, 12, 22, 25, 34, 64, 90};
+
+        adaptiveSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting large random arrays of many sizes matches Arrays.sort")
+    void testSortRandomArraysOfManySizes() {
+        for (int size : new int[]{0, 1, 2, 31, 32, 33, 64, 1000, 4097, LARGE_SIZE}) {
+            Integer[] array = random.ints(size, 0, 1000).boxed().toArray(Integer[]::new);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+
+            adaptiveSort.sort(array);
+
+            assertArrayEquals(expected, array, "Mismatch for size " + size);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting partially sorted arrays at every presortedness")
+    void testSortPartiallySortedArrays() {
+        for (int percent = 0; percent <= 100; percent += 10) {
+            Integer[] array = Arrays.stream(InputDistribution.partiallySorted(50_000, percent, random))
+                .boxed().toArray(Integer[]::new);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+
+            adaptiveSort.sort(array);
+
+            assertArrayEquals(expected, array, "Mismatch at " + percent + "% presorted");
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting interleaved ascending and descending runs")
+    void testSortAlternatingRuns() {
+        Integer[] array = new Integer[LARGE_SIZE];
+        int position = 0;
+        while (position < LARGE_SIZE) {
+            int runLength = Math.min(LARGE_SIZE - position, 1 + random.nextInt(5000));
+            int start = random.nextInt(1_000_000);
+            boolean descending = random.nextBoolean();
+            for (int i = 0; i < runLength; i++) {
+                array[position++] = descending ? start - i : start + i;
+            }
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        adaptiveSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting is stable")
+    void testStability() {
+        Keyed[] array = new Keyed[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            // Mostly ascending keys with many duplicates to exercise galloping on ties
+            array[i] = new Keyed(random.nextInt(10) < 8 ? i / 50 : random.nextInt(LARGE_SIZE / 50), i);
+        }
+        Keyed[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new AdaptiveMergeSort<Keyed>().sort(array);
+
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertSame(expected[i], array[i], "Equal keys must keep their input order");
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorted input is recognised as a single run")
+    void testSortedInputUsesLinearComparisons() {
+        Counting[] array = new Counting[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            array[i] = new Counting(i);
+        }
+        Counting.comparisons = 0;
+
+        new AdaptiveMergeSort<Counting>().sort(array);
+
+        assertEquals(LARGE_SIZE - 1, Counting.comparisons);
+    }
+
+    @Test
+    @DisplayName("Test minimum run length stays within bounds")
+    void testMinRunLength() {
+        assertEquals(20, AdaptiveMergeSort.minRunLength(20));
+        for (int length = 32; length < 100_000; length += 97) {
+            int minRun = AdaptiveMergeSort.minRunLength(length);
+            assertTrue(minRun >= 16 && minRun <= 32, "Unexpected min run " + minRun + " for " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting with null array throws exception")
+    void testSortNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> adaptiveSort.sort(null));
+    }
+
+    private record Keyed(int key, int index) implements Comparable<Keyed> {
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    private record Counting(int value) implements Comparable<Counting> {
+        static long comparisons;
+
+        @Override
+        public int compareTo(Counting other) {
+            comparisons++;
+            return Integer.compare(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CachedLongKeySort and CachedKeySort implementations.
+ */
+public class CachedKeySortTest {
+    private static final int LARGE_SIZE = 100_000;
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(5);
+    }
+
+    @Test
+    @DisplayName("Test sorting integers by their own value")
+    void testSortRandomArray() {
+        Integer[] array = {64, 34, 25, 12, 22, 11, 90};
+        Integer[] expected = {11, 12, 22, 25, 34, 64, 90};
+        Integer[] copy = array.clone();
+
+        new CachedLongKeySort<Integer>(Integer::longValue).sort(array);
+        new CachedKeySort<Integer, Integer>(value -> value).sort(copy);
+
+        assertArrayEquals(expected, array);
+        assertArrayEquals(expected, copy);
+    }
+
+    @Test
+    @DisplayName("Test sorting large random arrays matches Arrays.sort")
+    void testSortLargeRandomArray() {
+        Integer[] array = random.ints(LARGE_SIZE).boxed().toArray(Integer[]::new);
+        Integer[] copy = array.clone();
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new CachedLongKeySort<Integer>(Integer::longValue).sort(array);
+        new CachedKeySort<Integer, String>(value -> String.format("%011d", (long) value - Integer.MIN_VALUE)).sort(copy);
+
+        assertArrayEquals(expected, array);
+        assertArrayEquals(expected, copy);
+    }
+
+    @Test
+    @DisplayName("Test key extractor is called once per element")
+    void testKeyExtractedOncePerElement() {
+        Integer[] array = random.ints(LARGE_SIZE, 0, 1000).boxed().toArray(Integer[]::new);
+        AtomicInteger longCalls = new AtomicInteger();
+        AtomicInteger keyCalls = new AtomicInteger();
+
+        new CachedLongKeySort<Integer>(value -> {
+            longCalls.incrementAndGet();
+            return value;
+        }).sort(array.clone());
+        new CachedKeySort<Integer, Integer>(value -> {
+            keyCalls.incrementAndGet();
+            return value;
+        }).sort(array.clone());
+
+        assertEquals(LARGE_SIZE, longCalls.get());
+        assertEquals(LARGE_SIZE, keyCalls.get());
+    }
+
+    @Test
+    @DisplayName("Test sorting is stable for equal keys")
+    void testStability() {
+        Integer[] array = random.ints(LARGE_SIZE, 0, 1_000_000).boxed().toArray(Integer[]::new);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected, Comparator.comparingInt(value -> value % 100));
+        Integer[] copy = array.clone();
+
+        new CachedLongKeySort<Integer>(value -> value % 100).sort(array);
+        new CachedKeySort<Integer, Integer>(value -> value % 100).sort(copy);
+
+        assertArrayEquals(expected, array);
+        assertArrayEquals(expected, copy);
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testSortTrivialArrays() {
+        Integer[] empty = {};
+        Integer[] single = {42};
+
+        new CachedLongKeySort<Integer>(Integer::longValue).sort(empty);
+        new CachedKeySort<Integer, Integer>(value -> value).sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new Integer[]{42}, single);
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments throw exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CachedLongKeySort<Integer>(null));
+        assertThrows(IllegalArgumentException.class, () -> new CachedKeySort<Integer, Integer>(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CachedLongKeySort<Integer>(Integer::longValue).sort(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CachedKeySort<Integer, Integer>(value -> null).sort(new Integer[]{1, 2}));
+    }
+}
@@ -0,0 +1,140 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the counting and bucket sort implementations.
+ */
+public class CountingSortTest {
+    private static final int LARGE_SIZE = 100_000;
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(19);
+    }
+
+    @Test
+    @DisplayName("Test primitive counting sort with negative and extreme values")
+    void testIntCountingSort() {
+        int[] array = {64, -34, 25, 12, -22, 11, 90, 12};
+        new IntCountingSort().sort(array);
+        assertArrayEquals(new int[]{-34, -22, 11, 12, 12, 25, 64, 90}, array);
+
+        int[] extremes = {Integer.MAX_VALUE, Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1};
+        new IntCountingSort().sort(extremes);
+        assertArrayEquals(new int[]{Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}, extremes);
+    }
+
+    @Test
+    @DisplayName("Test counting sorts match Arrays.sort for small and large key ranges")
+    void testCountingSortsMatchArraysSort() {
+        for (int range : new int[]{1, 10, 10_000, Integer.MAX_VALUE}) {
+            int[] values = random.ints(LARGE_SIZE, -range / 2, range - range / 2).toArray();
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            int[] primitive = values.clone();
+            new IntCountingSort(1 << 16, true).sort(primitive);
+            Integer[] boxed = Arrays.stream(values).boxed().toArray(Integer[]::new);
+            new CountingSort<Integer>(Integer::intValue, 1 << 16, true).sort(boxed);
+
+            assertArrayEquals(expected, primitive, "Mismatch for range " + range);
+            assertArrayEquals(Arrays.stream(expected).boxed().toArray(Integer[]::new), boxed,
+                "Mismatch for range " + range);
+        }
+    }
+
+    @Test
+    @DisplayName("Test counting sort is stable")
+    void testCountingSortStability() {
+        Keyed[] array = new Keyed[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            array[i] = new Keyed(random.nextInt(50), i);
+        }
+        Keyed[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new CountingSort<Keyed>(Keyed::key).sort(array);
+
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertSame(expected[i], array[i], "Equal keys must keep their input order");
+        }
+    }
+
+    @Test
+    @DisplayName("Test oversized key range is rejected without fallback")
+    void testOversizedRangeRejected() {
+        int[] array = {0, 1000};
+        Integer[] boxed = {0, 1000};
+
+        assertThrows(IllegalArgumentException.class, () -> new IntCountingSort(1000, false).sort(array));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CountingSort<Integer>(Integer::intValue, 1000, false).sort(boxed));
+        new IntCountingSort(1001, false).sort(array);
+        assertArrayEquals(new int[]{0, 1000}, array);
+    }
+
+    @Test
+    @DisplayName("Test bucket sorts match Arrays.sort for uniform and clustered keys")
+    void testBucketSortsMatchArraysSort() {
+        double[] uniform = random.doubles(LARGE_SIZE).toArray();
+        double[] clustered = random.doubles(LARGE_SIZE).map(value -> value < 0.99 ? value * 1e-9 : value * 1e9).toArray();
+        double[] duplicates = random.ints(LARGE_SIZE, 0, 5).asDoubleStream().toArray();
+        for (double[] values : new double[][]{uniform, clustered, duplicates}) {
+            double[] expected = values.clone();
+            Arrays.sort(expected);
+
+            double[] primitive = values.clone();
+            new DoubleBucketSort().sort(primitive);
+            Double[] boxed = Arrays.stream(values).boxed().toArray(Double[]::new);
+            new BucketSort<Double>(Double::doubleValue).sort(boxed);
+
+            assertArrayEquals(expected, primitive);
+            assertArrayEquals(Arrays.stream(expected).boxed().toArray(Double[]::new), boxed);
+        }
+    }
+
+    @Test
+    @DisplayName("Test bucket sort falls back for signed zeros, infinities and NaN")
+    void testBucketSortSpecialValues() {
+        double[][] inputs = {
+            {0.0, -0.0, 0.0, -0.0},
+            {Double.NaN, 3.5, Double.NEGATIVE_INFINITY, -0.0, 0.0, Double.POSITIVE_INFINITY, -2.0},
+            {-Double.MAX_VALUE, Double.MAX_VALUE, 0.0, 1.0, -1.0}
+        };
+        for (double[] values : inputs) {
+            double[] expected = values.clone();
+            Arrays.sort(expected);
+
+            new DoubleBucketSort().sort(values);
+
+            assertArrayEquals(expected, values);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments throw exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IntCountingSort(0, true));
+        assertThrows(IllegalArgumentException.class, () -> new CountingSort<Integer>(null));
+        assertThrows(IllegalArgumentException.class, () -> new BucketSort<Double>(null));
+        assertThrows(IllegalArgumentException.class, () -> new IntCountingSort().sort(null));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleBucketSort().sort(null));
+    }
+
+    private record Keyed(int key, int index) implements Comparable<Keyed> {
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
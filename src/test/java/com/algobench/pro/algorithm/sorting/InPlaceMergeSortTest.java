@@ -0,0 +1,157 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.benchmark.InputDistribution;
+import com.algobench.pro.benchmark.metrics.MemoryTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the InPlaceMergeSort implementation.
+ */
+public class InPlaceMergeSortTest {
+    private static final int LARGE_SIZE = 200_000;
+
+    private InPlaceMergeSort<Integer> inPlaceSort;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        inPlaceSort = new InPlaceMergeSort<>();
+        random = new Random(13);
+    }
+
+    @Test
+    @DisplayName("Test sorting with random integers")
+    void testSortRandomArray() {
+        Integer[] array = {64, 34, 25, 12, 22, 11, 90};
+        Integer[] expected = {11, 12, 22, 25, 34, 64, 90};
+
+        inPlaceSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting arrays of many sizes matches Arrays.sort for every cache size")
+    void testSortRandomArraysOfManySizes() {
+        for (int cacheSize : new int[]{0, 1, 8, InPlaceMergeSort.DEFAULT_CACHE_SIZE}) {
+            InPlaceMergeSort<Integer> sorter = new InPlaceMergeSort<>(cacheSize);
+            for (int size : new int[]{0, 1, 2, 31, 32, 33, 65, 1000, 4097, 50_000}) {
+                Integer[] array = random.ints(size, 0, 1000).boxed().toArray(Integer[]::new);
+                Integer[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array, "Mismatch for size " + size + " with cache " + cacheSize);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting partially sorted, reversed and constant arrays")
+    void testSortStructuredArrays() {
+        for (int percent = 0; percent <= 100; percent += 25) {
+            Integer[] array = Arrays.stream(InputDistribution.partiallySorted(LARGE_SIZE, percent, random))
+                .boxed().toArray(Integer[]::new);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+
+            inPlaceSort.sort(array);
+
+            assertArrayEquals(expected, array, "Mismatch at " + percent + "% presorted");
+        }
+
+        Integer[] reversed = new Integer[LARGE_SIZE];
+        Integer[] constant = new Integer[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            reversed[i] = LARGE_SIZE - i;
+            constant[i] = 7;
+        }
+        Integer[] expected = reversed.clone();
+        Arrays.sort(expected);
+
+        inPlaceSort.sort(reversed);
+        inPlaceSort.sort(constant);
+
+        assertArrayEquals(expected, reversed);
+        assertTrue(Arrays.stream(constant).allMatch(value -> value == 7));
+    }
+
+    @Test
+    @DisplayName("Test sorting is stable with and without the merge cache")
+    void testStability() {
+        for (int cacheSize : new int[]{0, InPlaceMergeSort.DEFAULT_CACHE_SIZE}) {
+            Keyed[] array = new Keyed[LARGE_SIZE];
+            for (int i = 0; i < LARGE_SIZE; i++) {
+                array[i] = new Keyed(random.nextInt(100), i);
+            }
+            Keyed[] expected = array.clone();
+            Arrays.sort(expected);
+
+            new InPlaceMergeSort<Keyed>(cacheSize).sort(array);
+
+            for (int i = 0; i < LARGE_SIZE; i++) {
+                assertSame(expected[i], array[i], "Equal keys must keep their input order with cache " + cacheSize);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test extra memory does not grow with the input size")
+    void testAllocationIsConstant() {
+        MemoryTracker tracker = new MemoryTracker();
+        assumeTrue(tracker.getThreadAllocatedBytes() >= 0, "Per-thread allocation tracking unavailable");
+        Integer[] array = random.ints(LARGE_SIZE).boxed().toArray(Integer[]::new);
+
+        long before = tracker.getThreadAllocatedBytes();
+        inPlaceSort.sort(array);
+        long allocated = tracker.getThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < 64 * 1024, "In-place sort allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Test buffered merge sort matches Arrays.sort and is stable")
+    void testBufferedMergeSort() {
+        Keyed[] array = new Keyed[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            array[i] = new Keyed(random.nextInt(100), i);
+        }
+        Keyed[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new MergeSort<Keyed>().sort(array);
+
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertSame(expected[i], array[i], "Equal keys must keep their input order");
+        }
+    }
+
+    @Test
+    @DisplayName("Test negative cache size throws exception")
+    void testNegativeCacheSize() {
+        assertThrows(IllegalArgumentException.class, () -> new InPlaceMergeSort<Integer>(-1));
+    }
+
+    @Test
+    @DisplayName("Test sorting with null array throws exception")
+    void testSortNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> inPlaceSort.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> new MergeSort<Integer>().sort(null));
+    }
+
+    private record Keyed(int key, int index) implements Comparable<Keyed> {
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
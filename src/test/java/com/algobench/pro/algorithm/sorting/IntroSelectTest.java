@@ -0,0 +1,130 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the IntroSelect and IntIntroSelect implementations.
+ */
+public class IntroSelectTest {
+    private static final int LARGE_SIZE = 100_000;
+
+    private IntroSelect<Integer> introSelect;
+    private IntIntroSelect intIntroSelect;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        introSelect = new IntroSelect<>();
+        intIntroSelect = new IntIntroSelect();
+        random = new Random(13);
+    }
+
+    @Test
+    @DisplayName("Test selecting the median of a small array")
+    void testSelectMedian() {
+        Integer[] array = {64, 34, 25, 12, 22, 11, 90};
+
+        assertEquals(25, introSelect.select(array, 3));
+        assertEquals(25, intIntroSelect.select(new int[]{64, 34, 25, 12, 22, 11, 90}, 3));
+    }
+
+    @Test
+    @DisplayName("Test selection partitions the array around every checked rank")
+    void testSelectPartitionsArray() {
+        int[] original = random.ints(LARGE_SIZE, 0, 5000).toArray();
+        int[] sorted = original.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, LARGE_SIZE / 4, LARGE_SIZE / 2, LARGE_SIZE - 2, LARGE_SIZE - 1}) {
+            int[] array = original.clone();
+            Integer[] boxed = Arrays.stream(original).boxed().toArray(Integer[]::new);
+
+            assertEquals(sorted[k], intIntroSelect.select(array, k));
+            assertEquals(sorted[k], introSelect.select(boxed, k));
+            for (int i = 0; i < LARGE_SIZE; i++) {
+                assertTrue(i < k ? array[i] <= array[k] : array[i] >= array[k], "Not partitioned at " + i);
+                assertTrue(i < k ? boxed[i] <= boxed[k] : boxed[i] >= boxed[k], "Not partitioned at " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test median-of-medians fallback on presorted, reversed and duplicate inputs")
+    void testSelectSkewedInputs() {
+        int[] sorted = new int[LARGE_SIZE];
+        int[] reversed = new int[LARGE_SIZE];
+        int[] organPipe = new int[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            sorted[i] = i;
+            reversed[i] = LARGE_SIZE - 1 - i;
+            organPipe[i] = Math.min(i, LARGE_SIZE - 1 - i);
+        }
+        int[] fewUnique = random.ints(LARGE_SIZE, 0, 3).toArray();
+
+        for (int[] input : new int[][]{sorted, reversed, organPipe, fewUnique}) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            int k = LARGE_SIZE / 3;
+
+            assertEquals(expected[k], intIntroSelect.select(input.clone(), k));
+            assertEquals(expected[k], introSelect.select(Arrays.stream(input).boxed().toArray(Integer[]::new), k));
+        }
+    }
+
+    @Test
+    @DisplayName("Test partial sort orders only the first k elements")
+    void testPartialSort() {
+        int[] original = random.ints(LARGE_SIZE).toArray();
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        for (int k : new int[]{0, 1, 2, 100, LARGE_SIZE}) {
+            int[] array = original.clone();
+            Integer[] boxed = Arrays.stream(original).boxed().toArray(Integer[]::new);
+
+            intIntroSelect.partialSort(array, k);
+            introSelect.partialSort(boxed, k);
+
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(array, k));
+            assertArrayEquals(Arrays.stream(expected, 0, k).boxed().toArray(Integer[]::new), Arrays.copyOf(boxed, k));
+        }
+    }
+
+    @Test
+    @DisplayName("Test streaming top-k matches the largest elements of a full sort")
+    void testTopK() {
+        int[] array = random.ints(LARGE_SIZE).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        int[] expected = new int[100];
+        for (int i = 0; i < 100; i++) {
+            expected[i] = sorted[LARGE_SIZE - 1 - i];
+        }
+
+        assertArrayEquals(expected, IntTopK.largest(array, 100));
+        assertArrayEquals(expected, IntTopK.largest(Arrays.stream(array).iterator(), 100));
+        assertArrayEquals(Arrays.stream(expected).boxed().toArray(Integer[]::new),
+            TopK.largest(Arrays.stream(array).boxed().iterator(), 100).toArray(new Integer[0]));
+        assertEquals(List.of(3, 2, 1), TopK.largest(new Integer[]{2, 3, 1}, 10));
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments throw exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> introSelect.select(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> introSelect.select(new Integer[]{1}, 1));
+        assertThrows(IllegalArgumentException.class, () -> intIntroSelect.select(new int[0], 0));
+        assertThrows(IllegalArgumentException.class, () -> intIntroSelect.partialSort(new int[]{1}, 2));
+        assertThrows(IllegalArgumentException.class, () -> introSelect.partialSort(new Integer[]{1}, -1));
+        assertThrows(IllegalArgumentException.class, () -> new TopK<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> IntTopK.largest((int[]) null, 5));
+    }
+}
@@ -0,0 +1,129 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the IntroSort and IntIntroSort implementations.
+ */
+public class IntroSortTest {
+    private static final int LARGE_SIZE = 200_000;
+
+    private IntroSort<Integer> introSort;
+    private IntIntroSort intIntroSort;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        introSort = new IntroSort<>();
+        intIntroSort = new IntIntroSort();
+        random = new Random(7);
+    }
+
+    @Test
+    @DisplayName("Test sorting with random integers")
+    void testSortRandomArray() {
+        Integer[] array = {64, 34, 25, 12, 22, 11, 90};
+        Integer[] expected = {11, 12, 22, 25, 34, 64, 90};
+
+        introSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting large random array matches Arrays.sort")
+    void testSortLargeRandomArray() {
+        Integer[] array = random.ints(LARGE_SIZE, 0, 10000).boxed().toArray(Integer[]::new);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        introSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting large presorted and reverse sorted arrays")
+    void testSortLargePresortedArrays() {
+        Integer[] sorted = new Integer[LARGE_SIZE];
+        Integer[] reversed = new Integer[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            sorted[i] = i;
+            reversed[i] = LARGE_SIZE - 1 - i;
+        }
+
+        introSort.sort(sorted);
+        introSort.sort(reversed);
+
+        assertArrayEquals(sorted, reversed);
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(i, sorted[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting large array with few unique values")
+    void testSortFewUnique() {
+        Integer[] array = random.ints(LARGE_SIZE, 0, 3).boxed().toArray(Integer[]::new);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        introSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test int[] variant on random, sorted, reversed and few unique inputs")
+    void testIntIntroSort() {
+        int[][] inputs = {
+            random.ints(LARGE_SIZE).toArray(),
+            IntStream.range(0, LARGE_SIZE).toArray(),
+            IntStream.range(0, LARGE_SIZE).map(i -> LARGE_SIZE - i).toArray(),
+            random.ints(LARGE_SIZE, 0, 4).toArray()
+        };
+        for (int[] array : inputs) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            intIntroSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting with empty and single element arrays")
+    void testSortTrivialArrays() {
+        Integer[] empty = {};
+        Integer[] single = {1};
+
+        introSort.sort(empty);
+        introSort.sort(single);
+
+        assertArrayEquals(new Integer[]{}, empty);
+        assertArrayEquals(new Integer[]{1}, single);
+    }
+
+    @Test
+    @DisplayName("Test sorting with null array throws exception")
+    void testSortNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> introSort.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> intIntroSort.sort(null));
+    }
+
+    @Test
+    @DisplayName("Test algorithm name")
+    void testGetName() {
+        assertEquals("Intro Sort", introSort.getName());
+        assertEquals("Intro Sort (int[])", intIntroSort.getName());
+    }
+}
@@ -0,0 +1,118 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParallelSampleSort and IntParallelSampleSort implementations.
+ */
+public class ParallelSampleSortTest {
+    private static final int SIZE = 200_000;
+
+    @Test
+    @DisplayName("Test boxed sample sort matches Arrays.sort for several parallelism levels")
+    void testSampleSortRandom() {
+        for (int parallelism : new int[]{1, 3, 4, 8}) {
+            Integer[] array = new Random(parallelism).ints(SIZE).boxed().toArray(Integer[]::new);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+
+            try (ParallelSampleSort<Integer> sorter = new ParallelSampleSort<>(256, parallelism)) {
+                sorter.sort(array);
+            }
+
+            assertArrayEquals(expected, array, "Mismatch with parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    @DisplayName("Test primitive sample sort matches Arrays.sort for several parallelism levels")
+    void testIntSampleSortRandom() {
+        for (int parallelism : new int[]{1, 3, 4, 8}) {
+            int[] array = new Random(parallelism).ints(SIZE).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            try (IntParallelSampleSort sorter = new IntParallelSampleSort(256, parallelism)) {
+                sorter.sort(array);
+            }
+
+            assertArrayEquals(expected, array, "Mismatch with parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sample sort with heavy duplicates and presorted inputs")
+    void testSampleSortSkewedInputs() {
+        int[] fewUnique = new Random(9).ints(SIZE, 0, 3).toArray();
+        int[] allEqual = new int[SIZE];
+        Arrays.fill(allEqual, 7);
+        int[] reversed = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            reversed[i] = SIZE - i;
+        }
+
+        try (IntParallelSampleSort primitiveSort = new IntParallelSampleSort(1024, 4);
+             ParallelSampleSort<Integer> boxedSort = new ParallelSampleSort<>(1024, 4)) {
+            for (int[] input : new int[][]{fewUnique, allEqual, reversed}) {
+                int[] primitive = input.clone();
+                Integer[] boxed = Arrays.stream(input).boxed().toArray(Integer[]::new);
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+
+                primitiveSort.sort(primitive);
+                boxedSort.sort(boxed);
+
+                assertArrayEquals(expected, primitive);
+                assertArrayEquals(Arrays.stream(expected).boxed().toArray(Integer[]::new), boxed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test inputs at or below the sequential threshold")
+    void testSmallInputs() {
+        try (IntParallelSampleSort sorter = new IntParallelSampleSort(100, 4)) {
+            for (int size : new int[]{0, 1, 2, 100}) {
+                int[] array = new Random(size).ints(size).toArray();
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test splitter tree layout and bucket count")
+    void testSplitterLayout() {
+        assertEquals(2, ParallelSampleSort.bucketCount(1));
+        assertEquals(4, ParallelSampleSort.bucketCount(3));
+        assertEquals(8, ParallelSampleSort.bucketCount(8));
+        assertEquals(ParallelSampleSort.MAX_BUCKETS, ParallelSampleSort.bucketCount(10_000));
+
+        // With 4 buckets the root holds the median splitter and its children the quartiles
+        assertEquals(63, ParallelSampleSort.splitterSampleIndex(1, 4, 128));
+        assertEquals(31, ParallelSampleSort.splitterSampleIndex(2, 4, 128));
+        assertEquals(95, ParallelSampleSort.splitterSampleIndex(3, 4, 128));
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments throw exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSampleSort<Integer>(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new IntParallelSampleSort(1024, 0));
+        try (IntParallelSampleSort primitiveSort = new IntParallelSampleSort();
+             ParallelSampleSort<Integer> boxedSort = new ParallelSampleSort<>()) {
+            assertThrows(IllegalArgumentException.class, () -> primitiveSort.sort(null));
+            assertThrows(IllegalArgumentException.class, () -> boxedSort.sort(null));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the fork/join based ParallelMergeSort and ParallelQuickSort implementations.
+ */
+public class ParallelSortTest {
+    private static final int SIZE = 100_000;
+
+    /** Orders by key only, so stability can be observed through the sequence number. */
+    private static final class Keyed implements Comparable<Keyed> {
+        final int key;
+        final int sequence;
+
+        Keyed(int key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel merge sort matches Arrays.sort with a small threshold")
+    void testParallelMergeSortRandom() {
+        Integer[] array = new Random(1).ints(SIZE, 0, 10000).boxed().toArray(Integer[]::new);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        try (ParallelMergeSort<Integer> sorter = new ParallelMergeSort<>(256, 4)) {
+            sorter.sort(array);
+        }
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test parallel merge sort terminates with a sequential threshold of one")
+    void testParallelMergeSortMinimalThreshold() {
+        Integer[] small = {5, 3, 9, 1, 7, 2, 8, 4};
+        try (ParallelMergeSort<Integer> sorter = new ParallelMergeSort<>(1, 2)) {
+            sorter.sort(small);
+        }
+        assertArrayEquals(new Integer[]{1, 2, 3, 4, 5, 7, 8, 9}, small);
+
+        Integer[] array = new Random(3).ints(10_000, 0, 50).boxed().toArray(Integer[]::new);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        try (ParallelMergeSort<Integer> sorter = new ParallelMergeSort<>(1, 4)) {
+            sorter.sort(array);
+        }
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test parallel merge sort is stable")
+    void testParallelMergeSortStable() {
+        Random random = new Random(2);
+        Keyed[] array = new Keyed[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            array[i] = new Keyed(random.nextInt(100), i);
+        }
+
+        try (ParallelMergeSort<Keyed> sorter = new ParallelMergeSort<>(128, 4)) {
+            sorter.sort(array);
+        }
+
+        for (int i = 1; i < SIZE; i++) {
+            assertTrue(array[i - 1].key < array[i].key
+                || (array[i - 1].key == array[i].key && array[i - 1].sequence < array[i].sequence),
+                "Order or stability violated at index " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel quick sort on random, sorted and few unique inputs")
+    void testParallelQuickSort() {
+        Random random = new Random(3);
+        Integer[][] inputs = {
+            random.ints(SIZE, 0, 10000).boxed().toArray(Integer[]::new),
+            random.ints(SIZE, 0, 5).boxed().toArray(Integer[]::new),
+            new Integer[SIZE]
+        };
+        for (int i = 0; i < SIZE; i++) {
+            inputs[2][i] = i;
+        }
+
+        try (ParallelQuickSort<Integer> sorter = new ParallelQuickSort<>(256, 4)) {
+            for (Integer[] array : inputs) {
+                Integer[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting with empty and single element arrays")
+    void testSortTrivialArrays() {
+        Integer[] empty = {};
+        Integer[] single = {42};
+
+        try (ParallelMergeSort<Integer> mergeSort = new ParallelMergeSort<>();
+             ParallelQuickSort<Integer> quickSort = new ParallelQuickSort<>()) {
+            mergeSort.sort(empty);
+            quickSort.sort(single);
+        }
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new Integer[]{42}, single);
+    }
+
+    @Test
+    @DisplayName("Test invalid configuration and null array throw exceptions")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort<Integer>(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelQuickSort<Integer>(1024, 0));
+        try (ParallelMergeSort<Integer> mergeSort = new ParallelMergeSort<>();
+             ParallelQuickSort<Integer> quickSort = new ParallelQuickSort<>()) {
+            assertThrows(IllegalArgumentException.class, () -> mergeSort.sort(null));
+            assertThrows(IllegalArgumentException.class, () -> quickSort.sort(null));
+        }
+    }
+
+    @Test
+    @DisplayName("Test closing a parallel sort shuts down its pool")
+    void testCloseShutsDownPool() {
+        Integer[] array = {3, 1, 2};
+        ParallelMergeSort<Integer> mergeSort = new ParallelMergeSort<>(1, 2);
+        ParallelQuickSort<Integer> quickSort = new ParallelQuickSort<>(1, 2);
+        try (mergeSort; quickSort) {
+            mergeSort.sort(array);
+            quickSort.sort(array);
+        }
+
+        assertArrayEquals(new Integer[]{1, 2, 3}, array);
+        assertThrows(RejectedExecutionException.class, () -> mergeSort.sort(new Integer[]{2, 1}));
+        assertThrows(RejectedExecutionException.class, () -> quickSort.sort(new Integer[]{2, 1}));
+    }
+
+    @Test
+    @DisplayName("Test configuration accessors and algorithm names")
+    void testConfigurationAndNames() {
+        try (ParallelMergeSort<Integer> mergeSort = new ParallelMergeSort<>(1000, 3);
+             ParallelQuickSort<Integer> quickSort = new ParallelQuickSort<>(2000, 2)) {
+            assertEquals(1000, mergeSort.getSequentialThreshold());
+            assertEquals(3, mergeSort.getParallelism());
+            assertEquals(2000, quickSort.getSequentialThreshold());
+            assertEquals(2, quickSort.getParallelism());
+            assertEquals("Parallel Merge Sort", mergeSort.getName());
+            assertEquals("Parallel Quick Sort", quickSort.getName());
+        }
+    }
+}
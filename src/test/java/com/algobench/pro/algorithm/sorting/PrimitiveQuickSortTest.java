@@ -0,0 +1,113 @@
+package com.algobench.pro.algorithm.sorting;
+
+import com.algobench.pro.benchmark.metrics.MemoryTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the primitive QuickSort specializations.
+ */
+public class PrimitiveQuickSortTest {
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("Test sorting int array with duplicates and negatives")
+    void testSortIntArray() {
+        int[] array = {5, -2, 8, 5, 1, 9, -2, 8, 0};
+        int[] expected = {-2, -2, 0, 1, 5, 5, 8, 8, 9};
+
+        new IntQuickSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting random int array matches Arrays.sort")
+    void testSortRandomIntArray() {
+        int[] array = random.ints(10_000, -1000, 1000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new IntQuickSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test int quick sort does not allocate per leaf")
+    void testIntQuickSortLeavesDoNotAllocate() {
+        MemoryTracker tracker = new MemoryTracker();
+        assumeTrue(tracker.getThreadAllocatedBytes() >= 0, "Per-thread allocation tracking unavailable");
+        IntQuickSort sorter = new IntQuickSort();
+        int[] array = random.ints(1_000_000).toArray();
+        // Warm up first so class initialization is not counted
+        sorter.sort(random.ints(1_000).toArray());
+
+        long before = tracker.getThreadAllocatedBytes();
+        sorter.sort(array);
+        long allocated = tracker.getThreadAllocatedBytes() - before;
+
+        // Tens of thousands of leaves take the merge kernel; copying each left run would allocate megabytes
+        assertTrue(allocated < 64 * 1024, "Quick sort allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Test sorting random long array matches Arrays.sort")
+    void testSortRandomLongArray() {
+        long[] array = random.longs(10_000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new LongQuickSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting double array orders NaN last and -0.0 before 0.0")
+    void testSortDoubleArraySpecialValues() {
+        double[] array = {3.5, Double.NaN, 0.0, -0.0, -1.25, Double.POSITIVE_INFINITY};
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new DoubleQuickSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting empty primitive arrays")
+    void testSortEmptyArrays() {
+        int[] ints = {};
+        long[] longs = {};
+        double[] doubles = {};
+
+        new IntQuickSort().sort(ints);
+        new LongQuickSort().sort(longs);
+        new DoubleQuickSort().sort(doubles);
+
+        assertEquals(0, ints.length + longs.length + doubles.length);
+    }
+
+    @Test
+    @DisplayName("Test sorting with null primitive arrays throws exception")
+    void testSortNullArrays() {
+        assertThrows(IllegalArgumentException.class, () -> new IntQuickSort().sort(null));
+        assertThrows(IllegalArgumentException.class, () -> new LongQuickSort().sort(null));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleQuickSort().sort(null));
+    }
+
+    @Test
+    @DisplayName("Test algorithm names")
+    void testGetName() {
+        assertEquals("Quick Sort (int[])", new IntQuickSort().getName());
+        assertEquals("Quick Sort (long[])", new LongQuickSort().getName());
+        assertEquals("Quick Sort (double[])", new DoubleQuickSort().getName());
+    }
+}
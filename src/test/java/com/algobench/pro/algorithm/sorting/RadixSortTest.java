@@ -0,0 +1,128 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RadixSort and ParallelRadixSort implementations.
+ */
+public class RadixSortTest {
+    private static final int SIZE = 200_000;
+    private final Random random = new Random(11);
+
+    @Test
+    @DisplayName("Test LSD radix sort on full-range ints including negatives")
+    void testRadixSortFullRangeInts() {
+        int[] array = random.ints(SIZE).toArray();
+        array[0] = Integer.MIN_VALUE;
+        array[1] = Integer.MAX_VALUE;
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new RadixSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test LSD radix sort on bounded ints skips constant digits")
+    void testRadixSortBoundedInts() {
+        int[] array = random.ints(SIZE, 0, 10000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new RadixSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test LSD radix sort on full-range longs")
+    void testRadixSortLongs() {
+        long[] array = random.longs(SIZE).toArray();
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new RadixSort().sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test parallel MSD radix sort on int distributions")
+    void testParallelRadixSortInts() {
+        try (ParallelRadixSort sorter = new ParallelRadixSort(1000, 4)) {
+            int[][] inputs = {
+                random.ints(SIZE).toArray(),
+                random.ints(SIZE, 0, 10000).toArray(),
+                random.ints(SIZE, -5, 5).toArray(),
+                random.ints(SIZE, 0, 256).toArray(),
+                new int[SIZE]
+            };
+            for (int[] array : inputs) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel MSD radix sort on long distributions")
+    void testParallelRadixSortLongs() {
+        try (ParallelRadixSort sorter = new ParallelRadixSort(1000, 4)) {
+            long[][] inputs = {
+                random.longs(SIZE).toArray(),
+                random.longs(SIZE, -1_000_000_000_000L, 1_000_000_000_000L).toArray(),
+                random.longs(SIZE, 0, 10000).toArray()
+            };
+            for (long[] array : inputs) {
+                long[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test small, empty and null inputs")
+    void testTrivialInputs() {
+        int[] empty = {};
+        long[] single = {7L};
+        int[] small = {3, -1, 2};
+
+        try (ParallelRadixSort parallelSort = new ParallelRadixSort()) {
+            new RadixSort().sort(empty);
+            parallelSort.sort(single);
+            parallelSort.sort(small);
+
+            assertEquals(0, empty.length);
+            assertArrayEquals(new long[]{7L}, single);
+            assertArrayEquals(new int[]{-1, 2, 3}, small);
+            assertThrows(IllegalArgumentException.class, () -> new RadixSort().sort((int[]) null));
+            assertThrows(IllegalArgumentException.class, () -> parallelSort.sort((long[]) null));
+        }
+    }
+
+    @Test
+    @DisplayName("Test algorithm names")
+    void testGetName() {
+        assertEquals("LSD Radix Sort", new RadixSort().getName());
+        try (ParallelRadixSort parallelSort = new ParallelRadixSort()) {
+            assertEquals("Parallel MSD Radix Sort", parallelSort.getName());
+        }
+    }
+}
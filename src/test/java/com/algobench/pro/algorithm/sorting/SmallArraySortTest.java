@@ -0,0 +1,98 @@
+package com.algobench.pro.algorithm.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SmallArraySort kernels.
+ */
+public class SmallArraySortTest {
+
+    @Test
+    @DisplayName("Test every sorting network sorts all 0-1 inputs")
+    void testNetworksZeroOnePrinciple() {
+        // A comparator network sorts every input if and only if it sorts every sequence of zeros and ones
+        for (int length = 0; length <= SmallArraySort.NETWORK_MAX; length++) {
+            int[] network = SmallArraySort.network(length);
+            for (int bits = 0; bits < 1 << length; bits++) {
+                int[] values = new int[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = (bits >>> i) & 1;
+                }
+                for (int c = 0; c < network.length; c += 2) {
+                    int a = values[network[c]];
+                    int b = values[network[c + 1]];
+                    values[network[c]] = Math.min(a, b);
+                    values[network[c + 1]] = Math.max(a, b);
+                }
+                for (int i = 1; i < length; i++) {
+                    assertTrue(values[i - 1] <= values[i], "Network for " + length + " fails on " + bits);
+                }
+            }
+        }
+        assertEquals(63 * 2, SmallArraySort.network(16).length);
+    }
+
+    @Test
+    @DisplayName("Test every range length up to the fallback matches Arrays.sort")
+    void testAllSmallLengths() {
+        Random random = new Random(17);
+        for (int length = 0; length <= SmallArraySort.INSERTION_SORT_MAX + 10; length++) {
+            for (int trial = 0; trial < 50; trial++) {
+                int[] array = random.ints(length + 4, 0, trial % 2 == 0 ? 5 : Integer.MAX_VALUE).toArray();
+                Integer[] boxed = Arrays.stream(array).boxed().toArray(Integer[]::new);
+                int[] expected = array.clone();
+                Arrays.sort(expected, 2, 2 + length);
+
+                SmallArraySort.sort(array, 2, 2 + length);
+                SmallArraySort.sort(boxed, 2, 2 + length);
+
+                assertArrayEquals(expected, array, "Mismatch for length " + length);
+                assertArrayEquals(Arrays.stream(expected).boxed().toArray(Integer[]::new), boxed,
+                    "Mismatch for boxed length " + length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test batch and segment APIs sort every array independently")
+    void testBatchApis() {
+        Random random = new Random(19);
+        int[][] batch = new int[1000][];
+        Integer[][] boxedBatch = new Integer[1000][];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = random.ints(random.nextInt(65), -100, 100).toArray();
+            boxedBatch[i] = Arrays.stream(batch[i]).boxed().toArray(Integer[]::new);
+        }
+        int[] flat = random.ints(10_007).toArray();
+        int[] expectedFlat = flat.clone();
+        for (int from = 0; from < flat.length; from += 24) {
+            Arrays.sort(expectedFlat, from, Math.min(from + 24, flat.length));
+        }
+
+        SmallArraySort.sortAll(batch);
+        SmallArraySort.sortAll(boxedBatch);
+        SmallArraySort.sortSegments(flat, 24);
+
+        for (int i = 0; i < batch.length; i++) {
+            int[] expected = batch[i].clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, batch[i]);
+            assertArrayEquals(Arrays.stream(expected).boxed().toArray(Integer[]::new), boxedBatch[i]);
+        }
+        assertArrayEquals(expectedFlat, flat);
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments throw exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> SmallArraySort.sortAll((int[][]) null));
+        assertThrows(IllegalArgumentException.class, () -> SmallArraySort.sortAll(new Integer[][]{null}));
+        assertThrows(IllegalArgumentException.class, () -> SmallArraySort.sortSegments(new int[4], 0));
+    }
+}
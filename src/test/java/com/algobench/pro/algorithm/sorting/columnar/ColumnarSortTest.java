@@ -0,0 +1,151 @@
+package com.algobench.pro.algorithm.sorting.columnar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ColumnarSort implementation.
+ */
+public class ColumnarSortTest {
+    private static final int LARGE_SIZE = 100_000;
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(17);
+    }
+
+    @Test
+    @DisplayName("Test sorting by one int column")
+    void testSortSingleIntColumn() {
+        int[] values = {64, -34, 25, 12, -22, 11, 90};
+        String[] names = {"a", "b", "c", "d", "e", "f", "g"};
+
+        int[] order = new ColumnarSort(SortKey.of(values, SortOrder.ASCENDING)).sortOrder();
+
+        assertArrayEquals(new int[]{1, 4, 5, 3, 2, 0, 6}, order);
+        assertArrayEquals(new int[]{-34, -22, 11, 12, 25, 64, 90}, ColumnarSort.gather(values, order));
+        assertArrayEquals(new String[]{"b", "e", "f", "d", "c", "a", "g"}, ColumnarSort.gather(names, order));
+    }
+
+    @Test
+    @DisplayName("Test multi-column permutation matches a stable comparator sort for every size")
+    void testSortMatchesComparator() {
+        for (int size : new int[]{0, 1, 2, 63, 64, 65, 1000, LARGE_SIZE}) {
+            int[] region = random.ints(size, -3, 3).toArray();
+            long[] timestamp = random.longs(size, -5, 5).toArray();
+            double[] amount = random.doubles(size).map(value -> Math.floor(value * 4) - 2).toArray();
+            int[] id = random.ints(size).toArray();
+
+            int[] order = new ColumnarSort(
+                SortKey.of(region, SortOrder.ASCENDING),
+                SortKey.of(timestamp, SortOrder.DESCENDING),
+                SortKey.of(amount, SortOrder.ASCENDING),
+                SortKey.of(id, SortOrder.DESCENDING)
+            ).sortOrder();
+
+            Integer[] expected = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+            Arrays.sort(expected, Comparator.<Integer>comparingInt(row -> region[row])
+                .thenComparing(Comparator.<Integer>comparingLong(row -> timestamp[row]).reversed())
+                .thenComparingDouble(row -> amount[row])
+                .thenComparing(Comparator.<Integer>comparingInt(row -> id[row]).reversed()));
+
+            assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), order,
+                "Mismatch for size " + size);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sort is stable and equal keys keep their row order")
+    void testStability() {
+        int[] keys = random.ints(LARGE_SIZE, 0, 10).toArray();
+
+        int[] order = new ColumnarSort(SortKey.of(keys, SortOrder.DESCENDING)).sortOrder();
+
+        for (int i = 1; i < LARGE_SIZE; i++) {
+            int previous = keys[order[i - 1]];
+            int current = keys[order[i]];
+            assertTrue(previous > current || previous == current && order[i - 1] < order[i],
+                "Rows " + order[i - 1] + " and " + order[i] + " are out of order");
+        }
+    }
+
+    @Test
+    @DisplayName("Test double keys follow Double.compare including signed zeros, infinities and NaN")
+    void testDoubleKeyOrdering() {
+        double[] values = {Double.NaN, 1.5, -0.0, Double.NEGATIVE_INFINITY, 0.0, -1.5, Double.POSITIVE_INFINITY};
+        double[] expected = values.clone();
+        Arrays.sort(expected);
+
+        int[] ascending = new ColumnarSort(SortKey.of(values, SortOrder.ASCENDING)).sortOrder();
+        int[] descending = new ColumnarSort(SortKey.of(values, SortOrder.DESCENDING)).sortOrder();
+
+        assertArrayEquals(expected, ColumnarSort.gather(values, ascending));
+        double[] reversed = ColumnarSort.gather(values, descending);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(0, Double.compare(expected[values.length - 1 - i], reversed[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Test extreme int and long values sort correctly through the radix engine")
+    void testExtremeValues() {
+        long[] values = new long[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            values[i] = switch (i % 4) {
+                case 0 -> Long.MIN_VALUE + random.nextInt(3);
+                case 1 -> Long.MAX_VALUE - random.nextInt(3);
+                default -> random.nextLong();
+            };
+        }
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        int[] order = new ColumnarSort(SortKey.of(values, SortOrder.ASCENDING)).sortOrder();
+
+        assertArrayEquals(expected, ColumnarSort.gather(values, order));
+    }
+
+    @Test
+    @DisplayName("Test reorder permutes all columns in place")
+    void testReorderColumns() {
+        int[] key = random.ints(LARGE_SIZE).toArray();
+        int[] payload = key.clone();
+        long[] wide = Arrays.stream(key).asLongStream().toArray();
+        double[] real = Arrays.stream(key).asDoubleStream().toArray();
+
+        int[] order = new ColumnarSort(SortKey.of(key, SortOrder.ASCENDING)).sortOrder();
+        ColumnarSort.reorder(order, key, payload);
+        ColumnarSort.reorder(order, wide);
+        ColumnarSort.reorder(order, real);
+
+        int[] expected = payload.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, key);
+        assertArrayEquals(expected, payload);
+        assertArrayEquals(Arrays.stream(expected).asLongStream().toArray(), wide);
+        assertArrayEquals(Arrays.stream(expected).asDoubleStream().toArray(), real);
+    }
+
+    @Test
+    @DisplayName("Test invalid keys and columns throw exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarSort());
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarSort((SortKey) null));
+        assertThrows(IllegalArgumentException.class, () -> SortKey.of((int[]) null, SortOrder.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> SortKey.of(new int[1], null));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarSort(
+            SortKey.of(new int[2], SortOrder.ASCENDING), SortKey.of(new long[3], SortOrder.ASCENDING)).sortOrder());
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSort.gather(new int[2], new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSort.reorder(new int[2], new long[3]));
+    }
+}
@@ -0,0 +1,131 @@
+package com.algobench.pro.algorithm.sorting.external;
+
+import com.algobench.pro.algorithm.sorting.LongQuickSort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExternalMergeSort implementation.
+ */
+public class ExternalMergeSortTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExternalMergeSort smallChunkSorter(int chunkRecords, int fanIn) {
+        ExternalSortConfig config = new ExternalSortConfig(
+            (long) chunkRecords * ExternalMergeSort.RECORD_BYTES, fanIn, 256, 1024, tempDir);
+        return new ExternalMergeSort(config, new LongQuickSort());
+    }
+
+    private Path writeRecords(long[] records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(records.length * ExternalMergeSort.RECORD_BYTES);
+        for (long record : records) {
+            buffer.putLong(record);
+        }
+        Path file = tempDir.resolve("input.bin");
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private long[] readRecords(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        long[] records = new long[buffer.remaining() / ExternalMergeSort.RECORD_BYTES];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = buffer.getLong();
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Test multi-pass external sort with small chunks and fan-in")
+    void testMultiPassSort() throws IOException {
+        long[] records = new Random(9).longs(10_007).toArray();
+        Path input = writeRecords(records);
+        Path output = tempDir.resolve("output.bin");
+
+        ExternalSortStatistics stats = smallChunkSorter(100, 4).sort(input, output);
+
+        long[] expected = records.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readRecords(output));
+        assertEquals(101, stats.getInitialRuns());
+        assertEquals(4, stats.getMergePasses());
+        assertEquals(10_007, stats.getRecords());
+    }
+
+    @Test
+    @DisplayName("Test temporary run files are removed after sorting")
+    void testRunFilesCleanedUp() throws IOException {
+        Path input = writeRecords(new Random(3).longs(1000, 0, 50).toArray());
+        Path output = tempDir.resolve("output.bin");
+
+        smallChunkSorter(64, 3).sort(input, output);
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count(), "Only the input and output files should remain");
+        }
+    }
+
+    @Test
+    @DisplayName("Test input fitting in a single chunk and empty input")
+    void testSingleRunAndEmptyInput() throws IOException {
+        long[] records = {5, -3, Long.MAX_VALUE, 0, Long.MIN_VALUE};
+        Path output = tempDir.resolve("output.bin");
+
+        ExternalSortStatistics stats = new ExternalMergeSort(
+            new ExternalSortConfig(1 << 20, 8, 4096, 1 << 20, tempDir), new LongQuickSort()
+        ).sort(writeRecords(records), output);
+
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -3, 0, 5, Long.MAX_VALUE}, readRecords(output));
+        assertEquals(1, stats.getInitialRuns());
+        assertEquals(0, stats.getMergePasses());
+
+        smallChunkSorter(4, 2).sort(writeRecords(new long[0]), output);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    @DisplayName("Test invalid input length and configuration throw exceptions")
+    void testInvalidArguments() throws IOException {
+        Path input = tempDir.resolve("odd.bin");
+        Files.write(input, new byte[12]);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> smallChunkSorter(10, 2).sort(input, tempDir.resolve("out.bin")));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ExternalSortConfig(1024, 1, 1024, 1024, tempDir));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ExternalSortConfig(4, 2, 1024, 1024, tempDir));
+    }
+
+    @Test
+    @DisplayName("Test loser tree yields the sources' heads in ascending order")
+    void testLoserTree() {
+        long[] heads = {7, 3, 9, 1, 5};
+        boolean[] exhausted = new boolean[heads.length];
+        LoserTree tree = new LoserTree(heads, exhausted);
+
+        long previous = Long.MIN_VALUE;
+        int emitted = 0;
+        while (!tree.isEmpty()) {
+            int winner = tree.winner();
+            assertTrue(heads[winner] >= previous);
+            previous = heads[winner];
+            exhausted[winner] = true;
+            tree.replaceWinner();
+            emitted++;
+        }
+        assertEquals(5, emitted);
+    }
+}
@@ -0,0 +1,157 @@
+package com.algobench.pro.algorithm.sorting.offheap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OffHeapRecordSort implementation.
+ */
+public class OffHeapRecordSortTest {
+    private static final int RECORDS = 100_000;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Fills 24-byte records: an 8-byte header, the long key at offset 8 and the original index at offset 16.
+     */
+    private static long[] fillRecords(ByteBuffer buffer, int records, Random random) {
+        long[] keys = new long[records];
+        for (int i = 0; i < records; i++) {
+            keys[i] = random.nextInt(1000) - 500;
+            buffer.putLong(i * 24, ~keys[i]);
+            buffer.putLong(i * 24 + 8, keys[i]);
+            buffer.putLong(i * 24 + 16, i);
+        }
+        return keys;
+    }
+
+    private static void assertRecordsSorted(ByteBuffer buffer, long[] keys) {
+        long[] expected = keys.clone();
+        Arrays.sort(expected);
+        boolean[] seen = new boolean[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            long key = buffer.getLong(i * 24 + 8);
+            int original = (int) buffer.getLong(i * 24 + 16);
+            assertEquals(expected[i], key, "Key out of order at record " + i);
+            assertEquals(keys[original], key, "Payload separated from its key at record " + i);
+            assertEquals(~key, buffer.getLong(i * 24), "Header separated from its key at record " + i);
+            assertFalse(seen[original], "Record duplicated at " + i);
+            seen[original] = true;
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting records in a direct buffer keeps payloads with their keys")
+    void testSortDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS * 24);
+        long[] keys = fillRecords(buffer, RECORDS, new Random(1));
+
+        new OffHeapRecordSort(24, 8).sort(buffer);
+
+        assertRecordsSorted(buffer, keys);
+        assertEquals(0, buffer.position(), "Position should be unchanged");
+    }
+
+    @Test
+    @DisplayName("Test sorting records in a memory-mapped file")
+    void testSortMappedBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(tempDir.resolve("records.bin"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, RECORDS * 24L);
+            long[] keys = fillRecords(buffer, RECORDS, new Random(2));
+
+            new OffHeapRecordSort(24, 8).sort(buffer);
+
+            assertRecordsSorted(buffer, keys);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting int keys in odd-sized little-endian records")
+    void testSortIntKeysOddRecordSize() {
+        int recordSize = 13;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS * recordSize).order(ByteOrder.LITTLE_ENDIAN);
+        Random random = new Random(3);
+        int[] keys = new int[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            keys[i] = random.nextInt();
+            buffer.putInt(i * recordSize + 5, keys[i]);
+            buffer.put(i * recordSize + 12, (byte) keys[i]);
+        }
+        Arrays.sort(keys);
+
+        new OffHeapRecordSort(recordSize, 5, OffHeapRecordSort.KeyType.INT).sort(buffer);
+
+        for (int i = 0; i < RECORDS; i++) {
+            assertEquals(keys[i], buffer.getInt(i * recordSize + 5), "Key out of order at record " + i);
+            assertEquals((byte) keys[i], buffer.get(i * recordSize + 12), "Trailing byte separated from its key");
+        }
+    }
+
+    @Test
+    @DisplayName("Test only the records between position and limit are sorted")
+    void testSortRespectsPositionAndLimit() {
+        ByteBuffer buffer = ByteBuffer.allocate(10 * Long.BYTES);
+        for (int i = 0; i < 10; i++) {
+            buffer.putLong(i * Long.BYTES, 10 - i);
+        }
+        buffer.position(2 * Long.BYTES).limit(8 * Long.BYTES);
+
+        new OffHeapRecordSort(Long.BYTES, 0).sort(buffer);
+
+        assertEquals(2 * Long.BYTES, buffer.position());
+        assertEquals(8 * Long.BYTES, buffer.limit());
+        buffer.clear();
+        long[] values = new long[10];
+        for (int i = 0; i < 10; i++) {
+            values[i] = buffer.getLong(i * Long.BYTES);
+        }
+        assertArrayEquals(new long[]{10, 9, 3, 4, 5, 6, 7, 8, 2, 1}, values);
+    }
+
+    @Test
+    @DisplayName("Test sorting presorted and all-equal records")
+    void testSortSkewedInputs() {
+        ByteBuffer sorted = ByteBuffer.allocateDirect(RECORDS * Long.BYTES);
+        ByteBuffer equal = ByteBuffer.allocateDirect(RECORDS * Long.BYTES);
+        for (int i = 0; i < RECORDS; i++) {
+            sorted.putLong(i * Long.BYTES, i);
+            equal.putLong(i * Long.BYTES, 42);
+        }
+
+        new OffHeapRecordSort(Long.BYTES, 0).sort(sorted);
+        new OffHeapRecordSort(Long.BYTES, 0).sort(equal);
+
+        for (int i = 0; i < RECORDS; i++) {
+            assertEquals(i, sorted.getLong(i * Long.BYTES));
+            assertEquals(42, equal.getLong(i * Long.BYTES));
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments throw exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordSort(8, 1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordSort(0, 0, OffHeapRecordSort.KeyType.INT));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordSort(8, 0, null));
+
+        OffHeapRecordSort sorter = new OffHeapRecordSort(16, 0);
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(ByteBuffer.allocate(24)));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(ByteBuffer.allocate(32).asReadOnlyBuffer()));
+    }
+}
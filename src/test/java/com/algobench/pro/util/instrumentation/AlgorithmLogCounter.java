@@ -0,0 +1,66 @@
+package com.algobench.pro.util.instrumentation;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test appender that counts every log event emitted by loggers in the algorithm packages.
+ * While installed the root logger is opened up to {@code ALL}, so even disabled-by-default
+ * debug calls are observed.
+ */
+public class AlgorithmLogCounter extends AbstractAppender implements AutoCloseable {
+    private static final String ALGORITHM_PACKAGE = "com.algobench.pro.algorithm";
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final LoggerContext context;
+    private final Level previousLevel;
+
+    private AlgorithmLogCounter(LoggerContext context, Level previousLevel) {
+        super("AlgorithmLogCounter", null, null, true, Property.EMPTY_ARRAY);
+        this.context = context;
+        this.previousLevel = previousLevel;
+    }
+
+    /**
+     * Installs a counter on the root logger and raises it to {@code ALL}.
+     */
+    public static AlgorithmLogCounter install() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        LoggerConfig root = context.getConfiguration().getRootLogger();
+        AlgorithmLogCounter counter = new AlgorithmLogCounter(context, root.getLevel());
+        counter.start();
+        root.addAppender(counter, Level.ALL, null);
+        root.setLevel(Level.ALL);
+        context.updateLoggers();
+        return counter;
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        if (event.getLoggerName().startsWith(ALGORITHM_PACKAGE)) {
+            count.incrementAndGet();
+        }
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    @Override
+    public void close() {
+        Configuration configuration = context.getConfiguration();
+        LoggerConfig root = configuration.getRootLogger();
+        root.removeAppender(getName());
+        root.setLevel(previousLevel);
+        context.updateLoggers();
+        stop();
+    }
+}
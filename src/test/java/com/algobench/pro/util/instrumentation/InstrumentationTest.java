@@ -0,0 +1,92 @@
+package com.algobench.pro.util.instrumentation;
+
+import com.algobench.pro.algorithm.graph.DijkstraAlgorithm;
+import com.algobench.pro.algorithm.graph.Graph;
+import com.algobench.pro.algorithm.searching.BinarySearch;
+import com.algobench.pro.algorithm.sorting.QuickSort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the instrumentation layer.
+ */
+public class InstrumentationTest {
+
+    @Test
+    @DisplayName("Test production mode is the default")
+    void testProductionModeByDefault() {
+        assertFalse(Instrumentation.TRACE_ENABLED);
+        assertThrows(IllegalStateException.class, Instrumentation::getTraceBuffer);
+        assertTrue(Instrumentation.dumpTrace().contains("disabled"));
+    }
+
+    @Test
+    @DisplayName("Test algorithm hot paths emit no log events in production mode")
+    void testHotPathsDoNotLog() {
+        Integer[] array = new Random(5).ints(5000, 0, 1000).boxed().toArray(Integer[]::new);
+        Graph<Integer> graph = new Graph<>();
+        for (int i = 0; i < 100; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < 99; i++) {
+            graph.addEdge(i, i + 1, 1.0);
+            graph.addEdge(i + 1, i, 2.0);
+        }
+        DijkstraAlgorithm<Integer> dijkstra = new DijkstraAlgorithm<>(graph);
+
+        try (AlgorithmLogCounter counter = AlgorithmLogCounter.install()) {
+            new QuickSort<Integer>().sort(array);
+            BinarySearch<Integer> binarySearch = new BinarySearch<>();
+            for (int i = 0; i < 100; i++) {
+                binarySearch.search(array, i);
+            }
+            dijkstra.findShortestPaths(0);
+
+            assertEquals(0, counter.getCount(), "Hot paths must not call any logger");
+
+            // Invalid input is still logged, which also proves the counter observes algorithm loggers
+            assertThrows(IllegalArgumentException.class, () -> new QuickSort<Integer>().sort(null));
+            assertEquals(1, counter.getCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test trace buffer keeps the most recent events in order")
+    void testTraceBufferWrapsAround() {
+        TraceBuffer buffer = new TraceBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.record(TraceEvent.SWAP, i, i + 1);
+        }
+
+        assertEquals(4, buffer.capacity());
+        assertEquals(4, buffer.size());
+        assertEquals(6, buffer.getTotalRecorded());
+        assertEquals(2, buffer.getFirstArgument(0));
+        assertEquals(5, buffer.getFirstArgument(3));
+        assertEquals(6, buffer.getSecondArgument(3));
+        assertEquals(TraceEvent.SWAP, buffer.getEvent(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getEvent(4));
+    }
+
+    @Test
+    @DisplayName("Test trace buffer capacity rounds up and dump formats events")
+    void testTraceBufferDump() {
+        TraceBuffer buffer = new TraceBuffer(5);
+        buffer.record(TraceEvent.SORT_START, 10, 0);
+        buffer.record(TraceEvent.PARTITION, 0, 9);
+
+        assertEquals(8, buffer.capacity());
+        String dump = buffer.dump();
+        assertTrue(dump.contains("2 events retained"));
+        assertTrue(dump.contains("PARTITION"));
+        assertTrue(dump.contains("high=9"));
+
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertThrows(IllegalArgumentException.class, () -> new TraceBuffer(0));
+    }
+}